@@ -0,0 +1,3 @@
+#!/bin/sh
+# Lets a streaming replica connect with the application credentials (docker-compose "replica" profile)
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
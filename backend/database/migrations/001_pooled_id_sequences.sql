@@ -0,0 +1,21 @@
+-- Campus Connect Migration 001
+-- Switch entity id generation from IDENTITY to pooled sequences
+--
+-- Entities now use @SequenceGenerator(allocationSize = 50) with the pooled-lo optimizer,
+-- so the backing BIGSERIAL sequences must advance in steps of 50. Existing rows keep
+-- their ids; the next block handed out starts above the current sequence value.
+-- Column defaults are kept so manual inserts through psql still work.
+
+BEGIN;
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE events_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_registrations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_collaborators_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_likes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_badges_id_seq INCREMENT BY 50;
+ALTER SEQUENCE announcements_id_seq INCREMENT BY 50;
+
+COMMIT;
@@ -0,0 +1,14 @@
+-- Campus Connect Migration 002
+-- Indexes for threaded comment loading
+--
+-- idx_project_comments_threads serves the keyset scan over a project's top-level threads;
+-- idx_project_comments_parent serves the recursive step that walks replies by parent.
+
+CREATE INDEX IF NOT EXISTS idx_project_comments_parent ON project_comments(parent_comment_id);
+CREATE INDEX IF NOT EXISTS idx_project_comments_threads ON project_comments(project_id, created_at DESC, id DESC)
+    WHERE parent_comment_id IS NULL AND is_active = TRUE;
+
+-- Bring comments_count in line with active comments before the service starts maintaining it
+UPDATE projects SET comments_count = (
+    SELECT COUNT(*) FROM project_comments pc WHERE pc.project_id = projects.id AND pc.is_active = TRUE
+);
@@ -0,0 +1,16 @@
+-- Campus Connect Migration 003
+-- Trigram-indexed people search
+--
+-- search_name is a stored, lower-cased "first last" column so the search query matches one
+-- indexed expression instead of LOWER()-ing three columns per row.
+-- idx_users_search_name_trgm serves fuzzy (word similarity) matches, idx_users_search_name_prefix
+-- and idx_users_email_prefix serve the prefix matches typeahead issues on every keystroke.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS search_name TEXT GENERATED ALWAYS AS (LOWER(first_name || ' ' || last_name)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_name_trgm ON users USING GIN (search_name gin_trgm_ops) WHERE is_active = TRUE;
+CREATE INDEX IF NOT EXISTS idx_users_search_name_prefix ON users(search_name text_pattern_ops) WHERE is_active = TRUE;
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users(LOWER(email) text_pattern_ops) WHERE is_active = TRUE;
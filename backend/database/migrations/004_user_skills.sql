@@ -0,0 +1,24 @@
+-- Campus Connect Migration 004
+-- Skills profile for users
+--
+-- Backs the User.skills element collection used by skill matching against project required skills.
+-- A user lists a skill at most once; the primary key also serves lookups by user.
+
+CREATE TABLE IF NOT EXISTS user_skills (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    skill VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id, skill)
+);
+
+-- Bring a table created before the key existed in line: drop the rows it would reject, then add it
+DELETE FROM user_skills WHERE skill IS NULL;
+DELETE FROM user_skills a USING user_skills b
+    WHERE a.user_id = b.user_id AND a.skill = b.skill AND a.ctid > b.ctid;
+ALTER TABLE user_skills ALTER COLUMN skill SET NOT NULL;
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'user_skills'::regclass AND contype = 'p') THEN
+        ALTER TABLE user_skills ADD PRIMARY KEY (user_id, skill);
+    END IF;
+END $$;
+DROP INDEX IF EXISTS idx_user_skills_user;
@@ -10,8 +10,12 @@ DROP TABLE IF EXISTS user_badges CASCADE;
 DROP TABLE IF EXISTS announcements CASCADE;
 DROP TABLE IF EXISTS projects CASCADE;
 DROP TABLE IF EXISTS events CASCADE;
+DROP TABLE IF EXISTS user_skills CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
 
+-- Trigram matching for people search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Users table (both students and admins)
 CREATE TABLE users (
     id BIGSERIAL PRIMARY KEY,
@@ -32,7 +36,14 @@ CREATE TABLE users (
     email_verified BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    last_login TIMESTAMP
+    last_login TIMESTAMP,
+    search_name TEXT GENERATED ALWAYS AS (LOWER(first_name || ' ' || last_name)) STORED
+);
+
+-- Skills profile of a user, matched against project required skills
+CREATE TABLE user_skills (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    skill VARCHAR(255)
 );
 
 -- Events table
@@ -156,6 +167,10 @@ CREATE TABLE announcements (
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_role ON users(role);
 CREATE INDEX idx_users_department ON users(department);
+CREATE INDEX idx_users_search_name_trgm ON users USING GIN (search_name gin_trgm_ops) WHERE is_active = TRUE;
+CREATE INDEX idx_users_search_name_prefix ON users(search_name text_pattern_ops) WHERE is_active = TRUE;
+CREATE INDEX idx_user_skills_user ON user_skills(user_id);
+CREATE INDEX idx_users_email_prefix ON users(LOWER(email) text_pattern_ops) WHERE is_active = TRUE;
 CREATE INDEX idx_events_date ON events(event_date);
 CREATE INDEX idx_events_category ON events(category);
 CREATE INDEX idx_events_organizer ON events(organizer_id);
@@ -169,6 +184,8 @@ CREATE INDEX idx_projects_featured ON projects(is_featured);
 CREATE INDEX idx_project_likes_project ON project_likes(project_id);
 CREATE INDEX idx_project_likes_user ON project_likes(user_id);
 CREATE INDEX idx_project_comments_project ON project_comments(project_id);
+CREATE INDEX idx_project_comments_parent ON project_comments(parent_comment_id);
+CREATE INDEX idx_project_comments_threads ON project_comments(project_id, created_at DESC, id DESC) WHERE parent_comment_id IS NULL AND is_active = TRUE;
 CREATE INDEX idx_user_badges_user ON user_badges(user_id);
 CREATE INDEX idx_announcements_active ON announcements(is_active);
 
@@ -234,5 +251,17 @@ UPDATE projects SET
     likes_count = (SELECT COUNT(*) FROM project_likes WHERE project_id = projects.id),
     comments_count = (SELECT COUNT(*) FROM project_comments WHERE project_id = projects.id);
 
-UPDATE events SET 
-    current_attendees = (SELECT COUNT(*) FROM event_registrations WHERE event_id = events.id AND attendance_status = 'REGISTERED');
\ No newline at end of file
+UPDATE events SET
+    current_attendees = (SELECT COUNT(*) FROM event_registrations WHERE event_id = events.id AND attendance_status = 'REGISTERED');
+
+-- Switch id sequences to pooled allocation (must match allocationSize on the entities)
+-- Hibernate reserves 50 ids per nextval call, which keeps JDBC insert batching enabled
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE events_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_registrations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_collaborators_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_likes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_badges_id_seq INCREMENT BY 50;
+ALTER SEQUENCE announcements_id_seq INCREMENT BY 50;
\ No newline at end of file
@@ -0,0 +1,109 @@
+#!/bin/bash
+
+# Campus Connect Insert Throughput Benchmark
+# Compares the JDBC round-trip pattern of IDENTITY ids against pooled sequence ids
+# for event registrations and project likes.
+#
+#   identity : one INSERT ... RETURNING id round trip per row (Hibernate cannot batch)
+#   pooled   : one nextval per block of ids, then the rows sent as a single pipelined batch
+#
+# Requires pgbench 14+ (for \startpipeline). Runs in a scratch "bench" schema and drops it afterwards.
+#
+# Usage: PGHOST=localhost PGUSER=postgres PGDATABASE=campus_connect ./scripts/benchmark-inserts.sh
+
+set -e
+
+# Colors for output
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+# Configuration
+BATCH_SIZE=${BATCH_SIZE:-25}       # matches hibernate.jdbc.batch_size
+ALLOCATION_SIZE=${ALLOCATION_SIZE:-50} # matches @SequenceGenerator allocationSize
+DURATION=${DURATION:-30}
+CLIENTS=${CLIENTS:-8}
+WORK_DIR=$(mktemp -d)
+
+log_info() {
+    echo -e "${BLUE}[INFO]${NC} $1"
+}
+
+log_result() {
+    echo -e "${GREEN}[RESULT]${NC} $1"
+}
+
+log_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+cleanup() {
+    psql -q -c "DROP SCHEMA IF EXISTS bench CASCADE" > /dev/null 2>&1 || true
+    rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+if ! command -v pgbench &> /dev/null; then
+    log_error "pgbench is not installed. Please install the PostgreSQL client tools."
+    exit 1
+fi
+
+log_info "Creating scratch tables..."
+psql -q -v ON_ERROR_STOP=1 <<SQL
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+CREATE TABLE bench.registrations_identity (id BIGSERIAL PRIMARY KEY, user_id BIGINT NOT NULL, event_id BIGINT NOT NULL,
+    attendance_status VARCHAR(20) NOT NULL, registration_date TIMESTAMP NOT NULL);
+CREATE TABLE bench.registrations_pooled (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, event_id BIGINT NOT NULL,
+    attendance_status VARCHAR(20) NOT NULL, registration_date TIMESTAMP NOT NULL);
+CREATE SEQUENCE bench.registrations_seq INCREMENT BY ${ALLOCATION_SIZE};
+CREATE TABLE bench.likes_identity (id BIGSERIAL PRIMARY KEY, project_id BIGINT NOT NULL, user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL);
+CREATE TABLE bench.likes_pooled (id BIGINT PRIMARY KEY, project_id BIGINT NOT NULL, user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL);
+CREATE SEQUENCE bench.likes_seq INCREMENT BY ${ALLOCATION_SIZE};
+SQL
+
+# Write one pgbench transaction of BATCH_SIZE rows for each table/strategy
+write_scripts() {
+    local table=$1 columns=$2 values=$3
+
+    {
+        echo "BEGIN;"
+        for i in $(seq 1 "$BATCH_SIZE"); do
+            echo "INSERT INTO bench.${table}_identity (${columns}) VALUES (${values}) RETURNING id;"
+        done
+        echo "COMMIT;"
+    } > "$WORK_DIR/${table}_identity.sql"
+
+    {
+        echo "SELECT nextval('bench.${table}_seq') AS lo \\gset"
+        echo "\\startpipeline"
+        echo "BEGIN;"
+        for i in $(seq 0 $((BATCH_SIZE - 1))); do
+            echo "INSERT INTO bench.${table}_pooled (id, ${columns}) VALUES (:lo + ${i}, ${values});"
+        done
+        echo "COMMIT;"
+        echo "\\endpipeline"
+    } > "$WORK_DIR/${table}_pooled.sql"
+}
+
+write_scripts registrations "user_id, event_id, attendance_status, registration_date" \
+    ":client_id, 1, 'REGISTERED', now()"
+write_scripts likes "project_id, user_id, created_at" \
+    "1, :client_id, now()"
+
+run_case() {
+    local name=$1
+    local tps
+    tps=$(pgbench -n -M prepared -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -f "$WORK_DIR/${name}.sql" 2>/dev/null \
+        | awk -F'[ =(]+' '/^tps/ {print $2; exit}')
+    log_result "$(printf '%-24s %10.0f inserts/s' "$name" "$(echo "$tps * $BATCH_SIZE" | bc -l)")"
+}
+
+log_info "Running ${DURATION}s per case with ${CLIENTS} clients, ${BATCH_SIZE} rows per transaction"
+run_case registrations_identity
+run_case registrations_pooled
+run_case likes_identity
+run_case likes_pooled
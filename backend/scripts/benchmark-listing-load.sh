@@ -0,0 +1,129 @@
+#!/bin/bash
+
+# Campus Connect Listing Load Benchmark
+# Drives the listing endpoints with many concurrent clients and reports how many Tomcat threads,
+# listing-read threads and JDBC connections they hold while doing so.
+#
+# Listing reads run on the bounded listing-read pool and hold a JDBC connection only for the query,
+# so at 5k clients the connection count should stay at or below app.listing-reads.concurrency and
+# busy Tomcat threads near zero, while the excess waits in the listing-read queue.
+#
+# Requires wrk and curl, and a running backend with the actuator Prometheus endpoint reachable.
+# Featured endpoints are requested with the token too, so they bypass the anonymous response cache.
+#
+# Usage: TOKEN=<jwt> ./scripts/benchmark-listing-load.sh
+#        EMAIL=user@example.com PASSWORD=secret CLIENTS=5000 ./scripts/benchmark-listing-load.sh
+
+set -e
+
+# Colors for output
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+# Configuration
+API_URL=${API_URL:-http://localhost:8081/api/v1}
+METRICS_URL=${METRICS_URL:-http://localhost:8081/api/v1/actuator/prometheus}
+CLIENTS=${CLIENTS:-5000}
+THREADS=${THREADS:-8}
+DURATION=${DURATION:-30}
+ENDPOINTS=${ENDPOINTS:-"/projects /projects/featured /events /events/upcoming /events/featured"}
+WORK_DIR=$(mktemp -d)
+
+# Prometheus series sampled during each run, as name[:label filter], summed across matching series
+METRICS="tomcat_threads_busy_threads executor_active_threads:listingReads executor_queued_tasks:listingReads hikaricp_connections_active hikaricp_connections_pending jvm_threads_live_threads"
+
+log_info() {
+    echo -e "${BLUE}[INFO]${NC} $1"
+}
+
+log_result() {
+    echo -e "${GREEN}[RESULT]${NC} $1"
+}
+
+log_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+cleanup() {
+    [ -n "$SAMPLER_PID" ] && kill "$SAMPLER_PID" 2> /dev/null || true
+    rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+for tool in wrk curl; do
+    if ! command -v "$tool" &> /dev/null; then
+        log_error "$tool is not installed."
+        exit 1
+    fi
+done
+
+if ! curl -sf -o /dev/null "$METRICS_URL"; then
+    log_error "Prometheus endpoint not reachable at $METRICS_URL"
+    exit 1
+fi
+
+if [ -z "$TOKEN" ]; then
+    if [ -z "$EMAIL" ] || [ -z "$PASSWORD" ]; then
+        log_error "Set TOKEN, or EMAIL and PASSWORD to log in"
+        exit 1
+    fi
+    TOKEN=$(curl -sf -H "Content-Type: application/json" \
+        -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\"}" "${API_URL}/auth/login" \
+        | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+    if [ -z "$TOKEN" ]; then
+        log_error "Login failed for $EMAIL"
+        exit 1
+    fi
+fi
+
+if [ "$(ulimit -n)" != "unlimited" ] && [ "$(ulimit -n)" -lt $((CLIENTS + 100)) ]; then
+    ulimit -n $((CLIENTS + 100)) 2> /dev/null || log_error "ulimit -n is below ${CLIENTS}; wrk may not open every connection"
+fi
+
+# Append one "<metric> <value>" line per sampled metric every second
+sample() {
+    local out=$1 scrape metric
+    while true; do
+        scrape=$(curl -s "$METRICS_URL")
+        for metric in $METRICS; do
+            echo "$scrape" | awk -v spec="$metric" '
+                BEGIN { split(spec, parts, ":"); name = parts[1]; filter = parts[2] }
+                (index($0, name "{") == 1 || index($0, name " ") == 1) && index($0, filter) { sum += $NF }
+                END { print spec, sum + 0 }'
+        done >> "$out"
+        sleep 1
+    done
+}
+
+run_case() {
+    local endpoint=$1 samples="$WORK_DIR/samples" report="$WORK_DIR/wrk"
+
+    : > "$samples"
+    sample "$samples" &
+    SAMPLER_PID=$!
+
+    wrk -t "$THREADS" -c "$CLIENTS" -d "${DURATION}s" --latency \
+        -H "Authorization: Bearer ${TOKEN}" "${API_URL}${endpoint}" > "$report" 2>&1 || true
+
+    kill "$SAMPLER_PID" 2> /dev/null || true
+    wait "$SAMPLER_PID" 2> /dev/null || true
+    SAMPLER_PID=
+
+    log_result "GET ${endpoint}"
+    awk '/Requests\/sec/ { printf "    %-40s %s\n", "requests/s", $2 }
+         /^ +50%/ { printf "    %-40s %s\n", "latency p50", $2 }
+         /^ +99%/ { printf "    %-40s %s\n", "latency p99", $2 }
+         /Non-2xx/ { printf "    %-40s %s\n", "non-2xx responses", $NF }
+         /Socket errors/ { printf "    %-40s %s\n", "socket errors", $0 }' "$report"
+    for metric in $METRICS; do
+        awk -v m="$metric" '$1 == m { n++; total += $2; if ($2 > max) max = $2 }
+            END { printf "    %-40s peak %6d   mean %8.1f\n", m, max, n ? total / n : 0 }' "$samples"
+    done
+}
+
+log_info "Running ${DURATION}s per endpoint with ${CLIENTS} connections against ${API_URL}"
+for endpoint in $ENDPOINTS; do
+    run_case "$endpoint"
+done
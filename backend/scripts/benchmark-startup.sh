@@ -0,0 +1,133 @@
+#!/bin/bash
+
+# Campus Connect Startup Benchmark
+# Compares time-to-first-request of the default image against the fast-start image.
+#
+#   runtime    : fat jar started with java -jar
+#   fast-start : layered image with AOT-processed bean definitions and an application CDS archive
+#
+# Time-to-first-request is measured from "docker start" until the health endpoint answers 200, which
+# includes JVM start, context refresh, schema validation and the first database round trip. The
+# "Started ... in" time Spring logs is reported alongside it.
+#
+# Requires docker, curl and bc. Builds both images and runs a throwaway PostgreSQL container.
+#
+# Usage: RUNS=5 ./scripts/benchmark-startup.sh
+
+set -e
+
+# Colors for output
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+# Configuration
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+NETWORK=campus-connect-bench
+DB_CONTAINER=campus-connect-bench-db
+APP_CONTAINER=campus-connect-bench-app
+HEALTH_URL="http://localhost:${PORT}/api/v1/actuator/health"
+
+log_info() {
+    echo -e "${BLUE}[INFO]${NC} $1"
+}
+
+log_result() {
+    echo -e "${GREEN}[RESULT]${NC} $1"
+}
+
+log_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+cleanup() {
+    docker rm -f "$APP_CONTAINER" "$DB_CONTAINER" > /dev/null 2>&1 || true
+    docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+for tool in docker curl bc; do
+    if ! command -v "$tool" &> /dev/null; then
+        log_error "$tool is not installed."
+        exit 1
+    fi
+done
+
+cd "$(dirname "$0")/.."
+
+log_info "Building images..."
+docker build -q --target runtime -t campus-connect-backend:runtime . > /dev/null
+docker build -q --target fast-start -t campus-connect-backend:fast-start . > /dev/null
+
+log_info "Starting PostgreSQL..."
+docker network create "$NETWORK" > /dev/null
+docker run -d --name "$DB_CONTAINER" --network "$NETWORK" \
+    -e POSTGRES_DB=campus_connect -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=password \
+    -v "$PWD/database/schema.sql:/docker-entrypoint-initdb.d/01-schema.sql:ro" \
+    postgres:15-alpine > /dev/null
+until docker exec "$DB_CONTAINER" pg_isready -U postgres -d campus_connect > /dev/null 2>&1; do
+    sleep 1
+done
+# pg_isready succeeds during the init scripts' temporary server; wait for the final one
+sleep 3
+
+now_ms() {
+    date +%s%3N
+}
+
+# Start the image once and print "<time-to-first-request ms> <spring started ms>"
+measure() {
+    local image=$1 started ready spring
+
+    docker create --name "$APP_CONTAINER" --network "$NETWORK" -p "${PORT}:8080" \
+        -e DATABASE_URL="jdbc:postgresql://${DB_CONTAINER}:5432/campus_connect" \
+        -e DATABASE_USERNAME=postgres -e DATABASE_PASSWORD=password \
+        -e SERVER_PORT=8080 -e SPRING_PROFILES_ACTIVE=prod \
+        "$image" > /dev/null
+
+    started=$(now_ms)
+    docker start "$APP_CONTAINER" > /dev/null
+    until curl -sf -o /dev/null "$HEALTH_URL"; do
+        if [ $(( $(now_ms) - started )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+            log_error "$image did not answer within ${TIMEOUT_SECONDS}s" >&2
+            docker logs --tail 50 "$APP_CONTAINER" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(now_ms)
+
+    spring=$(docker logs "$APP_CONTAINER" 2>&1 \
+        | sed -n 's/.*Started CampusConnectApplication in \([0-9.]*\) seconds.*/\1/p' | head -1)
+    docker rm -f "$APP_CONTAINER" > /dev/null
+
+    echo "$(( ready - started )) $(echo "${spring:-0} * 1000" | bc -l | cut -d. -f1)"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+run_case() {
+    local name=$1 first_request=() spring=()
+
+    # The first start also warms the page cache for the image layers; it is not counted
+    measure "campus-connect-backend:${name}" > /dev/null
+    for i in $(seq 1 "$RUNS"); do
+        read -r ttfr started <<< "$(measure "campus-connect-backend:${name}")"
+        first_request+=("$ttfr")
+        spring+=("$started")
+    done
+
+    log_result "$(printf '%-12s first request %6d ms (median, min %d)   context started %6d ms (median)' "$name" \
+        "$(printf '%s\n' "${first_request[@]}" | median)" \
+        "$(printf '%s\n' "${first_request[@]}" | sort -n | head -1)" \
+        "$(printf '%s\n' "${spring[@]}" | median)")"
+}
+
+log_info "Measuring ${RUNS} starts per image"
+run_case runtime
+run_case fast-start
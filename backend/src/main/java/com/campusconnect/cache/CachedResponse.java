@@ -0,0 +1,42 @@
+package com.campusconnect.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET controller method whose JSON response is cached by ResponseCacheInterceptor
+ *
+ * Responses are keyed by request URL and viewer role (or viewer, with perUser), stored pre-serialized in
+ * identity and gzip encodings, and invalidated through ResponseCacheService.invalidate with the same
+ * tags. A response sent with Cache-Control: no-store is not stored.
+ *
+ * @author Campus Connect Team
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /**
+     * Entity-type tags the response is built from
+     */
+    String[] tags();
+
+    /**
+     * Upper bound on how long an entry is served when no invalidation arrives
+     */
+    long ttlSeconds() default 300;
+
+    /**
+     * Only cache for anonymous viewers, for responses carrying per-user fields such as isLiked
+     */
+    boolean anonymousOnly() default true;
+
+    /**
+     * Key entries by the signed-in user rather than the role, for responses built for one user
+     */
+    boolean perUser() default false;
+}
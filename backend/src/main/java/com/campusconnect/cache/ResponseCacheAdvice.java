@@ -0,0 +1,81 @@
+package com.campusconnect.cache;
+
+import com.campusconnect.service.ResponseCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Stores the body of a @CachedResponse cache miss after the controller returns it
+ *
+ * The body is serialized with the application ObjectMapper, so cached bytes match what Jackson writes
+ * for the live response, including the field filters of a sparse-fieldset body. Only successful JSON
+ * responses are stored, and not those the controller marked no-store.
+ *
+ * @author Campus Connect Team
+ */
+@ControllerAdvice
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheAdvice.class);
+
+    private final ResponseCacheService responseCacheService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ResponseCacheAdvice(ResponseCacheService responseCacheService, ObjectMapper objectMapper) {
+        this.responseCacheService = responseCacheService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() != 200
+                || noStore(response.getHeaders().getCacheControl())) {
+            return body;
+        }
+        Object pending = servletRequest.getServletRequest().getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE);
+        if (pending instanceof ResponseCacheInterceptor.Pending miss) {
+            try {
+                responseCacheService.put(miss.key(), miss.tags(), miss.generations(), miss.ttlMillis(),
+                        serialize(body));
+            } catch (JsonProcessingException e) {
+                logger.warn("Could not serialize response for caching: {}", miss.key(), e);
+            }
+        }
+        return body;
+    }
+
+    private static boolean noStore(String cacheControl) {
+        return cacheControl != null && cacheControl.contains("no-store");
+    }
+
+    private byte[] serialize(Object body) throws JsonProcessingException {
+        if (body instanceof MappingJacksonValue value && value.getFilters() != null) {
+            return objectMapper.writer(value.getFilters()).writeValueAsBytes(value.getValue());
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
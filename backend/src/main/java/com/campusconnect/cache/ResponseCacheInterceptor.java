@@ -0,0 +1,219 @@
+package com.campusconnect.cache;
+
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.ResponseCacheService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves @CachedResponse endpoints straight from ResponseCacheService
+ *
+ * A hit writes the stored bytes in the encoding the client accepts and skips the controller, the
+ * response conversion and Jackson entirely. A miss records what to store in a request attribute, which
+ * ResponseCacheAdvice picks up once the controller has produced its body.
+ *
+ * The key holds only the query parameters the handler declares with @RequestParam, sorted by name and
+ * with defaults filled in, so ?page=0&size=20, ?size=20&page=0, no parameters at all and a tracking
+ * parameter appended by a link share one entry.
+ *
+ * @author Campus Connect Team
+ */
+@Component
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheInterceptor.class);
+
+    static final String PENDING_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".pending";
+
+    private static final String ANONYMOUS = "ANONYMOUS";
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final ResponseCacheService responseCacheService;
+    private final Map<Method, List<QueryParameter>> queryParameters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResponseCacheInterceptor(ResponseCacheService responseCacheService) {
+        this.responseCacheService = responseCacheService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // An async re-dispatch only writes the result the first dispatch started; its cache lookup and
+        // generation snapshot were taken before the controller read anything and are still on the request
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !"GET".equals(request.getMethod()) || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        CachedResponse cached = handlerMethod.getMethodAnnotation(CachedResponse.class);
+        if (cached == null) {
+            return true;
+        }
+
+        String viewer = cached.perUser() ? viewerId() : viewerRole();
+        if (cached.anonymousOnly() && !ANONYMOUS.equals(viewer)) {
+            return true;
+        }
+
+        String key = viewer + " " + request.getRequestURI() + queryKey(request, handlerMethod);
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        ResponseCacheService.Entry entry = responseCacheService.get(key);
+        if (entry == null) {
+            String[] tags = cached.tags();
+            request.setAttribute(PENDING_ATTRIBUTE, new Pending(key, tags,
+                    responseCacheService.generations(tags), cached.ttlSeconds() * 1000));
+            response.setHeader(CACHE_HEADER, "MISS");
+            return true;
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? entry.getGzip() : entry.getIdentity();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+
+        logger.debug("Served {} from response cache ({} bytes, gzip: {})", key, body.length, gzip);
+        return false;
+    }
+
+    /**
+     * The @RequestParam values the handler will see, as a sorted, encoded query string
+     */
+    private String queryKey(HttpServletRequest request, HandlerMethod handlerMethod) {
+        StringBuilder query = new StringBuilder();
+        for (QueryParameter parameter : queryParameters.computeIfAbsent(handlerMethod.getMethod(),
+                method -> queryParameters(handlerMethod))) {
+            String[] values = request.getParameterValues(parameter.name());
+            if (values == null) {
+                if (parameter.defaultValue() == null) {
+                    continue;
+                }
+                values = new String[] {parameter.defaultValue()};
+            }
+            for (String value : values) {
+                query.append(query.isEmpty() ? '?' : '&')
+                        .append(encode(parameter.name())).append('=').append(encode(value));
+            }
+        }
+        return query.toString();
+    }
+
+    private static List<QueryParameter> queryParameters(HandlerMethod handlerMethod) {
+        List<QueryParameter> parameters = new ArrayList<>();
+        for (MethodParameter methodParameter : handlerMethod.getMethodParameters()) {
+            RequestParam requestParam = methodParameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null) {
+                continue;
+            }
+            String name = StringUtils.hasText(requestParam.name()) ? requestParam.name() : requestParam.value();
+            if (!StringUtils.hasText(name)) {
+                methodParameter.initParameterNameDiscovery(PARAMETER_NAMES);
+                name = methodParameter.getParameterName();
+            }
+            String defaultValue = ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())
+                    ? null : requestParam.defaultValue();
+            parameters.add(new QueryParameter(name, defaultValue));
+        }
+        parameters.sort(Comparator.comparing(QueryParameter::name));
+        return List.copyOf(parameters);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String viewerRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getRole().name();
+        }
+        return ANONYMOUS;
+    }
+
+    private static String viewerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return "USER:" + userPrincipal.getId();
+        }
+        return ANONYMOUS;
+    }
+
+    /**
+     * True when gzip is listed in Accept-Encoding without q=0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.trim().split(";");
+            String coding = params[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().replace(" ", "");
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            return !refused;
+        }
+        return false;
+    }
+
+    /**
+     * A query parameter a cached handler reads, with its default or null when it has none
+     */
+    private record QueryParameter(String name, String defaultValue) {
+    }
+
+    /**
+     * What a cache miss should store once the response body is known
+     */
+    record Pending(String key, String[] tags, long[] generations, long ttlMillis) {
+    }
+}
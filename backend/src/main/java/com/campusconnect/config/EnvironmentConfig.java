@@ -27,6 +27,7 @@ public class EnvironmentConfig {
     private final Pagination pagination = new Pagination();
     private final RateLimiting rateLimiting = new RateLimiting();
     private final Security security = new Security();
+    private final LiveUpdates liveUpdates = new LiveUpdates();
 
     public EnvironmentConfig() {
         logger.info("Initializing EnvironmentConfig");
@@ -53,6 +54,10 @@ public class EnvironmentConfig {
         return security;
     }
 
+    public LiveUpdates getLiveUpdates() {
+        return liveUpdates;
+    }
+
     /**
      * CORS configuration properties
      */
@@ -225,4 +230,87 @@ public class EnvironmentConfig {
             this.sessionTimeout = sessionTimeout;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Server-Sent Events live update configuration properties
+     */
+    public static class LiveUpdates {
+        @Positive
+        private Long coalesceWindowMs = 500L;
+
+        @Positive
+        private Integer subscriberBufferSize = 32;
+
+        @Positive
+        private Integer maxTopicsPerStream = 100;
+
+        @Positive
+        private Long streamTimeoutMs = 1800000L;
+
+        @Positive
+        private Long heartbeatIntervalMs = 25000L;
+
+        @Positive
+        private Integer senderThreads = 4;
+
+        @Positive
+        private Long sendTimeoutMs = 10000L;
+
+        // Getters and Setters
+        public Long getCoalesceWindowMs() {
+            return coalesceWindowMs;
+        }
+
+        public void setCoalesceWindowMs(Long coalesceWindowMs) {
+            this.coalesceWindowMs = coalesceWindowMs;
+        }
+
+        public Integer getSubscriberBufferSize() {
+            return subscriberBufferSize;
+        }
+
+        public void setSubscriberBufferSize(Integer subscriberBufferSize) {
+            this.subscriberBufferSize = subscriberBufferSize;
+        }
+
+        public Integer getMaxTopicsPerStream() {
+            return maxTopicsPerStream;
+        }
+
+        public void setMaxTopicsPerStream(Integer maxTopicsPerStream) {
+            this.maxTopicsPerStream = maxTopicsPerStream;
+        }
+
+        public Long getStreamTimeoutMs() {
+            return streamTimeoutMs;
+        }
+
+        public void setStreamTimeoutMs(Long streamTimeoutMs) {
+            this.streamTimeoutMs = streamTimeoutMs;
+        }
+
+        public Long getHeartbeatIntervalMs() {
+            return heartbeatIntervalMs;
+        }
+
+        public void setHeartbeatIntervalMs(Long heartbeatIntervalMs) {
+            this.heartbeatIntervalMs = heartbeatIntervalMs;
+        }
+
+        public Integer getSenderThreads() {
+            return senderThreads;
+        }
+
+        public void setSenderThreads(Integer senderThreads) {
+            this.senderThreads = senderThreads;
+        }
+
+        public Long getSendTimeoutMs() {
+            return sendTimeoutMs;
+        }
+
+        public void setSendTimeoutMs(Long sendTimeoutMs) {
+            this.sendTimeoutMs = sendTimeoutMs;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.campusconnect.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson customizations for the application ObjectMapper
+ *
+ * Response DTOs carry @JsonFilter ids for sparse fieldsets. Outside a FieldSelection those ids resolve
+ * to no filter, so every other serialization (live updates, cached bodies, single-item responses)
+ * writes all properties instead of failing for want of a filter.
+ *
+ * @author Campus Connect Team
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFieldFilters() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
@@ -0,0 +1,76 @@
+package com.campusconnect.config;
+
+import com.campusconnect.logging.MdcTaskDecorator;
+import com.campusconnect.monitoring.QueryStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the high fan-out listing reads off the Tomcat worker threads
+ *
+ * A listing request hands its Tomcat thread back as soon as the handler returns and waits for a slot
+ * here; the pool is sized below the connection pool, so a burst of listing traffic queues in memory
+ * instead of holding request threads and JDBC connections that writes and other reads need. A full
+ * queue or a timeout answers 503. These routes also skip open-in-view (see WebMvcConfig), so the JDBC
+ * connection is held only for the query, not while the JSON is written to a slow client.
+ *
+ * This is deliberately not an Executor bean: one would replace Boot's application task executor.
+ *
+ * @author Campus Connect Team
+ */
+@Component
+public class ListingReadExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingReadExecutor.class);
+
+    /**
+     * The listing routes served through this executor, for WebMvcConfig's open-in-view exclusion
+     */
+    public static final List<String> PATHS = List.of(
+            "/api/v1/projects", "/api/v1/projects/featured",
+            "/api/v1/events", "/api/v1/events/upcoming", "/api/v1/events/featured");
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+
+    @Autowired
+    public ListingReadExecutor(MdcTaskDecorator mdcTaskDecorator, MeterRegistry meterRegistry,
+                               @Value("${app.listing-reads.concurrency:10}") int concurrency,
+                               @Value("${app.listing-reads.queue-capacity:5000}") int queueCapacity,
+                               @Value("${app.listing-reads.timeout-ms:10000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("listing-read-");
+        executor.setTaskDecorator(task -> mdcTaskDecorator.decorate(QueryStats.propagate(task)));
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "listingReads");
+        logger.info("ListingReadExecutor initialized with {} threads", concurrency);
+    }
+
+    /**
+     * Wrap a read so MVC runs it here; Spring Security carries the authentication over to the callable
+     */
+    public <T> WebAsyncTask<T> submit(Callable<T> read) {
+        return new WebAsyncTask<>(timeoutMs, executor, read);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,11 +1,16 @@
 package com.campusconnect.config;
 
+import com.campusconnect.monitoring.SlowQueryEndpoint;
 import com.campusconnect.security.CustomUserDetailsService;
 import com.campusconnect.security.JwtAuthenticationEntryPoint;
 import com.campusconnect.security.JwtAuthenticationFilter;
+import com.campusconnect.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,6 +26,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -49,6 +56,9 @@ public class SecurityConfig {
     @Autowired
     private EnvironmentConfig environmentConfig;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public SecurityConfig() {
         logger.info("Initializing SecurityConfig");
     }
@@ -69,7 +79,7 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         int strength = environmentConfig.getSecurity().getBcryptStrength();
         logger.info("Creating BCryptPasswordEncoder with strength: {}", strength);
-        return new BCryptPasswordEncoder(strength);
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
     }
 
     /**
@@ -105,9 +115,14 @@ public class SecurityConfig {
             .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Async dispatches complete already-authorized requests (SSE streams)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public endpoints
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/actuator/health").permitAll()
+                // Scraped by Prometheus; nginx blocks /actuator, so it is only reachable inside the network
+                .requestMatchers(EndpointRequest.to("prometheus")).permitAll()
                 .requestMatchers("/api/v1/swagger-ui/**", "/api/v1/api-docs/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/").permitAll()
                 
@@ -115,9 +130,13 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/v1/events/featured").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/projects/featured").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/announcements/public").permitAll()
+                // Stored files are named by content hash and fetched by <img> tags, which send no bearer token
+                .requestMatchers(HttpMethod.GET, "/api/v1/files/**").permitAll()
                 
                 // Admin only endpoints
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                // Actuator paths are relative to the servlet, not the context path, so match by endpoint
+                .requestMatchers(EndpointRequest.to(SlowQueryEndpoint.class)).hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/v1/events").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/events/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/events/**").hasRole("ADMIN")
@@ -125,7 +144,10 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.PUT, "/api/v1/announcements/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/announcements/**").hasRole("ADMIN")
                 
-                // User management (admin or self)
+                // User management (admin or self); the ?ids= multi-get returns public profiles only, so any user may call it
+                .requestMatchers(new AndRequestMatcher(
+                        AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/users"),
+                        request -> request.getParameter("ids") != null)).authenticated()
                 .requestMatchers(HttpMethod.GET, "/api/v1/users").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/users/**").hasRole("ADMIN")
                 
@@ -0,0 +1,65 @@
+package com.campusconnect.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Startup tuning: beans from the packages in app.startup.lazy-packages are created on first use
+ *
+ * Unlike spring.main.lazy-initialization this leaves our own beans eager, so @Scheduled rebuilds and
+ * listeners are registered at startup and a broken bean still fails the deployment. The flag is set on
+ * the bean definitions, so an AOT-processed build captures it as well.
+ *
+ * @author Campus Connect Team
+ */
+@Configuration
+public class StartupConfig {
+
+    // Static so it runs with the other factory post-processors, before any bean is created
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("app.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (definition.getRole() == BeanDefinition.ROLE_APPLICATION
+                        && (matches(packages, definition.getBeanClassName())
+                        || matches(packages, factoryClassName(definition)))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static String factoryClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return null;
+    }
+
+    private static boolean matches(List<String> packages, String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : packages) {
+            if (className.startsWith(prefix.trim() + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
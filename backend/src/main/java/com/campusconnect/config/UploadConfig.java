@@ -0,0 +1,37 @@
+package com.campusconnect.config;
+
+import com.campusconnect.service.FileStorageService;
+import jakarta.servlet.MultipartConfigElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Multipart configuration
+ *
+ * Replaces Boot's MultipartConfigElement to spool parts into the file store's incoming directory. The
+ * spooled file is then on the store's file system, so FileStorageService moves it into place with a
+ * rename instead of writing it a second time. The limits still come from spring.servlet.multipart.
+ *
+ * @author Campus Connect Team
+ */
+@Configuration
+public class UploadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadConfig.class);
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties properties,
+                                                         FileStorageService fileStorageService) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setLocation(fileStorageService.getIncomingDirectory().toString());
+        factory.setMaxFileSize(properties.getMaxFileSize());
+        factory.setMaxRequestSize(properties.getMaxRequestSize());
+        factory.setFileSizeThreshold(properties.getFileSizeThreshold());
+        logger.info("Spooling multipart uploads to {}", fileStorageService.getIncomingDirectory());
+        return factory.createMultipartConfig();
+    }
+}
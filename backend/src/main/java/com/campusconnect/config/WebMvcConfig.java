@@ -0,0 +1,51 @@
+package com.campusconnect.config;
+
+import com.campusconnect.cache.ResponseCacheInterceptor;
+import com.campusconnect.monitoring.QueryBudgetInterceptor;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration
+ * Registers handler interceptors
+ *
+ * Open-in-view is registered here instead of by Boot (spring.jpa.open-in-view is off) so the listing
+ * reads can skip it: their services return DTOs, and without it the JDBC connection is released when
+ * the read-only transaction ends rather than after the response has been written.
+ *
+ * @author Campus Connect Team
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebMvcConfig.class);
+
+    private final ResponseCacheInterceptor responseCacheInterceptor;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+    private final OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor;
+
+    @Autowired
+    public WebMvcConfig(ResponseCacheInterceptor responseCacheInterceptor,
+                        QueryBudgetInterceptor queryBudgetInterceptor,
+                        EntityManagerFactory entityManagerFactory) {
+        this.responseCacheInterceptor = responseCacheInterceptor;
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+        this.openEntityManagerInViewInterceptor = new OpenEntityManagerInViewInterceptor();
+        this.openEntityManagerInViewInterceptor.setEntityManagerFactory(entityManagerFactory);
+        logger.info("Initializing WebMvcConfig");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor)
+                .excludePathPatterns(ListingReadExecutor.PATHS.toArray(String[]::new));
+        registry.addInterceptor(queryBudgetInterceptor).addPathPatterns("/api/v1/**");
+        registry.addInterceptor(responseCacheInterceptor).addPathPatterns("/api/v1/**");
+    }
+}
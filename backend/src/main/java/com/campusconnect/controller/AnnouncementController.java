@@ -0,0 +1,113 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.cache.CachedResponse;
+import com.campusconnect.dto.request.AnnouncementRequest;
+import com.campusconnect.dto.response.AnnouncementResponse;
+import com.campusconnect.monitoring.QueryBudget;
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.AnnouncementService;
+import com.campusconnect.service.ResponseCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Announcement Controller
+ * Handles announcement feeds and admin management
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/announcements")
+@Tag(name = "Announcements", description = "Announcement endpoints")
+public class AnnouncementController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnnouncementController.class);
+
+    private final AnnouncementService announcementService;
+
+    @Autowired
+    public AnnouncementController(AnnouncementService announcementService) {
+        this.announcementService = announcementService;
+        logger.info("AnnouncementController initialized");
+    }
+
+    /**
+     * Get announcements for everyone (landing page)
+     */
+    @GetMapping("/public")
+    @QueryBudget(1)
+    @CachedResponse(tags = ResponseCacheService.TAG_ANNOUNCEMENTS, anonymousOnly = false)
+    @Operation(summary = "Get public announcements", description = "Get active announcements targeted at all users")
+    public ResponseEntity<List<AnnouncementResponse>> getPublicAnnouncements() {
+        logger.debug("Getting public announcements");
+
+        return ResponseEntity.ok(announcementService.getPublicAnnouncements());
+    }
+
+    /**
+     * Get announcements for the current user
+     */
+    @GetMapping
+    @QueryBudget(1)
+    @Operation(summary = "Get my announcements", description = "Get active announcements visible to the current user's role, highest priority first")
+    public ResponseEntity<List<AnnouncementResponse>> getAnnouncements(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.debug("Getting announcements for user ID: {}", userPrincipal.getId());
+
+        return ResponseEntity.ok(announcementService.getAnnouncementsForRole(userPrincipal.getRole()));
+    }
+
+    /**
+     * Create announcement
+     */
+    @PostMapping
+    @Operation(summary = "Create announcement", description = "Create a new announcement (Admin only)")
+    public ResponseEntity<AnnouncementResponse> createAnnouncement(
+            @Valid @RequestBody AnnouncementRequest announcementRequest,
+            Authentication authentication) {
+
+        logger.info("Creating announcement: {}", announcementRequest.getTitle());
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        AnnouncementResponse announcement = announcementService.createAnnouncement(announcementRequest, userPrincipal.getId());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(announcement);
+    }
+
+    /**
+     * Update announcement
+     */
+    @PutMapping("/{announcementId}")
+    @Operation(summary = "Update announcement", description = "Update an announcement (Admin only)")
+    public ResponseEntity<AnnouncementResponse> updateAnnouncement(
+            @PathVariable Long announcementId,
+            @Valid @RequestBody AnnouncementRequest announcementRequest) {
+
+        logger.info("Updating announcement ID: {}", announcementId);
+
+        AnnouncementResponse announcement = announcementService.updateAnnouncement(announcementId, announcementRequest);
+        return ResponseEntity.ok(announcement);
+    }
+
+    /**
+     * Delete announcement
+     */
+    @DeleteMapping("/{announcementId}")
+    @Operation(summary = "Delete announcement", description = "Deactivate an announcement (Admin only)")
+    public ResponseEntity<Void> deleteAnnouncement(@PathVariable Long announcementId) {
+        logger.info("Deleting announcement ID: {}", announcementId);
+
+        announcementService.deleteAnnouncement(announcementId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -57,43 +57,37 @@ public class AuthController {
     public ResponseEntity<JwtAuthenticationResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
         logger.info("Login attempt for email: {}", loginRequest.getEmail());
         
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                    loginRequest.getEmail(),
-                    loginRequest.getPassword()
-                )
-            );
+        Authentication authentication = authenticationManager.authenticate(
+            new UsernamePasswordAuthenticationToken(
+                loginRequest.getEmail(),
+                loginRequest.getPassword()
+            )
+        );
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            String jwt = tokenProvider.generateToken(authentication);
-            String refreshToken = tokenProvider.generateRefreshToken(authentication);
-            
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            
-            // Update last login time
-            userService.updateLastLogin(userPrincipal.getId());
-            
-            JwtAuthenticationResponse response = new JwtAuthenticationResponse(
-                jwt, 
-                refreshToken,
-                "Bearer",
-                tokenProvider.getExpirationTime(),
-                userPrincipal.getId(),
-                userPrincipal.getEmail(),
-                userPrincipal.getRole().name()
-            );
-            
-            logger.info("Successful login for user: {} with role: {}", 
-                       loginRequest.getEmail(), userPrincipal.getRole());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.warn("Failed login attempt for email: {}", loginRequest.getEmail(), e);
-            throw e;
-        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        
+        String jwt = tokenProvider.generateToken(authentication);
+        String refreshToken = tokenProvider.generateRefreshToken(authentication);
+        
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        // Update last login time
+        userService.updateLastLogin(userPrincipal.getId());
+        
+        JwtAuthenticationResponse response = new JwtAuthenticationResponse(
+            jwt, 
+            refreshToken,
+            "Bearer",
+            tokenProvider.getExpirationTime(),
+            userPrincipal.getId(),
+            userPrincipal.getEmail(),
+            userPrincipal.getRole().name()
+        );
+        
+        logger.info("Successful login for user: {} with role: {}", 
+                   loginRequest.getEmail(), userPrincipal.getRole());
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -103,19 +97,13 @@ public class AuthController {
     @Operation(summary = "User registration", description = "Register a new user account")
     public ResponseEntity<UserResponse> register(@Valid @RequestBody UserRegistrationRequest registrationRequest) {
         logger.info("Registration attempt for email: {}", registrationRequest.getEmail());
+
+        UserResponse userResponse = userService.createUser(registrationRequest);
         
-        try {
-            UserResponse userResponse = userService.createUser(registrationRequest);
-            
-            logger.info("Successful registration for user: {} with ID: {}", 
-                       registrationRequest.getEmail(), userResponse.getId());
-            
-            return ResponseEntity.status(HttpStatus.CREATED).body(userResponse);
-            
-        } catch (Exception e) {
-            logger.error("Failed registration attempt for email: {}", registrationRequest.getEmail(), e);
-            throw e;
-        }
+        logger.info("Successful registration for user: {} with ID: {}", 
+                   registrationRequest.getEmail(), userResponse.getId());
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(userResponse);
     }
 
     /**
@@ -126,45 +114,39 @@ public class AuthController {
     public ResponseEntity<JwtAuthenticationResponse> refreshToken(@RequestHeader("Authorization") String refreshToken) {
         logger.debug("Token refresh attempt");
         
-        try {
-            // Remove "Bearer " prefix
-            if (refreshToken.startsWith("Bearer ")) {
-                refreshToken = refreshToken.substring(7);
-            }
-            
-            if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
-                logger.warn("Invalid refresh token provided");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-            
-            Long userId = tokenProvider.getUserIdFromToken(refreshToken);
-            UserResponse user = userService.getUserById(userId);
-            
-            // Create new authentication for token generation
-            UserPrincipal userPrincipal = UserPrincipal.create(convertToUserEntity(user));
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userPrincipal, null, userPrincipal.getAuthorities());
-            
-            String newJwt = tokenProvider.generateToken(authentication);
-            String newRefreshToken = tokenProvider.generateRefreshToken(authentication);
-            
-            JwtAuthenticationResponse response = new JwtAuthenticationResponse(
-                newJwt,
-                newRefreshToken,
-                "Bearer",
-                tokenProvider.getExpirationTime(),
-                user.getId(),
-                user.getEmail(),
-                user.getRole().name()
-            );
-            
-            logger.debug("Successfully refreshed token for user ID: {}", userId);
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Error refreshing token", e);
+        // Remove "Bearer " prefix
+        if (refreshToken.startsWith("Bearer ")) {
+            refreshToken = refreshToken.substring(7);
+        }
+        
+        if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
+            logger.warn("Invalid refresh token provided");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
+        
+        Long userId = tokenProvider.getUserIdFromToken(refreshToken);
+        UserResponse user = userService.getUserById(userId);
+        
+        // Create new authentication for token generation
+        UserPrincipal userPrincipal = UserPrincipal.create(convertToUserEntity(user));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+            userPrincipal, null, userPrincipal.getAuthorities());
+        
+        String newJwt = tokenProvider.generateToken(authentication);
+        String newRefreshToken = tokenProvider.generateRefreshToken(authentication);
+        
+        JwtAuthenticationResponse response = new JwtAuthenticationResponse(
+            newJwt,
+            newRefreshToken,
+            "Bearer",
+            tokenProvider.getExpirationTime(),
+            user.getId(),
+            user.getEmail(),
+            user.getRole().name()
+        );
+        
+        logger.debug("Successfully refreshed token for user ID: {}", userId);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -193,17 +175,11 @@ public class AuthController {
     @Operation(summary = "Get current user", description = "Get current authenticated user information")
     public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
         logger.debug("Getting current user info");
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        UserResponse user = userService.getUserById(userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            UserResponse user = userService.getUserById(userPrincipal.getId());
-            
-            return ResponseEntity.ok(user);
-            
-        } catch (Exception e) {
-            logger.error("Error getting current user info", e);
-            throw e;
-        }
+        return ResponseEntity.ok(user);
     }
 
     /**
@@ -0,0 +1,55 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.request.BatchRequest;
+import com.campusconnect.dto.response.BatchResponse;
+import com.campusconnect.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Batch Controller
+ * Runs several read requests in one round trip
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/batch")
+@Tag(name = "Batch", description = "Request batching endpoints")
+public class BatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchController.class);
+
+    private final BatchService batchService;
+
+    @Autowired
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+        logger.info("BatchController initialized");
+    }
+
+    /**
+     * Execute a batch of read requests
+     */
+    @PostMapping
+    @Operation(summary = "Execute batch", description = "Run up to app.batch.max-requests GET requests concurrently and return their responses in request order")
+    public CompletableFuture<ResponseEntity<BatchResponse>> executeBatch(
+            @Valid @RequestBody BatchRequest batchRequest,
+            HttpServletRequest request) {
+
+        logger.debug("Executing batch of {} requests", batchRequest.getRequests().size());
+
+        return batchService.execute(batchRequest, request).thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,60 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.cache.CachedResponse;
+import com.campusconnect.dto.response.DashboardResponse;
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.DashboardService;
+import com.campusconnect.service.ResponseCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Dashboard Controller
+ * Serves the signed-in user's dashboard as one composite response
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/me")
+@Tag(name = "Dashboard", description = "Current user dashboard endpoints")
+public class DashboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
+
+    private final DashboardService dashboardService;
+
+    @Autowired
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+        logger.info("DashboardController initialized");
+    }
+
+    /**
+     * Get the current user's dashboard
+     */
+    @GetMapping("/dashboard")
+    @CachedResponse(tags = {ResponseCacheService.TAG_PROJECTS, ResponseCacheService.TAG_EVENTS},
+                    ttlSeconds = 30, anonymousOnly = false, perUser = true)
+    @Operation(summary = "Get dashboard", description = "Registered events, owned and liked projects, upcoming featured events and counts in one response")
+    public ResponseEntity<DashboardResponse> getDashboard(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.debug("Getting dashboard for user ID: {}", userPrincipal.getId());
+
+        DashboardResponse dashboard = dashboardService.getDashboard(userPrincipal.getId());
+
+        // A partial dashboard is not cached, so the next request retries the missing sections
+        if (!dashboard.getUnavailableSections().isEmpty()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(dashboard);
+        }
+        return ResponseEntity.ok(dashboard);
+    }
+}
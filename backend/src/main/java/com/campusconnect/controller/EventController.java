@@ -1,9 +1,14 @@
 package com.campusconnect.controller;
 
+import com.campusconnect.cache.CachedResponse;
+import com.campusconnect.config.ListingReadExecutor;
 import com.campusconnect.dto.request.EventCreateRequest;
+import com.campusconnect.dto.request.FieldSelection;
 import com.campusconnect.dto.response.EventResponse;
+import com.campusconnect.monitoring.QueryBudget;
 import com.campusconnect.security.UserPrincipal;
 import com.campusconnect.service.EventService;
+import com.campusconnect.service.ResponseCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,9 +22,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.util.List;
 
@@ -37,10 +44,12 @@ public class EventController {
     private static final Logger logger = LoggerFactory.getLogger(EventController.class);
 
     private final EventService eventService;
+    private final ListingReadExecutor listingReadExecutor;
 
     @Autowired
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, ListingReadExecutor listingReadExecutor) {
         this.eventService = eventService;
+        this.listingReadExecutor = listingReadExecutor;
         logger.info("EventController initialized");
     }
 
@@ -48,31 +57,52 @@ public class EventController {
      * Get all events
      */
     @GetMapping
+    @QueryBudget(5)
     @Operation(summary = "Get all events", description = "Get paginated list of all active events")
-    public ResponseEntity<Page<EventResponse>> getAllEvents(
+    public WebAsyncTask<ResponseEntity<MappingJacksonValue>> getAllEvents(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "eventDate") String sortBy,
             @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir,
+            @Parameter(description = "Comma-separated fields to return, e.g. title,organizer.name; overrides view")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Field set to return when fields is absent: card or full")
+            @RequestParam(defaultValue = FieldSelection.VIEW_CARD) String view,
             Authentication authentication) {
         
         logger.debug("Getting all events - page: {}, size: {}, sortBy: {}, sortDir: {}", 
                     page, size, sortBy, sortDir);
+
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Long userId = getUserId(authentication);
+        FieldSelection selection = FieldSelection.parse(fields, view, EventResponse.FIELDS);
+        return listingReadExecutor.submit(() -> {
+            Page<EventResponse> events = eventService.getAllEvents(pageable, userId, selection);
         
-        try {
-            Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-            Pageable pageable = PageRequest.of(page, size, sort);
-            
-            Long userId = getUserId(authentication);
-            Page<EventResponse> events = eventService.getAllEvents(pageable, userId);
-            
             logger.debug("Successfully retrieved {} events", events.getTotalElements());
-            return ResponseEntity.ok(events);
-            
-        } catch (Exception e) {
-            logger.error("Error getting all events", e);
-            throw e;
-        }
+            return ResponseEntity.ok(selection.apply(events));
+        });
+    }
+
+    /**
+     * Get several events by ID
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get events by IDs",
+               description = "Get several active events in one request, in the order given; unknown IDs are skipped")
+    public ResponseEntity<List<EventResponse>> getEventsByIds(
+            @Parameter(description = "Comma-separated event IDs") @RequestParam List<Long> ids,
+            Authentication authentication) {
+
+        logger.debug("Getting events by IDs: {}", ids);
+
+        Long userId = getUserId(authentication);
+        List<EventResponse> events = eventService.getEventsByIds(ids, userId);
+
+        logger.debug("Found {} of {} requested events", events.size(), ids.size());
+        return ResponseEntity.ok(events);
     }
 
     /**
@@ -82,16 +112,10 @@ public class EventController {
     @Operation(summary = "Get event by ID", description = "Get event details by ID")
     public ResponseEntity<EventResponse> getEventById(@PathVariable Long id, Authentication authentication) {
         logger.debug("Getting event by ID: {}", id);
-        
-        try {
-            Long userId = getUserId(authentication);
-            EventResponse event = eventService.getEventById(id, userId);
-            return ResponseEntity.ok(event);
-            
-        } catch (Exception e) {
-            logger.error("Error getting event by ID: {}", id, e);
-            throw e;
-        }
+
+        Long userId = getUserId(authentication);
+        EventResponse event = eventService.getEventById(id, userId);
+        return ResponseEntity.ok(event);
     }
 
     /**
@@ -105,18 +129,12 @@ public class EventController {
             Authentication authentication) {
         
         logger.info("Creating new event: {}", request.getTitle());
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        EventResponse event = eventService.createEvent(request, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            EventResponse event = eventService.createEvent(request, userPrincipal.getId());
-            
-            logger.info("Successfully created event with ID: {}", event.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
-            
-        } catch (Exception e) {
-            logger.error("Error creating event: {}", request.getTitle(), e);
-            throw e;
-        }
+        logger.info("Successfully created event with ID: {}", event.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(event);
     }
 
     /**
@@ -131,18 +149,12 @@ public class EventController {
             Authentication authentication) {
         
         logger.info("Updating event with ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        EventResponse event = eventService.updateEvent(id, request, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            EventResponse event = eventService.updateEvent(id, request, userPrincipal.getId());
-            
-            logger.info("Successfully updated event with ID: {}", id);
-            return ResponseEntity.ok(event);
-            
-        } catch (Exception e) {
-            logger.error("Error updating event with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully updated event with ID: {}", id);
+        return ResponseEntity.ok(event);
     }
 
     /**
@@ -153,18 +165,12 @@ public class EventController {
     @Operation(summary = "Delete event", description = "Delete event by ID (Admin or organizer only)")
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id, Authentication authentication) {
         logger.info("Deleting event with ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        eventService.deleteEvent(id, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            eventService.deleteEvent(id, userPrincipal.getId());
-            
-            logger.info("Successfully deleted event with ID: {}", id);
-            return ResponseEntity.noContent().build();
-            
-        } catch (Exception e) {
-            logger.error("Error deleting event with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully deleted event with ID: {}", id);
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -174,18 +180,12 @@ public class EventController {
     @Operation(summary = "Register for event", description = "Register current user for event")
     public ResponseEntity<Void> registerForEvent(@PathVariable Long id, Authentication authentication) {
         logger.info("Registering for event with ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        eventService.registerForEvent(id, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            eventService.registerForEvent(id, userPrincipal.getId());
-            
-            logger.info("Successfully registered for event with ID: {}", id);
-            return ResponseEntity.ok().build();
-            
-        } catch (Exception e) {
-            logger.error("Error registering for event with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully registered for event with ID: {}", id);
+        return ResponseEntity.ok().build();
     }
 
     /**
@@ -195,18 +195,12 @@ public class EventController {
     @Operation(summary = "Unregister from event", description = "Unregister current user from event")
     public ResponseEntity<Void> unregisterFromEvent(@PathVariable Long id, Authentication authentication) {
         logger.info("Unregistering from event with ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        eventService.unregisterFromEvent(id, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            eventService.unregisterFromEvent(id, userPrincipal.getId());
-            
-            logger.info("Successfully unregistered from event with ID: {}", id);
-            return ResponseEntity.ok().build();
-            
-        } catch (Exception e) {
-            logger.error("Error unregistering from event with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully unregistered from event with ID: {}", id);
+        return ResponseEntity.ok().build();
     }
 
     /**
@@ -221,45 +215,42 @@ public class EventController {
             Authentication authentication) {
         
         logger.debug("Getting events by category: {}", category);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
+        Long userId = getUserId(authentication);
+        Page<EventResponse> events = eventService.getEventsByCategory(category, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-            Long userId = getUserId(authentication);
-            Page<EventResponse> events = eventService.getEventsByCategory(category, pageable, userId);
-            
-            logger.debug("Found {} events in category: {}", events.getTotalElements(), category);
-            return ResponseEntity.ok(events);
-            
-        } catch (Exception e) {
-            logger.error("Error getting events by category: {}", category, e);
-            throw e;
-        }
+        logger.debug("Found {} events in category: {}", events.getTotalElements(), category);
+        return ResponseEntity.ok(events);
     }
 
     /**
      * Get featured events (public endpoint)
      */
     @GetMapping("/featured")
+    @QueryBudget(5)
+    @CachedResponse(tags = ResponseCacheService.TAG_EVENTS)
     @Operation(summary = "Get featured events", description = "Get featured events (public endpoint)")
-    public ResponseEntity<Page<EventResponse>> getFeaturedEvents(
+    public WebAsyncTask<ResponseEntity<MappingJacksonValue>> getFeaturedEvents(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma-separated fields to return, e.g. title,organizer.name; overrides view")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Field set to return when fields is absent: card or full")
+            @RequestParam(defaultValue = FieldSelection.VIEW_CARD) String view,
             Authentication authentication) {
         
         logger.debug("Getting featured events");
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
+        Long userId = getUserId(authentication);
+        FieldSelection selection = FieldSelection.parse(fields, view, EventResponse.FIELDS);
+        return listingReadExecutor.submit(() -> {
+            Page<EventResponse> events = eventService.getFeaturedEvents(pageable, userId, selection);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-            Long userId = getUserId(authentication);
-            Page<EventResponse> events = eventService.getFeaturedEvents(pageable, userId);
-            
             logger.debug("Found {} featured events", events.getTotalElements());
-            return ResponseEntity.ok(events);
-            
-        } catch (Exception e) {
-            logger.error("Error getting featured events", e);
-            throw e;
-        }
+            return ResponseEntity.ok(selection.apply(events));
+        });
     }
 
     /**
@@ -274,45 +265,41 @@ public class EventController {
             Authentication authentication) {
         
         logger.debug("Searching events with query: '{}'", q);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
+        Long userId = getUserId(authentication);
+        Page<EventResponse> events = eventService.searchEvents(q, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-            Long userId = getUserId(authentication);
-            Page<EventResponse> events = eventService.searchEvents(q, pageable, userId);
-            
-            logger.debug("Found {} events matching query: '{}'", events.getTotalElements(), q);
-            return ResponseEntity.ok(events);
-            
-        } catch (Exception e) {
-            logger.error("Error searching events with query: '{}'", q, e);
-            throw e;
-        }
+        logger.debug("Found {} events matching query: '{}'", events.getTotalElements(), q);
+        return ResponseEntity.ok(events);
     }
 
     /**
      * Get upcoming events
      */
     @GetMapping("/upcoming")
+    @QueryBudget(5)
     @Operation(summary = "Get upcoming events", description = "Get upcoming events")
-    public ResponseEntity<Page<EventResponse>> getUpcomingEvents(
+    public WebAsyncTask<ResponseEntity<MappingJacksonValue>> getUpcomingEvents(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Comma-separated fields to return, e.g. title,organizer.name; overrides view")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Field set to return when fields is absent: card or full")
+            @RequestParam(defaultValue = FieldSelection.VIEW_CARD) String view,
             Authentication authentication) {
         
         logger.debug("Getting upcoming events");
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
+        Long userId = getUserId(authentication);
+        FieldSelection selection = FieldSelection.parse(fields, view, EventResponse.FIELDS);
+        return listingReadExecutor.submit(() -> {
+            Page<EventResponse> events = eventService.getUpcomingEvents(pageable, userId, selection);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-            Long userId = getUserId(authentication);
-            Page<EventResponse> events = eventService.getUpcomingEvents(pageable, userId);
-            
             logger.debug("Found {} upcoming events", events.getTotalElements());
-            return ResponseEntity.ok(events);
-            
-        } catch (Exception e) {
-            logger.error("Error getting upcoming events", e);
-            throw e;
-        }
+            return ResponseEntity.ok(selection.apply(events));
+        });
     }
 
     /**
@@ -326,19 +313,13 @@ public class EventController {
             Authentication authentication) {
         
         logger.debug("Getting registered events for current user");
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
+        Page<EventResponse> events = eventService.getEventsRegisteredByUser(userPrincipal.getId(), pageable);
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-            Page<EventResponse> events = eventService.getEventsRegisteredByUser(userPrincipal.getId(), pageable);
-            
-            logger.debug("Found {} registered events for user ID: {}", events.getTotalElements(), userPrincipal.getId());
-            return ResponseEntity.ok(events);
-            
-        } catch (Exception e) {
-            logger.error("Error getting registered events for current user", e);
-            throw e;
-        }
+        logger.debug("Found {} registered events for user ID: {}", events.getTotalElements(), userPrincipal.getId());
+        return ResponseEntity.ok(events);
     }
 
     /**
@@ -348,17 +329,11 @@ public class EventController {
     @Operation(summary = "Get event categories", description = "Get list of all event categories")
     public ResponseEntity<List<String>> getEventCategories() {
         logger.debug("Getting event categories");
+
+        List<String> categories = eventService.getEventCategories();
         
-        try {
-            List<String> categories = eventService.getEventCategories();
-            
-            logger.debug("Found {} event categories", categories.size());
-            return ResponseEntity.ok(categories);
-            
-        } catch (Exception e) {
-            logger.error("Error getting event categories", e);
-            throw e;
-        }
+        logger.debug("Found {} event categories", categories.size());
+        return ResponseEntity.ok(categories);
     }
 
     /**
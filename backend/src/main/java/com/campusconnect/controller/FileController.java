@@ -0,0 +1,221 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.FileUploadResponse;
+import com.campusconnect.service.FileStorageService;
+import com.campusconnect.service.FileType;
+import com.campusconnect.service.ThumbnailService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * File Controller
+ * Stores uploads and serves them back with range and conditional request support
+ *
+ * Downloads never pass through the heap: Tomcat's sendfile hands the file to the kernel when the
+ * connector supports it, and FileChannel.transferTo is used otherwise. Thumbnails are a few KB and go
+ * through the regular Resource response path, which also handles their ranges and ETags.
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping(FileController.PATH)
+@Tag(name = "Files", description = "File upload and download endpoints")
+public class FileController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileController.class);
+
+    public static final String PATH = "/api/v1/files";
+
+    // A stored file never changes, so clients and proxies may keep it for a year without revalidating
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // An original served in place of its thumbnail may be replaced by a real one later
+    private static final String FALLBACK_CACHE_CONTROL = "public, max-age=300";
+
+    // Below this a plain copy is cheaper than setting up sendfile
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+    private final ThumbnailService thumbnailService;
+
+    @Autowired
+    public FileController(FileStorageService fileStorageService, ThumbnailService thumbnailService) {
+        this.fileStorageService = fileStorageService;
+        this.thumbnailService = thumbnailService;
+        logger.info("FileController initialized");
+    }
+
+    /**
+     * Download URL of a stored file, relative to the host
+     */
+    public static String url(HttpServletRequest request, String id) {
+        return request.getContextPath() + PATH + "/" + id;
+    }
+
+    /**
+     * Upload a file
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload file", description = "Store an image or PDF, for example a project attachment, and return its permanent URL")
+    public ResponseEntity<FileUploadResponse> uploadFile(
+            @RequestParam("file") MultipartFile file,
+            HttpServletRequest request) {
+
+        logger.debug("Uploading file of {} bytes", file.getSize());
+
+        FileStorageService.StoredFile stored = fileStorageService.store(file, FileType.ALL);
+        FileUploadResponse response = new FileUploadResponse(stored.id(), url(request, stored.id()),
+                stored.type().getMediaType(), stored.size(), stored.deduplicated());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .location(URI.create(response.getUrl()))
+                .body(response);
+    }
+
+    /**
+     * Download a file, whole or a single byte range
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Download file", description = "Serve a stored file with ETag, If-None-Match and single-range Range support")
+    public void downloadFile(@PathVariable String id,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+
+        FileStorageService.StoredFile file = fileStorageService.resolve(id);
+        String etag = "\"" + file.hash() + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        response.setContentType(file.type().getMediaType());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (!file.type().isImage()) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + id + "\"");
+        }
+
+        long length = file.size();
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    /**
+     * Download a square thumbnail of an image, waiting for it if it is still being generated; images
+     * that cannot be thumbnailed are served as they are
+     */
+    @GetMapping("/{id}/thumbnails/{size}")
+    @Operation(summary = "Download thumbnail", description = "Serve a 32, 64 or 256 px square thumbnail of an uploaded image")
+    public CompletableFuture<ResponseEntity<Resource>> downloadThumbnail(@PathVariable String id,
+                                                                         @PathVariable int size) {
+
+        FileStorageService.StoredFile original = fileStorageService.resolve(id);
+        return thumbnailService.thumbnail(original, size).thenApply(thumbnail -> ResponseEntity.ok()
+                .eTag(thumbnail.hash())
+                .header(HttpHeaders.CACHE_CONTROL,
+                        thumbnail.id().equals(original.id()) ? FALLBACK_CACHE_CONTROL : CACHE_CONTROL)
+                .header("X-Content-Type-Options", "nosniff")
+                .contentType(MediaType.parseMediaType(thumbnail.type().getMediaType()))
+                .body(new FileSystemResource(thumbnail.path())));
+    }
+
+    /**
+     * The single range to serve, or null for the whole file. Several ranges are answered with the whole
+     * file, which RFC 9110 allows, and so is a Range whose If-Range no longer matches.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            logger.debug("Ignoring malformed Range header: {}", rangeHeader);
+            return null;
+        }
+    }
+
+    private void transfer(FileStorageService.StoredFile file, long start, long count,
+                          HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.LeaderboardEntryResponse;
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.LeaderboardService;
+import com.campusconnect.service.LeaderboardType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Leaderboard Controller
+ * Serves top creators, top participants and most-liked creators
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/leaderboards")
+@Tag(name = "Leaderboards", description = "Leaderboard endpoints")
+public class LeaderboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardController.class);
+
+    private final LeaderboardService leaderboardService;
+
+    @Autowired
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+        logger.info("LeaderboardController initialized");
+    }
+
+    /**
+     * Get the top of a leaderboard
+     */
+    @GetMapping("/{board}")
+    @Operation(summary = "Get leaderboard", description = "Top users of a leaderboard (creators, participants, liked-creators), overall or per department")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(
+            @PathVariable String board,
+            @Parameter(description = "Restrict to a department") @RequestParam(required = false) String department,
+            @Parameter(description = "Number of entries") @RequestParam(defaultValue = "20") int limit) {
+
+        logger.debug("Getting leaderboard: {}, department: {}, limit: {}", board, department, limit);
+
+        LeaderboardType type = LeaderboardType.fromSlug(board);
+        return ResponseEntity.ok(leaderboardService.getTop(type, department, limit));
+    }
+
+    /**
+     * Get the current user's rank on a leaderboard
+     */
+    @GetMapping("/{board}/me")
+    @Operation(summary = "Get my rank", description = "The current user's rank and score, overall or within their department")
+    public ResponseEntity<LeaderboardEntryResponse> getMyRank(
+            @PathVariable String board,
+            @Parameter(description = "Rank within the user's department") @RequestParam(defaultValue = "false") boolean withinDepartment,
+            Authentication authentication) {
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.debug("Getting rank on leaderboard: {} for user ID: {}", board, userPrincipal.getId());
+
+        LeaderboardType type = LeaderboardType.fromSlug(board);
+        return ResponseEntity.ok(leaderboardService.getRank(type, userPrincipal.getId(), withinDepartment));
+    }
+}
@@ -0,0 +1,98 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.LiveStreamTokenResponse;
+import com.campusconnect.security.JwtTokenProvider;
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.LiveUpdateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Live Update Controller
+ * Streams like, comment and attendee count changes as Server-Sent Events
+ *
+ * Browsers open these streams with EventSource, which cannot send an Authorization header. Clients first
+ * POST /live/token with their bearer token and open the stream with the returned token as
+ * ?access_token=. The token is only good for opening streams and expires after jwt.stream-expiration;
+ * when EventSource reports an error, fetch a new token and open a new EventSource rather than relying
+ * on its automatic reconnect, which would replay the expired token.
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/live")
+@Tag(name = "Live Updates", description = "Server-Sent Events streams for live counters")
+public class LiveUpdateController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateController.class);
+
+    private final LiveUpdateService liveUpdateService;
+    private final JwtTokenProvider tokenProvider;
+
+    @Autowired
+    public LiveUpdateController(LiveUpdateService liveUpdateService, JwtTokenProvider tokenProvider) {
+        this.liveUpdateService = liveUpdateService;
+        this.tokenProvider = tokenProvider;
+        logger.info("LiveUpdateController initialized");
+    }
+
+    /**
+     * Issue a short-lived token for opening live update streams
+     */
+    @PostMapping("/token")
+    @Operation(summary = "Get stream token", description = "Short-lived token to pass as ?access_token= when opening a stream with EventSource")
+    public ResponseEntity<LiveStreamTokenResponse> getStreamToken(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.debug("Issuing live stream token for user ID: {}", userPrincipal.getId());
+
+        String token = tokenProvider.generateStreamToken(userPrincipal.getId());
+        return ResponseEntity.ok(new LiveStreamTokenResponse(token, tokenProvider.getStreamExpirationTime()));
+    }
+
+    /**
+     * Stream live updates for a single project
+     */
+    @GetMapping(value = "/projects/{projectId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream project updates", description = "Likes count, comments count and new comments for a project; authenticate with a bearer token or ?access_token= from POST /live/token")
+    public SseEmitter streamProject(@PathVariable Long projectId) {
+        logger.debug("Opening live stream for project ID: {}", projectId);
+
+        return liveUpdateService.subscribe(List.of(projectId), null);
+    }
+
+    /**
+     * Stream live updates for a single event
+     */
+    @GetMapping(value = "/events/{eventId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream event updates", description = "Attendee count for an event; authenticate with a bearer token or ?access_token= from POST /live/token")
+    public SseEmitter streamEvent(@PathVariable Long eventId) {
+        logger.debug("Opening live stream for event ID: {}", eventId);
+
+        return liveUpdateService.subscribe(null, List.of(eventId));
+    }
+
+    /**
+     * Stream live updates for several projects and events over one connection
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream list updates", description = "Multiplexed stream for the projects and events shown on a list page; authenticate with a bearer token or ?access_token= from POST /live/token")
+    public SseEmitter streamMany(
+            @Parameter(description = "Comma-separated project IDs") @RequestParam(required = false) List<Long> projectIds,
+            @Parameter(description = "Comma-separated event IDs") @RequestParam(required = false) List<Long> eventIds) {
+
+        logger.debug("Opening multiplexed live stream for projects: {}, events: {}", projectIds, eventIds);
+
+        return liveUpdateService.subscribe(projectIds, eventIds);
+    }
+}
@@ -0,0 +1,112 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.request.ProjectCommentRequest;
+import com.campusconnect.dto.response.ProjectCommentPageResponse;
+import com.campusconnect.dto.response.ProjectCommentResponse;
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.ProjectCommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Project Comment Controller
+ * Handles threaded comments on projects
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/comments")
+@Tag(name = "Project Comments", description = "Threaded project comment endpoints")
+public class ProjectCommentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCommentController.class);
+
+    private final ProjectCommentService projectCommentService;
+
+    @Autowired
+    public ProjectCommentController(ProjectCommentService projectCommentService) {
+        this.projectCommentService = projectCommentService;
+        logger.info("ProjectCommentController initialized");
+    }
+
+    /**
+     * Get comment threads for a project
+     */
+    @GetMapping
+    @Operation(summary = "Get project comments", description = "Get a keyset-paginated page of comment threads with nested replies")
+    public ResponseEntity<ProjectCommentPageResponse> getComments(
+            @PathVariable Long projectId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of top-level threads") @RequestParam(defaultValue = "20") int size) {
+
+        logger.debug("Getting comments for project ID: {}, cursor: {}, size: {}", projectId, cursor, size);
+
+        ProjectCommentPageResponse comments = projectCommentService.getCommentThreads(projectId, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
+    /**
+     * Add comment or reply
+     */
+    @PostMapping
+    @Operation(summary = "Add comment", description = "Add a comment, or a reply when parentCommentId is set")
+    public ResponseEntity<ProjectCommentResponse> addComment(
+            @PathVariable Long projectId,
+            @Valid @RequestBody ProjectCommentRequest commentRequest,
+            Authentication authentication) {
+
+        logger.info("Adding comment to project ID: {}", projectId);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        ProjectCommentResponse comment = projectCommentService.addComment(projectId, commentRequest, userPrincipal.getId());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(comment);
+    }
+
+    /**
+     * Update comment
+     */
+    @PutMapping("/{commentId}")
+    @Operation(summary = "Update comment", description = "Edit a comment (author only)")
+    public ResponseEntity<ProjectCommentResponse> updateComment(
+            @PathVariable Long projectId,
+            @PathVariable Long commentId,
+            @Valid @RequestBody ProjectCommentRequest commentRequest,
+            Authentication authentication) {
+
+        logger.info("Updating comment ID: {} on project ID: {}", commentId, projectId);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        ProjectCommentResponse comment = projectCommentService.updateComment(
+                projectId, commentId, commentRequest, userPrincipal.getId());
+
+        return ResponseEntity.ok(comment);
+    }
+
+    /**
+     * Delete comment
+     */
+    @DeleteMapping("/{commentId}")
+    @Operation(summary = "Delete comment", description = "Delete a comment and its replies")
+    public ResponseEntity<Void> deleteComment(
+            @PathVariable Long projectId,
+            @PathVariable Long commentId,
+            Authentication authentication) {
+
+        logger.info("Deleting comment ID: {} on project ID: {}", commentId, projectId);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        projectCommentService.deleteComment(projectId, commentId, userPrincipal.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+}
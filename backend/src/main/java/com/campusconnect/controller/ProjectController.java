@@ -1,11 +1,16 @@
 package com.campusconnect.controller;
 
+import com.campusconnect.cache.CachedResponse;
+import com.campusconnect.config.ListingReadExecutor;
+import com.campusconnect.dto.request.FieldSelection;
 import com.campusconnect.dto.request.ProjectCreateRequest;
 import com.campusconnect.dto.response.ProjectResponse;
 import com.campusconnect.entity.DifficultyLevel;
 import com.campusconnect.entity.ProjectStatus;
+import com.campusconnect.monitoring.QueryBudget;
 import com.campusconnect.security.UserPrincipal;
 import com.campusconnect.service.ProjectService;
+import com.campusconnect.service.ResponseCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,8 +24,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.util.List;
 
@@ -38,10 +45,12 @@ public class ProjectController {
     private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
 
     private final ProjectService projectService;
+    private final ListingReadExecutor listingReadExecutor;
 
     @Autowired
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ListingReadExecutor listingReadExecutor) {
         this.projectService = projectService;
+        this.listingReadExecutor = listingReadExecutor;
         logger.info("ProjectController initialized");
     }
 
@@ -49,31 +58,52 @@ public class ProjectController {
      * Get all projects
      */
     @GetMapping
+    @QueryBudget(5)
     @Operation(summary = "Get all projects", description = "Get paginated list of all active projects")
-    public ResponseEntity<Page<ProjectResponse>> getAllProjects(
+    public WebAsyncTask<ResponseEntity<MappingJacksonValue>> getAllProjects(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Comma-separated fields to return, e.g. title,owner.name; overrides view")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Field set to return when fields is absent: card or full")
+            @RequestParam(defaultValue = FieldSelection.VIEW_CARD) String view,
             Authentication authentication) {
         
         logger.debug("Getting all projects - page: {}, size: {}, sortBy: {}, sortDir: {}", 
                     page, size, sortBy, sortDir);
+
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Long userId = getUserId(authentication);
+        FieldSelection selection = FieldSelection.parse(fields, view, ProjectResponse.FIELDS);
+        return listingReadExecutor.submit(() -> {
+            Page<ProjectResponse> projects = projectService.getAllProjects(pageable, userId, selection);
         
-        try {
-            Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-            Pageable pageable = PageRequest.of(page, size, sort);
-            
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getAllProjects(pageable, userId);
-            
             logger.debug("Successfully retrieved {} projects", projects.getTotalElements());
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting all projects", e);
-            throw e;
-        }
+            return ResponseEntity.ok(selection.apply(projects));
+        });
+    }
+
+    /**
+     * Get several projects by ID
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get projects by IDs",
+               description = "Get several active projects in one request, in the order given; unknown IDs are skipped")
+    public ResponseEntity<List<ProjectResponse>> getProjectsByIds(
+            @Parameter(description = "Comma-separated project IDs") @RequestParam List<Long> ids,
+            Authentication authentication) {
+
+        logger.debug("Getting projects by IDs: {}", ids);
+
+        Long userId = getUserId(authentication);
+        List<ProjectResponse> projects = projectService.getProjectsByIds(ids, userId);
+
+        logger.debug("Found {} of {} requested projects", projects.size(), ids.size());
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -83,16 +113,10 @@ public class ProjectController {
     @Operation(summary = "Get project by ID", description = "Get project details by ID")
     public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, Authentication authentication) {
         logger.debug("Getting project by ID: {}", id);
-        
-        try {
-            Long userId = getUserId(authentication);
-            ProjectResponse project = projectService.getProjectById(id, userId);
-            return ResponseEntity.ok(project);
-            
-        } catch (Exception e) {
-            logger.error("Error getting project by ID: {}", id, e);
-            throw e;
-        }
+
+        Long userId = getUserId(authentication);
+        ProjectResponse project = projectService.getProjectById(id, userId);
+        return ResponseEntity.ok(project);
     }
 
     /**
@@ -105,18 +129,12 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.info("Creating new project: {}", createRequest.getTitle());
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        ProjectResponse project = projectService.createProject(createRequest, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            ProjectResponse project = projectService.createProject(createRequest, userPrincipal.getId());
-            
-            logger.info("Successfully created project with ID: {}", project.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(project);
-            
-        } catch (Exception e) {
-            logger.error("Error creating project: {}", createRequest.getTitle(), e);
-            throw e;
-        }
+        logger.info("Successfully created project with ID: {}", project.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(project);
     }
 
     /**
@@ -130,18 +148,12 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.info("Updating project with ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        ProjectResponse project = projectService.updateProject(id, updateRequest, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            ProjectResponse project = projectService.updateProject(id, updateRequest, userPrincipal.getId());
-            
-            logger.info("Successfully updated project with ID: {}", id);
-            return ResponseEntity.ok(project);
-            
-        } catch (Exception e) {
-            logger.error("Error updating project with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully updated project with ID: {}", id);
+        return ResponseEntity.ok(project);
     }
 
     /**
@@ -151,18 +163,12 @@ public class ProjectController {
     @Operation(summary = "Delete project", description = "Delete project by ID")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id, Authentication authentication) {
         logger.info("Deleting project with ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        projectService.deleteProject(id, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            projectService.deleteProject(id, userPrincipal.getId());
-            
-            logger.info("Successfully deleted project with ID: {}", id);
-            return ResponseEntity.noContent().build();
-            
-        } catch (Exception e) {
-            logger.error("Error deleting project with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully deleted project with ID: {}", id);
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -177,19 +183,13 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Searching projects with query: '{}', page: {}, size: {}", q, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.searchProjects(q, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.searchProjects(q, pageable, userId);
-            
-            logger.debug("Found {} projects matching query: '{}'", projects.getTotalElements(), q);
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error searching projects with query: '{}'", q, e);
-            throw e;
-        }
+        logger.debug("Found {} projects matching query: '{}'", projects.getTotalElements(), q);
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -204,19 +204,13 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Getting projects by category: {}, page: {}, size: {}", category, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.getProjectsByCategory(category, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getProjectsByCategory(category, pageable, userId);
-            
-            logger.debug("Found {} projects in category: {}", projects.getTotalElements(), category);
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting projects by category: {}", category, e);
-            throw e;
-        }
+        logger.debug("Found {} projects in category: {}", projects.getTotalElements(), category);
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -231,19 +225,13 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Getting projects by difficulty: {}, page: {}, size: {}", difficulty, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.getProjectsByDifficulty(difficulty, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getProjectsByDifficulty(difficulty, pageable, userId);
-            
-            logger.debug("Found {} projects with difficulty: {}", projects.getTotalElements(), difficulty);
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting projects by difficulty: {}", difficulty, e);
-            throw e;
-        }
+        logger.debug("Found {} projects with difficulty: {}", projects.getTotalElements(), difficulty);
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -258,45 +246,42 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Getting projects by status: {}, page: {}, size: {}", status, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.getProjectsByStatus(status, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getProjectsByStatus(status, pageable, userId);
-            
-            logger.debug("Found {} projects with status: {}", projects.getTotalElements(), status);
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting projects by status: {}", status, e);
-            throw e;
-        }
+        logger.debug("Found {} projects with status: {}", projects.getTotalElements(), status);
+        return ResponseEntity.ok(projects);
     }
 
     /**
      * Get featured projects
      */
     @GetMapping("/featured")
+    @QueryBudget(5)
+    @CachedResponse(tags = ResponseCacheService.TAG_PROJECTS)
     @Operation(summary = "Get featured projects", description = "Get featured projects")
-    public ResponseEntity<Page<ProjectResponse>> getFeaturedProjects(
+    public WebAsyncTask<ResponseEntity<MappingJacksonValue>> getFeaturedProjects(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Comma-separated fields to return, e.g. title,owner.name; overrides view")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Field set to return when fields is absent: card or full")
+            @RequestParam(defaultValue = FieldSelection.VIEW_CARD) String view,
             Authentication authentication) {
         
         logger.debug("Getting featured projects - page: {}, size: {}", page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        FieldSelection selection = FieldSelection.parse(fields, view, ProjectResponse.FIELDS);
+        return listingReadExecutor.submit(() -> {
+            Page<ProjectResponse> projects = projectService.getFeaturedProjects(pageable, userId, selection);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getFeaturedProjects(pageable, userId);
-            
             logger.debug("Found {} featured projects", projects.getTotalElements());
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting featured projects", e);
-            throw e;
-        }
+            return ResponseEntity.ok(selection.apply(projects));
+        });
     }
 
     /**
@@ -310,19 +295,50 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Getting trending projects - page: {}, size: {}", page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.getTrendingProjects(pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getTrendingProjects(pageable, userId);
-            
-            logger.debug("Found {} trending projects", projects.getTotalElements());
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting trending projects", e);
-            throw e;
-        }
+        logger.debug("Found {} trending projects", projects.getTotalElements());
+        return ResponseEntity.ok(projects);
+    }
+
+    /**
+     * Get projects related to a project
+     */
+    @GetMapping("/{id}/related")
+    @Operation(summary = "Get related projects", description = "Projects most often liked by the same students as this project")
+    public ResponseEntity<List<ProjectResponse>> getRelatedProjects(
+            @PathVariable Long id,
+            @Parameter(description = "Maximum number of projects") @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        
+        logger.debug("Getting projects related to project ID: {}, limit: {}", id, limit);
+
+        Long userId = getUserId(authentication);
+        List<ProjectResponse> projects = projectService.getRelatedProjects(id, limit, userId);
+        
+        logger.debug("Found {} projects related to project ID: {}", projects.size(), id);
+        return ResponseEntity.ok(projects);
+    }
+
+    /**
+     * Get projects recommended to the current user
+     */
+    @GetMapping("/recommended")
+    @Operation(summary = "Get recommended projects", description = "Projects liked by students with similar likes; most liked projects for new users")
+    public ResponseEntity<List<ProjectResponse>> getRecommendedProjects(
+            @Parameter(description = "Maximum number of projects") @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        
+        logger.debug("Getting recommended projects, limit: {}", limit);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        List<ProjectResponse> projects = projectService.getRecommendedProjects(userPrincipal.getId(), limit);
+        
+        logger.debug("Found {} recommended projects for user ID: {}", projects.size(), userPrincipal.getId());
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -336,19 +352,13 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Getting most liked projects - page: {}, size: {}", page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.getMostLikedProjects(pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getMostLikedProjects(pageable, userId);
-            
-            logger.debug("Found {} most liked projects", projects.getTotalElements());
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting most liked projects", e);
-            throw e;
-        }
+        logger.debug("Found {} most liked projects", projects.getTotalElements());
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -363,19 +373,13 @@ public class ProjectController {
             Authentication authentication) {
         
         logger.debug("Getting projects by owner ID: {}, page: {}, size: {}", ownerId, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Long userId = getUserId(authentication);
+        Page<ProjectResponse> projects = projectService.getProjectsByOwner(ownerId, pageable, userId);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Long userId = getUserId(authentication);
-            Page<ProjectResponse> projects = projectService.getProjectsByOwner(ownerId, pageable, userId);
-            
-            logger.debug("Found {} projects owned by user ID: {}", projects.getTotalElements(), ownerId);
-            return ResponseEntity.ok(projects);
-            
-        } catch (Exception e) {
-            logger.error("Error getting projects by owner ID: {}", ownerId, e);
-            throw e;
-        }
+        logger.debug("Found {} projects owned by user ID: {}", projects.getTotalElements(), ownerId);
+        return ResponseEntity.ok(projects);
     }
 
     /**
@@ -385,17 +389,11 @@ public class ProjectController {
     @Operation(summary = "Toggle project like", description = "Like or unlike a project")
     public ResponseEntity<Void> toggleProjectLike(@PathVariable Long id, Authentication authentication) {
         logger.info("Toggling like for project ID: {}", id);
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        projectService.toggleProjectLike(id, userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            projectService.toggleProjectLike(id, userPrincipal.getId());
-            
-            return ResponseEntity.ok().build();
-            
-        } catch (Exception e) {
-            logger.error("Error toggling like for project ID: {}", id, e);
-            throw e;
-        }
+        return ResponseEntity.ok().build();
     }
 
     /**
@@ -405,17 +403,11 @@ public class ProjectController {
     @Operation(summary = "Get project categories", description = "Get list of all project categories")
     public ResponseEntity<List<String>> getProjectCategories() {
         logger.debug("Getting project categories");
+
+        List<String> categories = projectService.getProjectCategories();
         
-        try {
-            List<String> categories = projectService.getProjectCategories();
-            
-            logger.debug("Found {} project categories", categories.size());
-            return ResponseEntity.ok(categories);
-            
-        } catch (Exception e) {
-            logger.error("Error getting project categories", e);
-            throw e;
-        }
+        logger.debug("Found {} project categories", categories.size());
+        return ResponseEntity.ok(categories);
     }
 
     /**
@@ -425,17 +417,11 @@ public class ProjectController {
     @Operation(summary = "Get project tags", description = "Get list of all project tags")
     public ResponseEntity<List<String>> getProjectTags() {
         logger.debug("Getting project tags");
+
+        List<String> tags = projectService.getProjectTags();
         
-        try {
-            List<String> tags = projectService.getProjectTags();
-            
-            logger.debug("Found {} project tags", tags.size());
-            return ResponseEntity.ok(tags);
-            
-        } catch (Exception e) {
-            logger.error("Error getting project tags", e);
-            throw e;
-        }
+        logger.debug("Found {} project tags", tags.size());
+        return ResponseEntity.ok(tags);
     }
 
     /**
@@ -445,17 +431,11 @@ public class ProjectController {
     @Operation(summary = "Get required skills", description = "Get list of all required skills")
     public ResponseEntity<List<String>> getRequiredSkills() {
         logger.debug("Getting required skills");
+
+        List<String> skills = projectService.getRequiredSkills();
         
-        try {
-            List<String> skills = projectService.getRequiredSkills();
-            
-            logger.debug("Found {} required skills", skills.size());
-            return ResponseEntity.ok(skills);
-            
-        } catch (Exception e) {
-            logger.error("Error getting required skills", e);
-            throw e;
-        }
+        logger.debug("Found {} required skills", skills.size());
+        return ResponseEntity.ok(skills);
     }
 
     /**
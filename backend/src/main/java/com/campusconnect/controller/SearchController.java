@@ -0,0 +1,55 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.QuickSearchResultResponse;
+import com.campusconnect.monitoring.QueryBudget;
+import com.campusconnect.service.QuickSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Search Controller
+ * Serves the cross-entity quick search used by the navbar
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@Tag(name = "Search", description = "Cross-entity search endpoints")
+public class SearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchController.class);
+
+    private final QuickSearchService quickSearchService;
+
+    @Autowired
+    public SearchController(QuickSearchService quickSearchService) {
+        this.quickSearchService = quickSearchService;
+        logger.info("SearchController initialized");
+    }
+
+    /**
+     * Quick search across projects, events and people
+     */
+    @GetMapping("/quick")
+    @QueryBudget(1)
+    @Operation(summary = "Quick search", description = "Search projects, events and people by title, name, tags and skills; the last word matches as a prefix")
+    public ResponseEntity<List<QuickSearchResultResponse>> quickSearch(
+            @Parameter(description = "Search term") @RequestParam String q,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("Quick search with query: '{}', limit: {}", q, limit);
+
+        return ResponseEntity.ok(quickSearchService.search(q, limit));
+    }
+}
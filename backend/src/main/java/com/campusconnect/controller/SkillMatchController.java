@@ -0,0 +1,69 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.SkillMatchResponse;
+import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.SkillMatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Skill Match Controller
+ * Matches students with projects seeking collaborators by skills
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/skill-matches")
+@Tag(name = "Skill Matching", description = "Skill-based matching between students and projects")
+public class SkillMatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMatchController.class);
+
+    private final SkillMatchService skillMatchService;
+
+    @Autowired
+    public SkillMatchController(SkillMatchService skillMatchService) {
+        this.skillMatchService = skillMatchService;
+        logger.info("SkillMatchController initialized");
+    }
+
+    /**
+     * Get open projects matching the current user's skills
+     */
+    @GetMapping("/projects")
+    @Operation(summary = "Match projects", description = "Projects seeking collaborators ranked by how well the current user's skills cover them")
+    public ResponseEntity<List<SkillMatchResponse>> matchProjects(
+            @Parameter(description = "Maximum number of projects") @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.debug("Matching projects for user ID: {}, limit: {}", userPrincipal.getId(), limit);
+
+        return ResponseEntity.ok(skillMatchService.matchProjects(userPrincipal.getId(), limit));
+    }
+
+    /**
+     * Get students matching one of the current user's open projects
+     */
+    @GetMapping("/projects/{projectId}/candidates")
+    @Operation(summary = "Match candidates", description = "Students ranked by how well their skills cover the project's required skills (project owner only)")
+    public ResponseEntity<List<SkillMatchResponse>> matchCandidates(
+            @PathVariable Long projectId,
+            @Parameter(description = "Maximum number of candidates") @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.debug("Matching candidates for project ID: {}, limit: {}", projectId, limit);
+
+        return ResponseEntity.ok(skillMatchService.matchCandidates(projectId, userPrincipal.getId(), limit));
+    }
+}
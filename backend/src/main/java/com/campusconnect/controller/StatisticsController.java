@@ -0,0 +1,48 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.PlatformStatisticsResponse;
+import com.campusconnect.monitoring.QueryBudget;
+import com.campusconnect.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Statistics Controller
+ * Serves platform-wide statistics
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/stats")
+@Tag(name = "Statistics", description = "Platform statistics endpoints")
+public class StatisticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsController.class);
+
+    private final StatisticsService statisticsService;
+
+    @Autowired
+    public StatisticsController(StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+        logger.info("StatisticsController initialized");
+    }
+
+    /**
+     * Get platform statistics
+     */
+    @GetMapping
+    @QueryBudget(1)
+    @Operation(summary = "Get platform statistics", description = "Users, projects, events, registrations and likes broken down by category")
+    public ResponseEntity<PlatformStatisticsResponse> getStatistics() {
+        logger.debug("Getting platform statistics");
+
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+}
@@ -0,0 +1,57 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.dto.response.TagSuggestionResponse;
+import com.campusconnect.monitoring.QueryBudget;
+import com.campusconnect.service.TagKind;
+import com.campusconnect.service.TagSuggestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Tag Controller
+ * Serves tag and skill autocomplete for the project and event forms
+ *
+ * @author Campus Connect Team
+ */
+@RestController
+@RequestMapping("/api/v1/tags")
+@Tag(name = "Tags", description = "Tag and skill autocomplete endpoints")
+public class TagController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagController.class);
+
+    private final TagSuggestionService tagSuggestionService;
+
+    @Autowired
+    public TagController(TagSuggestionService tagSuggestionService) {
+        this.tagSuggestionService = tagSuggestionService;
+        logger.info("TagController initialized");
+    }
+
+    /**
+     * Autocomplete tags or skills
+     */
+    @GetMapping("/autocomplete")
+    @QueryBudget(1)
+    @Operation(summary = "Autocomplete tags", description = "Most used tags or skills starting with a prefix, ignoring case, accents and punctuation")
+    public ResponseEntity<List<TagSuggestionResponse>> autocomplete(
+            @Parameter(description = "Prefix typed so far") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Vocabulary: tags or skills") @RequestParam(defaultValue = "tags") String kind,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("Autocompleting {} with prefix: '{}', limit: {}", kind, q, limit);
+
+        return ResponseEntity.ok(tagSuggestionService.suggest(TagKind.fromSlug(kind), q, limit));
+    }
+}
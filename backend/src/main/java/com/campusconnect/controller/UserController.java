@@ -4,10 +4,13 @@ import com.campusconnect.dto.request.UserUpdateRequest;
 import com.campusconnect.dto.response.UserResponse;
 import com.campusconnect.entity.UserRole;
 import com.campusconnect.security.UserPrincipal;
+import com.campusconnect.service.FileStorageService;
+import com.campusconnect.service.FileType;
 import com.campusconnect.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,11 +18,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -37,10 +43,12 @@ public class UserController {
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
     private final UserService userService;
+    private final FileStorageService fileStorageService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, FileStorageService fileStorageService) {
         this.userService = userService;
+        this.fileStorageService = fileStorageService;
         logger.info("UserController initialized");
     }
 
@@ -51,17 +59,11 @@ public class UserController {
     @Operation(summary = "Get current user", description = "Get current authenticated user profile")
     public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
         logger.debug("Getting current user profile");
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        UserResponse user = userService.getUserById(userPrincipal.getId());
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            UserResponse user = userService.getUserById(userPrincipal.getId());
-            
-            return ResponseEntity.ok(user);
-            
-        } catch (Exception e) {
-            logger.error("Error getting current user profile", e);
-            throw e;
-        }
+        return ResponseEntity.ok(user);
     }
 
     /**
@@ -74,18 +76,32 @@ public class UserController {
             Authentication authentication) {
         
         logger.info("Updating current user profile");
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        UserResponse updatedUser = userService.updateUser(userPrincipal.getId(), updateRequest);
         
-        try {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            UserResponse updatedUser = userService.updateUser(userPrincipal.getId(), updateRequest);
-            
-            logger.info("Successfully updated profile for user ID: {}", userPrincipal.getId());
-            return ResponseEntity.ok(updatedUser);
-            
-        } catch (Exception e) {
-            logger.error("Error updating current user profile", e);
-            throw e;
-        }
+        logger.info("Successfully updated profile for user ID: {}", userPrincipal.getId());
+        return ResponseEntity.ok(updatedUser);
+    }
+
+    /**
+     * Upload the current user's avatar
+     */
+    @PostMapping(value = "/me/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload avatar", description = "Store a PNG, JPEG, GIF or WebP image and make it the current user's avatar")
+    public ResponseEntity<UserResponse> uploadAvatar(
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication,
+            HttpServletRequest request) {
+
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        logger.info("Uploading avatar for user ID: {}", userPrincipal.getId());
+
+        FileStorageService.StoredFile stored = fileStorageService.store(file, FileType.IMAGES);
+        UserResponse updatedUser = userService.updateAvatar(userPrincipal.getId(),
+                FileController.url(request, stored.id()));
+
+        return ResponseEntity.ok(updatedUser);
     }
 
     /**
@@ -102,20 +118,31 @@ public class UserController {
         
         logger.debug("Getting all users - page: {}, size: {}, sortBy: {}, sortDir: {}", 
                     page, size, sortBy, sortDir);
+
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Page<UserResponse> users = userService.getAllUsers(pageable);
         
-        try {
-            Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-            Pageable pageable = PageRequest.of(page, size, sort);
-            
-            Page<UserResponse> users = userService.getAllUsers(pageable);
-            
-            logger.debug("Successfully retrieved {} users", users.getTotalElements());
-            return ResponseEntity.ok(users);
-            
-        } catch (Exception e) {
-            logger.error("Error getting all users", e);
-            throw e;
-        }
+        logger.debug("Successfully retrieved {} users", users.getTotalElements());
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * Get several users by ID
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get users by IDs",
+               description = "Get the public profiles of several active users in one request, in the order given; unknown IDs are skipped. Email and last login are left out")
+    public ResponseEntity<List<UserResponse>> getUsersByIds(
+            @Parameter(description = "Comma-separated user IDs") @RequestParam List<Long> ids) {
+
+        logger.debug("Getting users by IDs: {}", ids);
+
+        List<UserResponse> users = userService.getUsersByIds(ids);
+
+        logger.debug("Found {} of {} requested users", users.size(), ids.size());
+        return ResponseEntity.ok(users);
     }
 
     /**
@@ -125,15 +152,9 @@ public class UserController {
     @Operation(summary = "Get user by ID", description = "Get user details by ID")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
         logger.debug("Getting user by ID: {}", id);
-        
-        try {
-            UserResponse user = userService.getUserById(id);
-            return ResponseEntity.ok(user);
-            
-        } catch (Exception e) {
-            logger.error("Error getting user by ID: {}", id, e);
-            throw e;
-        }
+
+        UserResponse user = userService.getUserById(id);
+        return ResponseEntity.ok(user);
     }
 
     /**
@@ -147,17 +168,11 @@ public class UserController {
             @Valid @RequestBody UserUpdateRequest updateRequest) {
         
         logger.info("Updating user with ID: {}", id);
+
+        UserResponse updatedUser = userService.updateUser(id, updateRequest);
         
-        try {
-            UserResponse updatedUser = userService.updateUser(id, updateRequest);
-            
-            logger.info("Successfully updated user with ID: {}", id);
-            return ResponseEntity.ok(updatedUser);
-            
-        } catch (Exception e) {
-            logger.error("Error updating user with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully updated user with ID: {}", id);
+        return ResponseEntity.ok(updatedUser);
     }
 
     /**
@@ -168,42 +183,33 @@ public class UserController {
     @Operation(summary = "Delete user", description = "Delete user by ID (Admin only)")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         logger.info("Deleting user with ID: {}", id);
+
+        userService.deleteUser(id);
         
-        try {
-            userService.deleteUser(id);
-            
-            logger.info("Successfully deleted user with ID: {}", id);
-            return ResponseEntity.noContent().build();
-            
-        } catch (Exception e) {
-            logger.error("Error deleting user with ID: {}", id, e);
-            throw e;
-        }
+        logger.info("Successfully deleted user with ID: {}", id);
+        return ResponseEntity.noContent().build();
     }
 
     /**
      * Search users
      */
     @GetMapping("/search")
-    @Operation(summary = "Search users", description = "Search users by name or email")
-    public ResponseEntity<Page<UserResponse>> searchUsers(
+    @Operation(summary = "Search users", description = "Typeahead search by name or email prefix with fuzzy name matching, best matches first")
+    public ResponseEntity<Slice<UserResponse>> searchUsers(
             @Parameter(description = "Search term") @RequestParam String q,
+            @Parameter(description = "Filter by department") @RequestParam(required = false) String department,
+            @Parameter(description = "Filter by academic year") @RequestParam(required = false) String academicYear,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
         
-        logger.debug("Searching users with query: '{}', page: {}, size: {}", q, page, size);
+        logger.debug("Searching users with query: '{}', department: {}, academicYear: {}, page: {}, size: {}",
+                    q, department, academicYear, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<UserResponse> users = userService.searchUsers(q, department, academicYear, pageable);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<UserResponse> users = userService.searchUsers(q, pageable);
-            
-            logger.debug("Found {} users matching query: '{}'", users.getTotalElements(), q);
-            return ResponseEntity.ok(users);
-            
-        } catch (Exception e) {
-            logger.error("Error searching users with query: '{}'", q, e);
-            throw e;
-        }
+        logger.debug("Found {} users matching query: '{}'", users.getNumberOfElements(), q);
+        return ResponseEntity.ok(users);
     }
 
     /**
@@ -217,18 +223,12 @@ public class UserController {
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         logger.debug("Getting users by role: {}, page: {}, size: {}", role, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<UserResponse> users = userService.getUsersByRole(role, pageable);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<UserResponse> users = userService.getUsersByRole(role, pageable);
-            
-            logger.debug("Found {} users with role: {}", users.getTotalElements(), role);
-            return ResponseEntity.ok(users);
-            
-        } catch (Exception e) {
-            logger.error("Error getting users by role: {}", role, e);
-            throw e;
-        }
+        logger.debug("Found {} users with role: {}", users.getTotalElements(), role);
+        return ResponseEntity.ok(users);
     }
 
     /**
@@ -242,18 +242,12 @@ public class UserController {
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         logger.debug("Getting users by department: {}, page: {}, size: {}", department, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<UserResponse> users = userService.getUsersByDepartment(department, pageable);
         
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<UserResponse> users = userService.getUsersByDepartment(department, pageable);
-            
-            logger.debug("Found {} users in department: {}", users.getTotalElements(), department);
-            return ResponseEntity.ok(users);
-            
-        } catch (Exception e) {
-            logger.error("Error getting users by department: {}", department, e);
-            throw e;
-        }
+        logger.debug("Found {} users in department: {}", users.getTotalElements(), department);
+        return ResponseEntity.ok(users);
     }
 
     /**
@@ -264,17 +258,11 @@ public class UserController {
     @Operation(summary = "Get user statistics", description = "Get user statistics (Admin only)")
     public ResponseEntity<UserService.UserStatistics> getUserStatistics() {
         logger.debug("Getting user statistics");
+
+        UserService.UserStatistics statistics = userService.getUserStatistics();
         
-        try {
-            UserService.UserStatistics statistics = userService.getUserStatistics();
-            
-            logger.debug("Successfully retrieved user statistics: {}", statistics);
-            return ResponseEntity.ok(statistics);
-            
-        } catch (Exception e) {
-            logger.error("Error getting user statistics", e);
-            throw e;
-        }
+        logger.debug("Successfully retrieved user statistics: {}", statistics);
+        return ResponseEntity.ok(statistics);
     }
 
     /**
@@ -284,16 +272,10 @@ public class UserController {
     @Operation(summary = "Get all departments", description = "Get list of all departments")
     public ResponseEntity<List<String>> getAllDepartments() {
         logger.debug("Getting all departments");
+
+        List<String> departments = userService.getAllDepartments();
         
-        try {
-            List<String> departments = userService.getAllDepartments();
-            
-            logger.debug("Found {} departments", departments.size());
-            return ResponseEntity.ok(departments);
-            
-        } catch (Exception e) {
-            logger.error("Error getting all departments", e);
-            throw e;
-        }
+        logger.debug("Found {} departments", departments.size());
+        return ResponseEntity.ok(departments);
     }
 }
\ No newline at end of file
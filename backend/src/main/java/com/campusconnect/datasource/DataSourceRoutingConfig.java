@@ -0,0 +1,90 @@
+package com.campusconnect.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool plus one pool per replica
+ *
+ * Every pool takes its settings from spring.datasource and spring.datasource.hikari; replicas only
+ * override the URL and are marked read-only, so a write routed there by mistake fails instead of
+ * diverging. The pools are not beans themselves, so query counting wraps only the routed DataSource
+ * and each statement is counted once.
+ *
+ * @author Campus Connect Team
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                 @Value("${app.datasource.routing.replica-urls:}") List<String> replicaUrls,
+                                 @Value("${app.datasource.routing.max-lag-ms:1000}") long maxLagMs,
+                                 @Value("${app.datasource.routing.read-your-writes-ms:5000}") long readYourWritesMs,
+                                 @Value("${app.datasource.routing.lag-check-interval-ms:1000}") long lagCheckIntervalMs) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = pool(properties, binder, meterRegistry, properties.determineUrl(), "primary");
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (StringUtils.hasText(url)) {
+                HikariDataSource replica = pool(properties, binder, meterRegistry, url.trim(),
+                        "replica-" + (replicas.size() + 1));
+                replica.setReadOnly(true);
+                replicas.add(replica);
+            }
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                maxLagMs, readYourWritesMs, lagCheckIntervalMs, meterRegistry);
+        routing.afterPropertiesSet();
+        return new RoutingConnectionProxy(routing);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, MeterRegistry meterRegistry,
+                                         String url, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        // Boot only instruments the pool it can unwrap from the bean, which is the primary
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * Defers the routing decision to the first statement, after the transaction's read-only flag is set
+     */
+    static class RoutingConnectionProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final ReplicaRoutingDataSource routing;
+
+        RoutingConnectionProxy(ReplicaRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() {
+            routing.close();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.campusconnect.datasource;
+
+import com.campusconnect.security.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to replicas and everything else to the primary
+ *
+ * The lookup happens when a physical connection is first needed, so this must sit behind a
+ * LazyConnectionDataSourceProxy; by then the transaction's read-only flag is known. A replica is only
+ * used while its last measured lag is below the limit. A user who committed a write in the last few
+ * seconds reads from the primary, so they see their own change even if the replicas have not replayed
+ * it yet.
+ *
+ * @author Campus Connect Team
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag
+    private static final String LAG_SQL = "SELECT pg_is_in_recovery(), CAST(CASE"
+            + " WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)"
+            + " END AS BIGINT)";
+    private static final int LAG_CHECK_TIMEOUT_SECONDS = 2;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long readYourWritesNanos;
+    private final long lagCheckIntervalMs;
+
+    private final Map<Long, Long> recentWriters = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private final Counter routedPrimaryWrite;
+    private final Counter routedPrimaryRecentWrite;
+    private final Counter routedPrimaryNoReplica;
+    private final Counter routedReplica;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                                    long maxLagMillis, long readYourWritesMillis, long lagCheckIntervalMs,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagMillis = maxLagMillis;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas = new ArrayList<>(replicaPools.size());
+        for (HikariDataSource pool : replicaPools) {
+            Replica replica = new Replica(pool.getPoolName(), pool);
+            replicas.add(replica);
+            targets.put(replica.name, pool);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMillis)
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.routedPrimaryWrite = routed(meterRegistry, PRIMARY, "read-write");
+        this.routedPrimaryRecentWrite = routed(meterRegistry, PRIMARY, "recent-write");
+        this.routedPrimaryNoReplica = routed(meterRegistry, PRIMARY, "no-replica");
+        this.routedReplica = routed(meterRegistry, "replica", "read-only");
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (!replicas.isEmpty()) {
+            lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        logger.info("ReplicaRoutingDataSource initialized with {} replica(s), max lag {} ms",
+                replicas.size(), maxLagMillis);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            routedPrimaryWrite.increment();
+            // Without replicas every read goes to the primary anyway, and nothing would prune the map
+            if (userId != null && !replicas.isEmpty()) {
+                rememberWrite(userId);
+            }
+            return PRIMARY;
+        }
+
+        if (userId != null) {
+            Long until = recentWriters.get(userId);
+            if (until != null) {
+                if (until - System.nanoTime() > 0) {
+                    routedPrimaryRecentWrite.increment();
+                    return PRIMARY;
+                }
+                recentWriters.remove(userId, until);
+            }
+        }
+
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMillis <= maxLagMillis) {
+                routedReplica.increment();
+                return replica.name;
+            }
+        }
+        routedPrimaryNoReplica.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Close the lag checker and every pool; the container only sees the proxy in front of this
+     */
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+        primary.close();
+    }
+
+    /**
+     * The read-your-writes window starts when the write commits, not when it starts
+     */
+    private void rememberWrite(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, System.nanoTime() + readYourWritesNanos);
+                }
+            });
+        } else {
+            recentWriters.put(userId, System.nanoTime() + readYourWritesNanos);
+        }
+    }
+
+    private void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(LAG_CHECK_TIMEOUT_SECONDS);
+                try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    if (!rs.getBoolean(1) && !replica.warnedNotInRecovery) {
+                        replica.warnedNotInRecovery = true;
+                        logger.warn("Replica {} is not in recovery; it is not receiving changes from the primary",
+                                replica.name);
+                    }
+                    long lag = rs.getLong(2);
+                    if (lag > maxLagMillis && replica.lagMillis <= maxLagMillis) {
+                        logger.warn("Replica {} is {} ms behind, reads fall back to the primary", replica.name, lag);
+                    }
+                    replica.lagMillis = lag;
+                }
+            } catch (Exception e) {
+                if (replica.lagMillis != Long.MAX_VALUE) {
+                    logger.warn("Replica {} lag check failed, reads fall back to the primary: {}",
+                            replica.name, e.getMessage());
+                }
+                replica.lagMillis = Long.MAX_VALUE;
+            }
+        }
+
+        // Writers who have not read since their window ended
+        long now = System.nanoTime();
+        recentWriters.values().removeIf(until -> until - now <= 0);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        return null;
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        // Unknown until the first check succeeds, so a replica is never used before it has been measured
+        private volatile long lagMillis = Long.MAX_VALUE;
+        private volatile boolean warnedNotInRecovery;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
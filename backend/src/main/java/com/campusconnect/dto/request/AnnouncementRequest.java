@@ -0,0 +1,86 @@
+package com.campusconnect.dto.request;
+
+import com.campusconnect.entity.AnnouncementPriority;
+import com.campusconnect.entity.TargetAudience;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for announcement create and update requests
+ * 
+ * @author Campus Connect Team
+ */
+public class AnnouncementRequest {
+
+    @NotBlank(message = "Announcement title is required")
+    @Size(max = 255, message = "Title must not exceed 255 characters")
+    private String title;
+
+    @NotBlank(message = "Announcement content is required")
+    @Size(max = 5000, message = "Content must not exceed 5000 characters")
+    private String content;
+
+    private AnnouncementPriority priority = AnnouncementPriority.NORMAL;
+
+    private TargetAudience targetAudience = TargetAudience.ALL;
+
+    @Future(message = "Expiry must be in the future")
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public AnnouncementRequest() {}
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public AnnouncementPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(AnnouncementPriority priority) {
+        this.priority = priority;
+    }
+
+    public TargetAudience getTargetAudience() {
+        return targetAudience;
+    }
+
+    public void setTargetAudience(TargetAudience targetAudience) {
+        this.targetAudience = targetAudience;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AnnouncementRequest{" +
+                "title='" + title + '\'' +
+                ", priority=" + priority +
+                ", targetAudience=" + targetAudience +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package com.campusconnect.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * DTO for a batch of read requests
+ * Each path is relative to the API root, e.g. "/projects/12" or "/events?ids=3,4".
+ *
+ * @author Campus Connect Team
+ */
+public class BatchRequest {
+
+    @NotEmpty(message = "At least one request is required")
+    @Valid
+    private List<Item> requests;
+
+    // Constructors
+    public BatchRequest() {}
+
+    public BatchRequest(List<Item> requests) {
+        this.requests = requests;
+    }
+
+    // Getters and Setters
+    public List<Item> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(List<Item> requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequest{" +
+                "requests=" + requests +
+                '}';
+    }
+
+    /**
+     * One sub-request; the id is echoed back so the client can match responses
+     */
+    public static class Item {
+
+        private String id;
+
+        private String method = "GET";
+
+        @NotBlank(message = "Request path is required")
+        private String path;
+
+        public Item() {}
+
+        public Item(String id, String method, String path) {
+            this.id = id;
+            this.method = method;
+            this.path = path;
+        }
+
+        // Getters and Setters
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{" +
+                    "id='" + id + '\'' +
+                    ", method='" + method + '\'' +
+                    ", path='" + path + '\'' +
+                    '}';
+        }
+    }
+}
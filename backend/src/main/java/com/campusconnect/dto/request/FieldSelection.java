@@ -0,0 +1,155 @@
+package com.campusconnect.dto.request;
+
+import com.campusconnect.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields a list endpoint was asked for through its fields= or view= parameter
+ *
+ * Names are the JSON property names of the response DTO. "owner" selects a nested object with all its
+ * properties and "owner.name" just one of them. fields= wins over view=, which is either "card", the
+ * schema's short set for card grids, or "full". The id is always included.
+ *
+ * Services use the selection to load only what is needed; apply() then serializes only those fields,
+ * through the @JsonFilter ids the schema names.
+ *
+ * @author Campus Connect Team
+ */
+public final class FieldSelection {
+
+    public static final String VIEW_CARD = "card";
+    public static final String VIEW_FULL = "full";
+
+    private static final String ID = "id";
+
+    private final Schema schema;
+    private final Set<String> fields;
+    private final Map<String, Set<String>> nestedFields;
+    private final boolean full;
+
+    private FieldSelection(Schema schema, Set<String> fields, Map<String, Set<String>> nestedFields, boolean full) {
+        this.schema = schema;
+        this.fields = Collections.unmodifiableSet(fields);
+        this.nestedFields = nestedFields;
+        this.full = full;
+    }
+
+    /**
+     * The JSON shape of one response DTO: its filter id, its properties and its nested objects
+     */
+    public record Schema(String filterId, List<String> fields, Map<String, Schema> nested, List<String> cardFields) {
+
+        public Schema(String filterId, List<String> fields) {
+            this(filterId, fields, Map.of(), List.of());
+        }
+    }
+
+    public static FieldSelection parse(String fields, String view, Schema schema) {
+        List<String> requested;
+        if (StringUtils.hasText(fields)) {
+            requested = List.of(StringUtils.tokenizeToStringArray(fields, ","));
+        } else if (!StringUtils.hasText(view) || VIEW_CARD.equals(view)) {
+            requested = schema.cardFields();
+        } else if (VIEW_FULL.equals(view)) {
+            return full(schema);
+        } else {
+            throw new BadRequestException("Unknown view '" + view + "'; use " + VIEW_CARD + " or " + VIEW_FULL);
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        Map<String, Set<String>> nestedSelected = new LinkedHashMap<>();
+        selected.add(ID);
+        for (String field : requested) {
+            int dot = field.indexOf('.');
+            String parent = dot < 0 ? field : field.substring(0, dot);
+            if (!schema.fields().contains(parent)) {
+                throw new BadRequestException("Unknown field '" + field + "'; allowed: "
+                        + String.join(",", schema.fields()));
+            }
+            selected.add(parent);
+
+            Schema nested = schema.nested().get(parent);
+            if (nested == null) {
+                if (dot >= 0) {
+                    throw new BadRequestException("Field '" + parent + "' has no nested fields");
+                }
+                continue;
+            }
+            Set<String> children = nestedSelected.computeIfAbsent(parent, key -> new LinkedHashSet<>());
+            if (dot < 0) {
+                children.addAll(nested.fields());
+            } else if (nested.fields().contains(field.substring(dot + 1))) {
+                children.add(field.substring(dot + 1));
+            } else {
+                throw new BadRequestException("Unknown field '" + field + "'; allowed: "
+                        + parent + "." + String.join("," + parent + ".", nested.fields()));
+            }
+        }
+        return new FieldSelection(schema, selected, nestedSelected, false);
+    }
+
+    public static FieldSelection full(Schema schema) {
+        Map<String, Set<String>> nestedSelected = new LinkedHashMap<>();
+        schema.nested().forEach((name, nested) -> nestedSelected.put(name, new LinkedHashSet<>(nested.fields())));
+        return new FieldSelection(schema, new LinkedHashSet<>(schema.fields()), nestedSelected, true);
+    }
+
+    /**
+     * True for view=full, where services keep their entity-loading path
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Selected properties of a nested object, empty when the object itself is not selected
+     */
+    public Set<String> getNestedFields(String field) {
+        return nestedFields.getOrDefault(field, Set.of());
+    }
+
+    /**
+     * Wrap a response body so Jackson writes only the selected fields
+     */
+    public MappingJacksonValue apply(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters());
+        return value;
+    }
+
+    private FilterProvider filters() {
+        SimpleFilterProvider filters = new SimpleFilterProvider().setFailOnUnknownId(false);
+        filters.addFilter(schema.filterId(), SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+        schema.nested().forEach((name, nested) -> filters.addFilter(nested.filterId(),
+                SimpleBeanPropertyFilter.filterOutAllExcept(getNestedFields(name))));
+        return filters;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSelection{" +
+                "fields=" + fields +
+                ", nestedFields=" + nestedFields +
+                ", full=" + full +
+                '}';
+    }
+}
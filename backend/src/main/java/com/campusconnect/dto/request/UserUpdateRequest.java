@@ -2,6 +2,8 @@ package com.campusconnect.dto.request;
 
 import jakarta.validation.constraints.Size;
 
+import java.util.List;
+
 /**
  * DTO for user update request
  * 
@@ -19,6 +21,8 @@ public class UserUpdateRequest {
     private String academicYear;
     private String bio;
     private String location;
+    @Size(max = 50, message = "Skills must not exceed 50 entries")
+    private List<String> skills;
     private String githubUsername;
     private String linkedinUsername;
     private String websiteUrl;
@@ -75,6 +79,14 @@ public class UserUpdateRequest {
         this.location = location;
     }
 
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
     public String getGithubUsername() {
         return githubUsername;
     }
@@ -111,6 +123,7 @@ public class UserUpdateRequest {
                 ", githubUsername='" + githubUsername + '\'' +
                 ", linkedinUsername='" + linkedinUsername + '\'' +
                 ", websiteUrl='" + websiteUrl + '\'' +
+                ", skills=" + skills +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.campusconnect.dto.response;
+
+import com.campusconnect.entity.AnnouncementPriority;
+import com.campusconnect.entity.TargetAudience;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for announcement response
+ * 
+ * @author Campus Connect Team
+ */
+public class AnnouncementResponse {
+
+    private Long id;
+    private String title;
+    private String content;
+    private AnnouncementPriority priority;
+    private TargetAudience targetAudience;
+    private UserResponse author;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime expiresAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public AnnouncementResponse() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public AnnouncementPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(AnnouncementPriority priority) {
+        this.priority = priority;
+    }
+
+    public TargetAudience getTargetAudience() {
+        return targetAudience;
+    }
+
+    public void setTargetAudience(TargetAudience targetAudience) {
+        this.targetAudience = targetAudience;
+    }
+
+    public UserResponse getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(UserResponse author) {
+        this.author = author;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AnnouncementResponse{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", priority=" + priority +
+                ", targetAudience=" + targetAudience +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
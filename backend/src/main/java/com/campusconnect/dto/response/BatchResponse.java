@@ -0,0 +1,90 @@
+package com.campusconnect.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * DTO for the responses to a batch of read requests, in request order
+ * Each body is the JSON the sub-request returned on its own, error responses included.
+ *
+ * @author Campus Connect Team
+ */
+public class BatchResponse {
+
+    private List<Item> responses;
+
+    // Constructors
+    public BatchResponse() {}
+
+    public BatchResponse(List<Item> responses) {
+        this.responses = responses;
+    }
+
+    // Getters and Setters
+    public List<Item> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(List<Item> responses) {
+        this.responses = responses;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponse{" +
+                "responses=" + responses +
+                '}';
+    }
+
+    /**
+     * Outcome of one sub-request
+     */
+    public static class Item {
+
+        private String id;
+        private Integer status;
+        private JsonNode body;
+
+        public Item() {}
+
+        public Item(String id, Integer status, JsonNode body) {
+            this.id = id;
+            this.status = status;
+            this.body = body;
+        }
+
+        // Getters and Setters
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public Integer getStatus() {
+            return status;
+        }
+
+        public void setStatus(Integer status) {
+            this.status = status;
+        }
+
+        public JsonNode getBody() {
+            return body;
+        }
+
+        public void setBody(JsonNode body) {
+            this.body = body;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{" +
+                    "id='" + id + '\'' +
+                    ", status=" + status +
+                    '}';
+        }
+    }
+}
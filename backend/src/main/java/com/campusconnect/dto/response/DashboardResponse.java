@@ -0,0 +1,129 @@
+package com.campusconnect.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the signed-in user's dashboard
+ * A section that could not be loaded in time is null and named in unavailableSections.
+ *
+ * @author Campus Connect Team
+ */
+public class DashboardResponse {
+
+    private List<EventResponse> registeredEvents;
+    private List<ProjectResponse> ownedProjects;
+    private List<ProjectResponse> likedProjects;
+    private List<EventResponse> featuredEvents;
+    private Counts counts = new Counts();
+    private List<String> unavailableSections = new ArrayList<>();
+
+    // Constructors
+    public DashboardResponse() {}
+
+    // Getters and Setters
+    public List<EventResponse> getRegisteredEvents() {
+        return registeredEvents;
+    }
+
+    public void setRegisteredEvents(List<EventResponse> registeredEvents) {
+        this.registeredEvents = registeredEvents;
+    }
+
+    public List<ProjectResponse> getOwnedProjects() {
+        return ownedProjects;
+    }
+
+    public void setOwnedProjects(List<ProjectResponse> ownedProjects) {
+        this.ownedProjects = ownedProjects;
+    }
+
+    public List<ProjectResponse> getLikedProjects() {
+        return likedProjects;
+    }
+
+    public void setLikedProjects(List<ProjectResponse> likedProjects) {
+        this.likedProjects = likedProjects;
+    }
+
+    public List<EventResponse> getFeaturedEvents() {
+        return featuredEvents;
+    }
+
+    public void setFeaturedEvents(List<EventResponse> featuredEvents) {
+        this.featuredEvents = featuredEvents;
+    }
+
+    public Counts getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Counts counts) {
+        this.counts = counts;
+    }
+
+    public List<String> getUnavailableSections() {
+        return unavailableSections;
+    }
+
+    public void setUnavailableSections(List<String> unavailableSections) {
+        this.unavailableSections = unavailableSections;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardResponse{" +
+                "registeredEvents=" + (registeredEvents != null ? registeredEvents.size() : null) +
+                ", ownedProjects=" + (ownedProjects != null ? ownedProjects.size() : null) +
+                ", likedProjects=" + (likedProjects != null ? likedProjects.size() : null) +
+                ", featuredEvents=" + (featuredEvents != null ? featuredEvents.size() : null) +
+                ", counts=" + counts +
+                ", unavailableSections=" + unavailableSections +
+                '}';
+    }
+
+    /**
+     * Totals behind the dashboard lists, which only hold the first few items
+     */
+    public static class Counts {
+        private Long registeredEvents;
+        private Long ownedProjects;
+        private Long likedProjects;
+
+        public Counts() {}
+
+        // Getters and Setters
+        public Long getRegisteredEvents() {
+            return registeredEvents;
+        }
+
+        public void setRegisteredEvents(Long registeredEvents) {
+            this.registeredEvents = registeredEvents;
+        }
+
+        public Long getOwnedProjects() {
+            return ownedProjects;
+        }
+
+        public void setOwnedProjects(Long ownedProjects) {
+            this.ownedProjects = ownedProjects;
+        }
+
+        public Long getLikedProjects() {
+            return likedProjects;
+        }
+
+        public void setLikedProjects(Long likedProjects) {
+            this.likedProjects = likedProjects;
+        }
+
+        @Override
+        public String toString() {
+            return "Counts{" +
+                    "registeredEvents=" + registeredEvents +
+                    ", ownedProjects=" + ownedProjects +
+                    ", likedProjects=" + likedProjects +
+                    '}';
+        }
+    }
+}
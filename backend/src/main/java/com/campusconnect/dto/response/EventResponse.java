@@ -1,19 +1,38 @@
 package com.campusconnect.dto.response;
 
+import com.campusconnect.dto.request.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO for event response
+ *
+ * List endpoints serialize it through FieldSelection, which picks the properties to write; everywhere
+ * else the filter is absent and every property is written.
  * 
  * @author Campus Connect Team
  */
+@JsonFilter(EventResponse.FILTER)
 public class EventResponse {
 
+    public static final String FILTER = "eventFields";
+
+    public static final FieldSelection.Schema FIELDS = new FieldSelection.Schema(FILTER,
+            List.of("id", "title", "description", "longDescription", "category", "eventDate", "startTime",
+                    "endTime", "location", "maxAttendees", "currentAttendees", "requirements", "tags",
+                    "isFeatured", "isActive", "registrationDeadline", "createdAt", "updatedAt", "organizer",
+                    "isRegistered", "availableSpots", "isRegistrationOpen", "isPastEvent"),
+            Map.of("organizer", new FieldSelection.Schema(OrganizerInfo.FILTER, List.of("id", "name", "email"))),
+            List.of("title", "category", "eventDate", "startTime", "endTime", "location", "maxAttendees",
+                    "currentAttendees", "tags", "isFeatured", "registrationDeadline", "organizer.id",
+                    "organizer.name", "isRegistered", "availableSpots", "isRegistrationOpen", "isPastEvent"));
+
     private Long id;
     private String title;
     private String description;
@@ -246,7 +265,11 @@ public class EventResponse {
     /**
      * Nested class for organizer information
      */
+    @JsonFilter(OrganizerInfo.FILTER)
     public static class OrganizerInfo {
+
+        public static final String FILTER = "eventOrganizerFields";
+
         private Long id;
         private String name;
         private String email;
@@ -276,6 +299,13 @@ public class EventResponse {
             this.name = name;
         }
 
+        /**
+         * The name as User.getFullName() builds it, for rows that carry only the name columns
+         */
+        public static String fullName(String firstName, String lastName) {
+            return firstName + " " + lastName;
+        }
+
         public String getEmail() {
             return email;
         }
@@ -0,0 +1,79 @@
+package com.campusconnect.dto.response;
+
+/**
+ * DTO for a stored upload
+ * The url is stable and can be saved as an avatar or attachment link.
+ *
+ * @author Campus Connect Team
+ */
+public class FileUploadResponse {
+
+    private String id;
+    private String url;
+    private String contentType;
+    private Long size;
+    private Boolean deduplicated;
+
+    // Constructors
+    public FileUploadResponse() {}
+
+    public FileUploadResponse(String id, String url, String contentType, Long size, Boolean deduplicated) {
+        this.id = id;
+        this.url = url;
+        this.contentType = contentType;
+        this.size = size;
+        this.deduplicated = deduplicated;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public Boolean getDeduplicated() {
+        return deduplicated;
+    }
+
+    public void setDeduplicated(Boolean deduplicated) {
+        this.deduplicated = deduplicated;
+    }
+
+    @Override
+    public String toString() {
+        return "FileUploadResponse{" +
+                "id='" + id + '\'' +
+                ", url='" + url + '\'' +
+                ", contentType='" + contentType + '\'' +
+                ", size=" + size +
+                ", deduplicated=" + deduplicated +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.campusconnect.dto.response;
+
+/**
+ * DTO for a leaderboard entry
+ * A rank of 0 means the user has no score on the leaderboard yet.
+ *
+ * @author Campus Connect Team
+ */
+public class LeaderboardEntryResponse {
+
+    private Integer rank;
+    private Long userId;
+    private String fullName;
+    private String department;
+    private String avatarUrl;
+    private Integer score;
+
+    // Constructors
+    public LeaderboardEntryResponse() {}
+
+    public LeaderboardEntryResponse(Integer rank, Long userId, String fullName, String department,
+                                    String avatarUrl, Integer score) {
+        this.rank = rank;
+        this.userId = userId;
+        this.fullName = fullName;
+        this.department = department;
+        this.avatarUrl = avatarUrl;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    public void setAvatarUrl(String avatarUrl) {
+        this.avatarUrl = avatarUrl;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaderboardEntryResponse{" +
+                "rank=" + rank +
+                ", userId=" + userId +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.campusconnect.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO for a live update stream token
+ * Passed as ?access_token= when opening a stream with EventSource; fetch a new one to reconnect after it expires.
+ *
+ * @author Campus Connect Team
+ */
+public class LiveStreamTokenResponse {
+
+    @JsonProperty("access_token")
+    private String accessToken;
+
+    @JsonProperty("expires_in")
+    private Long expiresIn;
+
+    // Constructors
+    public LiveStreamTokenResponse() {}
+
+    public LiveStreamTokenResponse(String accessToken, Long expiresIn) {
+        this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
+    }
+
+    // Getters and Setters
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
+    @Override
+    public String toString() {
+        return "LiveStreamTokenResponse{" +
+                "expiresIn=" + expiresIn +
+                '}';
+    }
+}
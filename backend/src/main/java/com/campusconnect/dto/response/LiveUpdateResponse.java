@@ -0,0 +1,114 @@
+package com.campusconnect.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a coalesced live update pushed over Server-Sent Events
+ * Only the counters relevant to the entity type are set.
+ *
+ * @author Campus Connect Team
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveUpdateResponse {
+
+    private String type;
+    private Long id;
+    private Integer likesCount;
+    private Integer commentsCount;
+    private Integer currentAttendees;
+    private Integer maxAttendees;
+    private List<ProjectCommentResponse> newComments;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    // Constructors
+    public LiveUpdateResponse() {}
+
+    public LiveUpdateResponse(String type, Long id) {
+        this.type = type;
+        this.id = id;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getLikesCount() {
+        return likesCount;
+    }
+
+    public void setLikesCount(Integer likesCount) {
+        this.likesCount = likesCount;
+    }
+
+    public Integer getCommentsCount() {
+        return commentsCount;
+    }
+
+    public void setCommentsCount(Integer commentsCount) {
+        this.commentsCount = commentsCount;
+    }
+
+    public Integer getCurrentAttendees() {
+        return currentAttendees;
+    }
+
+    public void setCurrentAttendees(Integer currentAttendees) {
+        this.currentAttendees = currentAttendees;
+    }
+
+    public Integer getMaxAttendees() {
+        return maxAttendees;
+    }
+
+    public void setMaxAttendees(Integer maxAttendees) {
+        this.maxAttendees = maxAttendees;
+    }
+
+    public List<ProjectCommentResponse> getNewComments() {
+        return newComments;
+    }
+
+    public void setNewComments(List<ProjectCommentResponse> newComments) {
+        this.newComments = newComments;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "LiveUpdateResponse{" +
+                "type='" + type + '\'' +
+                ", id=" + id +
+                ", likesCount=" + likesCount +
+                ", commentsCount=" + commentsCount +
+                ", currentAttendees=" + currentAttendees +
+                ", newComments=" + (newComments != null ? newComments.size() : 0) +
+                '}';
+    }
+}
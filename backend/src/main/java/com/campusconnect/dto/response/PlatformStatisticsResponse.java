@@ -0,0 +1,128 @@
+package com.campusconnect.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of platform-wide statistics
+ * Instances are shared between requests and must never be modified.
+ *
+ * @author Campus Connect Team
+ */
+public class PlatformStatisticsResponse {
+
+    private final long totalUsers;
+    private final Map<String, Long> usersByRole;
+    private final Map<String, Long> usersByDepartment;
+    private final Map<String, Long> usersByAcademicYear;
+
+    private final long totalProjects;
+    private final Map<String, Long> projectsByStatus;
+    private final Map<String, Long> projectsByDifficulty;
+    private final Map<String, Long> projectsByCategory;
+
+    private final long totalEvents;
+    private final Map<String, Long> eventsByCategory;
+
+    private final long totalRegistrations;
+    private final long totalLikes;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime reconciledAt;
+
+    public PlatformStatisticsResponse(Map<String, Long> usersByRole,
+                                      Map<String, Long> usersByDepartment,
+                                      Map<String, Long> usersByAcademicYear,
+                                      Map<String, Long> projectsByStatus,
+                                      Map<String, Long> projectsByDifficulty,
+                                      Map<String, Long> projectsByCategory,
+                                      Map<String, Long> eventsByCategory,
+                                      long totalRegistrations,
+                                      long totalLikes,
+                                      LocalDateTime reconciledAt) {
+        this.usersByRole = Map.copyOf(usersByRole);
+        this.usersByDepartment = Map.copyOf(usersByDepartment);
+        this.usersByAcademicYear = Map.copyOf(usersByAcademicYear);
+        this.projectsByStatus = Map.copyOf(projectsByStatus);
+        this.projectsByDifficulty = Map.copyOf(projectsByDifficulty);
+        this.projectsByCategory = Map.copyOf(projectsByCategory);
+        this.eventsByCategory = Map.copyOf(eventsByCategory);
+        this.totalUsers = sum(usersByRole);
+        this.totalProjects = sum(projectsByStatus);
+        this.totalEvents = sum(eventsByCategory);
+        this.totalRegistrations = totalRegistrations;
+        this.totalLikes = totalLikes;
+        this.reconciledAt = reconciledAt;
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Getters
+    public long getTotalUsers() {
+        return totalUsers;
+    }
+
+    public Map<String, Long> getUsersByRole() {
+        return usersByRole;
+    }
+
+    public Map<String, Long> getUsersByDepartment() {
+        return usersByDepartment;
+    }
+
+    public Map<String, Long> getUsersByAcademicYear() {
+        return usersByAcademicYear;
+    }
+
+    public long getTotalProjects() {
+        return totalProjects;
+    }
+
+    public Map<String, Long> getProjectsByStatus() {
+        return projectsByStatus;
+    }
+
+    public Map<String, Long> getProjectsByDifficulty() {
+        return projectsByDifficulty;
+    }
+
+    public Map<String, Long> getProjectsByCategory() {
+        return projectsByCategory;
+    }
+
+    public long getTotalEvents() {
+        return totalEvents;
+    }
+
+    public Map<String, Long> getEventsByCategory() {
+        return eventsByCategory;
+    }
+
+    public long getTotalRegistrations() {
+        return totalRegistrations;
+    }
+
+    public long getTotalLikes() {
+        return totalLikes;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PlatformStatisticsResponse{" +
+                "totalUsers=" + totalUsers +
+                ", totalProjects=" + totalProjects +
+                ", totalEvents=" + totalEvents +
+                ", totalRegistrations=" + totalRegistrations +
+                ", totalLikes=" + totalLikes +
+                ", reconciledAt=" + reconciledAt +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.campusconnect.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO for a keyset-paginated page of project comment threads
+ *
+ * @author Campus Connect Team
+ */
+public class ProjectCommentPageResponse {
+
+    private List<ProjectCommentResponse> comments;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    // Constructors
+    public ProjectCommentPageResponse() {}
+
+    public ProjectCommentPageResponse(List<ProjectCommentResponse> comments, String nextCursor, Boolean hasMore) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<ProjectCommentResponse> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<ProjectCommentResponse> comments) {
+        this.comments = comments;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectCommentPageResponse{" +
+                "comments=" + (comments != null ? comments.size() : 0) +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
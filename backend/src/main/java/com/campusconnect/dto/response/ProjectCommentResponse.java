@@ -18,6 +18,7 @@ public class ProjectCommentResponse {
     private String content;
     private Long parentCommentId;
     private List<ProjectCommentResponse> replies;
+    private Integer replyCount;
     private Boolean isActive;
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -78,6 +79,14 @@ public class ProjectCommentResponse {
         this.replies = replies;
     }
 
+    public Integer getReplyCount() {
+        return replyCount;
+    }
+
+    public void setReplyCount(Integer replyCount) {
+        this.replyCount = replyCount;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
@@ -109,6 +118,7 @@ public class ProjectCommentResponse {
                 ", projectId=" + projectId +
                 ", content='" + content + '\'' +
                 ", parentCommentId=" + parentCommentId +
+                ", replyCount=" + replyCount +
                 ", isActive=" + isActive +
                 ", createdAt=" + createdAt +
                 '}';
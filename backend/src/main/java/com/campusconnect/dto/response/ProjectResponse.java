@@ -1,19 +1,39 @@
 package com.campusconnect.dto.response;
 
+import com.campusconnect.dto.request.FieldSelection;
 import com.campusconnect.entity.DifficultyLevel;
 import com.campusconnect.entity.ProjectStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO for project response
+ *
+ * List endpoints serialize it through FieldSelection, which picks the properties to write; everywhere
+ * else the filter is absent and every property is written.
  * 
  * @author Campus Connect Team
  */
+@JsonFilter(ProjectResponse.FILTER)
 public class ProjectResponse {
 
+    public static final String FILTER = "projectFields";
+
+    public static final FieldSelection.Schema FIELDS = new FieldSelection.Schema(FILTER,
+            List.of("id", "title", "description", "category", "difficultyLevel", "expectedDuration", "teamSize",
+                    "requiredSkills", "requirements", "status", "tags", "isFeatured", "isActive", "likesCount",
+                    "commentsCount", "viewsCount", "createdAt", "updatedAt", "owner", "isLiked", "isOwner",
+                    "isCollaborator"),
+            Map.of("owner", new FieldSelection.Schema(OwnerInfo.FILTER,
+                    List.of("id", "name", "email", "avatarUrl", "department", "academicYear"))),
+            List.of("title", "category", "difficultyLevel", "status", "tags", "isFeatured", "likesCount",
+                    "commentsCount", "viewsCount", "createdAt", "owner.id", "owner.name", "owner.avatarUrl",
+                    "isLiked"));
+
     private Long id;
     private String title;
     private String description;
@@ -228,7 +248,11 @@ public class ProjectResponse {
     /**
      * Nested class for owner information
      */
+    @JsonFilter(OwnerInfo.FILTER)
     public static class OwnerInfo {
+
+        public static final String FILTER = "projectOwnerFields";
+
         private Long id;
         private String name;
         private String email;
@@ -264,6 +288,13 @@ public class ProjectResponse {
             this.name = name;
         }
 
+        /**
+         * The name as User.getFullName() builds it, for rows that carry only the name columns
+         */
+        public static String fullName(String firstName, String lastName) {
+            return firstName + " " + lastName;
+        }
+
         public String getEmail() {
             return email;
         }
@@ -0,0 +1,78 @@
+package com.campusconnect.dto.response;
+
+/**
+ * DTO for one quick search result
+ * type is PROJECT, EVENT or USER; id refers to the entity of that type.
+ *
+ * @author Campus Connect Team
+ */
+public class QuickSearchResultResponse {
+
+    private String type;
+    private Long id;
+    private String title;
+    private String subtitle;
+    private Integer score;
+
+    // Constructors
+    public QuickSearchResultResponse() {}
+
+    public QuickSearchResultResponse(String type, Long id, String title, String subtitle, Integer score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.subtitle = subtitle;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSubtitle() {
+        return subtitle;
+    }
+
+    public void setSubtitle(String subtitle) {
+        this.subtitle = subtitle;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "QuickSearchResultResponse{" +
+                "type='" + type + '\'' +
+                ", id=" + id +
+                ", title='" + title + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.campusconnect.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO for a skill match between a student and an open project
+ * id and name refer to the project (when matching projects) or the student (when matching candidates).
+ * score is the weighted share of the project's required skills that the student has, from 0 to 1.
+ *
+ * @author Campus Connect Team
+ */
+public class SkillMatchResponse {
+
+    private Long id;
+    private String name;
+    private Double score;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+
+    // Constructors
+    public SkillMatchResponse() {}
+
+    public SkillMatchResponse(Long id, String name, Double score, List<String> matchedSkills, List<String> missingSkills) {
+        this.id = id;
+        this.name = name;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+        this.missingSkills = missingSkills;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+
+    public List<String> getMissingSkills() {
+        return missingSkills;
+    }
+
+    public void setMissingSkills(List<String> missingSkills) {
+        this.missingSkills = missingSkills;
+    }
+
+    @Override
+    public String toString() {
+        return "SkillMatchResponse{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", score=" + score +
+                ", matchedSkills=" + matchedSkills +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package com.campusconnect.dto.response;
+
+/**
+ * DTO for a tag or skill autocomplete suggestion
+ * usageCount is the number of active projects and events using the tag.
+ *
+ * @author Campus Connect Team
+ */
+public class TagSuggestionResponse {
+
+    private String label;
+    private Integer usageCount;
+
+    // Constructors
+    public TagSuggestionResponse() {}
+
+    public TagSuggestionResponse(String label, Integer usageCount) {
+        this.label = label;
+        this.usageCount = usageCount;
+    }
+
+    // Getters and Setters
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public Integer getUsageCount() {
+        return usageCount;
+    }
+
+    public void setUsageCount(Integer usageCount) {
+        this.usageCount = usageCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TagSuggestionResponse{" +
+                "label='" + label + '\'' +
+                ", usageCount=" + usageCount +
+                '}';
+    }
+}
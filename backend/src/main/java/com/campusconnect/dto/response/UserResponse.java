@@ -4,6 +4,7 @@ import com.campusconnect.entity.UserRole;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for user response
@@ -26,6 +27,7 @@ public class UserResponse {
     private String linkedinUsername;
     private String websiteUrl;
     private String location;
+    private List<String> skills;
     private Boolean emailVerified;
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -150,6 +152,14 @@ public class UserResponse {
         this.location = location;
     }
 
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
     public Boolean getEmailVerified() {
         return emailVerified;
     }
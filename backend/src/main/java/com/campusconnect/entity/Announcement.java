@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class Announcement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "announcements_seq")
+    @SequenceGenerator(name = "announcements_seq", sequenceName = "announcements_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -180,52 +181,3 @@ public class Announcement {
                 '}';
     }
 }
-
-/**
- * Enumeration for announcement priority levels
- */
-enum AnnouncementPriority {
-    LOW("Low"),
-    NORMAL("Normal"),
-    HIGH("High"),
-    URGENT("Urgent");
-
-    private final String displayName;
-
-    AnnouncementPriority(String displayName) {
-        this.displayName = displayName;
-    }
-
-    public String getDisplayName() {
-        return displayName;
-    }
-
-    @Override
-    public String toString() {
-        return displayName;
-    }
-}
-
-/**
- * Enumeration for target audience
- */
-enum TargetAudience {
-    ALL("All Users"),
-    STUDENTS("Students Only"),
-    ADMINS("Administrators Only");
-
-    private final String displayName;
-
-    TargetAudience(String displayName) {
-        this.displayName = displayName;
-    }
-
-    public String getDisplayName() {
-        return displayName;
-    }
-
-    @Override
-    public String toString() {
-        return displayName;
-    }
-}
\ No newline at end of file
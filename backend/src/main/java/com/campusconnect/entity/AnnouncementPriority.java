@@ -0,0 +1,28 @@
+package com.campusconnect.entity;
+
+/**
+ * Enumeration for announcement priority levels
+ * 
+ * @author Campus Connect Team
+ */
+public enum AnnouncementPriority {
+    LOW("Low"),
+    NORMAL("Normal"),
+    HIGH("High"),
+    URGENT("Urgent");
+
+    private final String displayName;
+
+    AnnouncementPriority(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class EventRegistration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_registrations_seq")
+    @SequenceGenerator(name = "event_registrations_seq", sequenceName = "event_registrations_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
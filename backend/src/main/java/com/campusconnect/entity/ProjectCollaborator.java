@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class ProjectCollaborator {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_collaborators_seq")
+    @SequenceGenerator(name = "project_collaborators_seq", sequenceName = "project_collaborators_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,13 +18,16 @@ import java.util.Set;
 @Entity
 @Table(name = "project_comments",
        indexes = {
-           @Index(name = "idx_project_comments_project", columnList = "project_id")
+           @Index(name = "idx_project_comments_project", columnList = "project_id"),
+           @Index(name = "idx_project_comments_parent", columnList = "parent_comment_id")
+           // idx_project_comments_threads is a partial index, created by migration 002 only
        })
 @EntityListeners(AuditingEntityListener.class)
 public class ProjectComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_comments_seq")
+    @SequenceGenerator(name = "project_comments_seq", sequenceName = "project_comments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
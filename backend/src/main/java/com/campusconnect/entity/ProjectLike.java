@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class ProjectLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_likes_seq")
+    @SequenceGenerator(name = "project_likes_seq", sequenceName = "project_likes_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
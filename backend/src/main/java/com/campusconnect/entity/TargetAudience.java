@@ -0,0 +1,27 @@
+package com.campusconnect.entity;
+
+/**
+ * Enumeration for announcement target audience
+ * 
+ * @author Campus Connect Team
+ */
+public enum TargetAudience {
+    ALL("All Users"),
+    STUDENTS("Students Only"),
+    ADMINS("Administrators Only");
+
+    private final String displayName;
+
+    TargetAudience(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,40 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user comments on a project
+ *
+ * @author Campus Connect Team
+ */
+public class CommentPostedEvent extends DomainEvent {
+
+    private final Long commentId;
+    private final Long projectId;
+    private final Long userId;
+
+    public CommentPostedEvent(Long commentId, Long projectId, Long userId) {
+        this.commentId = commentId;
+        this.projectId = projectId;
+        this.userId = userId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentPostedEvent{" +
+                "commentId=" + commentId +
+                ", projectId=" + projectId +
+                ", userId=" + userId +
+                '}';
+    }
+}
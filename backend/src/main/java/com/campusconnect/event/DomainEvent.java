@@ -0,0 +1,30 @@
+package com.campusconnect.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class for in-process domain events
+ * Published through Spring's ApplicationEventPublisher; listeners that react after commit
+ * use @TransactionalEventListener so rolled-back changes never produce events.
+ *
+ * @author Campus Connect Team
+ */
+public abstract class DomainEvent {
+
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * An unmodifiable copy of an entity collection, so later changes to the entity do not leak into the event
+     */
+    protected static List<String> copyOf(Collection<String> values) {
+        return values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : List.of();
+    }
+}
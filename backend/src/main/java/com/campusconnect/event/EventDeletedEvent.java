@@ -0,0 +1,42 @@
+package com.campusconnect.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when an event is deleted (deactivated)
+ *
+ * @author Campus Connect Team
+ */
+public class EventDeletedEvent extends DomainEvent {
+
+    private final Long eventId;
+    private final Long organizerId;
+    private final List<String> tags;
+
+    public EventDeletedEvent(Long eventId, Long organizerId, Collection<String> tags) {
+        this.eventId = eventId;
+        this.organizerId = organizerId;
+        this.tags = copyOf(tags);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getOrganizerId() {
+        return organizerId;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return "EventDeletedEvent{" +
+                "eventId=" + eventId +
+                ", organizerId=" + organizerId +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user registers for an event
+ *
+ * @author Campus Connect Team
+ */
+public class EventRegisteredEvent extends DomainEvent {
+
+    private final Long eventId;
+    private final Long userId;
+
+    public EventRegisteredEvent(Long eventId, Long userId) {
+        this.eventId = eventId;
+        this.userId = userId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "EventRegisteredEvent{" +
+                "eventId=" + eventId +
+                ", userId=" + userId +
+                '}';
+    }
+}
@@ -0,0 +1,78 @@
+package com.campusconnect.event;
+
+import com.campusconnect.entity.Event;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when an event is created or updated
+ * Carries the saved state, plus the tags it had before an update, so listeners running after commit
+ * never touch the entity.
+ *
+ * @author Campus Connect Team
+ */
+public class EventSavedEvent extends DomainEvent {
+
+    private final Long eventId;
+    private final Long organizerId;
+    private final String title;
+    private final String category;
+    private final String location;
+    private final LocalDate eventDate;
+    private final List<String> tags;
+    private final List<String> previousTags;
+
+    public EventSavedEvent(Event event, Collection<String> previousTags) {
+        this.eventId = event.getId();
+        this.organizerId = event.getOrganizer().getId();
+        this.title = event.getTitle();
+        this.category = event.getCategory();
+        this.location = event.getLocation();
+        this.eventDate = event.getEventDate();
+        this.tags = copyOf(event.getTags());
+        this.previousTags = copyOf(previousTags);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getOrganizerId() {
+        return organizerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<String> getPreviousTags() {
+        return previousTags;
+    }
+
+    @Override
+    public String toString() {
+        return "EventSavedEvent{" +
+                "eventId=" + eventId +
+                ", organizerId=" + organizerId +
+                ", eventDate=" + eventDate +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user cancels their registration for an event
+ *
+ * @author Campus Connect Team
+ */
+public class EventUnregisteredEvent extends DomainEvent {
+
+    private final Long eventId;
+    private final Long userId;
+
+    public EventUnregisteredEvent(Long eventId, Long userId) {
+        this.eventId = eventId;
+        this.userId = userId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "EventUnregisteredEvent{" +
+                "eventId=" + eventId +
+                ", userId=" + userId +
+                '}';
+    }
+}
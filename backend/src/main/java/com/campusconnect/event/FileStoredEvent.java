@@ -0,0 +1,26 @@
+package com.campusconnect.event;
+
+/**
+ * Published when an upload has been stored, including uploads of content that was already present
+ *
+ * @author Campus Connect Team
+ */
+public class FileStoredEvent extends DomainEvent {
+
+    private final String fileId;
+
+    public FileStoredEvent(String fileId) {
+        this.fileId = fileId;
+    }
+
+    public String getFileId() {
+        return fileId;
+    }
+
+    @Override
+    public String toString() {
+        return "FileStoredEvent{" +
+                "fileId='" + fileId + '\'' +
+                '}';
+    }
+}
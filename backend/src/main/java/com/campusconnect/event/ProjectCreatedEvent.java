@@ -0,0 +1,33 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user creates a project
+ *
+ * @author Campus Connect Team
+ */
+public class ProjectCreatedEvent extends DomainEvent {
+
+    private final Long projectId;
+    private final Long ownerId;
+
+    public ProjectCreatedEvent(Long projectId, Long ownerId) {
+        this.projectId = projectId;
+        this.ownerId = ownerId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectCreatedEvent{" +
+                "projectId=" + projectId +
+                ", ownerId=" + ownerId +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.campusconnect.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when a project is deleted (deactivated)
+ *
+ * @author Campus Connect Team
+ */
+public class ProjectDeletedEvent extends DomainEvent {
+
+    private final Long projectId;
+    private final Long ownerId;
+    private final int likesCount;
+    private final List<String> tags;
+    private final List<String> requiredSkills;
+
+    public ProjectDeletedEvent(Long projectId, Long ownerId, int likesCount,
+                               Collection<String> tags, Collection<String> requiredSkills) {
+        this.projectId = projectId;
+        this.ownerId = ownerId;
+        this.likesCount = likesCount;
+        this.tags = copyOf(tags);
+        this.requiredSkills = copyOf(requiredSkills);
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public int getLikesCount() {
+        return likesCount;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<String> getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectDeletedEvent{" +
+                "projectId=" + projectId +
+                ", ownerId=" + ownerId +
+                ", likesCount=" + likesCount +
+                '}';
+    }
+}
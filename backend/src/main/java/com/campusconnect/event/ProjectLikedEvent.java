@@ -0,0 +1,40 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user likes a project (not on unlike)
+ *
+ * @author Campus Connect Team
+ */
+public class ProjectLikedEvent extends DomainEvent {
+
+    private final Long projectId;
+    private final Long userId;
+    private final Long ownerId;
+
+    public ProjectLikedEvent(Long projectId, Long userId, Long ownerId) {
+        this.projectId = projectId;
+        this.userId = userId;
+        this.ownerId = ownerId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectLikedEvent{" +
+                "projectId=" + projectId +
+                ", userId=" + userId +
+                ", ownerId=" + ownerId +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.campusconnect.event;
+
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.ProjectStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when a project is created or updated
+ * Carries the saved state, plus the tags and skills it had before an update, so listeners running
+ * after commit never touch the entity.
+ *
+ * @author Campus Connect Team
+ */
+public class ProjectSavedEvent extends DomainEvent {
+
+    private final Long projectId;
+    private final Long ownerId;
+    private final String title;
+    private final String category;
+    private final ProjectStatus status;
+    private final boolean active;
+    private final List<String> tags;
+    private final List<String> requiredSkills;
+    private final List<String> previousTags;
+    private final List<String> previousRequiredSkills;
+
+    public ProjectSavedEvent(Project project, Collection<String> previousTags,
+                             Collection<String> previousRequiredSkills) {
+        this.projectId = project.getId();
+        this.ownerId = project.getOwner().getId();
+        this.title = project.getTitle();
+        this.category = project.getCategory();
+        this.status = project.getStatus();
+        this.active = Boolean.TRUE.equals(project.getIsActive());
+        this.tags = copyOf(project.getTags());
+        this.requiredSkills = copyOf(project.getRequiredSkills());
+        this.previousTags = copyOf(previousTags);
+        this.previousRequiredSkills = copyOf(previousRequiredSkills);
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<String> getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public List<String> getPreviousTags() {
+        return previousTags;
+    }
+
+    public List<String> getPreviousRequiredSkills() {
+        return previousRequiredSkills;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectSavedEvent{" +
+                "projectId=" + projectId +
+                ", ownerId=" + ownerId +
+                ", status=" + status +
+                ", active=" + active +
+                '}';
+    }
+}
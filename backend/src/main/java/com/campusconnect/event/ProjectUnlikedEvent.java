@@ -0,0 +1,40 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user removes their like from a project
+ *
+ * @author Campus Connect Team
+ */
+public class ProjectUnlikedEvent extends DomainEvent {
+
+    private final Long projectId;
+    private final Long userId;
+    private final Long ownerId;
+
+    public ProjectUnlikedEvent(Long projectId, Long userId, Long ownerId) {
+        this.projectId = projectId;
+        this.userId = userId;
+        this.ownerId = ownerId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectUnlikedEvent{" +
+                "projectId=" + projectId +
+                ", userId=" + userId +
+                ", ownerId=" + ownerId +
+                '}';
+    }
+}
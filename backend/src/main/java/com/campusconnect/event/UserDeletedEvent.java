@@ -0,0 +1,26 @@
+package com.campusconnect.event;
+
+/**
+ * Published when a user is deleted (deactivated)
+ *
+ * @author Campus Connect Team
+ */
+public class UserDeletedEvent extends DomainEvent {
+
+    private final Long userId;
+
+    public UserDeletedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "UserDeletedEvent{" +
+                "userId=" + userId +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.campusconnect.event;
+
+import com.campusconnect.entity.User;
+
+import java.util.List;
+
+/**
+ * Published when an active user registers or updates their profile
+ *
+ * @author Campus Connect Team
+ */
+public class UserSavedEvent extends DomainEvent {
+
+    private final Long userId;
+    private final String fullName;
+    private final String department;
+    private final List<String> skills;
+
+    public UserSavedEvent(User user) {
+        this.userId = user.getId();
+        this.fullName = user.getFullName();
+        this.department = user.getDepartment();
+        this.skills = copyOf(user.getSkills());
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    @Override
+    public String toString() {
+        return "UserSavedEvent{" +
+                "userId=" + userId +
+                '}';
+    }
+}
@@ -12,8 +12,13 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
@@ -24,6 +29,10 @@ import java.util.Map;
 /**
  * Global exception handler for the Campus Connect application
  * Provides centralized exception handling across all controllers
+ *
+ * This is the one place request failures are logged: services and controllers let exceptions
+ * propagate, client errors are logged here at WARN without a stack trace, and only unexpected
+ * failures get an ERROR with one. The request ID from the MDC ties the line to the request.
  * 
  * @author Campus Connect Team
  */
@@ -187,7 +196,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
             DataIntegrityViolationException ex, WebRequest request) {
         
-        logger.error("Data integrity violation: {}", ex.getMessage());
+        logger.error("Data integrity violation on {}: {}", request.getDescription(false), ex.getMessage());
         
         String message = "Data integrity violation occurred";
         if (ex.getMessage().contains("duplicate key")) {
@@ -270,6 +279,70 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
+    /**
+     * Handle uploads larger than app.file-upload.max-file-size
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex, WebRequest request) {
+        
+        logger.warn("Upload too large: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "Payload Too Large",
+                ex.getMaxUploadSize() > 0
+                        ? "The file exceeds the maximum upload size of " + ex.getMaxUploadSize() + " bytes"
+                        : "The file exceeds the maximum upload size",
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * Handle malformed multipart requests and missing file parts
+     */
+    @ExceptionHandler({MultipartException.class, MissingServletRequestPartException.class})
+    public ResponseEntity<ErrorResponse> handleMultipartException(
+            Exception ex, WebRequest request) {
+        
+        logger.warn("Invalid multipart request: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid Upload",
+                ex.getMessage(),
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle an overloaded read path: the listing executor's queue is full or the read timed out
+     */
+    @ExceptionHandler({TaskRejectedException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleOverloadException(
+            Exception ex, WebRequest request) {
+        
+        logger.warn("Request shed on {}: {}", request.getDescription(false), ex.getClass().getSimpleName());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The server is busy. Please try again shortly.",
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(errorResponse);
+    }
+
     /**
      * Handle all other exceptions
      */
@@ -277,7 +350,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
         
-        logger.error("Unexpected error occurred: ", ex);
+        logger.error("Unexpected error on {}", request.getDescription(false), ex);
         
         ErrorResponse errorResponse = new ErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
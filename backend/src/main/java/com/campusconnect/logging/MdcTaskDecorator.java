@@ -0,0 +1,34 @@
+package com.campusconnect.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Carries the caller's MDC (request and user IDs) over to @Async tasks
+ *
+ * Spring Boot applies a TaskDecorator bean to the auto-configured application task executor.
+ *
+ * @author Campus Connect Team
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        if (context == null) {
+            return runnable;
+        }
+        return () -> {
+            MDC.setContextMap(context);
+            try {
+                runnable.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+}
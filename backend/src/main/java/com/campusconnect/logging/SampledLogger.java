@@ -0,0 +1,75 @@
+package com.campusconnect.logging;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate-limited debug logging for hot read paths
+ *
+ * At most a fixed number of debug messages per second get through; the rest are counted and reported
+ * as one line when the next second starts. The level check comes first and the fixed-arity overloads
+ * avoid the varargs array, so a disabled or throttled call allocates nothing.
+ *
+ * @author Campus Connect Team
+ */
+public final class SampledLogger {
+
+    private final Logger delegate;
+    private final int permitsPerSecond;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicInteger suppressed = new AtomicInteger();
+
+    private SampledLogger(Logger delegate, int permitsPerSecond) {
+        this.delegate = delegate;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public static SampledLogger of(Logger delegate, int permitsPerSecond) {
+        return new SampledLogger(delegate, permitsPerSecond);
+    }
+
+    public void debug(String message) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(message);
+        }
+    }
+
+    public void debug(String format, Object arg) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(format, arg);
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(format, arg1, arg2);
+        }
+    }
+
+    public void debug(String format, Object... args) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(format, args);
+        }
+    }
+
+    private boolean acquire() {
+        long second = System.currentTimeMillis() / 1000;
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            used.set(0);
+            int dropped = suppressed.getAndSet(0);
+            if (dropped > 0) {
+                delegate.debug("{} debug messages suppressed in the previous second", dropped);
+            }
+        }
+        if (used.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+}
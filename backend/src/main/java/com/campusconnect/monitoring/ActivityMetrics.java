@@ -0,0 +1,75 @@
+package com.campusconnect.monitoring;
+
+import com.campusconnect.event.CommentPostedEvent;
+import com.campusconnect.event.EventRegisteredEvent;
+import com.campusconnect.event.EventUnregisteredEvent;
+import com.campusconnect.event.ProjectCreatedEvent;
+import com.campusconnect.event.ProjectLikedEvent;
+import com.campusconnect.event.ProjectUnlikedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Throughput counters for user activity, driven by the committed domain events
+ *
+ * @author Campus Connect Team
+ */
+@Component
+public class ActivityMetrics {
+
+    private final Counter registrations;
+    private final Counter unregistrations;
+    private final Counter likes;
+    private final Counter unlikes;
+    private final Counter projectsCreated;
+    private final Counter commentsPosted;
+
+    @Autowired
+    public ActivityMetrics(MeterRegistry meterRegistry) {
+        this.registrations = counter(meterRegistry, "campus.event.registrations", "register");
+        this.unregistrations = counter(meterRegistry, "campus.event.registrations", "unregister");
+        this.likes = counter(meterRegistry, "campus.project.likes", "like");
+        this.unlikes = counter(meterRegistry, "campus.project.likes", "unlike");
+        this.projectsCreated = counter(meterRegistry, "campus.projects.created", "create");
+        this.commentsPosted = counter(meterRegistry, "campus.comments.posted", "post");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRegistered(EventRegisteredEvent event) {
+        registrations.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventUnregistered(EventUnregisteredEvent event) {
+        unregistrations.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectLiked(ProjectLikedEvent event) {
+        likes.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectUnliked(ProjectUnlikedEvent event) {
+        unlikes.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        projectsCreated.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentPosted(CommentPostedEvent event) {
+        commentsPosted.increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String action) {
+        return Counter.builder(name)
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
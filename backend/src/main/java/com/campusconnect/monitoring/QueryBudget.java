@@ -0,0 +1,24 @@
+package com.campusconnect.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many JDBC statements a request to this controller method may execute
+ *
+ * The count covers the whole request, including loading the authenticated user in the JWT filter.
+ * Exceeding it is logged and counted in db.query.budget.exceeded; tests can assert the X-Query-Count
+ * header against the same number.
+ *
+ * @author Campus Connect Team
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
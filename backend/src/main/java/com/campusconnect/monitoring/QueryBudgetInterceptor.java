@@ -0,0 +1,28 @@
+package com.campusconnect.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Hands the @QueryBudget of the resolved controller method to the request's QueryStats
+ *
+ * @author Campus Connect Team
+ */
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null && handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                stats.setBudget(budget.value());
+            }
+        }
+        return true;
+    }
+}
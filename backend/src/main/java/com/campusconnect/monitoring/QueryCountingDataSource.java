@@ -0,0 +1,176 @@
+package com.campusconnect.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * DataSource wrapper that reports every executed statement to the current QueryStats scope
+ *
+ * Connections and statements are wrapped in JDK proxies; only the execute* calls do extra work, and only
+ * when a scope is open or a slow statement listener is attached. A batch counts as one statement, since
+ * it is one round trip. Time is measured until the driver returns, so it excludes reading the rows of a
+ * ResultSet. While a listener is attached, bound parameters are kept on the statement until the next
+ * execute so a slow statement can be reported with them.
+ *
+ * @author Campus Connect Team
+ */
+public class QueryCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    /**
+     * Receives every statement slower than its threshold
+     */
+    public interface SlowStatementListener {
+
+        long getThresholdNanos();
+
+        void onSlowStatement(String sql, long elapsedNanos, Object[] parameters);
+    }
+
+    private volatile SlowStatementListener slowStatementListener;
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public void setSlowStatementListener(SlowStatementListener slowStatementListener) {
+        this.slowStatementListener = slowStatementListener;
+    }
+
+    /**
+     * Close the pool behind this wrapper, since the container now sees the wrapper as the bean
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                Class<?> type = name.equals("prepareCall") ? CallableStatement.class
+                        : name.equals("prepareStatement") ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                        new Class<?>[] {type}, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] parameters = NO_PARAMETERS;
+        private int parameterCount;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            SlowStatementListener listener = slowStatementListener;
+            if (listener != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterCount = 0;
+            }
+
+            QueryStats stats = QueryStats.current();
+            if ((stats == null && listener == null) || !name.startsWith("execute")) {
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long started = System.nanoTime();
+            try {
+                return QueryCountingDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                if (stats != null) {
+                    stats.record(sql, elapsed);
+                }
+                if (listener != null && elapsed >= listener.getThresholdNanos()) {
+                    listener.onSlowStatement(sql, elapsed, Arrays.copyOf(parameters, parameterCount));
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1 || index > 10_000) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.campusconnect.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * JDBC statements executed on the current thread while a scope is open
+ *
+ * QueryStatsFilter opens a scope around every HTTP request. Tests can open their own to assert a query
+ * budget around a service call or a MockMvc request:
+ *
+ * <pre>
+ * QueryStats stats = QueryStats.start();
+ * try {
+ *     projectService.getAllProjects(pageable, userId);
+ * } finally {
+ *     QueryStats.stop();
+ * }
+ * assertThat(stats.getStatementCount()).isLessThanOrEqualTo(3);
+ * </pre>
+ *
+ * Executions are also counted per SQL text, so the same prepared statement run many times with different
+ * parameters (the shape of an N+1) can be reported.
+ *
+ * @author Campus Connect Team
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    // Bounds the per-request map when a request runs many distinct statements
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private int statementCount;
+    private long elapsedNanos;
+    private final Map<String, int[]> executionsBySql = new HashMap<>();
+    private int budget = -1;
+
+    private QueryStats() {}
+
+    /**
+     * Open a scope on the current thread, replacing any scope already open
+     */
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * The open scope, or null when statements on this thread are not being counted
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wrap a task handed to another thread so its statements count toward the caller's open scope
+     *
+     * The caller must not run statements of its own until the task is done, since a scope is not
+     * thread-safe; an async request hands off its thread, so this holds there. Tasks that run alongside
+     * each other or the caller use fork() instead.
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * A new scope for a task that runs concurrently with this thread, or null when no scope is open here
+     *
+     * The task opens it with within() on its own thread; once the task is done, the caller adds it to its
+     * own scope with merge(). A task that is abandoned is simply not merged.
+     */
+    public static QueryStats fork() {
+        return CURRENT.get() != null ? new QueryStats() : null;
+    }
+
+    /**
+     * Run a task with the given scope open on the current thread; a null scope counts nothing
+     */
+    public static <T> T within(QueryStats stats, Supplier<T> task) {
+        QueryStats previous = CURRENT.get();
+        if (stats != null) {
+            CURRENT.set(stats);
+        } else {
+            CURRENT.remove();
+        }
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Add the statements of a finished forked scope to this one
+     */
+    public void merge(QueryStats forked) {
+        statementCount += forked.statementCount;
+        elapsedNanos += forked.elapsedNanos;
+        for (Map.Entry<String, int[]> entry : forked.executionsBySql.entrySet()) {
+            int[] executions = executionsBySql.get(entry.getKey());
+            if (executions != null) {
+                executions[0] += entry.getValue()[0];
+            } else if (executionsBySql.size() < MAX_DISTINCT_STATEMENTS) {
+                executionsBySql.put(entry.getKey(), new int[] {entry.getValue()[0]});
+            }
+        }
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        if (sql == null) {
+            return;
+        }
+        int[] executions = executionsBySql.get(sql);
+        if (executions != null) {
+            executions[0]++;
+        } else if (executionsBySql.size() < MAX_DISTINCT_STATEMENTS) {
+            executionsBySql.put(sql, new int[] {1});
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * The statement budget declared by the handler via @QueryBudget, or -1 when none
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    void setBudget(int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * The SQL executed most often in this scope, or null when nothing ran
+     */
+    public String getMostRepeatedSql() {
+        String mostRepeated = null;
+        int most = 0;
+        for (Map.Entry<String, int[]> entry : executionsBySql.entrySet()) {
+            if (entry.getValue()[0] > most) {
+                most = entry.getValue()[0];
+                mostRepeated = entry.getKey();
+            }
+        }
+        return mostRepeated;
+    }
+
+    /**
+     * How many times the most repeated SQL ran
+     */
+    public int getMostRepeatedCount() {
+        int most = 0;
+        for (int[] executions : executionsBySql.values()) {
+            most = Math.max(most, executions[0]);
+        }
+        return most;
+    }
+}
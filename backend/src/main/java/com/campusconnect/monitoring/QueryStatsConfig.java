@@ -0,0 +1,32 @@
+package com.campusconnect.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource so statements can be counted per request
+ *
+ * @author Campus Connect Team
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    // Static so the post-processor does not force early initialization of this configuration
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package com.campusconnect.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements and time of each HTTP request
+ *
+ * Totals go to the db.queries and db.query.time meters tagged by route, and, when enabled, to the
+ * X-Query-Count and X-Query-Time-Ms response headers, which are added just before the body starts.
+ * A statement repeated at least repeat-threshold times in one request is reported as a likely N+1,
+ * and a request over its @QueryBudget is reported as well. Async requests are reported when they
+ * complete, counting the statements their handler ran on the worker thread.
+ *
+ * @author Campus Connect Team
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "app.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headersEnabled;
+    private final int repeatThreshold;
+
+    @Autowired
+    public QueryStatsFilter(MeterRegistry meterRegistry,
+                            @Value("${app.query-stats.headers-enabled:true}") boolean headersEnabled,
+                            @Value("${app.query-stats.repeat-threshold:5}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.headersEnabled = headersEnabled;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, headersEnabled ? new StatsHeaderResponse(response, stats) : response);
+        } finally {
+            QueryStats.stop();
+            if (isAsyncStarted(request)) {
+                // The handler finishes on another thread; report once the whole exchange is done
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        report(request, stats);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("db.queries")
+                .description("JDBC statements executed per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("db.query.time")
+                .description("Total JDBC execution time per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        int repeated = stats.getMostRepeatedCount();
+        if (repeated >= repeatThreshold) {
+            Counter.builder("db.n_plus_one")
+                    .description("Requests that ran one statement at least repeat-threshold times")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("Possible N+1 on {} {}: {} of {} statements were: {}", method, uri, repeated,
+                    stats.getStatementCount(), abbreviate(stats.getMostRepeatedSql()));
+        }
+
+        int budget = stats.getBudget();
+        if (budget >= 0 && stats.getStatementCount() > budget) {
+            Counter.builder("db.query.budget.exceeded")
+                    .description("Requests that ran more statements than their @QueryBudget")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("Query budget exceeded on {} {}: {} statements, budget {}", method, uri,
+                    stats.getStatementCount(), budget);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_LOGGED_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * Adds the query headers at the last moment they can still be set: when the body is first accessed
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean headersWritten;
+
+        private StatsHeaderResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeaders() {
+            if (!headersWritten && !isCommitted()) {
+                headersWritten = true;
+                setHeader(COUNT_HEADER, Integer.toString(stats.getStatementCount()));
+                setHeader(TIME_HEADER, Long.toString(stats.getElapsedMillis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.campusconnect.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One captured slow statement
+ *
+ * Only parameter shapes (type and length) are kept, never the bound values, so the buffer holds no
+ * user data. The plan is filled in later when the statement was sampled for EXPLAIN.
+ *
+ * @author Campus Connect Team
+ */
+public class SlowQuery {
+
+    private final LocalDateTime capturedAt;
+    private final long durationMs;
+    private final String sql;
+    private final List<String> parameterShapes;
+    private final String caller;
+    private final String requestId;
+    private volatile String plan;
+
+    public SlowQuery(LocalDateTime capturedAt, long durationMs, String sql, List<String> parameterShapes,
+                     String caller, String requestId) {
+        this.capturedAt = capturedAt;
+        this.durationMs = durationMs;
+        this.sql = sql;
+        this.parameterShapes = parameterShapes;
+        this.caller = caller;
+        this.requestId = requestId;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getCapturedAt() {
+        return capturedAt;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getParameterShapes() {
+        return parameterShapes;
+    }
+
+    public String getCaller() {
+        return caller;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    void setPlan(String plan) {
+        this.plan = plan;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQuery{" +
+                "durationMs=" + durationMs +
+                ", caller='" + caller + '\'' +
+                ", requestId='" + requestId + '\'' +
+                ", parameterShapes=" + parameterShapes +
+                '}';
+    }
+}
@@ -0,0 +1,210 @@
+package com.campusconnect.monitoring;
+
+import com.campusconnect.logging.CorrelationIdFilter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures statements slower than a threshold into a ring buffer and samples them for EXPLAIN
+ *
+ * Capturing runs on the thread that executed the statement, so it only walks the stack for the calling
+ * service method and notes the parameter shapes. EXPLAIN runs on a single background thread with a
+ * short queue; when the queue is full, samples are dropped rather than adding load to a database that
+ * is already slow. The same SQL is explained at most once per explain interval.
+ *
+ * @author Campus Connect Team
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.slow-queries", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryRecorder implements QueryCountingDataSource.SlowStatementListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private static final int MAX_SQL_LENGTH = 4000;
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 10;
+    private static final long EXPLAIN_INTERVAL_MS = 10 * 60 * 1000;
+    private static final String EXPLAIN_PREFIX = "EXPLAIN ";
+    private static final String APP_PACKAGE = "com.campusconnect.";
+    private static final String MONITORING_PACKAGE = "com.campusconnect.monitoring.";
+
+    private final long thresholdNanos;
+    private final double explainSampleRate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolExecutor explainExecutor;
+
+    private final SlowQuery[] buffer;
+    private long captured;
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SlowQueryRecorder(DataSource dataSource,
+                             @Value("${app.slow-queries.threshold-ms:200}") long thresholdMs,
+                             @Value("${app.slow-queries.explain-sample-rate:0.2}") double explainSampleRate,
+                             @Value("${app.slow-queries.buffer-size:100}") int bufferSize) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.explainSampleRate = explainSampleRate;
+        this.buffer = new SlowQuery[Math.max(1, bufferSize)];
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+
+        if (dataSource instanceof QueryCountingDataSource countingDataSource) {
+            countingDataSource.setSlowStatementListener(this);
+            logger.info("SlowQueryRecorder initialized with threshold {} ms", thresholdMs);
+        } else {
+            logger.warn("SlowQueryRecorder disabled: DataSource is not instrumented (app.query-stats.enabled=false)");
+        }
+    }
+
+    @Override
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    @Override
+    public void onSlowStatement(String sql, long elapsedNanos, Object[] parameters) {
+        if (sql == null || sql.startsWith(EXPLAIN_PREFIX)) {
+            return;
+        }
+
+        SlowQuery slowQuery = new SlowQuery(LocalDateTime.now(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql,
+                shapes(parameters), caller(), MDC.get(CorrelationIdFilter.REQUEST_ID));
+        synchronized (buffer) {
+            buffer[(int) (captured++ % buffer.length)] = slowQuery;
+        }
+        logger.warn("Slow query ({} ms) from {}: {}", slowQuery.getDurationMs(), slowQuery.getCaller(),
+                slowQuery.getSql().length() > 200 ? slowQuery.getSql().substring(0, 200) + "..." : slowQuery.getSql());
+
+        if (isSelect(sql) && ThreadLocalRandom.current().nextDouble() < explainSampleRate && claimExplain(sql)) {
+            explainExecutor.execute(() -> explain(slowQuery, sql, parameters));
+        }
+    }
+
+    /**
+     * Captured slow queries, most recent first
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (buffer) {
+            int size = (int) Math.min(captured, buffer.length);
+            List<SlowQuery> recent = new ArrayList<>(size);
+            for (int i = 1; i <= size; i++) {
+                recent.add(buffer[(int) ((captured - i) % buffer.length)]);
+            }
+            return recent;
+        }
+    }
+
+    public void clear() {
+        synchronized (buffer) {
+            Arrays.fill(buffer, null);
+            captured = 0;
+        }
+        lastExplained.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explain(SlowQuery slowQuery, String sql, Object[] parameters) {
+        try {
+            List<String> lines = jdbcTemplate.query(EXPLAIN_PREFIX + sql, statement -> {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+            }, (rs, rowNum) -> rs.getString(1));
+            slowQuery.setPlan(String.join("\n", lines));
+        } catch (Exception e) {
+            slowQuery.setPlan("EXPLAIN failed: " + e.getMessage());
+            logger.debug("Could not explain slow query from {}", slowQuery.getCaller(), e);
+        }
+    }
+
+    private boolean claimExplain(String sql) {
+        long now = System.currentTimeMillis();
+        Long previous = lastExplained.get(sql);
+        if (previous != null && now - previous < EXPLAIN_INTERVAL_MS) {
+            return false;
+        }
+        if (lastExplained.size() > 1000) {
+            lastExplained.clear();
+        }
+        return previous == null ? lastExplained.putIfAbsent(sql, now) == null : lastExplained.replace(sql, previous, now);
+    }
+
+    /**
+     * Only plain reads are explained; EXPLAIN without ANALYZE does not execute, but writes are left alone
+     */
+    private static boolean isSelect(String sql) {
+        String statement = sql.stripLeading();
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            if (end < 0) {
+                return false;
+            }
+            statement = statement.substring(end + 2).stripLeading();
+        }
+        String keyword = statement.length() > 6 ? statement.substring(0, 6).toLowerCase(Locale.ROOT) : "";
+        return keyword.equals("select") || keyword.startsWith("with");
+    }
+
+    private static List<String> shapes(Object[] parameters) {
+        List<String> shapes = new ArrayList<>(parameters.length);
+        for (Object parameter : parameters) {
+            if (parameter == null) {
+                shapes.add("null");
+            } else if (parameter instanceof CharSequence text) {
+                shapes.add("String(" + text.length() + ")");
+            } else if (parameter instanceof byte[] bytes) {
+                shapes.add("byte[" + bytes.length + "]");
+            } else {
+                shapes.add(parameter.getClass().getSimpleName());
+            }
+        }
+        return shapes;
+    }
+
+    /**
+     * The innermost application frame outside this package, such as ProjectService.getAllProjects:148
+     */
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(MONITORING_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.Announcement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for Announcement entity operations
+ * 
+ * @author Campus Connect Team
+ */
+@Repository
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+
+    /**
+     * Find all active announcements that have not expired, with their authors
+     * @param now the current time
+     * @return List of visible announcements
+     */
+    @Query("SELECT a FROM Announcement a JOIN FETCH a.author " +
+           "WHERE a.isActive = true AND (a.expiresAt IS NULL OR a.expiresAt > :now)")
+    List<Announcement> findAllVisible(@Param("now") LocalDateTime now);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -92,6 +93,15 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     @Query("SELECT er.event FROM EventRegistration er WHERE er.user.id = :userId")
     List<Event> findEventsRegisteredByUser(@Param("userId") Long userId);
 
+    /**
+     * Find which of the given events a user is registered for
+     * @param userId the user ID
+     * @param eventIds the event IDs to check
+     * @return IDs of the registered events among them
+     */
+    @Query("SELECT er.event.id FROM EventRegistration er WHERE er.user.id = :userId AND er.event.id IN :eventIds")
+    List<Long> findRegisteredEventIds(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
     /**
      * Delete registration by user and event
      * @param user the user
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -93,6 +94,17 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     Page<Event> findByEventDateGreaterThanEqualAndIsActive(LocalDate currentDate, Boolean isActive, Pageable pageable);
 
+    /**
+     * Find upcoming featured events
+     * @param isFeatured the featured status
+     * @param isActive the active status
+     * @param currentDate the current date
+     * @param pageable pagination information
+     * @return Page of upcoming featured events
+     */
+    Page<Event> findByIsFeaturedAndIsActiveAndEventDateGreaterThanEqual(Boolean isFeatured, Boolean isActive,
+                                                                        LocalDate currentDate, Pageable pageable);
+
     /**
      * Find past events
      * @param currentDate the current date
@@ -234,4 +246,29 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      * @return Page of events with the specified active status
      */
     Page<Event> findByIsActive(Boolean isActive, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Find the live attendee counters of a set of events
+     * @param ids the event IDs
+     * @return List of counter rows, one per existing event
+     */
+    @Query("SELECT e.id AS id, e.currentAttendees AS currentAttendees, e.maxAttendees AS maxAttendees FROM Event e WHERE e.id IN :ids")
+    List<EventCounters> findCountersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find active events by ID with their organizers
+     * @param ids the event IDs
+     * @return List of the active events among them, in no particular order
+     */
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.id IN :ids AND e.isActive = true")
+    List<Event> findActiveWithOrganizerByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Live attendee counters of an event
+     */
+    interface EventCounters {
+        Long getId();
+        Integer getCurrentAttendees();
+        Integer getMaxAttendees();
+    }
+}
@@ -6,10 +6,12 @@ import com.campusconnect.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -110,4 +112,77 @@ public interface ProjectCommentRepository extends JpaRepository<ProjectComment,
            "GROUP BY pc " +
            "ORDER BY pc.createdAt DESC")
     List<Object[]> findCommentsWithReplyCounts(@Param("projectId") Long projectId, @Param("isActive") Boolean isActive);
+
+    /**
+     * Load a page of top-level threads for a project together with every active reply beneath them.
+     * Threads are selected by keyset (created_at, id) descending; the whole subtree is pulled with a
+     * recursive CTE and joined to the author in the same statement.
+     * Rows are ordered by depth so a parent always precedes its replies.
+     * @param projectId the project ID
+     * @param beforeCreatedAt only threads created before this instant (keyset cursor)
+     * @param beforeId tie-breaker for threads sharing the cursor timestamp
+     * @param limit maximum number of top-level threads
+     * @return flattened comment tree rows
+     */
+    @Query(value = "WITH RECURSIVE threads AS (" +
+                   "  SELECT c.id FROM project_comments c " +
+                   "  WHERE c.project_id = :projectId AND c.parent_comment_id IS NULL AND c.is_active = true " +
+                   "  AND (c.created_at, c.id) < (:beforeCreatedAt, :beforeId) " +
+                   "  ORDER BY c.created_at DESC, c.id DESC " +
+                   "  LIMIT :limit" +
+                   "), tree AS (" +
+                   "  SELECT c.id, c.parent_comment_id, c.user_id, c.content, c.created_at, c.updated_at, 0 AS depth " +
+                   "  FROM project_comments c JOIN threads t ON t.id = c.id " +
+                   "  UNION ALL " +
+                   "  SELECT c.id, c.parent_comment_id, c.user_id, c.content, c.created_at, c.updated_at, tree.depth + 1 " +
+                   "  FROM project_comments c JOIN tree ON c.parent_comment_id = tree.id " +
+                   "  WHERE c.is_active = true" +
+                   ") " +
+                   "SELECT tree.id AS id, tree.parent_comment_id AS parentCommentId, tree.content AS content, " +
+                   "tree.created_at AS createdAt, tree.updated_at AS updatedAt, tree.depth AS depth, " +
+                   "u.id AS userId, u.first_name AS firstName, u.last_name AS lastName, u.role AS role, " +
+                   "u.avatar_url AS avatarUrl, u.department AS department, u.academic_year AS academicYear " +
+                   "FROM tree JOIN users u ON u.id = tree.user_id " +
+                   "ORDER BY tree.depth, tree.created_at, tree.id",
+           nativeQuery = true)
+    List<CommentTreeRow> findCommentTree(@Param("projectId") Long projectId,
+                                         @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                         @Param("beforeId") Long beforeId,
+                                         @Param("limit") int limit);
+
+    /**
+     * Soft delete a comment and all of its active replies
+     * @param commentId the root comment ID
+     * @return number of comments deactivated
+     */
+    @Modifying
+    @Query(value = "WITH RECURSIVE subtree AS (" +
+                   "  SELECT id FROM project_comments WHERE id = :commentId AND is_active = true " +
+                   "  UNION ALL " +
+                   "  SELECT c.id FROM project_comments c JOIN subtree s ON c.parent_comment_id = s.id " +
+                   "  WHERE c.is_active = true" +
+                   ") " +
+                   "UPDATE project_comments SET is_active = false, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (SELECT id FROM subtree)",
+           nativeQuery = true)
+    int deactivateCommentTree(@Param("commentId") Long commentId);
+
+    /**
+     * Flattened row of a project comment tree, including the author columns needed for display
+     */
+    interface CommentTreeRow {
+        Long getId();
+        Long getParentCommentId();
+        String getContent();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        Integer getDepth();
+        Long getUserId();
+        String getFirstName();
+        String getLastName();
+        String getRole();
+        String getAvatarUrl();
+        String getDepartment();
+        String getAcademicYear();
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -83,6 +84,25 @@ public interface ProjectLikeRepository extends JpaRepository<ProjectLike, Long>
     @Query("SELECT pl.project FROM ProjectLike pl WHERE pl.user.id = :userId")
     List<Project> findProjectsLikedByUser(@Param("userId") Long userId);
 
+    /**
+     * Find active projects liked by a specific user, most recently liked first
+     * @param userId the user ID
+     * @param pageable pagination information
+     * @return Page of projects liked by the user
+     */
+    @Query(value = "SELECT pl.project FROM ProjectLike pl WHERE pl.user.id = :userId AND pl.project.isActive = true ORDER BY pl.createdAt DESC",
+           countQuery = "SELECT COUNT(pl) FROM ProjectLike pl WHERE pl.user.id = :userId AND pl.project.isActive = true")
+    Page<Project> findActiveProjectsLikedByUser(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find which of the given projects a user has liked
+     * @param userId the user ID
+     * @param projectIds the project IDs to check
+     * @return IDs of the liked projects among them
+     */
+    @Query("SELECT pl.project.id FROM ProjectLike pl WHERE pl.user.id = :userId AND pl.project.id IN :projectIds")
+    List<Long> findLikedProjectIds(@Param("userId") Long userId, @Param("projectIds") Collection<Long> projectIds);
+
     /**
      * Delete like by user and project
      * @param user the user
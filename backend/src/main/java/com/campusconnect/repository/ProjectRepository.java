@@ -13,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -210,6 +211,15 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("UPDATE Project p SET p.commentsCount = p.commentsCount - 1 WHERE p.id = :projectId AND p.commentsCount > 0")
     void decrementCommentsCount(@Param("projectId") Long projectId);
 
+    /**
+     * Decrement project comments count by several comments at once (e.g. a deleted thread)
+     * @param projectId the project ID
+     * @param amount the number of comments removed
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.commentsCount = CASE WHEN p.commentsCount > :amount THEN p.commentsCount - :amount ELSE 0 END WHERE p.id = :projectId")
+    void decrementCommentsCountBy(@Param("projectId") Long projectId, @Param("amount") int amount);
+
     /**
      * Count projects by category
      * @param category the project category
@@ -265,4 +275,29 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @return Page of projects with the specified active status
      */
     Page<Project> findByIsActive(Boolean isActive, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Find the live counters of a set of projects
+     * @param ids the project IDs
+     * @return List of counter rows, one per existing project
+     */
+    @Query("SELECT p.id AS id, p.likesCount AS likesCount, p.commentsCount AS commentsCount FROM Project p WHERE p.id IN :ids")
+    List<ProjectCounters> findCountersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find active projects by ID with their owners
+     * @param ids the project IDs
+     * @return List of the active projects among them, in no particular order
+     */
+    @Query("SELECT p FROM Project p JOIN FETCH p.owner WHERE p.id IN :ids AND p.isActive = true")
+    List<Project> findActiveWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Live counters of a project
+     */
+    interface ProjectCounters {
+        Long getId();
+        Integer getLikesCount();
+        Integer getCommentsCount();
+    }
+}
@@ -0,0 +1,116 @@
+package com.campusconnect.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads pages of selected entity attributes instead of whole entities
+ *
+ * Backs the sparse-fieldset list endpoints: the SELECT names only the requested columns, so TEXT
+ * columns nobody asked for are never read, and element collections are fetched for a whole page in
+ * one query rather than once per row.
+ *
+ * @author Campus Connect Team
+ */
+@Repository
+public class SparseFieldQuery {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public SparseFieldQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Find one page of rows keyed by attribute path, e.g. "title" or "owner.firstName"
+     */
+    public <E> Page<Map<String, Object>> findPage(Class<E> type, Specification<E> where,
+                                                  Collection<String> attributePaths, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(type);
+
+        List<String> paths = new ArrayList<>(attributePaths);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attributePath : paths) {
+            selections.add(path(root, attributePath));
+        }
+        query.multiselect(selections);
+        query.where(where.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < paths.size(); i++) {
+                row.put(paths.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(type, where));
+    }
+
+    /**
+     * Find the elements of a string element collection for the given entity ids
+     */
+    public Map<Long, List<String>> findElements(Class<?> type, String collection, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        String entityName = entityManager.getMetamodel().entity(type).getName();
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT e.id, v FROM " + entityName + " e JOIN e." + collection + " v WHERE e.id IN :ids",
+                        Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<Long, List<String>> elements = new HashMap<>();
+        for (Object[] row : rows) {
+            elements.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return elements;
+    }
+
+    private <E> long count(Class<E> type, Specification<E> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(type);
+        query.select(cb.count(root)).where(where.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
@@ -78,17 +78,37 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByIsActive(Boolean isActive, Pageable pageable);
 
     /**
-     * Search users by name or email
-     * @param searchTerm the search term
-     * @param pageable pagination information
-     * @return Page of users matching the search criteria
-     */
-    @Query("SELECT u FROM User u WHERE " +
-           "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
-           "u.isActive = true")
-    Page<User> searchUsers(@Param("searchTerm") String searchTerm, Pageable pageable);
+     * Typeahead people search over the trigram-indexed search_name column
+     * Ranks full-name prefix matches first, then word-prefix and email-prefix matches, then fuzzy matches by
+     * word similarity. Department and academic year filters are applied in the same query.
+     * @param term normalized (lower-cased, single-spaced) search term
+     * @param prefix LIKE-escaped term followed by a wildcard
+     * @param wordPrefix LIKE pattern matching the term at the start of any later word
+     * @param department optional department filter
+     * @param academicYear optional academic year filter
+     * @param limit maximum number of rows
+     * @param offset number of rows to skip
+     * @return matching users in rank order
+     */
+    @Query(value = "SELECT u.* FROM users u " +
+                   "WHERE u.is_active = TRUE " +
+                   "AND (CAST(:department AS VARCHAR) IS NULL OR u.department = :department) " +
+                   "AND (CAST(:academicYear AS VARCHAR) IS NULL OR u.academic_year = :academicYear) " +
+                   "AND (u.search_name LIKE :prefix OR u.search_name LIKE :wordPrefix " +
+                   "     OR :term <% u.search_name OR LOWER(u.email) LIKE :prefix) " +
+                   "ORDER BY CASE WHEN u.search_name LIKE :prefix THEN 0 " +
+                   "              WHEN u.search_name LIKE :wordPrefix OR LOWER(u.email) LIKE :prefix THEN 1 " +
+                   "              ELSE 2 END, " +
+                   "word_similarity(:term, u.search_name) DESC, u.search_name, u.id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<User> searchPeople(@Param("term") String term,
+                            @Param("prefix") String prefix,
+                            @Param("wordPrefix") String wordPrefix,
+                            @Param("department") String department,
+                            @Param("academicYear") String academicYear,
+                            @Param("limit") int limit,
+                            @Param("offset") long offset);
 
     /**
      * Find users who joined recently
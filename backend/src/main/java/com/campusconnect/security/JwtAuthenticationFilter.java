@@ -1,16 +1,21 @@
 package com.campusconnect.security;
 
+import com.campusconnect.logging.CorrelationIdFilter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -19,6 +24,10 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter
  * Processes JWT tokens from HTTP requests
+ *
+ * Tokens come from the Authorization header. Live update streams are opened by EventSource, which
+ * cannot set headers, so those GETs may instead carry a short-lived stream token (POST /live/token)
+ * in the access_token query parameter; stream tokens are accepted nowhere else.
  * 
  * @author Campus Connect Team
  */
@@ -26,6 +35,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    public static final String STREAM_TOKEN_PARAMETER = "access_token";
+
+    private static final RequestMatcher LIVE_STREAMS = AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/live/**");
+
     @Autowired
     private JwtTokenProvider tokenProvider;
 
@@ -41,8 +54,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         try {
             String jwt = getJwtFromRequest(request);
+            boolean fromQuery = false;
+            if (jwt == null && LIVE_STREAMS.matches(request)) {
+                jwt = request.getParameter(STREAM_TOKEN_PARAMETER);
+                fromQuery = true;
+            }
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+            // A stream token ends up in access logs, so it must not work as a bearer token, and vice versa
+            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)
+                    && tokenProvider.isStreamToken(jwt) == fromQuery) {
                 Long userId = tokenProvider.getUserIdFromToken(jwt);
                 
                 UserDetails userDetails = customUserDetailsService.loadUserById(userId);
@@ -51,6 +71,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                MDC.put(CorrelationIdFilter.USER_ID, userId.toString());
                 logger.debug("Successfully authenticated user: {} for request: {}", 
                            userDetails.getUsername(), requestURI);
             } else if (StringUtils.hasText(jwt)) {
@@ -2,14 +2,18 @@ package com.campusconnect.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Token Provider for generating and validating JWT tokens
@@ -30,6 +34,12 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long jwtRefreshExpirationInMs;
 
+    @Value("${jwt.stream-expiration:60000}")
+    private long jwtStreamExpirationInMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Generate JWT token for authenticated user
      * @param authentication the authentication object
@@ -93,6 +103,25 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Generate a short-lived token that only opens live update streams
+     * EventSource cannot send an Authorization header, so this token travels in the query string.
+     * @param userId the user the stream is opened for
+     * @return stream token string
+     */
+    public String generateStreamToken(Long userId) {
+        logger.debug("Generating stream token for user ID: {}", userId);
+
+        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return Jwts.builder()
+                .setSubject(Long.toString(userId))
+                .claim("type", "stream")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + jwtStreamExpirationInMs))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
     /**
      * Get user ID from JWT token
      * @param token the JWT token
@@ -125,6 +154,17 @@ public class JwtTokenProvider {
      * @return true if token is valid, false otherwise
      */
     public boolean validateToken(String authToken) {
+        long started = System.nanoTime();
+        boolean valid = parseAndValidate(authToken);
+        Timer.builder("security.jwt.validation")
+                .description("Time to verify a JWT signature and claims")
+                .tag("result", valid ? "valid" : "invalid")
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return valid;
+    }
+
+    private boolean parseAndValidate(String authToken) {
         logger.debug("Validating JWT token");
         
         try {
@@ -176,6 +216,28 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Check if token is a live update stream token
+     * @param token the JWT token
+     * @return true if it's a stream token, false otherwise
+     */
+    public boolean isStreamToken(String token) {
+        try {
+            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+
+            Claims claims = Jwts.parser()
+                    .setSigningKey(key)
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            return "stream".equals(claims.get("type"));
+
+        } catch (Exception e) {
+            logger.error("Error checking if token is stream token", e);
+            return false;
+        }
+    }
+
     /**
      * Get token expiration time in milliseconds
      * @return expiration time in milliseconds
@@ -191,4 +253,12 @@ public class JwtTokenProvider {
     public long getRefreshExpirationTime() {
         return jwtRefreshExpirationInMs;
     }
-}
\ No newline at end of file
+
+    /**
+     * Get stream token expiration time in milliseconds
+     * @return stream token expiration time in milliseconds
+     */
+    public long getStreamExpirationTime() {
+        return jwtStreamExpirationInMs;
+    }
+}
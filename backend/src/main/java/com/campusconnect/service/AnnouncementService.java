@@ -0,0 +1,278 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.request.AnnouncementRequest;
+import com.campusconnect.dto.response.AnnouncementResponse;
+import com.campusconnect.dto.response.UserResponse;
+import com.campusconnect.entity.Announcement;
+import com.campusconnect.entity.AnnouncementPriority;
+import com.campusconnect.entity.TargetAudience;
+import com.campusconnect.entity.User;
+import com.campusconnect.entity.UserRole;
+import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.repository.AnnouncementRepository;
+import com.campusconnect.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Service class for announcements
+ *
+ * Visible announcements are kept as one precomputed, priority-sorted, immutable list per audience
+ * segment. The whole feed is rebuilt after every committed write and at the next expiresAt, then
+ * swapped in with a single reference assignment, so reads never touch the database.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+@Transactional
+public class AnnouncementService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnnouncementService.class);
+
+    private static final Comparator<AnnouncementResponse> FEED_ORDER =
+            Comparator.comparing(AnnouncementResponse::getPriority, Comparator.reverseOrder())
+                    .thenComparing(AnnouncementResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(AnnouncementResponse::getId, Comparator.reverseOrder());
+
+    private final AnnouncementRepository announcementRepository;
+    private final UserRepository userRepository;
+    private final TaskScheduler taskScheduler;
+    private final ResponseCacheService responseCacheService;
+    private final TransactionTemplate feedTransaction;
+
+    private volatile AnnouncementFeed feed = AnnouncementFeed.EMPTY;
+    private ScheduledFuture<?> expiryRefresh;
+
+    @Autowired
+    public AnnouncementService(AnnouncementRepository announcementRepository,
+                               UserRepository userRepository,
+                               TaskScheduler taskScheduler,
+                               ResponseCacheService responseCacheService,
+                               PlatformTransactionManager transactionManager) {
+        this.announcementRepository = announcementRepository;
+        this.userRepository = userRepository;
+        this.taskScheduler = taskScheduler;
+        this.responseCacheService = responseCacheService;
+
+        // The feed is rebuilt after commit, so it always reads in a transaction of its own
+        this.feedTransaction = new TransactionTemplate(transactionManager);
+        this.feedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.feedTransaction.setReadOnly(true);
+
+        logger.info("AnnouncementService initialized successfully");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onApplicationReady() {
+        refreshFeed();
+    }
+
+    /**
+     * Get the announcements visible to everyone
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<AnnouncementResponse> getPublicAnnouncements() {
+        return feed.segment(TargetAudience.ALL);
+    }
+
+    /**
+     * Get the announcements visible to a user with the given role
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<AnnouncementResponse> getAnnouncementsForRole(UserRole role) {
+        return feed.segment(role == UserRole.ADMIN ? TargetAudience.ADMINS : TargetAudience.STUDENTS);
+    }
+
+    /**
+     * Create a new announcement
+     */
+    public AnnouncementResponse createAnnouncement(AnnouncementRequest request, Long authorId) {
+        logger.info("Creating announcement: {} by author ID: {}", request.getTitle(), authorId);
+
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", authorId));
+
+        Announcement announcement = new Announcement(request.getTitle(), request.getContent(), author);
+        applyRequest(announcement, request);
+
+        Announcement savedAnnouncement = announcementRepository.save(announcement);
+        TransactionHooks.afterCommit(this::refreshFeed);
+
+        logger.info("Successfully created announcement with ID: {}", savedAnnouncement.getId());
+        return convertToAnnouncementResponse(savedAnnouncement);
+    }
+
+    /**
+     * Update an announcement
+     */
+    public AnnouncementResponse updateAnnouncement(Long announcementId, AnnouncementRequest request) {
+        logger.info("Updating announcement ID: {}", announcementId);
+
+        Announcement announcement = announcementRepository.findById(announcementId)
+                .filter(Announcement::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Announcement", "id", announcementId));
+
+        announcement.setTitle(request.getTitle());
+        announcement.setContent(request.getContent());
+        applyRequest(announcement, request);
+
+        Announcement updatedAnnouncement = announcementRepository.save(announcement);
+        TransactionHooks.afterCommit(this::refreshFeed);
+
+        logger.info("Successfully updated announcement ID: {}", announcementId);
+        return convertToAnnouncementResponse(updatedAnnouncement);
+    }
+
+    /**
+     * Delete (deactivate) an announcement
+     */
+    public void deleteAnnouncement(Long announcementId) {
+        logger.info("Deleting announcement ID: {}", announcementId);
+
+        Announcement announcement = announcementRepository.findById(announcementId)
+                .filter(Announcement::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Announcement", "id", announcementId));
+
+        announcement.setIsActive(false);
+        announcementRepository.save(announcement);
+        TransactionHooks.afterCommit(this::refreshFeed);
+
+        logger.info("Successfully deleted announcement ID: {}", announcementId);
+    }
+
+    /**
+     * Rebuild every audience segment from the database and swap the new feed in
+     */
+    private synchronized void refreshFeed() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<AnnouncementResponse> visible = feedTransaction.execute(status ->
+                    announcementRepository.findAllVisible(now).stream()
+                            .map(this::convertToAnnouncementResponse)
+                            .toList());
+
+            AnnouncementFeed newFeed = AnnouncementFeed.build(visible);
+            feed = newFeed;
+            responseCacheService.evict(ResponseCacheService.TAG_ANNOUNCEMENTS);
+            scheduleExpiryRefresh(newFeed.nextExpiry);
+
+            logger.debug("Announcement feed rebuilt with {} announcements, next expiry: {}", visible.size(), newFeed.nextExpiry);
+        } catch (Exception e) {
+            logger.error("Error rebuilding announcement feed", e);
+        }
+    }
+
+    private void scheduleExpiryRefresh(LocalDateTime nextExpiry) {
+        if (expiryRefresh != null) {
+            expiryRefresh.cancel(false);
+            expiryRefresh = null;
+        }
+        if (nextExpiry != null) {
+            expiryRefresh = taskScheduler.schedule(this::refreshFeed, nextExpiry.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private void applyRequest(Announcement announcement, AnnouncementRequest request) {
+        announcement.setPriority(request.getPriority() != null ? request.getPriority() : AnnouncementPriority.NORMAL);
+        announcement.setTargetAudience(request.getTargetAudience() != null ? request.getTargetAudience() : TargetAudience.ALL);
+        announcement.setExpiresAt(request.getExpiresAt());
+    }
+
+    /**
+     * Convert Announcement entity to AnnouncementResponse DTO
+     */
+    private AnnouncementResponse convertToAnnouncementResponse(Announcement announcement) {
+        AnnouncementResponse response = new AnnouncementResponse();
+        response.setId(announcement.getId());
+        response.setTitle(announcement.getTitle());
+        response.setContent(announcement.getContent());
+        response.setPriority(announcement.getPriority());
+        response.setTargetAudience(announcement.getTargetAudience());
+        response.setExpiresAt(announcement.getExpiresAt());
+        response.setCreatedAt(announcement.getCreatedAt());
+        response.setUpdatedAt(announcement.getUpdatedAt());
+
+        User user = announcement.getAuthor();
+        UserResponse author = new UserResponse();
+        author.setId(user.getId());
+        author.setFirstName(user.getFirstName());
+        author.setLastName(user.getLastName());
+        author.setFullName(user.getFullName());
+        author.setRole(user.getRole());
+        author.setAvatarUrl(user.getAvatarUrl());
+        response.setAuthor(author);
+
+        return response;
+    }
+
+    /**
+     * Immutable snapshot of the visible announcements, one sorted list per audience segment
+     */
+    private static final class AnnouncementFeed {
+
+        private static final AnnouncementFeed EMPTY = build(List.of());
+
+        private final Map<TargetAudience, List<AnnouncementResponse>> segments;
+        private final LocalDateTime nextExpiry;
+
+        private AnnouncementFeed(Map<TargetAudience, List<AnnouncementResponse>> segments, LocalDateTime nextExpiry) {
+            this.segments = segments;
+            this.nextExpiry = nextExpiry;
+        }
+
+        private static AnnouncementFeed build(List<AnnouncementResponse> visible) {
+            // ALL holds only announcements for everyone; each role segment adds its own on top
+            Map<TargetAudience, List<AnnouncementResponse>> segments = new EnumMap<>(TargetAudience.class);
+            for (TargetAudience audience : TargetAudience.values()) {
+                segments.put(audience, new ArrayList<>());
+            }
+
+            LocalDateTime nextExpiry = null;
+            for (AnnouncementResponse announcement : visible) {
+                TargetAudience audience = announcement.getTargetAudience();
+                if (audience == TargetAudience.ALL) {
+                    segments.get(TargetAudience.ALL).add(announcement);
+                    segments.get(TargetAudience.STUDENTS).add(announcement);
+                    segments.get(TargetAudience.ADMINS).add(announcement);
+                } else {
+                    segments.get(audience).add(announcement);
+                }
+
+                LocalDateTime expiresAt = announcement.getExpiresAt();
+                if (expiresAt != null && (nextExpiry == null || expiresAt.isBefore(nextExpiry))) {
+                    nextExpiry = expiresAt;
+                }
+            }
+
+            segments.replaceAll((audience, list) -> {
+                list.sort(FEED_ORDER);
+                return List.copyOf(list);
+            });
+            return new AnnouncementFeed(segments, nextExpiry);
+        }
+
+        private List<AnnouncementResponse> segment(TargetAudience audience) {
+            return segments.get(audience);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.campusconnect.service;
 
 import com.campusconnect.dto.request.LoginRequest;
 import com.campusconnect.dto.response.JwtAuthenticationResponse;
+import com.campusconnect.exception.UnauthorizedException;
 import com.campusconnect.security.JwtTokenProvider;
 import com.campusconnect.security.UserPrincipal;
 import org.slf4j.Logger;
@@ -46,44 +47,38 @@ public class AuthService {
      */
     public JwtAuthenticationResponse authenticateUser(LoginRequest loginRequest) {
         logger.info("Authenticating user: {}", loginRequest.getEmail());
-        
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                    loginRequest.getEmail(),
-                    loginRequest.getPassword()
-                )
-            );
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            String jwt = tokenProvider.generateToken(authentication);
-            String refreshToken = tokenProvider.generateRefreshToken(authentication);
-            
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            
-            // Update last login time
-            userService.updateLastLogin(userPrincipal.getId());
-            
-            JwtAuthenticationResponse response = new JwtAuthenticationResponse(
-                jwt,
-                refreshToken,
-                "Bearer",
-                tokenProvider.getExpirationTime(),
-                userPrincipal.getId(),
-                userPrincipal.getEmail(),
-                userPrincipal.getRole().name()
-            );
-            
-            logger.info("Successfully authenticated user: {} with role: {}", 
-                       loginRequest.getEmail(), userPrincipal.getRole());
-            
-            return response;
-            
-        } catch (Exception e) {
-            logger.error("Authentication failed for user: {}", loginRequest.getEmail(), e);
-            throw e;
-        }
+        Authentication authentication = authenticationManager.authenticate(
+            new UsernamePasswordAuthenticationToken(
+                loginRequest.getEmail(),
+                loginRequest.getPassword()
+            )
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        
+        String jwt = tokenProvider.generateToken(authentication);
+        String refreshToken = tokenProvider.generateRefreshToken(authentication);
+        
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        // Update last login time
+        userService.updateLastLogin(userPrincipal.getId());
+        
+        JwtAuthenticationResponse response = new JwtAuthenticationResponse(
+            jwt,
+            refreshToken,
+            "Bearer",
+            tokenProvider.getExpirationTime(),
+            userPrincipal.getId(),
+            userPrincipal.getEmail(),
+            userPrincipal.getRole().name()
+        );
+        
+        logger.info("Successfully authenticated user: {} with role: {}", 
+                   loginRequest.getEmail(), userPrincipal.getRole());
+        
+        return response;
     }
 
     /**
@@ -94,40 +89,33 @@ public class AuthService {
     public JwtAuthenticationResponse refreshToken(String refreshToken) {
         logger.debug("Refreshing JWT token");
         
-        try {
-            if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
-                logger.warn("Invalid refresh token provided");
-                throw new RuntimeException("Invalid refresh token");
-            }
-            
-            Long userId = tokenProvider.getUserIdFromToken(refreshToken);
-            var user = userService.getUserById(userId);
-            
-            // Create new authentication for token generation
-            UserPrincipal userPrincipal = UserPrincipal.create(convertToUserEntity(user));
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userPrincipal, null, userPrincipal.getAuthorities());
-            
-            String newJwt = tokenProvider.generateToken(authentication);
-            String newRefreshToken = tokenProvider.generateRefreshToken(authentication);
-            
-            JwtAuthenticationResponse response = new JwtAuthenticationResponse(
-                newJwt,
-                newRefreshToken,
-                "Bearer",
-                tokenProvider.getExpirationTime(),
-                user.getId(),
-                user.getEmail(),
-                user.getRole().name()
-            );
-            
-            logger.debug("Successfully refreshed token for user ID: {}", userId);
-            return response;
-            
-        } catch (Exception e) {
-            logger.error("Error refreshing token", e);
-            throw new RuntimeException("Failed to refresh token", e);
+        if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
+            throw new UnauthorizedException("Invalid refresh token");
         }
+        
+        Long userId = tokenProvider.getUserIdFromToken(refreshToken);
+        var user = userService.getUserById(userId);
+        
+        // Create new authentication for token generation
+        UserPrincipal userPrincipal = UserPrincipal.create(convertToUserEntity(user));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+            userPrincipal, null, userPrincipal.getAuthorities());
+        
+        String newJwt = tokenProvider.generateToken(authentication);
+        String newRefreshToken = tokenProvider.generateRefreshToken(authentication);
+        
+        JwtAuthenticationResponse response = new JwtAuthenticationResponse(
+            newJwt,
+            newRefreshToken,
+            "Bearer",
+            tokenProvider.getExpirationTime(),
+            user.getId(),
+            user.getEmail(),
+            user.getRole().name()
+        );
+        
+        logger.debug("Successfully refreshed token for user ID: {}", userId);
+        return response;
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.campusconnect.service;
+
+/**
+ * Badge rules awarded by the badge engine
+ * The badge name is the user_badges.badge_name key; target becomes max_progress.
+ *
+ * @author Campus Connect Team
+ */
+public enum BadgeRule {
+    IDEA_GENERATOR("Idea Generator", "Posted 3+ project ideas", "lightbulb", 3),
+    EVENT_EXPLORER("Event Explorer", "Attended 5+ campus events", "compass", 5),
+    CROWD_FAVORITE("Crowd Favorite", "Received 10+ likes on your projects", "heart", 10),
+    SUPPORTER("Supporter", "Liked 10+ projects", "thumbs-up", 10),
+    CONVERSATION_STARTER("Conversation Starter", "Posted 10+ comments", "message-circle", 10);
+
+    private final String badgeName;
+    private final String description;
+    private final String icon;
+    private final int target;
+
+    BadgeRule(String badgeName, String description, String icon, int target) {
+        this.badgeName = badgeName;
+        this.description = description;
+        this.icon = icon;
+        this.target = target;
+    }
+
+    public String getBadgeName() {
+        return badgeName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+}
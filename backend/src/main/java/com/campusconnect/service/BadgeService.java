@@ -0,0 +1,166 @@
+package com.campusconnect.service;
+
+import com.campusconnect.event.CommentPostedEvent;
+import com.campusconnect.event.EventRegisteredEvent;
+import com.campusconnect.event.EventUnregisteredEvent;
+import com.campusconnect.event.ProjectCreatedEvent;
+import com.campusconnect.event.ProjectLikedEvent;
+import com.campusconnect.event.ProjectUnlikedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Badge progress engine
+ *
+ * Consumes domain events after the publishing transaction commits, on the async executor, so badge
+ * evaluation never adds latency to the request. Increments are only accumulated in memory per rule
+ * and user; a scheduled flush writes them as one batch of upserts, so a burst of likes for the same
+ * owner becomes a single row update. Unlikes and unregistrations subtract what the like or
+ * registration added, so toggling one back and forth never advances a badge.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class BadgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BadgeService.class);
+
+    // The amount is negative when likes or registrations were withdrawn; progress never drops below zero,
+    // and a badge once earned stays earned
+    private static final String UPSERT_PROGRESS_SQL =
+            "INSERT INTO user_badges (id, user_id, badge_name, badge_description, badge_icon, progress, max_progress, " +
+            "                         is_earned, earned_date, created_at) " +
+            "VALUES (nextval('user_badges_id_seq'), ?, ?, ?, ?, GREATEST(LEAST(?, ?), 0), ?, ? >= ?, " +
+            "        CASE WHEN ? >= ? THEN ? END, ?) " +
+            "ON CONFLICT (user_id, badge_name) DO UPDATE SET " +
+            "    progress = GREATEST(LEAST(user_badges.progress + ?, user_badges.max_progress), 0), " +
+            "    is_earned = user_badges.is_earned OR user_badges.progress + ? >= user_badges.max_progress, " +
+            "    earned_date = COALESCE(user_badges.earned_date, " +
+            "        CASE WHEN user_badges.progress + ? >= user_badges.max_progress THEN EXCLUDED.created_at END)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Pending increments: rule -> user ID -> amount
+    private final Map<BadgeRule, Map<Long, Integer>> pending = new EnumMap<>(BadgeRule.class);
+
+    @Autowired
+    public BadgeService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (BadgeRule rule : BadgeRule.values()) {
+            pending.put(rule, new ConcurrentHashMap<>());
+        }
+        logger.info("BadgeService initialized successfully");
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        record(BadgeRule.IDEA_GENERATOR, event.getOwnerId(), 1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectLiked(ProjectLikedEvent event) {
+        record(BadgeRule.SUPPORTER, event.getUserId(), 1);
+        if (!event.getOwnerId().equals(event.getUserId())) {
+            record(BadgeRule.CROWD_FAVORITE, event.getOwnerId(), 1);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectUnliked(ProjectUnlikedEvent event) {
+        record(BadgeRule.SUPPORTER, event.getUserId(), -1);
+        if (!event.getOwnerId().equals(event.getUserId())) {
+            record(BadgeRule.CROWD_FAVORITE, event.getOwnerId(), -1);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRegistered(EventRegisteredEvent event) {
+        record(BadgeRule.EVENT_EXPLORER, event.getUserId(), 1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventUnregistered(EventUnregisteredEvent event) {
+        record(BadgeRule.EVENT_EXPLORER, event.getUserId(), -1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentPosted(CommentPostedEvent event) {
+        record(BadgeRule.CONVERSATION_STARTER, event.getUserId(), 1);
+    }
+
+    /**
+     * Write all pending increments as one batch of upserts
+     */
+    @Scheduled(fixedDelayString = "${app.badges.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<BadgeRule> rules = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (Map.Entry<BadgeRule, Map<Long, Integer>> entry : pending.entrySet()) {
+            BadgeRule rule = entry.getKey();
+            Map<Long, Integer> increments = entry.getValue();
+            for (Long userId : increments.keySet()) {
+                Integer amount = increments.remove(userId);
+                if (amount == null || amount == 0) {
+                    continue;
+                }
+                int target = rule.getTarget();
+                batch.add(new Object[] {
+                        userId, rule.getBadgeName(), rule.getDescription(), rule.getIcon(),
+                        amount, target, target, amount, target, amount, target, now, now,
+                        amount, amount, amount
+                });
+                rules.add(rule);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_PROGRESS_SQL, batch);
+            logger.debug("Flushed {} badge progress updates", batch.size());
+        } catch (Exception e) {
+            // Put the increments back so the next flush retries them
+            for (int i = 0; i < batch.size(); i++) {
+                Object[] row = batch.get(i);
+                record(rules.get(i), (Long) row[0], (Integer) row[4]);
+            }
+            logger.error("Error flushing {} badge progress updates, will retry", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(BadgeRule rule, Long userId, int amount) {
+        if (userId != null) {
+            pending.get(rule).merge(userId, amount, Integer::sum);
+        }
+    }
+}
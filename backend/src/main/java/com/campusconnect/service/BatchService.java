@@ -0,0 +1,283 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.request.BatchRequest;
+import com.campusconnect.dto.response.BatchResponse;
+import com.campusconnect.exception.BadRequestException;
+import com.campusconnect.exception.GlobalExceptionHandler;
+import com.campusconnect.logging.CorrelationIdFilter;
+import com.campusconnect.security.UserPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service that runs a batch of read requests against this API concurrently
+ *
+ * Sub-requests are replayed over HTTP to the local connector with the caller's credentials, so every
+ * one of them passes the same security rules, caching and metrics as a direct call, and the async
+ * listing endpoints work unchanged. The client saves the round trips; the server does the same work.
+ * The HTTP client is non-blocking, so no request thread waits on the sub-requests.
+ *
+ * The loopback calls do not pass the proxy's rate limit, so each caller has its own sub-request
+ * allowance here; a sub-request over it answers 429 in its own slot without being sent.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class BatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+
+    private static final String BATCH_PATH = "/batch";
+
+    // Idle callers are forgotten once this many are tracked
+    private static final int MAX_TRACKED_CALLERS = 10_000;
+
+    // Caller headers replayed on every sub-request
+    private static final List<String> FORWARDED_HEADERS = List.of(
+            HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT_LANGUAGE, CorrelationIdFilter.HEADER);
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ExecutorService clientExecutor;
+    private final int maxRequests;
+    private final Duration timeout;
+    private final double subRequestsPerSecond;
+    private final int subRequestBurst;
+    private final Map<String, Allowance> allowances = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BatchService(ObjectMapper objectMapper,
+                        @Value("${app.batch.max-requests:20}") int maxRequests,
+                        @Value("${app.batch.timeout-ms:5000}") long timeoutMs,
+                        @Value("${app.batch.client-threads:4}") int clientThreads,
+                        @Value("${app.batch.sub-requests-per-second:10}") double subRequestsPerSecond,
+                        @Value("${app.batch.sub-request-burst:20}") int subRequestBurst) {
+        this.objectMapper = objectMapper;
+        this.maxRequests = maxRequests;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.subRequestsPerSecond = subRequestsPerSecond;
+        this.subRequestBurst = Math.max(1, subRequestBurst);
+
+        // The client's default executor is an unbounded cached pool
+        AtomicInteger threadCount = new AtomicInteger();
+        this.clientExecutor = Executors.newFixedThreadPool(Math.max(1, clientThreads), runnable -> {
+            Thread thread = new Thread(runnable, "batch-client-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(clientExecutor)
+                .build();
+        logger.info("BatchService initialized successfully");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clientExecutor.shutdownNow();
+    }
+
+    /**
+     * Start every sub-request of a batch; the future completes with all responses in request order
+     *
+     * Validation happens before anything is sent, so a malformed batch fails as a whole with 400. After
+     * that, each sub-request answers with its own status and a failed or timed-out one does not affect
+     * the others.
+     */
+    public CompletableFuture<BatchResponse> execute(BatchRequest batch, HttpServletRequest origin) {
+        List<BatchRequest.Item> items = batch.getRequests();
+        if (items.size() > maxRequests) {
+            throw new BadRequestException("At most " + maxRequests + " requests can be batched at once");
+        }
+
+        String apiRoot = apiRoot(origin);
+        Map<String, String> headers = forwardedHeaders(origin);
+        List<HttpRequest> requests = new ArrayList<>();
+        for (BatchRequest.Item item : items) {
+            requests.add(toHttpRequest(apiRoot, item, headers));
+        }
+        int allowed = allowance(callerKey(origin)).take(requests.size());
+        logger.debug("Executing batch of {} requests, {} within the caller's allowance", requests.size(), allowed);
+
+        List<CompletableFuture<BatchResponse.Item>> responses = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String id = items.get(i).getId() != null ? items.get(i).getId() : String.valueOf(i);
+            responses.add(i < allowed
+                    ? send(id, items.get(i).getPath(), requests.get(i))
+                    : CompletableFuture.completedFuture(failed(id, items.get(i).getPath(),
+                            HttpStatus.TOO_MANY_REQUESTS, "Batched request rate limit exceeded")));
+        }
+        return CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> new BatchResponse(responses.stream().map(CompletableFuture::join).toList()));
+    }
+
+    private CompletableFuture<BatchResponse.Item> send(String id, String path, HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new BatchResponse.Item(id, response.statusCode(), readBody(response.body())))
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    HttpStatus status = cause instanceof HttpTimeoutException
+                            ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.BAD_GATEWAY;
+                    logger.warn("Batched request {} failed with {}: {}", path, status.value(), cause.toString());
+                    return failed(id, path, status, "Batched request did not complete");
+                });
+    }
+
+    private BatchResponse.Item failed(String id, String path, HttpStatus status, String message) {
+        return new BatchResponse.Item(id, status.value(), objectMapper.valueToTree(
+                new GlobalExceptionHandler.ErrorResponse(status.value(), status.getReasonPhrase(),
+                        message, "uri=" + path, LocalDateTime.now())));
+    }
+
+    private Allowance allowance(String callerKey) {
+        if (allowances.size() >= MAX_TRACKED_CALLERS && !allowances.containsKey(callerKey)) {
+            allowances.values().removeIf(Allowance::isFull);
+        }
+        return allowances.computeIfAbsent(callerKey, key -> new Allowance(subRequestsPerSecond, subRequestBurst));
+    }
+
+    /**
+     * The authenticated user, or the client address for anonymous batches
+     */
+    private static String callerKey(HttpServletRequest origin) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "user:" + principal.getId();
+        }
+        String forwardedFor = origin.getHeader("X-Forwarded-For");
+        String address = forwardedFor != null ? forwardedFor.split(",")[0].trim() : origin.getRemoteAddr();
+        return "address:" + address;
+    }
+
+    private HttpRequest toHttpRequest(String apiRoot, BatchRequest.Item item, Map<String, String> headers) {
+        String path = item.getPath();
+        if (!"GET".equalsIgnoreCase(item.getMethod())) {
+            throw new BadRequestException("Only GET requests can be batched: " + item.getMethod() + " " + path);
+        }
+        if (!path.startsWith("/") || path.startsWith("//") || path.contains("..") || path.contains("\\")
+                || path.matches(BATCH_PATH + "([/?#].*)?")) {
+            throw new BadRequestException("Invalid batched request path: " + path);
+        }
+
+        URI uri;
+        try {
+            uri = URI.create(apiRoot + path);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid batched request path: " + path, e);
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET();
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    /**
+     * The local URL the API is served under, taken from the batch request's own URI
+     */
+    private static String apiRoot(HttpServletRequest origin) {
+        String uri = origin.getRequestURI();
+        String root = uri.endsWith(BATCH_PATH) ? uri.substring(0, uri.length() - BATCH_PATH.length()) : uri;
+        return "http://127.0.0.1:" + origin.getLocalPort() + root;
+    }
+
+    // Read on the request thread; the servlet request must not be touched once the batch goes async
+    private static Map<String, String> forwardedHeaders(HttpServletRequest origin) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : FORWARDED_HEADERS) {
+            String value = origin.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        String forwardedFor = origin.getHeader("X-Forwarded-For");
+        headers.put("X-Forwarded-For", forwardedFor != null ? forwardedFor : origin.getRemoteAddr());
+        return headers;
+    }
+
+    /**
+     * A token bucket of sub-requests, refilled continuously up to the burst size
+     */
+    private static final class Allowance {
+
+        private final double perNano;
+        private final int burst;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        Allowance(double perSecond, int burst) {
+            this.perNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        /**
+         * Take up to the requested number of tokens and return how many were taken
+         */
+        synchronized int take(int requested) {
+            refill();
+            int taken = (int) Math.min(requested, Math.floor(tokens));
+            tokens -= taken;
+            return taken;
+        }
+
+        synchronized boolean isFull() {
+            refill();
+            return tokens >= burst;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * perNano);
+            refilledAt = now;
+        }
+    }
+
+    private JsonNode readBody(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return TextNode.valueOf(new String(body, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.DashboardResponse;
+import com.campusconnect.dto.response.EventResponse;
+import com.campusconnect.dto.response.ProjectResponse;
+import com.campusconnect.logging.MdcTaskDecorator;
+import com.campusconnect.monitoring.QueryStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Service that assembles the signed-in user's dashboard in one call
+ *
+ * The sections are independent lookups, so they run concurrently on a small pool of their own, each in
+ * its own read-only transaction. A section that fails, is rejected by a full pool or misses the
+ * per-section timeout is left out and named in the response, so a slow query degrades one card of
+ * the dashboard instead of the whole page. The transaction timeout is passed to the JDBC driver as a
+ * statement timeout, so the database also stops working on a section the page no longer waits for.
+ * The pool is sized below the connection pool.
+ *
+ * Each section counts its statements in a QueryStats scope of its own, and the scopes of the sections
+ * that completed are added to the request's scope once they have been joined.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    private static final String REGISTERED_EVENTS = "registeredEvents";
+    private static final String OWNED_PROJECTS = "ownedProjects";
+    private static final String LIKED_PROJECTS = "likedProjects";
+    private static final String FEATURED_EVENTS = "featuredEvents";
+
+    private final EventService eventService;
+    private final ProjectService projectService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate sectionTransaction;
+    private final int sectionSize;
+    private final long sectionTimeoutMs;
+
+    @Autowired
+    public DashboardService(EventService eventService, ProjectService projectService,
+                            MdcTaskDecorator mdcTaskDecorator, MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.dashboard.concurrency:4}") int concurrency,
+                            @Value("${app.dashboard.queue-capacity:200}") int queueCapacity,
+                            @Value("${app.dashboard.section-size:5}") int sectionSize,
+                            @Value("${app.dashboard.section-timeout-ms:2000}") long sectionTimeoutMs) {
+        this.eventService = eventService;
+        this.projectService = projectService;
+        this.meterRegistry = meterRegistry;
+        this.sectionSize = sectionSize;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        // Whole seconds only; rounded up so the statement outlives the wait by less than a second
+        this.sectionTransaction.setTimeout((int) Math.max(1, (sectionTimeoutMs + 999) / 1000));
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        // Decorated on the request thread: carries MDC and the user for read-your-writes routing
+        executor.setTaskDecorator(task -> mdcTaskDecorator.decorate(new DelegatingSecurityContextRunnable(task)));
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "dashboard");
+        logger.info("DashboardService initialized successfully");
+    }
+
+    /**
+     * Get the dashboard of a user
+     */
+    public DashboardResponse getDashboard(Long userId) {
+        logger.debug("Building dashboard for user ID: {}", userId);
+
+        Section<Page<EventResponse>> registeredEvents = section(() -> eventService.getEventsRegisteredByUser(
+                userId, PageRequest.of(0, sectionSize, Sort.by("eventDate").ascending())));
+        Section<Page<ProjectResponse>> ownedProjects = section(() -> projectService.getProjectsByOwner(
+                userId, PageRequest.of(0, sectionSize, Sort.by("createdAt").descending()), userId));
+        Section<Page<ProjectResponse>> likedProjects = section(() -> projectService.getLikedProjects(
+                userId, PageRequest.of(0, sectionSize)));
+        Section<Page<EventResponse>> featuredEvents = section(() -> eventService.getUpcomingFeaturedEvents(
+                PageRequest.of(0, sectionSize, Sort.by("eventDate").ascending()), userId));
+
+        DashboardResponse response = new DashboardResponse();
+        Page<EventResponse> registered = result(REGISTERED_EVENTS, registeredEvents, response);
+        if (registered != null) {
+            response.setRegisteredEvents(registered.getContent());
+            response.getCounts().setRegisteredEvents(registered.getTotalElements());
+        }
+        Page<ProjectResponse> owned = result(OWNED_PROJECTS, ownedProjects, response);
+        if (owned != null) {
+            response.setOwnedProjects(owned.getContent());
+            response.getCounts().setOwnedProjects(owned.getTotalElements());
+        }
+        Page<ProjectResponse> liked = result(LIKED_PROJECTS, likedProjects, response);
+        if (liked != null) {
+            response.setLikedProjects(liked.getContent());
+            response.getCounts().setLikedProjects(liked.getTotalElements());
+        }
+        Page<EventResponse> featured = result(FEATURED_EVENTS, featuredEvents, response);
+        if (featured != null) {
+            response.setFeaturedEvents(featured.getContent());
+        }
+        return response;
+    }
+
+    private <T> Section<T> section(Supplier<T> lookup) {
+        QueryStats stats = QueryStats.fork();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                // Skip a section that already timed out while it was queued
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(QueryStats.within(stats, () -> sectionTransaction.execute(status -> lookup.get())));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            future.completeExceptionally(e);
+        }
+        return new Section<>(future.orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS), stats);
+    }
+
+    /**
+     * Wait for a section; all sections started together, so the waits overlap rather than add up
+     */
+    private <T> T result(String name, Section<T> section, DashboardResponse response) {
+        try {
+            T value = section.future().join();
+            QueryStats requestStats = QueryStats.current();
+            if (requestStats != null && section.stats() != null) {
+                requestStats.merge(section.stats());
+            }
+            return value;
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.warn("Dashboard section {} unavailable: {}", name, cause.toString());
+            meterRegistry.counter("dashboard.section.unavailable", "section", name).increment();
+            response.getUnavailableSections().add(name);
+            return null;
+        }
+    }
+
+    /**
+     * A running section and the scope counting its statements
+     */
+    private record Section<T>(CompletableFuture<T> future, QueryStats stats) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,27 +1,48 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.request.EventCreateRequest;
+import com.campusconnect.dto.request.FieldSelection;
 import com.campusconnect.dto.response.EventResponse;
 import com.campusconnect.entity.Event;
 import com.campusconnect.entity.EventRegistration;
 import com.campusconnect.entity.User;
+import com.campusconnect.event.EventDeletedEvent;
+import com.campusconnect.event.EventRegisteredEvent;
+import com.campusconnect.event.EventSavedEvent;
+import com.campusconnect.event.EventUnregisteredEvent;
 import com.campusconnect.exception.BadRequestException;
 import com.campusconnect.exception.BusinessLogicException;
 import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.logging.SampledLogger;
 import com.campusconnect.repository.EventRegistrationRepository;
 import com.campusconnect.repository.EventRepository;
+import com.campusconnect.repository.SparseFieldQuery;
 import com.campusconnect.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Event entity operations
@@ -34,17 +55,47 @@ public class EventService {
 
     private static final Logger logger = LoggerFactory.getLogger(EventService.class);
 
+    // Read paths run on every page view, so their debug output is throttled
+    private static final SampledLogger sampledLogger = SampledLogger.of(logger, 20);
+
+    // Response fields a sparse-fieldset page fills from something other than a same-named column
+    private static final Set<String> DERIVED_FIELDS = Set.of(
+            "tags", "organizer", "isRegistered", "availableSpots", "isRegistrationOpen", "isPastEvent");
+    private static final Map<String, List<String>> COMPUTED_FROM = Map.of(
+            "availableSpots", List.of("maxAttendees", "currentAttendees"),
+            "isRegistrationOpen", List.of("registrationDeadline"),
+            "isPastEvent", List.of("eventDate"));
+    // Organizer properties by the mapped attributes they are read from; the name is built from two of them
+    private static final Map<String, List<String>> ORGANIZER_ATTRIBUTES = Map.of(
+            "id", List.of("organizer.id"), "name", List.of("organizer.firstName", "organizer.lastName"),
+            "email", List.of("organizer.email"));
+
     private final EventRepository eventRepository;
     private final EventRegistrationRepository eventRegistrationRepository;
     private final UserRepository userRepository;
+    private final LiveUpdateService liveUpdateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatisticsService statisticsService;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final int maxBatchIds;
 
     @Autowired
     public EventService(EventRepository eventRepository,
                        EventRegistrationRepository eventRegistrationRepository,
-                       UserRepository userRepository) {
+                       UserRepository userRepository,
+                       LiveUpdateService liveUpdateService,
+                       ApplicationEventPublisher eventPublisher,
+                       StatisticsService statisticsService,
+                       SparseFieldQuery sparseFieldQuery,
+                       @Value("${app.batch.max-ids:100}") int maxBatchIds) {
         this.eventRepository = eventRepository;
         this.eventRegistrationRepository = eventRegistrationRepository;
         this.userRepository = userRepository;
+        this.liveUpdateService = liveUpdateService;
+        this.eventPublisher = eventPublisher;
+        this.statisticsService = statisticsService;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.maxBatchIds = maxBatchIds;
         logger.info("EventService initialized successfully");
     }
 
@@ -53,42 +104,38 @@ public class EventService {
      */
     public EventResponse createEvent(EventCreateRequest request, Long organizerId) {
         logger.info("Creating new event: {} by organizer ID: {}", request.getTitle(), organizerId);
-        
-        try {
-            User organizer = userRepository.findById(organizerId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", organizerId));
 
-            // Validate event times
-            if (request.getEndTime().isBefore(request.getStartTime())) {
-                throw new BadRequestException("End time must be after start time");
-            }
+        User organizer = userRepository.findById(organizerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", organizerId));
 
-            Event event = new Event();
-            event.setTitle(request.getTitle());
-            event.setDescription(request.getDescription());
-            event.setLongDescription(request.getLongDescription());
-            event.setCategory(request.getCategory());
-            event.setEventDate(request.getEventDate());
-            event.setStartTime(request.getStartTime());
-            event.setEndTime(request.getEndTime());
-            event.setLocation(request.getLocation());
-            event.setMaxAttendees(request.getMaxAttendees());
-            event.setOrganizer(organizer);
-            event.setRequirements(request.getRequirements());
-            event.setTags(request.getTags());
-            event.setIsFeatured(request.getIsFeatured());
-            event.setRegistrationDeadline(request.getRegistrationDeadline());
-            event.setIsActive(true);
-
-            Event savedEvent = eventRepository.save(event);
-            logger.info("Successfully created event with ID: {}", savedEvent.getId());
-            
-            return convertToEventResponse(savedEvent, null);
-            
-        } catch (Exception e) {
-            logger.error("Error creating event: {}", request.getTitle(), e);
-            throw e;
+        // Validate event times
+        if (request.getEndTime().isBefore(request.getStartTime())) {
+            throw new BadRequestException("End time must be after start time");
         }
+
+        Event event = new Event();
+        event.setTitle(request.getTitle());
+        event.setDescription(request.getDescription());
+        event.setLongDescription(request.getLongDescription());
+        event.setCategory(request.getCategory());
+        event.setEventDate(request.getEventDate());
+        event.setStartTime(request.getStartTime());
+        event.setEndTime(request.getEndTime());
+        event.setLocation(request.getLocation());
+        event.setMaxAttendees(request.getMaxAttendees());
+        event.setOrganizer(organizer);
+        event.setRequirements(request.getRequirements());
+        event.setTags(request.getTags());
+        event.setIsFeatured(request.getIsFeatured());
+        event.setRegistrationDeadline(request.getRegistrationDeadline());
+        event.setIsActive(true);
+
+        Event savedEvent = eventRepository.save(event);
+        statisticsService.recordEvent(savedEvent.getCategory(), 1);
+        eventPublisher.publishEvent(new EventSavedEvent(savedEvent, List.of()));
+        logger.info("Successfully created event with ID: {}", savedEvent.getId());
+        
+        return convertToEventResponse(savedEvent, null);
     }
 
     /**
@@ -96,18 +143,12 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public EventResponse getEventById(Long eventId, Long userId) {
-        logger.debug("Fetching event with ID: {}", eventId);
+        sampledLogger.debug("Fetching event with ID: {}", eventId);
+
+        Event event = eventRepository.findByIdAndIsActive(eventId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
         
-        try {
-            Event event = eventRepository.findByIdAndIsActive(eventId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-            
-            return convertToEventResponse(event, userId);
-            
-        } catch (Exception e) {
-            logger.error("Error fetching event with ID: {}", eventId, e);
-            throw e;
-        }
+        return convertToEventResponse(event, userId);
     }
 
     /**
@@ -115,16 +156,41 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<EventResponse> getAllEvents(Pageable pageable, Long userId) {
-        logger.debug("Fetching all events with pagination");
-        
-        try {
-            Page<Event> events = eventRepository.findByIsActive(true, pageable);
-            return events.map(event -> convertToEventResponse(event, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching all events", e);
-            throw e;
+        sampledLogger.debug("Fetching all events with pagination");
+
+        Page<Event> events = eventRepository.findByIsActive(true, pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
+    }
+
+    /**
+     * Get several events by ID in one round trip
+     *
+     * Returns active events in the order requested and skips IDs that do not resolve. Organizers, tags
+     * and registrations are loaded for the whole set at once rather than per event.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByIds(Collection<Long> eventIds, Long userId) {
+        List<Long> ids = eventIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > maxBatchIds) {
+            throw new BadRequestException("At most " + maxBatchIds + " event IDs can be requested at once");
         }
+        sampledLogger.debug("Fetching {} events by ID", ids.size());
+
+        Map<Long, Event> events = eventRepository.findActiveWithOrganizerByIdIn(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Long> found = ids.stream().filter(events::containsKey).toList();
+
+        Map<Long, List<String>> tags = sparseFieldQuery.findElements(Event.class, "tags", found);
+        Set<Long> registered = userId != null && !found.isEmpty()
+                ? new HashSet<>(eventRegistrationRepository.findRegisteredEventIds(userId, found)) : Set.of();
+
+        return found.stream().map(id -> {
+            EventResponse response = buildEventResponse(events.get(id), tags.getOrDefault(id, List.of()));
+            if (userId != null) {
+                response.setIsRegistered(registered.contains(id));
+            }
+            return response;
+        }).toList();
     }
 
     /**
@@ -132,16 +198,10 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<EventResponse> getEventsByCategory(String category, Pageable pageable, Long userId) {
-        logger.debug("Fetching events by category: {}", category);
-        
-        try {
-            Page<Event> events = eventRepository.findByCategoryAndIsActive(category, true, pageable);
-            return events.map(event -> convertToEventResponse(event, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching events by category: {}", category, e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching events by category: {}", category);
+
+        Page<Event> events = eventRepository.findByCategoryAndIsActive(category, true, pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
     }
 
     /**
@@ -149,16 +209,37 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<EventResponse> getFeaturedEvents(Pageable pageable, Long userId) {
-        logger.debug("Fetching featured events");
-        
-        try {
-            Page<Event> events = eventRepository.findByIsFeaturedAndIsActive(true, true, pageable);
-            return events.map(event -> convertToEventResponse(event, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching featured events", e);
-            throw e;
+        sampledLogger.debug("Fetching featured events");
+
+        Page<Event> events = eventRepository.findByIsFeaturedAndIsActive(true, true, pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
+    }
+
+    /**
+     * Get all events, loading only the selected fields
+     */
+    @Transactional(readOnly = true)
+    public Page<EventResponse> getAllEvents(Pageable pageable, Long userId, FieldSelection fields) {
+        if (fields.isFull()) {
+            return getAllEvents(pageable, userId);
         }
+        sampledLogger.debug("Fetching all events with fields {}", fields.getFields());
+
+        return findEventFields(activeEvents(), pageable, userId, fields);
+    }
+
+    /**
+     * Get featured events, loading only the selected fields
+     */
+    @Transactional(readOnly = true)
+    public Page<EventResponse> getFeaturedEvents(Pageable pageable, Long userId, FieldSelection fields) {
+        if (fields.isFull()) {
+            return getFeaturedEvents(pageable, userId);
+        }
+        sampledLogger.debug("Fetching featured events with fields {}", fields.getFields());
+
+        Specification<Event> featured = (root, query, cb) -> cb.equal(root.get("isFeatured"), true);
+        return findEventFields(activeEvents().and(featured), pageable, userId, fields);
     }
 
     /**
@@ -166,16 +247,10 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<EventResponse> searchEvents(String searchTerm, Pageable pageable, Long userId) {
-        logger.debug("Searching events with term: '{}'", searchTerm);
-        
-        try {
-            Page<Event> events = eventRepository.searchEvents(searchTerm, true, pageable);
-            return events.map(event -> convertToEventResponse(event, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error searching events with term: '{}'", searchTerm, e);
-            throw e;
-        }
+        sampledLogger.debug("Searching events with term: '{}'", searchTerm);
+
+        Page<Event> events = eventRepository.searchEvents(searchTerm, true, pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
     }
 
     /**
@@ -183,46 +258,43 @@ public class EventService {
      */
     public void registerForEvent(Long eventId, Long userId) {
         logger.info("Registering user ID: {} for event ID: {}", userId, eventId);
+
+        Event event = eventRepository.findByIdAndIsActive(eventId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
         
-        try {
-            Event event = eventRepository.findByIdAndIsActive(eventId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-            
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
-            // Check if already registered
-            if (eventRegistrationRepository.existsByUserAndEvent(user, event)) {
-                throw new BusinessLogicException("User is already registered for this event");
-            }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-            // Check if event is full
-            if (event.isFull()) {
-                throw new BusinessLogicException("Event is full, no more registrations allowed");
-            }
+        // Check if already registered
+        if (eventRegistrationRepository.existsByUserAndEvent(user, event)) {
+            throw new BusinessLogicException("User is already registered for this event");
+        }
 
-            // Check registration deadline
-            if (!event.isRegistrationOpen()) {
-                throw new BusinessLogicException("Registration deadline has passed");
-            }
+        // Check if event is full
+        if (event.isFull()) {
+            throw new BusinessLogicException("Event is full, no more registrations allowed");
+        }
 
-            // Check if event is in the past
-            if (event.isPastEvent()) {
-                throw new BusinessLogicException("Cannot register for past events");
-            }
+        // Check registration deadline
+        if (!event.isRegistrationOpen()) {
+            throw new BusinessLogicException("Registration deadline has passed");
+        }
 
-            EventRegistration registration = new EventRegistration(user, event);
-            eventRegistrationRepository.save(registration);
-            
-            // Update attendee count
-            eventRepository.incrementAttendeeCount(eventId);
-            
-            logger.info("Successfully registered user ID: {} for event ID: {}", userId, eventId);
-            
-        } catch (Exception e) {
-            logger.error("Error registering user ID: {} for event ID: {}", userId, eventId, e);
-            throw e;
+        // Check if event is in the past
+        if (event.isPastEvent()) {
+            throw new BusinessLogicException("Cannot register for past events");
         }
+
+        EventRegistration registration = new EventRegistration(user, event);
+        eventRegistrationRepository.save(registration);
+        
+        // Update attendee count
+        eventRepository.incrementAttendeeCount(eventId);
+        liveUpdateService.eventChanged(eventId);
+        eventPublisher.publishEvent(new EventRegisteredEvent(eventId, userId));
+        statisticsService.recordRegistration(1);
+        
+        logger.info("Successfully registered user ID: {} for event ID: {}", userId, eventId);
     }
 
     /**
@@ -230,28 +302,25 @@ public class EventService {
      */
     public void unregisterFromEvent(Long eventId, Long userId) {
         logger.info("Unregistering user ID: {} from event ID: {}", userId, eventId);
+
+        Event event = eventRepository.findByIdAndIsActive(eventId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
         
-        try {
-            Event event = eventRepository.findByIdAndIsActive(eventId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-            
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
-            EventRegistration registration = eventRegistrationRepository.findByUserAndEvent(user, event)
-                    .orElseThrow(() -> new BusinessLogicException("User is not registered for this event"));
-
-            eventRegistrationRepository.delete(registration);
-            
-            // Update attendee count
-            eventRepository.decrementAttendeeCount(eventId);
-            
-            logger.info("Successfully unregistered user ID: {} from event ID: {}", userId, eventId);
-            
-        } catch (Exception e) {
-            logger.error("Error unregistering user ID: {} from event ID: {}", userId, eventId, e);
-            throw e;
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        EventRegistration registration = eventRegistrationRepository.findByUserAndEvent(user, event)
+                .orElseThrow(() -> new BusinessLogicException("User is not registered for this event"));
+
+        eventRegistrationRepository.delete(registration);
+        
+        // Update attendee count
+        eventRepository.decrementAttendeeCount(eventId);
+        liveUpdateService.eventChanged(eventId);
+        statisticsService.recordRegistration(-1);
+        eventPublisher.publishEvent(new EventUnregisteredEvent(eventId, userId));
+        
+        logger.info("Successfully unregistered user ID: {} from event ID: {}", userId, eventId);
     }
 
     /**
@@ -259,16 +328,10 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<EventResponse> getEventsRegisteredByUser(Long userId, Pageable pageable) {
-        logger.debug("Fetching events registered by user ID: {}", userId);
-        
-        try {
-            Page<Event> events = eventRepository.findEventsByUserRegistration(userId, true, pageable);
-            return events.map(event -> convertToEventResponse(event, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching events registered by user ID: {}", userId, e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching events registered by user ID: {}", userId);
+
+        Page<Event> events = eventRepository.findEventsByUserRegistration(userId, true, pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
     }
 
     /**
@@ -276,44 +339,46 @@ public class EventService {
      */
     public EventResponse updateEvent(Long eventId, EventCreateRequest request, Long organizerId) {
         logger.info("Updating event ID: {} by organizer ID: {}", eventId, organizerId);
-        
-        try {
-            Event event = eventRepository.findByIdAndIsActive(eventId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-
-            // Check if user is the organizer or admin
-            if (!event.getOrganizer().getId().equals(organizerId)) {
-                User user = userRepository.findById(organizerId)
-                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", organizerId));
-                if (!user.isAdmin()) {
-                    throw new BusinessLogicException("Only the organizer or admin can update this event");
-                }
+
+        Event event = eventRepository.findByIdAndIsActive(eventId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        // Check if user is the organizer or admin
+        if (!event.getOrganizer().getId().equals(organizerId)) {
+            User user = userRepository.findById(organizerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", organizerId));
+            if (!user.isAdmin()) {
+                throw new BusinessLogicException("Only the organizer or admin can update this event");
             }
+        }
 
-            // Update event fields
-            if (request.getTitle() != null) event.setTitle(request.getTitle());
-            if (request.getDescription() != null) event.setDescription(request.getDescription());
-            if (request.getLongDescription() != null) event.setLongDescription(request.getLongDescription());
-            if (request.getCategory() != null) event.setCategory(request.getCategory());
-            if (request.getEventDate() != null) event.setEventDate(request.getEventDate());
-            if (request.getStartTime() != null) event.setStartTime(request.getStartTime());
-            if (request.getEndTime() != null) event.setEndTime(request.getEndTime());
-            if (request.getLocation() != null) event.setLocation(request.getLocation());
-            if (request.getMaxAttendees() != null) event.setMaxAttendees(request.getMaxAttendees());
-            if (request.getRequirements() != null) event.setRequirements(request.getRequirements());
-            if (request.getTags() != null) event.setTags(request.getTags());
-            if (request.getIsFeatured() != null) event.setIsFeatured(request.getIsFeatured());
-            if (request.getRegistrationDeadline() != null) event.setRegistrationDeadline(request.getRegistrationDeadline());
-
-            Event updatedEvent = eventRepository.save(event);
-            logger.info("Successfully updated event ID: {}", eventId);
-            
-            return convertToEventResponse(updatedEvent, organizerId);
-            
-        } catch (Exception e) {
-            logger.error("Error updating event ID: {}", eventId, e);
-            throw e;
+        String previousCategory = event.getCategory();
+        List<String> previousTags = event.getTags() != null ? new ArrayList<>(event.getTags()) : List.of();
+
+        // Update event fields
+        if (request.getTitle() != null) event.setTitle(request.getTitle());
+        if (request.getDescription() != null) event.setDescription(request.getDescription());
+        if (request.getLongDescription() != null) event.setLongDescription(request.getLongDescription());
+        if (request.getCategory() != null) event.setCategory(request.getCategory());
+        if (request.getEventDate() != null) event.setEventDate(request.getEventDate());
+        if (request.getStartTime() != null) event.setStartTime(request.getStartTime());
+        if (request.getEndTime() != null) event.setEndTime(request.getEndTime());
+        if (request.getLocation() != null) event.setLocation(request.getLocation());
+        if (request.getMaxAttendees() != null) event.setMaxAttendees(request.getMaxAttendees());
+        if (request.getRequirements() != null) event.setRequirements(request.getRequirements());
+        if (request.getTags() != null) event.setTags(request.getTags());
+        if (request.getIsFeatured() != null) event.setIsFeatured(request.getIsFeatured());
+        if (request.getRegistrationDeadline() != null) event.setRegistrationDeadline(request.getRegistrationDeadline());
+
+        Event updatedEvent = eventRepository.save(event);
+        if (!updatedEvent.getCategory().equals(previousCategory)) {
+            statisticsService.recordEvent(previousCategory, -1);
+            statisticsService.recordEvent(updatedEvent.getCategory(), 1);
         }
+        eventPublisher.publishEvent(new EventSavedEvent(updatedEvent, previousTags));
+        logger.info("Successfully updated event ID: {}", eventId);
+        
+        return convertToEventResponse(updatedEvent, organizerId);
     }
 
     /**
@@ -321,29 +386,25 @@ public class EventService {
      */
     public void deleteEvent(Long eventId, Long organizerId) {
         logger.info("Deleting event ID: {} by organizer ID: {}", eventId, organizerId);
-        
-        try {
-            Event event = eventRepository.findByIdAndIsActive(eventId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-
-            // Check if user is the organizer or admin
-            if (!event.getOrganizer().getId().equals(organizerId)) {
-                User user = userRepository.findById(organizerId)
-                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", organizerId));
-                if (!user.isAdmin()) {
-                    throw new BusinessLogicException("Only the organizer or admin can delete this event");
-                }
-            }
 
-            event.setIsActive(false);
-            eventRepository.save(event);
-            
-            logger.info("Successfully deleted event ID: {}", eventId);
-            
-        } catch (Exception e) {
-            logger.error("Error deleting event ID: {}", eventId, e);
-            throw e;
+        Event event = eventRepository.findByIdAndIsActive(eventId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        // Check if user is the organizer or admin
+        if (!event.getOrganizer().getId().equals(organizerId)) {
+            User user = userRepository.findById(organizerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", organizerId));
+            if (!user.isAdmin()) {
+                throw new BusinessLogicException("Only the organizer or admin can delete this event");
+            }
         }
+
+        event.setIsActive(false);
+        eventRepository.save(event);
+        statisticsService.recordEvent(event.getCategory(), -1);
+        eventPublisher.publishEvent(new EventDeletedEvent(eventId, event.getOrganizer().getId(), event.getTags()));
+        
+        logger.info("Successfully deleted event ID: {}", eventId);
     }
 
     /**
@@ -351,17 +412,38 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<EventResponse> getUpcomingEvents(Pageable pageable, Long userId) {
-        logger.debug("Fetching upcoming events");
-        
-        try {
-            Page<Event> events = eventRepository.findByEventDateGreaterThanEqualAndIsActive(
-                    LocalDate.now(), true, pageable);
-            return events.map(event -> convertToEventResponse(event, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching upcoming events", e);
-            throw e;
+        sampledLogger.debug("Fetching upcoming events");
+
+        Page<Event> events = eventRepository.findByEventDateGreaterThanEqualAndIsActive(
+                LocalDate.now(), true, pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
+    }
+
+    /**
+     * Get upcoming featured events
+     */
+    @Transactional(readOnly = true)
+    public Page<EventResponse> getUpcomingFeaturedEvents(Pageable pageable, Long userId) {
+        sampledLogger.debug("Fetching upcoming featured events");
+
+        Page<Event> events = eventRepository.findByIsFeaturedAndIsActiveAndEventDateGreaterThanEqual(
+                true, true, LocalDate.now(), pageable);
+        return events.map(event -> convertToEventResponse(event, userId));
+    }
+
+    /**
+     * Get upcoming events, loading only the selected fields
+     */
+    @Transactional(readOnly = true)
+    public Page<EventResponse> getUpcomingEvents(Pageable pageable, Long userId, FieldSelection fields) {
+        if (fields.isFull()) {
+            return getUpcomingEvents(pageable, userId);
         }
+        sampledLogger.debug("Fetching upcoming events with fields {}", fields.getFields());
+
+        LocalDate today = LocalDate.now();
+        Specification<Event> upcoming = (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("eventDate"), today);
+        return findEventFields(activeEvents().and(upcoming), pageable, userId, fields);
     }
 
     /**
@@ -369,20 +451,112 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public List<String> getEventCategories() {
-        logger.debug("Fetching event categories");
-        
-        try {
-            return eventRepository.findAllCategories(true);
-        } catch (Exception e) {
-            logger.error("Error fetching event categories", e);
-            throw e;
+        sampledLogger.debug("Fetching event categories");
+
+        return eventRepository.findAllCategories(true);
+    }
+
+    private static Specification<Event> activeEvents() {
+        return (root, query, cb) -> cb.equal(root.get("isActive"), true);
+    }
+
+    /**
+     * Build a page of EventResponse from the selected columns only
+     *
+     * Scalar fields come from one query naming just their columns, tags from one query per page and
+     * isRegistered from one lookup per page. Computed fields are evaluated on a detached Event holding
+     * the columns they read, so they follow the entity's own rules.
+     */
+    private Page<EventResponse> findEventFields(Specification<Event> where, Pageable pageable, Long userId,
+                                                FieldSelection fields) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : fields.getFields()) {
+            if (!DERIVED_FIELDS.contains(field)) {
+                columns.add(field);
+            }
+            columns.addAll(COMPUTED_FROM.getOrDefault(field, List.of()));
         }
+        Set<String> organizerFields = fields.getNestedFields("organizer");
+        for (String organizerField : organizerFields) {
+            columns.addAll(ORGANIZER_ATTRIBUTES.get(organizerField));
+        }
+
+        Page<Map<String, Object>> rows = sparseFieldQuery.findPage(Event.class, where, columns, pageable);
+        List<Long> ids = rows.getContent().stream().map(row -> (Long) row.get("id")).toList();
+        Map<Long, List<String>> tags = fields.includes("tags")
+                ? sparseFieldQuery.findElements(Event.class, "tags", ids) : Map.of();
+        Set<Long> registered = userId != null && fields.includes("isRegistered") && !ids.isEmpty()
+                ? new HashSet<>(eventRegistrationRepository.findRegisteredEventIds(userId, ids)) : Set.of();
+
+        return rows.map(row -> {
+            Long id = (Long) row.get("id");
+            EventResponse response = new EventResponse();
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(response);
+            Event event = new Event();
+            BeanWrapper eventWrapper = PropertyAccessorFactory.forBeanPropertyAccess(event);
+            for (String column : columns) {
+                if (column.indexOf('.') < 0) {
+                    eventWrapper.setPropertyValue(column, row.get(column));
+                    if (fields.includes(column)) {
+                        wrapper.setPropertyValue(column, row.get(column));
+                    }
+                }
+            }
+            if (fields.includes("tags")) {
+                response.setTags(tags.getOrDefault(id, List.of()));
+            }
+            if (!organizerFields.isEmpty()) {
+                EventResponse.OrganizerInfo organizer = new EventResponse.OrganizerInfo();
+                BeanWrapper organizerWrapper = PropertyAccessorFactory.forBeanPropertyAccess(organizer);
+                for (String organizerField : organizerFields) {
+                    List<String> attributes = ORGANIZER_ATTRIBUTES.get(organizerField);
+                    if (attributes.size() == 1) {
+                        organizerWrapper.setPropertyValue(organizerField, row.get(attributes.get(0)));
+                    }
+                }
+                if (organizerFields.contains("name")) {
+                    organizer.setName(EventResponse.OrganizerInfo.fullName(
+                            (String) row.get("organizer.firstName"), (String) row.get("organizer.lastName")));
+                }
+                response.setOrganizer(organizer);
+            }
+            if (fields.includes("availableSpots")) {
+                response.setAvailableSpots(event.getAvailableSpots());
+            }
+            if (fields.includes("isRegistrationOpen")) {
+                response.setIsRegistrationOpen(event.isRegistrationOpen());
+            }
+            if (fields.includes("isPastEvent")) {
+                response.setIsPastEvent(event.isPastEvent());
+            }
+            if (userId != null) {
+                response.setIsRegistered(registered.contains(id));
+            }
+            return response;
+        });
     }
 
     /**
      * Convert Event entity to EventResponse DTO
      */
     private EventResponse convertToEventResponse(Event event, Long userId) {
+        EventResponse response = buildEventResponse(event, event.getTags());
+
+        // Set registration status for current user
+        if (userId != null) {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user != null) {
+                response.setIsRegistered(eventRegistrationRepository.existsByUserAndEvent(user, event));
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Build the EventResponse fields that come from the event itself, with already-loaded tags
+     */
+    private EventResponse buildEventResponse(Event event, List<String> tags) {
         EventResponse response = new EventResponse();
         response.setId(event.getId());
         response.setTitle(event.getTitle());
@@ -396,7 +570,7 @@ public class EventService {
         response.setMaxAttendees(event.getMaxAttendees());
         response.setCurrentAttendees(event.getCurrentAttendees());
         response.setRequirements(event.getRequirements());
-        response.setTags(event.getTags());
+        response.setTags(tags);
         response.setIsFeatured(event.getIsFeatured());
         response.setIsActive(event.getIsActive());
         response.setRegistrationDeadline(event.getRegistrationDeadline());
@@ -416,14 +590,6 @@ public class EventService {
         response.setIsRegistrationOpen(event.isRegistrationOpen());
         response.setIsPastEvent(event.isPastEvent());
 
-        // Set registration status for current user
-        if (userId != null) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null) {
-                response.setIsRegistered(eventRegistrationRepository.existsByUserAndEvent(user, event));
-            }
-        }
-
         return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.campusconnect.service;
+
+import com.campusconnect.config.EnvironmentConfig;
+import com.campusconnect.event.FileStoredEvent;
+import com.campusconnect.exception.BadRequestException;
+import com.campusconnect.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Content-addressed file storage under app.file-upload.upload-dir
+ *
+ * An upload is moved from the multipart part to a temporary file, a rename when the part is spooled in
+ * the incoming directory (see UploadConfig), then hashed through one direct buffer and renamed to
+ * <sha-256>.<ext> in a two-level fan-out directory. Identical content is stored
+ * once: the second upload finds its target in place and its temporary copy is dropped. Files are never
+ * rewritten, so an id names the same bytes forever and can be cached as immutable.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class FileStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern ID_PATTERN = Pattern.compile("^([0-9a-f]{64})\\.([a-z]+)$");
+
+    private final Path root;
+    private final Path incoming;
+    private final long maxFileSize;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public FileStorageService(EnvironmentConfig environmentConfig, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        EnvironmentConfig.FileUpload config = environmentConfig.getFileUpload();
+        this.root = Paths.get(config.getUploadDir()).toAbsolutePath().normalize();
+        this.incoming = root.resolve(".incoming");
+        this.maxFileSize = DataSize.parse(config.getMaxFileSize()).toBytes();
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create upload directory " + incoming, e);
+        }
+        logger.info("FileStorageService initialized successfully at {}", root);
+    }
+
+    /**
+     * A file in the store; the id is its hash and extension and doubles as the download path segment
+     */
+    public record StoredFile(String id, FileType type, long size, boolean deduplicated, Path path) {
+
+        /**
+         * The id without its extension, unique per content
+         */
+        public String hash() {
+            return id.substring(0, id.indexOf('.'));
+        }
+    }
+
+    /**
+     * Stream an upload to disk, keeping it only if its content is one of the accepted types
+     */
+    public StoredFile store(MultipartFile file, Set<FileType> accepted) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("Uploaded file is empty");
+        }
+        if (file.getSize() > maxFileSize) {
+            throw new MaxUploadSizeExceededException(maxFileSize);
+        }
+
+        Path temp = null;
+        try {
+            temp = createIncomingFile();
+            // The File overload lets the container move its spooled part; the Path overload always copies
+            file.transferTo(temp.toFile());
+            long size = Files.size(temp);
+            if (size > maxFileSize) {
+                throw new MaxUploadSizeExceededException(maxFileSize);
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer header = ByteBuffer.allocate(FileType.HEADER_LENGTH);
+            hash(temp, digest, header);
+
+            FileType type = FileType.detect(header.flip())
+                    .filter(accepted::contains)
+                    .orElseThrow(() -> new BadRequestException("Unsupported file type; allowed: "
+                            + accepted.stream().map(FileType::getExtension).collect(Collectors.joining(", "))));
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String id = hash + "." + type.getExtension();
+            Path target = locate(id);
+            boolean deduplicated = Files.exists(target);
+            if (!deduplicated) {
+                // Concurrent uploads of the same bytes may both get here; either rename leaves the same content
+                moveIntoPlace(temp, target);
+            }
+
+            logger.info("Stored {} file {} ({} bytes{})", type, hash, size, deduplicated ? ", deduplicated" : "");
+            eventPublisher.publishEvent(new FileStoredEvent(id));
+            return new StoredFile(id, type, size, deduplicated, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store uploaded file", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Look up a stored file by id; malformed ids are reported as missing so paths cannot be probed
+     */
+    public StoredFile resolve(String id) {
+        Matcher matcher = ID_PATTERN.matcher(id);
+        FileType type = matcher.matches() ? FileType.fromExtension(matcher.group(2)).orElse(null) : null;
+        if (type == null) {
+            throw new ResourceNotFoundException("File", "id", id);
+        }
+
+        Path path = locate(id);
+        try {
+            return new StoredFile(id, type, Files.size(path), true, path);
+        } catch (IOException e) {
+            throw new ResourceNotFoundException("File", "id", id);
+        }
+    }
+
+    /**
+     * Hash the file through one direct buffer, capturing the leading bytes for type detection
+     */
+    private void hash(Path path, MessageDigest digest, ByteBuffer header) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            in.read(header, 0);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Directory temporary files are created in, on the same file system as the store
+     */
+    public Path getIncomingDirectory() {
+        return incoming;
+    }
+
+    /**
+     * Path of a stored file or derived file, fanned out by the first two characters of its name
+     */
+    Path locate(String name) {
+        return root.resolve(name.substring(0, 2)).resolve(name);
+    }
+
+    /**
+     * A new empty file on the same file system as the store, so moveIntoPlace can rename it
+     */
+    Path createIncomingFile() throws IOException {
+        return Files.createTempFile(incoming, "upload-", ".part");
+    }
+
+    void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete temporary upload {}", path, e);
+        }
+    }
+}
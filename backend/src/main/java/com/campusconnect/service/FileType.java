@@ -0,0 +1,96 @@
+package com.campusconnect.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * File types accepted by the upload endpoints
+ * The type is read from the file's leading bytes, never from the client's Content-Type or file name,
+ * so a stored file is always served with the media type it really has.
+ *
+ * @author Campus Connect Team
+ */
+public enum FileType {
+    PNG("png", "image/png"),
+    JPEG("jpg", "image/jpeg"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp"),
+    PDF("pdf", "application/pdf");
+
+    /**
+     * Bytes needed to recognize any of the types
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    public static final Set<FileType> IMAGES = EnumSet.of(PNG, JPEG, GIF, WEBP);
+    public static final Set<FileType> ALL = EnumSet.allOf(FileType.class);
+
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] GIF_MAGIC = "GIF8".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF_MAGIC = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP_MAGIC = "WEBP".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+
+    private final String extension;
+    private final String mediaType;
+
+    FileType(String extension, String mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public boolean isImage() {
+        return IMAGES.contains(this);
+    }
+
+    /**
+     * Recognize a file from its first bytes, between position 0 and the buffer's limit
+     */
+    public static Optional<FileType> detect(ByteBuffer header) {
+        byte[] bytes = new byte[Math.min(header.remaining(), HEADER_LENGTH)];
+        header.duplicate().get(bytes);
+
+        if (startsWith(bytes, 0, PNG_MAGIC)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(bytes, 0, JPEG_MAGIC)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(bytes, 0, GIF_MAGIC)) {
+            return Optional.of(GIF);
+        }
+        if (startsWith(bytes, 0, RIFF_MAGIC) && startsWith(bytes, 8, WEBP_MAGIC)) {
+            return Optional.of(WEBP);
+        }
+        if (startsWith(bytes, 0, PDF_MAGIC)) {
+            return Optional.of(PDF);
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<FileType> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(type -> type.extension.equals(extension))
+                .findFirst();
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] magic) {
+        if (bytes.length < offset + magic.length) {
+            return false;
+        }
+        return Arrays.equals(bytes, offset, offset + magic.length, magic, 0, magic.length);
+    }
+}
@@ -0,0 +1,282 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.LeaderboardEntryResponse;
+import com.campusconnect.event.EventRegisteredEvent;
+import com.campusconnect.event.EventUnregisteredEvent;
+import com.campusconnect.event.ProjectCreatedEvent;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectLikedEvent;
+import com.campusconnect.event.ProjectUnlikedEvent;
+import com.campusconnect.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service maintaining user leaderboards in memory
+ *
+ * Each leaderboard (overall and per department) is a ScoreBoard updated from domain events after commit,
+ * so reading the top entries is a list lookup and "my rank" is a logarithmic prefix sum. All boards are
+ * periodically rebuilt from SQL with one aggregate query, which also corrects any drift.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final String SCORES_SQL =
+            "SELECT 'CREATORS' AS board, owner_id AS user_id, COUNT(*) AS score FROM projects WHERE is_active = TRUE GROUP BY owner_id " +
+            "UNION ALL SELECT 'PARTICIPANTS', user_id, COUNT(*) FROM event_registrations GROUP BY user_id " +
+            "UNION ALL SELECT 'LIKED_CREATORS', owner_id, SUM(likes_count) FROM projects WHERE is_active = TRUE GROUP BY owner_id";
+
+    private static final String MEMBERS_SQL =
+            "SELECT id, first_name, last_name, department, avatar_url FROM users WHERE is_active = TRUE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final int topSize;
+
+    private volatile Boards boards;
+
+    @Autowired
+    public LeaderboardService(JdbcTemplate jdbcTemplate,
+                              UserRepository userRepository,
+                              @Value("${app.leaderboards.top-size:100}") int topSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.topSize = topSize;
+        this.boards = new Boards(topSize, new ConcurrentHashMap<>());
+        logger.info("LeaderboardService initialized successfully");
+    }
+
+    /**
+     * Get the top entries of a leaderboard, overall or within a department
+     */
+    public List<LeaderboardEntryResponse> getTop(LeaderboardType type, String department, int limit) {
+        Boards current = boards;
+        ScoreBoard board = current.find(type, department);
+        if (board == null) {
+            return List.of();
+        }
+
+        List<ScoreBoard.Entry> entries = board.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        List<LeaderboardEntryResponse> result = new ArrayList<>(entries.size());
+        int rank = 0;
+        int previousScore = -1;
+        for (int i = 0; i < entries.size(); i++) {
+            ScoreBoard.Entry entry = entries.get(i);
+            if (entry.score != previousScore) {
+                rank = i + 1;
+                previousScore = entry.score;
+            }
+            result.add(toResponse(current.members.get(entry.userId), entry.userId, rank, entry.score));
+        }
+        return result;
+    }
+
+    /**
+     * Get a user's own rank, overall or within their department
+     */
+    public LeaderboardEntryResponse getRank(LeaderboardType type, Long userId, boolean withinDepartment) {
+        Boards current = boards;
+        Member member = member(current, userId);
+        String department = withinDepartment && member != null ? member.department : null;
+        if (withinDepartment && department == null) {
+            return toResponse(member, userId, 0, 0);
+        }
+
+        ScoreBoard board = current.find(type, department);
+        if (board == null) {
+            return toResponse(member, userId, 0, 0);
+        }
+        return toResponse(member, userId, board.rankOf(userId), board.scoreOf(userId));
+    }
+
+    /**
+     * Rebuild every leaderboard from the database and swap them in
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboards.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        try {
+            Map<Long, Member> members = new ConcurrentHashMap<>();
+            jdbcTemplate.query(MEMBERS_SQL, rs -> {
+                Member member = new Member(rs.getString("first_name") + " " + rs.getString("last_name"),
+                        rs.getString("department"), rs.getString("avatar_url"));
+                members.put(rs.getLong("id"), member);
+            });
+
+            Map<LeaderboardType, Map<Long, Integer>> scores = new EnumMap<>(LeaderboardType.class);
+            jdbcTemplate.query(SCORES_SQL, rs -> {
+                long userId = rs.getLong("user_id");
+                if (members.containsKey(userId)) {
+                    scores.computeIfAbsent(LeaderboardType.valueOf(rs.getString("board")), t -> new HashMap<>())
+                            .put(userId, rs.getInt("score"));
+                }
+            });
+
+            Boards rebuilt = new Boards(topSize, members);
+            for (Map.Entry<LeaderboardType, Map<Long, Integer>> board : scores.entrySet()) {
+                rebuilt.load(board.getKey(), board.getValue());
+            }
+
+            boards = rebuilt;
+            logger.debug("Leaderboards rebuilt for {} users", members.size());
+        } catch (Exception e) {
+            logger.error("Error rebuilding leaderboards", e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        record(LeaderboardType.CREATORS, event.getOwnerId(), 1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        record(LeaderboardType.CREATORS, event.getOwnerId(), -1);
+        record(LeaderboardType.LIKED_CREATORS, event.getOwnerId(), -event.getLikesCount());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectLiked(ProjectLikedEvent event) {
+        record(LeaderboardType.LIKED_CREATORS, event.getOwnerId(), 1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectUnliked(ProjectUnlikedEvent event) {
+        record(LeaderboardType.LIKED_CREATORS, event.getOwnerId(), -1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRegistered(EventRegisteredEvent event) {
+        record(LeaderboardType.PARTICIPANTS, event.getUserId(), 1);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventUnregistered(EventUnregisteredEvent event) {
+        record(LeaderboardType.PARTICIPANTS, event.getUserId(), -1);
+    }
+
+    private void record(LeaderboardType type, Long userId, int delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        Boards current = boards;
+        Member member = member(current, userId);
+        if (member == null) {
+            return;
+        }
+
+        current.board(type, null).add(userId, delta);
+        if (member.department != null) {
+            current.board(type, member.department).add(userId, delta);
+        }
+    }
+
+    /**
+     * Find a leaderboard member, loading users created since the last rebuild
+     */
+    private Member member(Boards current, Long userId) {
+        Member member = current.members.get(userId);
+        if (member == null) {
+            member = userRepository.findById(userId)
+                    .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+                    .map(user -> new Member(user.getFullName(), user.getDepartment(), user.getAvatarUrl()))
+                    .orElse(null);
+            if (member != null) {
+                current.members.putIfAbsent(userId, member);
+            }
+        }
+        return member;
+    }
+
+    private LeaderboardEntryResponse toResponse(Member member, Long userId, int rank, int score) {
+        return new LeaderboardEntryResponse(rank, userId,
+                member != null ? member.fullName : null,
+                member != null ? member.department : null,
+                member != null ? member.avatarUrl : null,
+                score);
+    }
+
+    /**
+     * Display details of a ranked user
+     */
+    private static final class Member {
+
+        private final String fullName;
+        private final String department;
+        private final String avatarUrl;
+
+        private Member(String fullName, String department, String avatarUrl) {
+            this.fullName = fullName;
+            this.department = department;
+            this.avatarUrl = avatarUrl;
+        }
+    }
+
+    /**
+     * One generation of leaderboards, replaced wholesale on rebuild
+     */
+    private static final class Boards {
+
+        private final int topSize;
+        private final Map<Long, Member> members;
+        private final Map<LeaderboardType, ScoreBoard> overall = new EnumMap<>(LeaderboardType.class);
+        private final Map<LeaderboardType, Map<String, ScoreBoard>> byDepartment = new EnumMap<>(LeaderboardType.class);
+
+        private Boards(int topSize, Map<Long, Member> members) {
+            this.topSize = topSize;
+            this.members = members;
+            for (LeaderboardType type : LeaderboardType.values()) {
+                overall.put(type, new ScoreBoard(topSize));
+                byDepartment.put(type, new ConcurrentHashMap<>());
+            }
+        }
+
+        private ScoreBoard find(LeaderboardType type, String department) {
+            return department == null ? overall.get(type) : byDepartment.get(type).get(department);
+        }
+
+        private ScoreBoard board(LeaderboardType type, String department) {
+            return department == null
+                    ? overall.get(type)
+                    : byDepartment.get(type).computeIfAbsent(department, d -> new ScoreBoard(topSize));
+        }
+
+        private void load(LeaderboardType type, Map<Long, Integer> scores) {
+            overall.get(type).load(scores);
+
+            Map<String, Map<Long, Integer>> departmentScores = new HashMap<>();
+            scores.forEach((userId, score) -> {
+                String department = members.get(userId).department;
+                if (department != null) {
+                    departmentScores.computeIfAbsent(department, d -> new HashMap<>()).put(userId, score);
+                }
+            });
+            departmentScores.forEach((department, deptScores) -> board(type, department).load(deptScores));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.campusconnect.service;
+
+import com.campusconnect.exception.BadRequestException;
+
+import java.util.Arrays;
+
+/**
+ * Leaderboards maintained by the leaderboard service
+ *
+ * @author Campus Connect Team
+ */
+public enum LeaderboardType {
+    CREATORS("creators", "Projects created"),
+    PARTICIPANTS("participants", "Event registrations"),
+    LIKED_CREATORS("liked-creators", "Likes received on projects");
+
+    private final String slug;
+    private final String scoreLabel;
+
+    LeaderboardType(String slug, String scoreLabel) {
+        this.slug = slug;
+        this.scoreLabel = scoreLabel;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getScoreLabel() {
+        return scoreLabel;
+    }
+
+    /**
+     * Resolve a leaderboard from its URL slug
+     */
+    public static LeaderboardType fromSlug(String slug) {
+        return Arrays.stream(values())
+                .filter(type -> type.slug.equalsIgnoreCase(slug))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown leaderboard: " + slug));
+    }
+}
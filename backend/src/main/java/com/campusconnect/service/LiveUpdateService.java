@@ -0,0 +1,469 @@
+package com.campusconnect.service;
+
+import com.campusconnect.config.EnvironmentConfig;
+import com.campusconnect.dto.response.LiveUpdateResponse;
+import com.campusconnect.dto.response.ProjectCommentResponse;
+import com.campusconnect.exception.BadRequestException;
+import com.campusconnect.repository.EventRepository;
+import com.campusconnect.repository.EventRepository.EventCounters;
+import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.repository.ProjectRepository.ProjectCounters;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service that fans out live project and event counters over Server-Sent Events
+ *
+ * Changes are only recorded as dirty entity IDs; a single flush thread turns them into at most one
+ * push per entity per coalescing window, reading the current counters with one query per entity type.
+ * Each subscriber has a bounded buffer drained by a small sender pool, and a subscriber whose buffer
+ * overflows is disconnected rather than slowing everyone else down. Idle streams hold no thread.
+ *
+ * A send to a client that stopped reading blocks its sender thread until Tomcat's write timeout. A send
+ * blocked longer than send-timeout-ms drops its subscriber and adds a sender thread for as long as the
+ * send stays blocked, so the other streams keep their full pool. Only the thread draining a subscriber
+ * ever touches its emitter, so closing a stream never waits on a blocked send either.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class LiveUpdateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateService.class);
+
+    private static final String PROJECT = "project";
+    private static final String EVENT = "event";
+    private static final int MAX_COMMENTS_PER_PUSH = 20;
+
+    private final ProjectRepository projectRepository;
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final EnvironmentConfig.LiveUpdates config;
+
+    private final Map<String, Set<Subscriber>> subscribersByTopic = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyProjects = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyEvents = ConcurrentHashMap.newKeySet();
+    private final Map<Long, List<ProjectCommentResponse>> pendingComments = new ConcurrentHashMap<>();
+
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+
+    private ScheduledExecutorService scheduler;
+    private ThreadPoolExecutor senders;
+
+    @Autowired
+    public LiveUpdateService(ProjectRepository projectRepository,
+                             EventRepository eventRepository,
+                             ObjectMapper objectMapper,
+                             EnvironmentConfig environmentConfig) {
+        this.projectRepository = projectRepository;
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.config = environmentConfig.getLiveUpdates();
+        logger.info("LiveUpdateService initialized successfully");
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger senderCount = new AtomicInteger();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "live-update-flush"));
+        senders = new ThreadPoolExecutor(config.getSenderThreads(), config.getSenderThreads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                r -> daemon(r, "live-update-sender-" + senderCount.incrementAndGet()));
+
+        long window = config.getCoalesceWindowMs();
+        long heartbeatInterval = config.getHeartbeatIntervalMs();
+        long stallCheckInterval = Math.max(100, config.getSendTimeoutMs() / 4);
+        scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::dropStalledSubscribers, stallCheckInterval, stallCheckInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        // Let the senders complete the closed streams, but do not wait on blocked sends
+        senders.shutdown();
+        if (!senders.awaitTermination(1, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+    }
+
+    /**
+     * Open a stream of live updates for the given projects and events
+     * The current counters are sent immediately so the client starts in sync.
+     */
+    public SseEmitter subscribe(Collection<Long> projectIds, Collection<Long> eventIds) {
+        Set<Long> projects = projectIds != null ? new LinkedHashSet<>(projectIds) : Set.of();
+        Set<Long> events = eventIds != null ? new LinkedHashSet<>(eventIds) : Set.of();
+
+        int topicCount = projects.size() + events.size();
+        if (topicCount == 0) {
+            throw new BadRequestException("At least one project or event ID is required");
+        }
+        if (topicCount > config.getMaxTopicsPerStream()) {
+            throw new BadRequestException("A stream can follow at most " + config.getMaxTopicsPerStream() + " projects and events");
+        }
+
+        Set<String> topics = new HashSet<>();
+        projects.forEach(id -> topics.add(topic(PROJECT, id)));
+        events.forEach(id -> topics.add(topic(EVENT, id)));
+
+        SseEmitter emitter = createEmitter(config.getStreamTimeoutMs());
+        // Room for the initial sync on top of the usual buffer, so a stream is not dropped as slow before it
+        // has been sent anything
+        Subscriber subscriber = new Subscriber(emitter, topics, topicCount + config.getSubscriberBufferSize());
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        register(subscriber);
+
+        if (!projects.isEmpty()) {
+            for (ProjectCounters counters : projectRepository.findCountersByIdIn(projects)) {
+                subscriber.enqueue(toPayload(toUpdate(counters, null)));
+            }
+        }
+        if (!events.isEmpty()) {
+            for (EventCounters counters : eventRepository.findCountersByIdIn(events)) {
+                subscriber.enqueue(toPayload(toUpdate(counters)));
+            }
+        }
+
+        logger.debug("Live update subscriber opened for {} topics ({} open streams)", topics.size(), subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Record that a project's like or comment counters changed
+     */
+    public void projectChanged(Long projectId) {
+        // Deferred until commit, so pushed counters are never ahead of the database
+        TransactionHooks.afterCommit(() -> {
+            if (subscribersByTopic.containsKey(topic(PROJECT, projectId))) {
+                dirtyProjects.add(projectId);
+            }
+        });
+    }
+
+    /**
+     * Record that an event's attendee count changed
+     */
+    public void eventChanged(Long eventId) {
+        TransactionHooks.afterCommit(() -> {
+            if (subscribersByTopic.containsKey(topic(EVENT, eventId))) {
+                dirtyEvents.add(eventId);
+            }
+        });
+    }
+
+    /**
+     * Record a new comment on a project, pushed together with the project's counters
+     */
+    public void commentPosted(Long projectId, ProjectCommentResponse comment) {
+        TransactionHooks.afterCommit(() -> {
+            if (!subscribersByTopic.containsKey(topic(PROJECT, projectId))) {
+                return;
+            }
+            pendingComments.compute(projectId, (id, comments) -> {
+                List<ProjectCommentResponse> list = comments != null ? comments : new ArrayList<>();
+                if (list.size() < MAX_COMMENTS_PER_PUSH) {
+                    list.add(comment);
+                }
+                return list;
+            });
+            dirtyProjects.add(projectId);
+        });
+    }
+
+    /**
+     * Push one coalesced update per dirty entity
+     */
+    private void flush() {
+        try {
+            Set<Long> projects = drain(dirtyProjects);
+            if (!projects.isEmpty()) {
+                for (ProjectCounters counters : projectRepository.findCountersByIdIn(projects)) {
+                    List<ProjectCommentResponse> comments = pendingComments.remove(counters.getId());
+                    publish(topic(PROJECT, counters.getId()), toUpdate(counters, comments));
+                }
+            }
+
+            Set<Long> events = drain(dirtyEvents);
+            if (!events.isEmpty()) {
+                for (EventCounters counters : eventRepository.findCountersByIdIn(events)) {
+                    publish(topic(EVENT, counters.getId()), toUpdate(counters));
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error flushing live updates", e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        long idleSince = System.currentTimeMillis() - config.getHeartbeatIntervalMs();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.lastSentAt < idleSince) {
+                subscriber.enqueue(heartbeat);
+            }
+        }
+    }
+
+    /**
+     * Drop subscribers whose current send has been blocked for longer than the send timeout
+     */
+    private void dropStalledSubscribers() {
+        long stalledBefore = System.currentTimeMillis() - config.getSendTimeoutMs();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt.get();
+            if (startedAt > 0 && startedAt < stalledBefore
+                    && subscriber.sendStartedAt.compareAndSet(startedAt, Subscriber.STALLED)) {
+                logger.warn("Dropping live update subscriber whose send has been blocked for over {} ms",
+                        config.getSendTimeoutMs());
+                subscriber.close();
+                resizeSenders(1);
+            }
+        }
+    }
+
+    /**
+     * Add or remove a sender thread, keeping the unblocked threads at the configured count
+     */
+    private void resizeSenders(int delta) {
+        synchronized (senders) {
+            if (delta > 0) {
+                senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+                senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+            } else {
+                senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+                senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private void publish(String topic, LiveUpdateResponse update) {
+        Set<Subscriber> topicSubscribers = subscribersByTopic.get(topic);
+        if (topicSubscribers == null || topicSubscribers.isEmpty()) {
+            return;
+        }
+
+        // Serialize once and hand the same frame to every subscriber
+        Set<DataWithMediaType> payload = toPayload(update);
+        for (Subscriber subscriber : topicSubscribers) {
+            subscriber.enqueue(payload);
+        }
+    }
+
+    private Set<DataWithMediaType> toPayload(LiveUpdateResponse update) {
+        try {
+            return SseEmitter.event()
+                    .name(update.getType())
+                    .data(objectMapper.writeValueAsString(update), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live update " + update, e);
+        }
+    }
+
+    private LiveUpdateResponse toUpdate(ProjectCounters counters, List<ProjectCommentResponse> comments) {
+        LiveUpdateResponse update = new LiveUpdateResponse(PROJECT, counters.getId());
+        update.setLikesCount(counters.getLikesCount());
+        update.setCommentsCount(counters.getCommentsCount());
+        update.setNewComments(comments);
+        return update;
+    }
+
+    private LiveUpdateResponse toUpdate(EventCounters counters) {
+        LiveUpdateResponse update = new LiveUpdateResponse(EVENT, counters.getId());
+        update.setCurrentAttendees(counters.getCurrentAttendees());
+        update.setMaxAttendees(counters.getMaxAttendees());
+        return update;
+    }
+
+    private void register(Subscriber subscriber) {
+        subscribers.add(subscriber);
+        for (String topic : subscriber.topics) {
+            subscribersByTopic.compute(topic, (key, set) -> {
+                Set<Subscriber> topicSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+                topicSubscribers.add(subscriber);
+                return topicSubscribers;
+            });
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        for (String topic : subscriber.topics) {
+            subscribersByTopic.computeIfPresent(topic, (key, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> dirty) {
+        Set<Long> drained = new HashSet<>();
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * Create the emitter of a new stream
+     */
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private static String topic(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * An open SSE stream with its own bounded send buffer
+     */
+    private final class Subscriber {
+
+        // sendStartedAt value of a send that the stall check gave up on
+        private static final long STALLED = -1;
+
+        private final SseEmitter emitter;
+        private final Set<String> topics;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        // When the send in progress started, 0 when idle
+        private final AtomicLong sendStartedAt = new AtomicLong();
+        private volatile long lastSentAt = System.currentTimeMillis();
+
+        private Subscriber(SseEmitter emitter, Set<String> topics, int bufferSize) {
+            this.emitter = emitter;
+            this.topics = topics;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void enqueue(Set<DataWithMediaType> payload) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(payload)) {
+                logger.warn("Disconnecting slow live update subscriber after {} buffered updates", buffer.size());
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Send what is buffered, or complete the emitter once the subscriber is closed
+         */
+        private void drain() {
+            try {
+                Set<DataWithMediaType> payload;
+                while (!closed.get() && (payload = buffer.poll()) != null) {
+                    send(payload);
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Live update subscriber disconnected: {}", e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (closed.get()) {
+                complete();
+            } else if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(Set<DataWithMediaType> payload) throws IOException {
+            sendStartedAt.set(System.currentTimeMillis());
+            try {
+                emitter.send(payload);
+            } finally {
+                if (sendStartedAt.getAndSet(0) == STALLED) {
+                    // The stall check added a thread for this one; give it back now the send is over
+                    resizeSenders(-1);
+                }
+            }
+            lastSentAt = System.currentTimeMillis();
+        }
+
+        /**
+         * Stop delivering to this subscriber; the emitter is completed by the sender pool
+         */
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            unregister(this);
+            buffer.clear();
+            scheduleDrain();
+        }
+
+        private void complete() {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                logger.debug("Error completing live update stream: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.request.ProjectCommentRequest;
+import com.campusconnect.dto.response.ProjectCommentPageResponse;
+import com.campusconnect.dto.response.ProjectCommentResponse;
+import com.campusconnect.dto.response.UserResponse;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.ProjectComment;
+import com.campusconnect.entity.User;
+import com.campusconnect.entity.UserRole;
+import com.campusconnect.event.CommentPostedEvent;
+import com.campusconnect.exception.BadRequestException;
+import com.campusconnect.exception.BusinessLogicException;
+import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.repository.ProjectCommentRepository;
+import com.campusconnect.repository.ProjectCommentRepository.CommentTreeRow;
+import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for threaded project comments
+ *
+ * @author Campus Connect Team
+ */
+@Service
+@Transactional
+public class ProjectCommentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCommentService.class);
+
+    private static final int MAX_THREADS_PER_PAGE = 50;
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final ProjectCommentRepository projectCommentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final LiveUpdateService liveUpdateService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public ProjectCommentService(ProjectCommentRepository projectCommentRepository,
+                                 ProjectRepository projectRepository,
+                                 UserRepository userRepository,
+                                 LiveUpdateService liveUpdateService,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.projectCommentRepository = projectCommentRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.liveUpdateService = liveUpdateService;
+        this.eventPublisher = eventPublisher;
+        logger.info("ProjectCommentService initialized successfully");
+    }
+
+    /**
+     * Get a page of comment threads for a project
+     * The whole page (threads and nested replies) is loaded with a single query and linked in memory.
+     * @param projectId the project ID
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the number of top-level threads to return
+     */
+    @Transactional(readOnly = true)
+    public ProjectCommentPageResponse getCommentThreads(Long projectId, String cursor, int size) {
+        logger.debug("Fetching comment threads for project ID: {}, cursor: {}", projectId, cursor);
+
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_THREADS_PER_PAGE));
+        LocalDateTime beforeCreatedAt = CURSOR_START;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                beforeCreatedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                beforeId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException | StringIndexOutOfBoundsException e) {
+                throw new BadRequestException("Invalid comment cursor: " + cursor);
+            }
+        }
+
+        // Fetch one extra thread to learn whether another page exists
+        List<CommentTreeRow> rows = projectCommentRepository.findCommentTree(projectId, beforeCreatedAt, beforeId, limit + 1);
+
+        Map<Long, ProjectCommentResponse> byId = new HashMap<>(rows.size() * 2);
+        List<ProjectCommentResponse> threads = new ArrayList<>();
+        for (CommentTreeRow row : rows) {
+            ProjectCommentResponse node = convertToCommentResponse(row, projectId);
+            byId.put(node.getId(), node);
+            if (row.getParentCommentId() == null) {
+                threads.add(node);
+            } else {
+                // Rows are ordered by depth, so the parent has always been linked already
+                ProjectCommentResponse parent = byId.get(row.getParentCommentId());
+                if (parent != null) {
+                    parent.getReplies().add(node);
+                }
+            }
+        }
+        for (ProjectCommentResponse node : byId.values()) {
+            node.setReplyCount(node.getReplies().size());
+        }
+
+        // Threads come back oldest first within the page; present newest first
+        Collections.reverse(threads);
+        boolean hasMore = threads.size() > limit;
+        if (hasMore) {
+            threads = new ArrayList<>(threads.subList(0, limit));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            ProjectCommentResponse last = threads.get(threads.size() - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getId();
+        }
+
+        return new ProjectCommentPageResponse(threads, nextCursor, hasMore);
+    }
+
+    /**
+     * Add a comment or reply to a project
+     */
+    public ProjectCommentResponse addComment(Long projectId, ProjectCommentRequest request, Long userId) {
+        logger.info("Adding comment to project ID: {} by user ID: {}", projectId, userId);
+
+        Project project = projectRepository.findByIdAndIsActive(projectId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        ProjectComment parent = null;
+        if (request.getParentCommentId() != null) {
+            parent = projectCommentRepository.findById(request.getParentCommentId())
+                    .filter(ProjectComment::getIsActive)
+                    .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", request.getParentCommentId()));
+            if (!parent.getProject().getId().equals(projectId)) {
+                throw new BadRequestException("Parent comment belongs to a different project");
+            }
+        }
+
+        ProjectComment comment = new ProjectComment(project, user, request.getContent(), parent);
+        ProjectComment savedComment = projectCommentRepository.save(comment);
+        projectRepository.incrementCommentsCount(projectId);
+
+        ProjectCommentResponse response = convertToCommentResponse(savedComment);
+        liveUpdateService.commentPosted(projectId, response);
+        eventPublisher.publishEvent(new CommentPostedEvent(savedComment.getId(), projectId, userId));
+
+        logger.info("Successfully added comment ID: {} to project ID: {}", savedComment.getId(), projectId);
+        return response;
+    }
+
+    /**
+     * Update a comment's content
+     */
+    public ProjectCommentResponse updateComment(Long projectId, Long commentId, ProjectCommentRequest request, Long userId) {
+        logger.info("Updating comment ID: {} by user ID: {}", commentId, userId);
+
+        ProjectComment comment = findActiveComment(projectId, commentId);
+        if (!comment.getUser().getId().equals(userId)) {
+            throw new BusinessLogicException("Only the comment author can edit this comment");
+        }
+
+        comment.setContent(request.getContent());
+        ProjectComment updatedComment = projectCommentRepository.save(comment);
+
+        logger.info("Successfully updated comment ID: {}", commentId);
+        return convertToCommentResponse(updatedComment);
+    }
+
+    /**
+     * Delete a comment together with its replies
+     */
+    public void deleteComment(Long projectId, Long commentId, Long userId) {
+        logger.info("Deleting comment ID: {} by user ID: {}", commentId, userId);
+
+        ProjectComment comment = findActiveComment(projectId, commentId);
+
+        // Check if user is the author, the project owner or admin
+        if (!comment.getUser().getId().equals(userId) && !comment.getProject().getOwner().getId().equals(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+            if (!user.isAdmin()) {
+                throw new BusinessLogicException("Only the author, project owner or admin can delete this comment");
+            }
+        }
+
+        int removed = projectCommentRepository.deactivateCommentTree(commentId);
+        if (removed == 1) {
+            projectRepository.decrementCommentsCount(projectId);
+        } else if (removed > 1) {
+            projectRepository.decrementCommentsCountBy(projectId, removed);
+        }
+        liveUpdateService.projectChanged(projectId);
+
+        logger.info("Successfully deleted comment ID: {} ({} comments removed)", commentId, removed);
+    }
+
+    private ProjectComment findActiveComment(Long projectId, Long commentId) {
+        ProjectComment comment = projectCommentRepository.findById(commentId)
+                .filter(ProjectComment::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", commentId));
+        if (!comment.getProject().getId().equals(projectId)) {
+            throw new ResourceNotFoundException("Comment", "id", commentId);
+        }
+        return comment;
+    }
+
+    /**
+     * Convert a comment tree row to ProjectCommentResponse DTO
+     */
+    private ProjectCommentResponse convertToCommentResponse(CommentTreeRow row, Long projectId) {
+        ProjectCommentResponse response = new ProjectCommentResponse();
+        response.setId(row.getId());
+        response.setProjectId(projectId);
+        response.setContent(row.getContent());
+        response.setParentCommentId(row.getParentCommentId());
+        response.setReplies(new ArrayList<>());
+        response.setReplyCount(0);
+        response.setIsActive(true);
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+
+        UserResponse author = new UserResponse();
+        author.setId(row.getUserId());
+        author.setFirstName(row.getFirstName());
+        author.setLastName(row.getLastName());
+        author.setFullName(row.getFirstName() + " " + row.getLastName());
+        author.setRole(row.getRole() != null ? UserRole.valueOf(row.getRole()) : null);
+        author.setAvatarUrl(row.getAvatarUrl());
+        author.setDepartment(row.getDepartment());
+        author.setAcademicYear(row.getAcademicYear());
+        response.setUser(author);
+
+        return response;
+    }
+
+    /**
+     * Convert ProjectComment entity to ProjectCommentResponse DTO
+     */
+    private ProjectCommentResponse convertToCommentResponse(ProjectComment comment) {
+        ProjectCommentResponse response = new ProjectCommentResponse();
+        response.setId(comment.getId());
+        response.setProjectId(comment.getProject().getId());
+        response.setContent(comment.getContent());
+        response.setParentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null);
+        response.setReplies(new ArrayList<>());
+        response.setReplyCount(0);
+        response.setIsActive(comment.getIsActive());
+        response.setCreatedAt(comment.getCreatedAt());
+        response.setUpdatedAt(comment.getUpdatedAt());
+
+        User user = comment.getUser();
+        UserResponse author = new UserResponse();
+        author.setId(user.getId());
+        author.setFirstName(user.getFirstName());
+        author.setLastName(user.getLastName());
+        author.setFullName(user.getFullName());
+        author.setRole(user.getRole());
+        author.setAvatarUrl(user.getAvatarUrl());
+        author.setDepartment(user.getDepartment());
+        author.setAcademicYear(user.getAcademicYear());
+        response.setUser(author);
+
+        return response;
+    }
+}
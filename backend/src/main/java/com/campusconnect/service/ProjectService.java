@@ -1,24 +1,47 @@
 package com.campusconnect.service;
 
+import com.campusconnect.dto.request.FieldSelection;
 import com.campusconnect.dto.request.ProjectCreateRequest;
 import com.campusconnect.dto.response.ProjectResponse;
 import com.campusconnect.entity.*;
+import com.campusconnect.event.ProjectCreatedEvent;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectLikedEvent;
+import com.campusconnect.event.ProjectSavedEvent;
+import com.campusconnect.event.ProjectUnlikedEvent;
 import com.campusconnect.exception.BadRequestException;
 import com.campusconnect.exception.BusinessLogicException;
 import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.logging.SampledLogger;
 import com.campusconnect.repository.ProjectLikeRepository;
 import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.repository.SparseFieldQuery;
 import com.campusconnect.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Project entity operations
@@ -31,17 +54,47 @@ public class ProjectService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
 
+    // Read paths run on every page view, so their debug output is throttled
+    private static final SampledLogger sampledLogger = SampledLogger.of(logger, 20);
+
+    // Response fields a sparse-fieldset page fills from something other than a same-named column
+    private static final Set<String> DERIVED_FIELDS = Set.of(
+            "requiredSkills", "tags", "owner", "isLiked", "isOwner", "isCollaborator");
+    // Owner properties by the mapped attributes they are read from; the name is built from two of them
+    private static final Map<String, List<String>> OWNER_ATTRIBUTES = Map.of(
+            "id", List.of("owner.id"), "name", List.of("owner.firstName", "owner.lastName"),
+            "email", List.of("owner.email"), "avatarUrl", List.of("owner.avatarUrl"),
+            "department", List.of("owner.department"), "academicYear", List.of("owner.academicYear"));
+
     private final ProjectRepository projectRepository;
     private final ProjectLikeRepository projectLikeRepository;
     private final UserRepository userRepository;
+    private final LiveUpdateService liveUpdateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatisticsService statisticsService;
+    private final RecommendationService recommendationService;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final int maxBatchIds;
 
     @Autowired
     public ProjectService(ProjectRepository projectRepository,
                          ProjectLikeRepository projectLikeRepository,
-                         UserRepository userRepository) {
+                         UserRepository userRepository,
+                         LiveUpdateService liveUpdateService,
+                         ApplicationEventPublisher eventPublisher,
+                         StatisticsService statisticsService,
+                         RecommendationService recommendationService,
+                         SparseFieldQuery sparseFieldQuery,
+                         @Value("${app.batch.max-ids:100}") int maxBatchIds) {
         this.projectRepository = projectRepository;
         this.projectLikeRepository = projectLikeRepository;
         this.userRepository = userRepository;
+        this.liveUpdateService = liveUpdateService;
+        this.eventPublisher = eventPublisher;
+        this.statisticsService = statisticsService;
+        this.recommendationService = recommendationService;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.maxBatchIds = maxBatchIds;
         logger.info("ProjectService initialized successfully");
     }
 
@@ -50,35 +103,32 @@ public class ProjectService {
      */
     public ProjectResponse createProject(ProjectCreateRequest request, Long ownerId) {
         logger.info("Creating new project: {} by owner ID: {}", request.getTitle(), ownerId);
+
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", ownerId));
+
+        Project project = new Project();
+        project.setTitle(request.getTitle());
+        project.setDescription(request.getDescription());
+        project.setCategory(request.getCategory());
+        project.setDifficultyLevel(request.getDifficultyLevel());
+        project.setExpectedDuration(request.getExpectedDuration());
+        project.setTeamSize(request.getTeamSize());
+        project.setRequiredSkills(request.getRequiredSkills());
+        project.setRequirements(request.getRequirements());
+        project.setOwner(owner);
+        project.setTags(request.getTags());
+        project.setIsFeatured(request.getIsFeatured());
+        project.setIsActive(true);
+        project.setStatus(ProjectStatus.SEEKING_COLLABORATORS);
+
+        Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectCreatedEvent(savedProject.getId(), ownerId));
+        eventPublisher.publishEvent(new ProjectSavedEvent(savedProject, List.of(), List.of()));
+        statisticsService.recordProject(savedProject.getStatus(), savedProject.getDifficultyLevel(), savedProject.getCategory(), 1);
+        logger.info("Successfully created project with ID: {}", savedProject.getId());
         
-        try {
-            User owner = userRepository.findById(ownerId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", ownerId));
-
-            Project project = new Project();
-            project.setTitle(request.getTitle());
-            project.setDescription(request.getDescription());
-            project.setCategory(request.getCategory());
-            project.setDifficultyLevel(request.getDifficultyLevel());
-            project.setExpectedDuration(request.getExpectedDuration());
-            project.setTeamSize(request.getTeamSize());
-            project.setRequiredSkills(request.getRequiredSkills());
-            project.setRequirements(request.getRequirements());
-            project.setOwner(owner);
-            project.setTags(request.getTags());
-            project.setIsFeatured(request.getIsFeatured());
-            project.setIsActive(true);
-            project.setStatus(ProjectStatus.SEEKING_COLLABORATORS);
-
-            Project savedProject = projectRepository.save(project);
-            logger.info("Successfully created project with ID: {}", savedProject.getId());
-            
-            return convertToProjectResponse(savedProject, ownerId);
-            
-        } catch (Exception e) {
-            logger.error("Error creating project: {}", request.getTitle(), e);
-            throw e;
-        }
+        return convertToProjectResponse(savedProject, ownerId);
     }
 
     /**
@@ -86,21 +136,15 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long projectId, Long userId) {
-        logger.debug("Fetching project with ID: {}", projectId);
+        sampledLogger.debug("Fetching project with ID: {}", projectId);
+
+        Project project = projectRepository.findByIdAndIsActive(projectId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
         
-        try {
-            Project project = projectRepository.findByIdAndIsActive(projectId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-            
-            // Increment view count
-            projectRepository.incrementViewsCount(projectId);
-            
-            return convertToProjectResponse(project, userId);
-            
-        } catch (Exception e) {
-            logger.error("Error fetching project with ID: {}", projectId, e);
-            throw e;
-        }
+        // Increment view count
+        projectRepository.incrementViewsCount(projectId);
+        
+        return convertToProjectResponse(project, userId);
     }
 
     /**
@@ -108,16 +152,31 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getAllProjects(Pageable pageable, Long userId) {
-        logger.debug("Fetching all projects with pagination");
-        
-        try {
-            Page<Project> projects = projectRepository.findByIsActive(true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching all projects", e);
-            throw e;
+        sampledLogger.debug("Fetching all projects with pagination");
+
+        Page<Project> projects = projectRepository.findByIsActive(true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
+    }
+
+    /**
+     * Get several projects by ID in one round trip
+     *
+     * Returns active projects in the order requested and skips IDs that do not resolve. Owners, tags,
+     * skills and likes are loaded for the whole set at once rather than per project.
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getProjectsByIds(Collection<Long> projectIds, Long userId) {
+        List<Long> ids = projectIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > maxBatchIds) {
+            throw new BadRequestException("At most " + maxBatchIds + " project IDs can be requested at once");
         }
+        sampledLogger.debug("Fetching {} projects by ID", ids.size());
+
+        Map<Long, Project> projects = projectRepository.findActiveWithOwnerByIdIn(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<Project> found = ids.stream().map(projects::get).filter(Objects::nonNull).toList();
+
+        return convertToProjectResponses(found, userId);
     }
 
     /**
@@ -125,16 +184,10 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getProjectsByCategory(String category, Pageable pageable, Long userId) {
-        logger.debug("Fetching projects by category: {}", category);
-        
-        try {
-            Page<Project> projects = projectRepository.findByCategoryAndIsActive(category, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching projects by category: {}", category, e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching projects by category: {}", category);
+
+        Page<Project> projects = projectRepository.findByCategoryAndIsActive(category, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -142,16 +195,37 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getFeaturedProjects(Pageable pageable, Long userId) {
-        logger.debug("Fetching featured projects");
-        
-        try {
-            Page<Project> projects = projectRepository.findByIsFeaturedAndIsActive(true, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching featured projects", e);
-            throw e;
+        sampledLogger.debug("Fetching featured projects");
+
+        Page<Project> projects = projectRepository.findByIsFeaturedAndIsActive(true, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
+    }
+
+    /**
+     * Get all projects, loading only the selected fields
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectResponse> getAllProjects(Pageable pageable, Long userId, FieldSelection fields) {
+        if (fields.isFull()) {
+            return getAllProjects(pageable, userId);
         }
+        sampledLogger.debug("Fetching all projects with fields {}", fields.getFields());
+
+        return findProjectFields(activeProjects(), pageable, userId, fields);
+    }
+
+    /**
+     * Get featured projects, loading only the selected fields
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectResponse> getFeaturedProjects(Pageable pageable, Long userId, FieldSelection fields) {
+        if (fields.isFull()) {
+            return getFeaturedProjects(pageable, userId);
+        }
+        sampledLogger.debug("Fetching featured projects with fields {}", fields.getFields());
+
+        Specification<Project> featured = (root, query, cb) -> cb.equal(root.get("isFeatured"), true);
+        return findProjectFields(activeProjects().and(featured), pageable, userId, fields);
     }
 
     /**
@@ -159,16 +233,10 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> searchProjects(String searchTerm, Pageable pageable, Long userId) {
-        logger.debug("Searching projects with term: '{}'", searchTerm);
-        
-        try {
-            Page<Project> projects = projectRepository.searchProjects(searchTerm, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error searching projects with term: '{}'", searchTerm, e);
-            throw e;
-        }
+        sampledLogger.debug("Searching projects with term: '{}'", searchTerm);
+
+        Page<Project> projects = projectRepository.searchProjects(searchTerm, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -176,16 +244,10 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getProjectsByDifficulty(DifficultyLevel difficulty, Pageable pageable, Long userId) {
-        logger.debug("Fetching projects by difficulty: {}", difficulty);
-        
-        try {
-            Page<Project> projects = projectRepository.findByDifficultyLevelAndIsActive(difficulty, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching projects by difficulty: {}", difficulty, e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching projects by difficulty: {}", difficulty);
+
+        Page<Project> projects = projectRepository.findByDifficultyLevelAndIsActive(difficulty, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -193,16 +255,10 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getProjectsByStatus(ProjectStatus status, Pageable pageable, Long userId) {
-        logger.debug("Fetching projects by status: {}", status);
-        
-        try {
-            Page<Project> projects = projectRepository.findByStatusAndIsActive(status, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching projects by status: {}", status, e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching projects by status: {}", status);
+
+        Page<Project> projects = projectRepository.findByStatusAndIsActive(status, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -210,17 +266,62 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getTrendingProjects(Pageable pageable, Long userId) {
-        logger.debug("Fetching trending projects");
-        
-        try {
-            LocalDateTime since = LocalDateTime.now().minusDays(7); // Last 7 days
-            Page<Project> projects = projectRepository.findTrendingProjects(since, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching trending projects", e);
-            throw e;
+        sampledLogger.debug("Fetching trending projects");
+
+        LocalDateTime since = LocalDateTime.now().minusDays(7); // Last 7 days
+        Page<Project> projects = projectRepository.findTrendingProjects(since, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
+    }
+
+    /**
+     * Get projects most often liked by the same students as a project
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getRelatedProjects(Long projectId, int limit, Long userId) {
+        sampledLogger.debug("Fetching projects related to project ID: {}", projectId);
+
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
         }
+        return loadRecommended(recommendationService.getRelatedProjectIds(projectId), limit, userId);
+    }
+
+    /**
+     * Get projects recommended to a user from the projects they liked
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getRecommendedProjects(Long userId, int limit) {
+        sampledLogger.debug("Fetching recommended projects for user ID: {}", userId);
+
+        return loadRecommended(recommendationService.getRecommendedProjectIds(userId), limit, userId);
+    }
+
+    /**
+     * Load recommended projects in recommendation order, skipping ones deactivated since the last rebuild
+     */
+    private List<ProjectResponse> loadRecommended(long[] projectIds, int limit, Long userId) {
+        List<Long> ids = Arrays.stream(projectIds).boxed().toList();
+        Map<Long, Project> projects = projectRepository.findActiveWithOwnerByIdIn(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<Project> recommended = ids.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .filter(project -> !project.getOwner().getId().equals(userId))
+                .limit(Math.max(1, Math.min(limit, 50)))
+                .toList();
+        return convertToProjectResponses(recommended, userId);
+    }
+
+    /**
+     * Get projects liked by a user, most recently liked first
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectResponse> getLikedProjects(Long userId, Pageable pageable) {
+        sampledLogger.debug("Fetching projects liked by user ID: {}", userId);
+
+        Page<Project> projects = projectLikeRepository.findActiveProjectsLikedByUser(userId, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -228,16 +329,10 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getMostLikedProjects(Pageable pageable, Long userId) {
-        logger.debug("Fetching most liked projects");
-        
-        try {
-            Page<Project> projects = projectRepository.findMostLikedProjects(true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching most liked projects", e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching most liked projects");
+
+        Page<Project> projects = projectRepository.findMostLikedProjects(true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -245,19 +340,13 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getProjectsByOwner(Long ownerId, Pageable pageable, Long userId) {
-        logger.debug("Fetching projects by owner ID: {}", ownerId);
+        sampledLogger.debug("Fetching projects by owner ID: {}", ownerId);
+
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", ownerId));
         
-        try {
-            User owner = userRepository.findById(ownerId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", ownerId));
-            
-            Page<Project> projects = projectRepository.findByOwnerAndIsActive(owner, true, pageable);
-            return projects.map(project -> convertToProjectResponse(project, userId));
-            
-        } catch (Exception e) {
-            logger.error("Error fetching projects by owner ID: {}", ownerId, e);
-            throw e;
-        }
+        Page<Project> projects = projectRepository.findByOwnerAndIsActive(owner, true, pageable);
+        return projects.map(project -> convertToProjectResponse(project, userId));
     }
 
     /**
@@ -265,33 +354,33 @@ public class ProjectService {
      */
     public void toggleProjectLike(Long projectId, Long userId) {
         logger.info("Toggling like for project ID: {} by user ID: {}", projectId, userId);
+
+        Project project = projectRepository.findByIdAndIsActive(projectId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
         
-        try {
-            Project project = projectRepository.findByIdAndIsActive(projectId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-            
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-            boolean isLiked = projectLikeRepository.existsByUserAndProject(user, project);
-            
-            if (isLiked) {
-                // Unlike
-                projectLikeRepository.deleteByUserAndProject(user, project);
-                projectRepository.decrementLikesCount(projectId);
-                logger.info("User ID: {} unliked project ID: {}", userId, projectId);
-            } else {
-                // Like
-                ProjectLike like = new ProjectLike(project, user);
-                projectLikeRepository.save(like);
-                projectRepository.incrementLikesCount(projectId);
-                logger.info("User ID: {} liked project ID: {}", userId, projectId);
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error toggling like for project ID: {} by user ID: {}", projectId, userId, e);
-            throw e;
+        boolean isLiked = projectLikeRepository.existsByUserAndProject(user, project);
+        
+        if (isLiked) {
+            // Unlike
+            projectLikeRepository.deleteByUserAndProject(user, project);
+            projectRepository.decrementLikesCount(projectId);
+            statisticsService.recordLike(-1);
+            eventPublisher.publishEvent(new ProjectUnlikedEvent(projectId, userId, project.getOwner().getId()));
+            logger.info("User ID: {} unliked project ID: {}", userId, projectId);
+        } else {
+            // Like
+            ProjectLike like = new ProjectLike(project, user);
+            projectLikeRepository.save(like);
+            projectRepository.incrementLikesCount(projectId);
+            statisticsService.recordLike(1);
+            eventPublisher.publishEvent(new ProjectLikedEvent(projectId, userId, project.getOwner().getId()));
+            logger.info("User ID: {} liked project ID: {}", userId, projectId);
         }
+
+        liveUpdateService.projectChanged(projectId);
     }
 
     /**
@@ -299,36 +388,37 @@ public class ProjectService {
      */
     public ProjectResponse updateProject(Long projectId, ProjectCreateRequest request, Long userId) {
         logger.info("Updating project ID: {} by user ID: {}", projectId, userId);
-        
-        try {
-            Project project = projectRepository.findByIdAndIsActive(projectId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-            // Check if user is the owner
-            if (!project.getOwner().getId().equals(userId)) {
-                throw new BusinessLogicException("Only the project owner can update this project");
-            }
+        Project project = projectRepository.findByIdAndIsActive(projectId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-            // Update project fields
-            if (request.getTitle() != null) project.setTitle(request.getTitle());
-            if (request.getDescription() != null) project.setDescription(request.getDescription());
-            if (request.getCategory() != null) project.setCategory(request.getCategory());
-            if (request.getDifficultyLevel() != null) project.setDifficultyLevel(request.getDifficultyLevel());
-            if (request.getExpectedDuration() != null) project.setExpectedDuration(request.getExpectedDuration());
-            if (request.getTeamSize() != null) project.setTeamSize(request.getTeamSize());
-            if (request.getRequiredSkills() != null) project.setRequiredSkills(request.getRequiredSkills());
-            if (request.getRequirements() != null) project.setRequirements(request.getRequirements());
-            if (request.getTags() != null) project.setTags(request.getTags());
-
-            Project updatedProject = projectRepository.save(project);
-            logger.info("Successfully updated project ID: {}", projectId);
-            
-            return convertToProjectResponse(updatedProject, userId);
-            
-        } catch (Exception e) {
-            logger.error("Error updating project ID: {}", projectId, e);
-            throw e;
+        // Check if user is the owner
+        if (!project.getOwner().getId().equals(userId)) {
+            throw new BusinessLogicException("Only the project owner can update this project");
         }
+
+        // Move the project between statistics buckets if its category or difficulty changes
+        statisticsService.recordProject(project.getStatus(), project.getDifficultyLevel(), project.getCategory(), -1);
+        List<String> previousTags = project.getTags() != null ? new ArrayList<>(project.getTags()) : List.of();
+        List<String> previousSkills = project.getRequiredSkills() != null ? new ArrayList<>(project.getRequiredSkills()) : List.of();
+
+        // Update project fields
+        if (request.getTitle() != null) project.setTitle(request.getTitle());
+        if (request.getDescription() != null) project.setDescription(request.getDescription());
+        if (request.getCategory() != null) project.setCategory(request.getCategory());
+        if (request.getDifficultyLevel() != null) project.setDifficultyLevel(request.getDifficultyLevel());
+        if (request.getExpectedDuration() != null) project.setExpectedDuration(request.getExpectedDuration());
+        if (request.getTeamSize() != null) project.setTeamSize(request.getTeamSize());
+        if (request.getRequiredSkills() != null) project.setRequiredSkills(request.getRequiredSkills());
+        if (request.getRequirements() != null) project.setRequirements(request.getRequirements());
+        if (request.getTags() != null) project.setTags(request.getTags());
+
+        Project updatedProject = projectRepository.save(project);
+        statisticsService.recordProject(updatedProject.getStatus(), updatedProject.getDifficultyLevel(), updatedProject.getCategory(), 1);
+        eventPublisher.publishEvent(new ProjectSavedEvent(updatedProject, previousTags, previousSkills));
+        logger.info("Successfully updated project ID: {}", projectId);
+        
+        return convertToProjectResponse(updatedProject, userId);
     }
 
     /**
@@ -336,29 +426,26 @@ public class ProjectService {
      */
     public void deleteProject(Long projectId, Long userId) {
         logger.info("Deleting project ID: {} by user ID: {}", projectId, userId);
-        
-        try {
-            Project project = projectRepository.findByIdAndIsActive(projectId, true)
-                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-
-            // Check if user is the owner or admin
-            if (!project.getOwner().getId().equals(userId)) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-                if (!user.isAdmin()) {
-                    throw new BusinessLogicException("Only the project owner or admin can delete this project");
-                }
-            }
 
-            project.setIsActive(false);
-            projectRepository.save(project);
-            
-            logger.info("Successfully deleted project ID: {}", projectId);
-            
-        } catch (Exception e) {
-            logger.error("Error deleting project ID: {}", projectId, e);
-            throw e;
+        Project project = projectRepository.findByIdAndIsActive(projectId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+
+        // Check if user is the owner or admin
+        if (!project.getOwner().getId().equals(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+            if (!user.isAdmin()) {
+                throw new BusinessLogicException("Only the project owner or admin can delete this project");
+            }
         }
+
+        project.setIsActive(false);
+        projectRepository.save(project);
+        statisticsService.recordProject(project.getStatus(), project.getDifficultyLevel(), project.getCategory(), -1);
+        eventPublisher.publishEvent(new ProjectDeletedEvent(projectId, project.getOwner().getId(), project.getLikesCount(),
+                project.getTags(), project.getRequiredSkills()));
+        
+        logger.info("Successfully deleted project ID: {}", projectId);
     }
 
     /**
@@ -366,14 +453,9 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public List<String> getProjectCategories() {
-        logger.debug("Fetching project categories");
-        
-        try {
-            return projectRepository.findAllCategories(true);
-        } catch (Exception e) {
-            logger.error("Error fetching project categories", e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching project categories");
+
+        return projectRepository.findAllCategories(true);
     }
 
     /**
@@ -381,14 +463,9 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public List<String> getProjectTags() {
-        logger.debug("Fetching project tags");
-        
-        try {
-            return projectRepository.findAllTags(true);
-        } catch (Exception e) {
-            logger.error("Error fetching project tags", e);
-            throw e;
-        }
+        sampledLogger.debug("Fetching project tags");
+
+        return projectRepository.findAllTags(true);
     }
 
     /**
@@ -396,20 +473,132 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public List<String> getRequiredSkills() {
-        logger.debug("Fetching required skills");
-        
-        try {
-            return projectRepository.findAllRequiredSkills(true);
-        } catch (Exception e) {
-            logger.error("Error fetching required skills", e);
-            throw e;
+        sampledLogger.debug("Fetching required skills");
+
+        return projectRepository.findAllRequiredSkills(true);
+    }
+
+    private static Specification<Project> activeProjects() {
+        return (root, query, cb) -> cb.equal(root.get("isActive"), true);
+    }
+
+    /**
+     * Build a page of ProjectResponse from the selected columns only
+     *
+     * Scalar fields come from one query naming just their columns, tags and skills from one query per
+     * page, and isLiked from one lookup per page instead of one per row.
+     */
+    private Page<ProjectResponse> findProjectFields(Specification<Project> where, Pageable pageable, Long userId,
+                                                    FieldSelection fields) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : fields.getFields()) {
+            if (!DERIVED_FIELDS.contains(field)) {
+                columns.add(field);
+            }
         }
+        Set<String> ownerFields = fields.getNestedFields("owner");
+        for (String ownerField : ownerFields) {
+            columns.addAll(OWNER_ATTRIBUTES.get(ownerField));
+        }
+        boolean withUser = userId != null;
+        if (withUser && fields.includes("isOwner")) {
+            columns.add("owner.id");
+        }
+
+        Page<Map<String, Object>> rows = sparseFieldQuery.findPage(Project.class, where, columns, pageable);
+        List<Long> ids = rows.getContent().stream().map(row -> (Long) row.get("id")).toList();
+        Map<Long, List<String>> tags = fields.includes("tags")
+                ? sparseFieldQuery.findElements(Project.class, "tags", ids) : Map.of();
+        Map<Long, List<String>> requiredSkills = fields.includes("requiredSkills")
+                ? sparseFieldQuery.findElements(Project.class, "requiredSkills", ids) : Map.of();
+        Set<Long> liked = withUser && fields.includes("isLiked") && !ids.isEmpty()
+                ? new HashSet<>(projectLikeRepository.findLikedProjectIds(userId, ids)) : Set.of();
+
+        return rows.map(row -> {
+            Long id = (Long) row.get("id");
+            ProjectResponse response = new ProjectResponse();
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(response);
+            for (String field : fields.getFields()) {
+                if (!DERIVED_FIELDS.contains(field)) {
+                    wrapper.setPropertyValue(field, row.get(field));
+                }
+            }
+            if (fields.includes("tags")) {
+                response.setTags(tags.getOrDefault(id, List.of()));
+            }
+            if (fields.includes("requiredSkills")) {
+                response.setRequiredSkills(requiredSkills.getOrDefault(id, List.of()));
+            }
+            if (!ownerFields.isEmpty()) {
+                ProjectResponse.OwnerInfo owner = new ProjectResponse.OwnerInfo();
+                BeanWrapper ownerWrapper = PropertyAccessorFactory.forBeanPropertyAccess(owner);
+                for (String ownerField : ownerFields) {
+                    List<String> attributes = OWNER_ATTRIBUTES.get(ownerField);
+                    if (attributes.size() == 1) {
+                        ownerWrapper.setPropertyValue(ownerField, row.get(attributes.get(0)));
+                    }
+                }
+                if (ownerFields.contains("name")) {
+                    owner.setName(ProjectResponse.OwnerInfo.fullName(
+                            (String) row.get("owner.firstName"), (String) row.get("owner.lastName")));
+                }
+                response.setOwner(owner);
+            }
+            if (withUser) {
+                response.setIsLiked(liked.contains(id));
+                response.setIsOwner(userId.equals(row.get("owner.id")));
+                response.setIsCollaborator(false);
+            }
+            return response;
+        });
     }
 
     /**
      * Convert Project entity to ProjectResponse DTO
      */
     private ProjectResponse convertToProjectResponse(Project project, Long userId) {
+        ProjectResponse response = buildProjectResponse(project, project.getRequiredSkills(), project.getTags());
+
+        // Set user interaction status
+        if (userId != null) {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user != null) {
+                response.setIsLiked(projectLikeRepository.existsByUserAndProject(user, project));
+                response.setIsOwner(project.getOwner().getId().equals(userId));
+                // TODO: Set isCollaborator when collaborator functionality is implemented
+                response.setIsCollaborator(false);
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Convert projects loaded with their owners, fetching tags, skills and likes for the whole list at once
+     */
+    private List<ProjectResponse> convertToProjectResponses(List<Project> projects, Long userId) {
+        List<Long> ids = projects.stream().map(Project::getId).toList();
+        Map<Long, List<String>> tags = sparseFieldQuery.findElements(Project.class, "tags", ids);
+        Map<Long, List<String>> requiredSkills = sparseFieldQuery.findElements(Project.class, "requiredSkills", ids);
+        Set<Long> liked = userId != null && !ids.isEmpty()
+                ? new HashSet<>(projectLikeRepository.findLikedProjectIds(userId, ids)) : Set.of();
+
+        return projects.stream().map(project -> {
+            ProjectResponse response = buildProjectResponse(project,
+                    requiredSkills.getOrDefault(project.getId(), List.of()), tags.getOrDefault(project.getId(), List.of()));
+            if (userId != null) {
+                response.setIsLiked(liked.contains(project.getId()));
+                response.setIsOwner(project.getOwner().getId().equals(userId));
+                response.setIsCollaborator(false);
+            }
+            return response;
+        }).toList();
+    }
+
+    /**
+     * Build the ProjectResponse fields that come from the project itself, with already-loaded collections
+     */
+    private ProjectResponse buildProjectResponse(Project project, List<String> requiredSkills, List<String> tags) {
         ProjectResponse response = new ProjectResponse();
         response.setId(project.getId());
         response.setTitle(project.getTitle());
@@ -418,10 +607,10 @@ public class ProjectService {
         response.setDifficultyLevel(project.getDifficultyLevel());
         response.setExpectedDuration(project.getExpectedDuration());
         response.setTeamSize(project.getTeamSize());
-        response.setRequiredSkills(project.getRequiredSkills());
+        response.setRequiredSkills(requiredSkills);
         response.setRequirements(project.getRequirements());
         response.setStatus(project.getStatus());
-        response.setTags(project.getTags());
+        response.setTags(tags);
         response.setIsFeatured(project.getIsFeatured());
         response.setIsActive(project.getIsActive());
         response.setLikesCount(project.getLikesCount());
@@ -441,17 +630,6 @@ public class ProjectService {
                 owner.getAcademicYear()
         ));
 
-        // Set user interaction status
-        if (userId != null) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null) {
-                response.setIsLiked(projectLikeRepository.existsByUserAndProject(user, project));
-                response.setIsOwner(project.getOwner().getId().equals(userId));
-                // TODO: Set isCollaborator when collaborator functionality is implemented
-                response.setIsCollaborator(false);
-            }
-        }
-
         return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,317 @@
+package com.campusconnect.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over projects, events and people
+ *
+ * Each term maps to a posting list of ints that pack the document number with the field the term came
+ * from (title or keyword), so a posting costs four bytes. Terms are kept sorted, which makes prefix
+ * expansion a sub-map view. Replaced and removed documents are tombstoned; once tombstones outnumber half
+ * the live documents, the index is compacted in place, renumbering documents and rewriting posting lists.
+ *
+ * @author Campus Connect Team
+ */
+final class QuickSearchIndex {
+
+    static final int FIELD_TITLE = 0;
+    static final int FIELD_KEYWORD = 1;
+
+    private static final int MAX_QUERY_TOKENS = 5;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Compact when tombstones pass this fraction of live documents, and not for a handful of them
+    private static final double COMPACT_RATIO = 0.5;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, Integer> documentNumbers = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int tombstones;
+
+    /**
+     * Add or replace a document
+     */
+    void put(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.key());
+
+            int number = documents.size();
+            documents.add(document);
+            documentNumbers.put(document.key(), number);
+
+            for (String token : tokenize(document.title)) {
+                postings.computeIfAbsent(token, t -> new Postings()).add(number << 1 | FIELD_TITLE);
+            }
+            for (String keyword : document.keywords) {
+                for (String token : tokenize(keyword)) {
+                    postings.computeIfAbsent(token, t -> new Postings()).add(number << 1 | FIELD_KEYWORD);
+                }
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(Document.key(type, id));
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documentNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int tombstones() {
+        lock.readLock().lock();
+        try {
+            return tombstones;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find documents matching every query token, where the last token also matches as a prefix
+     */
+    List<Hit> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(tokenize(query));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        if (tokens.size() > MAX_QUERY_TOKENS) {
+            tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> scores = null;
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = i == tokens.size() - 1;
+                Map<Integer, Integer> tokenScores = scoreToken(tokens.get(i), prefix);
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<Integer, Integer> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<Integer, Integer> entry : tokenScores.entrySet()) {
+                        Integer score = previous.get(entry.getKey());
+                        if (score != null) {
+                            scores.put(entry.getKey(), score + entry.getValue());
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((number, score) -> hits.add(new Hit(documents.get(number), score)));
+            hits.sort(null);
+            return hits.size() <= limit ? hits : new ArrayList<>(hits.subList(0, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score live documents for one query token: exact terms outrank prefix expansions, titles outrank keywords
+     */
+    private Map<Integer, Integer> scoreToken(String token, boolean prefix) {
+        Map<Integer, Integer> scores = new HashMap<>();
+
+        Postings exact = postings.get(token);
+        if (exact != null) {
+            exact.forEach((number, field) -> scores.merge(number, field == FIELD_TITLE ? 6 : 3, Math::max));
+        }
+
+        if (prefix) {
+            SortedMap<String, Postings> expansions = postings.subMap(token, false, token + Character.MAX_VALUE, false);
+            int expanded = 0;
+            for (Postings termPostings : expansions.values()) {
+                if (++expanded > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                termPostings.forEach((number, field) -> scores.merge(number, field == FIELD_TITLE ? 4 : 2, Math::max));
+            }
+        }
+
+        scores.keySet().removeIf(number -> documents.get(number) == null);
+        return scores;
+    }
+
+    private void removeLocked(String key) {
+        Integer number = documentNumbers.remove(key);
+        if (number != null) {
+            documents.set(number, null);
+            tombstones++;
+        }
+    }
+
+    private void compactIfSparse() {
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > documentNumbers.size() * COMPACT_RATIO) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Drop tombstones: number live documents densely and rewrite every posting list to the new numbers
+     */
+    private void compactLocked() {
+        int[] renumbered = new int[documents.size()];
+        List<Document> live = new ArrayList<>(documentNumbers.size());
+        for (int number = 0; number < documents.size(); number++) {
+            Document document = documents.get(number);
+            if (document == null) {
+                renumbered[number] = -1;
+            } else {
+                renumbered[number] = live.size();
+                documentNumbers.put(document.key(), live.size());
+                live.add(document);
+            }
+        }
+        postings.values().removeIf(termPostings -> termPostings.renumber(renumbered));
+        documents.clear();
+        documents.addAll(live);
+        tombstones = 0;
+    }
+
+    /**
+     * Lower-case, strip diacritics and split into distinct word tokens
+     */
+    static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(TextFolding.fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Growable posting list of packed (document number, field) ints
+     */
+    private static final class Postings {
+
+        private int[] entries = new int[4];
+        private int size;
+
+        private void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        /**
+         * Rewrite entries to new document numbers, dropping those mapped to -1; true if none are left
+         */
+        private boolean renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int number = renumbered[entries[i] >>> 1];
+                if (number >= 0) {
+                    entries[kept++] = number << 1 | (entries[i] & 1);
+                }
+            }
+            size = kept;
+            if (size < entries.length / 4) {
+                entries = Arrays.copyOf(entries, Math.max(4, size));
+            }
+            return size == 0;
+        }
+
+        private void forEach(PostingConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(entries[i] >>> 1, entries[i] & 1);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface PostingConsumer {
+        void accept(int number, int field);
+    }
+
+    /**
+     * A searchable entity with the display fields returned in results
+     */
+    static final class Document {
+
+        final String type;
+        final Long id;
+        final String title;
+        final String subtitle;
+        final List<String> keywords;
+
+        Document(String type, Long id, String title, String subtitle, List<String> keywords) {
+            this.type = type;
+            this.id = id;
+            this.title = title;
+            this.subtitle = subtitle;
+            this.keywords = keywords;
+        }
+
+        String key() {
+            return key(type, id);
+        }
+
+        static String key(String type, Long id) {
+            return type + ":" + id;
+        }
+    }
+
+    /**
+     * A matched document, ordered by score and then by shorter title
+     */
+    static final class Hit implements Comparable<Hit> {
+
+        final Document document;
+        final int score;
+
+        Hit(Document document, int score) {
+            this.document = document;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Hit other) {
+            int byScore = Integer.compare(other.score, score);
+            if (byScore != 0) {
+                return byScore;
+            }
+            int byLength = Integer.compare(document.title.length(), other.document.title.length());
+            return byLength != 0 ? byLength : document.title.compareTo(other.document.title);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.QuickSearchResultResponse;
+import com.campusconnect.event.EventDeletedEvent;
+import com.campusconnect.event.EventSavedEvent;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectSavedEvent;
+import com.campusconnect.event.UserDeletedEvent;
+import com.campusconnect.event.UserSavedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Service behind the navbar quick search over projects, events and people
+ *
+ * Queries are answered from a QuickSearchIndex held in memory. The index is loaded with streaming reads
+ * at startup, kept current by the project, event and user domain events after commit, and periodically
+ * reloaded to drop tombstoned documents. Changes committed while a reload is running are replayed onto
+ * the new index before it is swapped in.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class QuickSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuickSearchService.class);
+
+    public static final String TYPE_PROJECT = "PROJECT";
+    public static final String TYPE_EVENT = "EVENT";
+    public static final String TYPE_USER = "USER";
+
+    private static final int MAX_LIMIT = 25;
+    private static final int LOAD_FETCH_SIZE = 1000;
+
+    private static final String PROJECTS_SQL =
+            "SELECT id, title, category FROM projects WHERE is_active = TRUE";
+    private static final String PROJECT_KEYWORDS_SQL =
+            "SELECT project_id AS id, tag AS keyword FROM project_tags " +
+            "UNION ALL SELECT project_id, skill FROM project_skills";
+    private static final String EVENTS_SQL =
+            "SELECT id, title, category, location, event_date FROM events WHERE is_active = TRUE";
+    private static final String EVENT_KEYWORDS_SQL =
+            "SELECT event_id AS id, tag AS keyword FROM event_tags";
+    private static final String USERS_SQL =
+            "SELECT id, first_name, last_name, department FROM users WHERE is_active = TRUE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTransaction;
+
+    private final Object changeLock = new Object();
+    private final List<Consumer<QuickSearchIndex>> changesDuringReload = new ArrayList<>();
+    private boolean reloading;
+
+    private volatile QuickSearchIndex index = new QuickSearchIndex();
+
+    @Autowired
+    public QuickSearchService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        // A fetch size inside a read-only transaction lets the driver stream rows instead of buffering the table
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+
+        logger.info("QuickSearchService initialized successfully");
+    }
+
+    /**
+     * Search projects, events and people with one query, best matches first
+     */
+    public List<QuickSearchResultResponse> search(String query, int limit) {
+        List<QuickSearchIndex.Hit> hits = index.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+        List<QuickSearchResultResponse> results = new ArrayList<>(hits.size());
+        for (QuickSearchIndex.Hit hit : hits) {
+            QuickSearchIndex.Document document = hit.document;
+            results.add(new QuickSearchResultResponse(document.type, document.id, document.title, document.subtitle, hit.score));
+        }
+        return results;
+    }
+
+    /**
+     * Rebuild the index from the database and swap it in
+     */
+    @Scheduled(fixedDelayString = "${app.search.reload-interval-ms:3600000}")
+    public void reload() {
+        synchronized (changeLock) {
+            reloading = true;
+            changesDuringReload.clear();
+        }
+
+        QuickSearchIndex rebuilt = new QuickSearchIndex();
+        try {
+            loadTransaction.executeWithoutResult(status -> {
+                loadProjects(rebuilt);
+                loadEvents(rebuilt);
+                loadUsers(rebuilt);
+            });
+        } catch (Exception e) {
+            logger.error("Error reloading quick search index", e);
+            synchronized (changeLock) {
+                reloading = false;
+                changesDuringReload.clear();
+            }
+            return;
+        }
+
+        synchronized (changeLock) {
+            changesDuringReload.forEach(change -> change.accept(rebuilt));
+            changesDuringReload.clear();
+            index = rebuilt;
+            reloading = false;
+        }
+        logger.debug("Quick search index reloaded with {} documents", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        if (!event.isActive()) {
+            change(current -> current.remove(TYPE_PROJECT, event.getProjectId()));
+            return;
+        }
+        List<String> keywords = new ArrayList<>();
+        keywords.add(event.getCategory());
+        keywords.addAll(event.getTags());
+        keywords.addAll(event.getRequiredSkills());
+
+        QuickSearchIndex.Document document = new QuickSearchIndex.Document(TYPE_PROJECT, event.getProjectId(),
+                event.getTitle(), event.getCategory(), keywords);
+        change(current -> current.put(document));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        change(current -> current.remove(TYPE_PROJECT, event.getProjectId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent event) {
+        List<String> keywords = new ArrayList<>();
+        keywords.add(event.getCategory());
+        keywords.add(event.getLocation());
+        keywords.addAll(event.getTags());
+
+        QuickSearchIndex.Document document = new QuickSearchIndex.Document(TYPE_EVENT, event.getEventId(),
+                event.getTitle(), eventSubtitle(event.getCategory(), String.valueOf(event.getEventDate())), keywords);
+        change(current -> current.put(document));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventDeleted(EventDeletedEvent event) {
+        change(current -> current.remove(TYPE_EVENT, event.getEventId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        List<String> keywords = new ArrayList<>();
+        keywords.add(event.getDepartment());
+
+        QuickSearchIndex.Document document = new QuickSearchIndex.Document(TYPE_USER, event.getUserId(),
+                event.getFullName(), event.getDepartment(), keywords);
+        change(current -> current.put(document));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        change(current -> current.remove(TYPE_USER, event.getUserId()));
+    }
+
+    /**
+     * Apply a committed change to the live index, and remember it for the index a running reload is building
+     */
+    private void change(Consumer<QuickSearchIndex> change) {
+        synchronized (changeLock) {
+            change.accept(index);
+            if (reloading) {
+                changesDuringReload.add(change);
+            }
+        }
+    }
+
+    private void loadProjects(QuickSearchIndex target) {
+        Map<Long, List<String>> keywords = loadKeywords(PROJECT_KEYWORDS_SQL);
+        jdbcTemplate.query(PROJECTS_SQL, rs -> {
+            long id = rs.getLong("id");
+            String category = rs.getString("category");
+            List<String> projectKeywords = new ArrayList<>(keywords.getOrDefault(id, List.of()));
+            projectKeywords.add(category);
+            target.put(new QuickSearchIndex.Document(TYPE_PROJECT, id, rs.getString("title"), category, projectKeywords));
+        });
+    }
+
+    private void loadEvents(QuickSearchIndex target) {
+        Map<Long, List<String>> keywords = loadKeywords(EVENT_KEYWORDS_SQL);
+        jdbcTemplate.query(EVENTS_SQL, rs -> {
+            long id = rs.getLong("id");
+            String category = rs.getString("category");
+            List<String> eventKeywords = new ArrayList<>(keywords.getOrDefault(id, List.of()));
+            eventKeywords.add(category);
+            eventKeywords.add(rs.getString("location"));
+            target.put(new QuickSearchIndex.Document(TYPE_EVENT, id, rs.getString("title"),
+                    eventSubtitle(category, rs.getString("event_date")), eventKeywords));
+        });
+    }
+
+    private void loadUsers(QuickSearchIndex target) {
+        jdbcTemplate.query(USERS_SQL, rs -> {
+            String department = rs.getString("department");
+            List<String> keywords = new ArrayList<>();
+            keywords.add(department);
+            target.put(new QuickSearchIndex.Document(TYPE_USER, rs.getLong("id"),
+                    rs.getString("first_name") + " " + rs.getString("last_name"), department, keywords));
+        });
+    }
+
+    private Map<Long, List<String>> loadKeywords(String sql) {
+        Map<Long, List<String>> keywords = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            keywords.computeIfAbsent(rs.getLong("id"), id -> new ArrayList<>()).add(rs.getString("keyword"));
+        });
+        return keywords;
+    }
+
+    private static String eventSubtitle(String category, String eventDate) {
+        return category + " - " + eventDate;
+    }
+}
@@ -0,0 +1,306 @@
+package com.campusconnect.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * Service computing "students who liked this also liked" recommendations from project likes
+ *
+ * The like graph is read once per rebuild and turned into item-item cosine similarity over co-likes.
+ * Only the top neighbours of each project and the top recommendations of each user are kept, in primitive
+ * arrays indexed through LongIntMap, so serving a request is two hash lookups and an array copy.
+ * Recommendations are only as fresh as the last rebuild.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class RecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationService.class);
+
+    private static final int NEIGHBORS_PER_PROJECT = 20;
+    private static final int RECOMMENDATIONS_PER_USER = 50;
+    private static final int POPULAR_PROJECTS = 50;
+    // Caps the quadratic pair count contributed by any single very active user
+    private static final int MAX_LIKES_PER_USER = 300;
+    private static final int LOAD_FETCH_SIZE = 5000;
+
+    private static final String LIKES_SQL =
+            "SELECT pl.user_id, pl.project_id FROM project_likes pl " +
+            "JOIN projects p ON p.id = pl.project_id WHERE p.is_active = TRUE " +
+            "ORDER BY pl.user_id, pl.created_at DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTransaction;
+
+    private volatile Model model = Model.EMPTY;
+
+    @Autowired
+    public RecommendationService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        // The PostgreSQL driver only streams by fetch size with autocommit off, that is inside a transaction
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        logger.info("RecommendationService initialized successfully");
+    }
+
+    /**
+     * Get the IDs of projects most often co-liked with a project, most similar first
+     */
+    public long[] getRelatedProjectIds(long projectId) {
+        Model current = model;
+        int index = current.projectIndex.get(projectId, -1);
+        return index >= 0 ? current.related[index].clone() : new long[0];
+    }
+
+    /**
+     * Get the IDs of projects recommended to a user, falling back to the most liked projects
+     */
+    public long[] getRecommendedProjectIds(long userId) {
+        Model current = model;
+        int index = current.userIndex.get(userId, -1);
+        long[] ids = index >= 0 && current.recommended[index].length > 0 ? current.recommended[index] : current.popular;
+        return ids.clone();
+    }
+
+    /**
+     * Recompute similarities from the current likes and swap them in
+     */
+    @Scheduled(fixedDelayString = "${app.recommendations.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            LikeGraph graph = new LikeGraph();
+            loadTransaction.executeWithoutResult(status -> jdbcTemplate.query(LIKES_SQL, rs -> {
+                graph.accept(rs.getLong("user_id"), rs.getLong("project_id"));
+            }));
+            graph.finish();
+
+            model = graph.buildModel();
+            logger.debug("Recommendations rebuilt for {} projects and {} users in {} ms",
+                    graph.projectCount, graph.userCount, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("Error rebuilding recommendations", e);
+        }
+    }
+
+    /**
+     * Like graph read from the database, with projects and users renumbered densely from 0
+     */
+    private static final class LikeGraph {
+
+        private final LongIntMap projectIndex = new LongIntMap(1024);
+        private long[] projectIds = new long[1024];
+        private int[] likeCounts = new int[1024];
+        private int projectCount;
+
+        private final LongIntMap userIndex = new LongIntMap(1024);
+        private int[][] userLikes = new int[1024][];
+        private int userCount;
+
+        private long currentUser = Long.MIN_VALUE;
+        private int[] currentLikes = new int[64];
+        private int currentLikeCount;
+
+        /**
+         * Add one like; rows arrive grouped by user
+         */
+        private void accept(long userId, long projectId) {
+            if (userId != currentUser) {
+                finish();
+                currentUser = userId;
+            }
+            if (currentLikeCount == MAX_LIKES_PER_USER) {
+                return;
+            }
+
+            int project = projectIndex.get(projectId, -1);
+            if (project < 0) {
+                project = projectCount++;
+                if (project == projectIds.length) {
+                    projectIds = Arrays.copyOf(projectIds, project * 2);
+                    likeCounts = Arrays.copyOf(likeCounts, project * 2);
+                }
+                projectIds[project] = projectId;
+                projectIndex.put(projectId, project);
+            }
+            likeCounts[project]++;
+
+            if (currentLikeCount == currentLikes.length) {
+                currentLikes = Arrays.copyOf(currentLikes, currentLikeCount * 2);
+            }
+            currentLikes[currentLikeCount++] = project;
+        }
+
+        private void finish() {
+            if (currentLikeCount == 0) {
+                return;
+            }
+            int user = userCount++;
+            if (user == userLikes.length) {
+                userLikes = Arrays.copyOf(userLikes, user * 2);
+            }
+            userLikes[user] = Arrays.copyOf(currentLikes, currentLikeCount);
+            userIndex.put(currentUser, user);
+            currentLikeCount = 0;
+        }
+
+        private Model buildModel() {
+            // Co-like counts keyed by the packed pair (lower index << 32 | higher index)
+            LongIntMap coLikes = new LongIntMap(projectCount * 8);
+            for (int u = 0; u < userCount; u++) {
+                int[] likes = userLikes[u];
+                for (int i = 0; i < likes.length; i++) {
+                    for (int j = i + 1; j < likes.length; j++) {
+                        int a = Math.min(likes[i], likes[j]);
+                        int b = Math.max(likes[i], likes[j]);
+                        coLikes.addTo((long) a << 32 | b, 1);
+                    }
+                }
+            }
+
+            TopN[] neighbors = new TopN[projectCount];
+            for (int p = 0; p < projectCount; p++) {
+                neighbors[p] = new TopN(NEIGHBORS_PER_PROJECT);
+            }
+            coLikes.forEach((pair, count) -> {
+                int a = (int) (pair >>> 32);
+                int b = (int) pair;
+                float similarity = (float) (count / Math.sqrt((double) likeCounts[a] * likeCounts[b]));
+                neighbors[a].offer(b, similarity);
+                neighbors[b].offer(a, similarity);
+            });
+
+            long[][] related = new long[projectCount][];
+            for (int p = 0; p < projectCount; p++) {
+                related[p] = neighbors[p].toIds(projectIds);
+            }
+
+            return new Model(projectIndex, related, userIndex, recommendForUsers(neighbors), popular());
+        }
+
+        /**
+         * Score each unseen project by summing its similarity to everything the user liked
+         */
+        private long[][] recommendForUsers(TopN[] neighbors) {
+            long[][] recommended = new long[userCount][];
+            float[] scores = new float[projectCount];
+            boolean[] liked = new boolean[projectCount];
+            int[] touched = new int[projectCount];
+
+            for (int u = 0; u < userCount; u++) {
+                int[] likes = userLikes[u];
+                for (int project : likes) {
+                    liked[project] = true;
+                }
+
+                int touchedCount = 0;
+                for (int project : likes) {
+                    TopN projectNeighbors = neighbors[project];
+                    for (int n = 0; n < projectNeighbors.size; n++) {
+                        int candidate = projectNeighbors.items[n];
+                        if (liked[candidate]) {
+                            continue;
+                        }
+                        if (scores[candidate] == 0f) {
+                            touched[touchedCount++] = candidate;
+                        }
+                        scores[candidate] += projectNeighbors.scores[n];
+                    }
+                }
+
+                TopN top = new TopN(RECOMMENDATIONS_PER_USER);
+                for (int t = 0; t < touchedCount; t++) {
+                    top.offer(touched[t], scores[touched[t]]);
+                    scores[touched[t]] = 0f;
+                }
+                for (int project : likes) {
+                    liked[project] = false;
+                }
+                recommended[u] = top.toIds(projectIds);
+            }
+            return recommended;
+        }
+
+        private long[] popular() {
+            TopN top = new TopN(POPULAR_PROJECTS);
+            for (int p = 0; p < projectCount; p++) {
+                top.offer(p, likeCounts[p]);
+            }
+            return top.toIds(projectIds);
+        }
+    }
+
+    /**
+     * Fixed-size list of the highest scoring items, kept sorted by insertion
+     */
+    private static final class TopN {
+
+        private final int[] items;
+        private final float[] scores;
+        private int size;
+
+        private TopN(int capacity) {
+            this.items = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        private void offer(int item, float score) {
+            if (size == items.length && score <= scores[size - 1]) {
+                return;
+            }
+            int position = size < items.length ? size++ : size - 1;
+            while (position > 0 && scores[position - 1] < score) {
+                items[position] = items[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            items[position] = item;
+            scores[position] = score;
+        }
+
+        private long[] toIds(long[] ids) {
+            long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ids[items[i]];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Immutable result of one rebuild
+     */
+    private static final class Model {
+
+        private static final Model EMPTY =
+                new Model(new LongIntMap(4), new long[0][], new LongIntMap(4), new long[0][], new long[0]);
+
+        private final LongIntMap projectIndex;
+        private final long[][] related;
+        private final LongIntMap userIndex;
+        private final long[][] recommended;
+        private final long[] popular;
+
+        private Model(LongIntMap projectIndex, long[][] related, LongIntMap userIndex,
+                      long[][] recommended, long[] popular) {
+            this.projectIndex = projectIndex;
+            this.related = related;
+            this.userIndex = userIndex;
+            this.recommended = recommended;
+            this.popular = popular;
+        }
+    }
+}
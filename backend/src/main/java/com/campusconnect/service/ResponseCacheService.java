@@ -0,0 +1,239 @@
+package com.campusconnect.service;
+
+import com.campusconnect.event.EventDeletedEvent;
+import com.campusconnect.event.EventRegisteredEvent;
+import com.campusconnect.event.EventSavedEvent;
+import com.campusconnect.event.EventUnregisteredEvent;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectLikedEvent;
+import com.campusconnect.event.ProjectSavedEvent;
+import com.campusconnect.event.ProjectUnlikedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service holding fully serialized responses of public read endpoints
+ *
+ * Each entry keeps the JSON body both as-is and gzip-compressed, so a hit is a single write of bytes
+ * that were produced once. Entries are tagged with the entity types they were built from; the domain
+ * event of a write to one of those types bumps the tag's generation after commit, which drops the
+ * entries and also rejects any response that was being built from data read before the write. Once
+ * max-entries is reached the least recently used entry makes room for the new one.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class ResponseCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheService.class);
+
+    public static final String TAG_EVENTS = "events";
+    public static final String TAG_PROJECTS = "projects";
+    public static final String TAG_ANNOUNCEMENTS = "announcements";
+
+    private static final String CACHE_NAME = "response";
+
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    // Access-ordered, so the eldest entry is the least recently used; guarded by itself
+    private final LinkedHashMap<String, Entry> entries;
+
+    // Named like Micrometer's own cache meters, so hit ratio queries work the same for every cache
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public ResponseCacheService(@Value("${app.response-cache.max-entries:1000}") int maxEntries,
+                                MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("cache.gets").tags("cache", CACHE_NAME, "result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tags("cache", CACHE_NAME, "result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+        Gauge.builder("cache.size", this, ResponseCacheService::size).tag("cache", CACHE_NAME).register(meterRegistry);
+        logger.info("ResponseCacheService initialized successfully");
+    }
+
+    /**
+     * Get a live entry, or null when it is missing, expired or built before one of its tags changed
+     */
+    public Entry get(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && (!isCurrent(entry.tags, entry.generations)
+                    || entry.expiresAt < System.currentTimeMillis())) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * Capture the current generation of each tag before a response is built
+     */
+    public long[] generations(String[] tags) {
+        long[] current = new long[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            current[i] = generations.getOrDefault(tags[i], 0L);
+        }
+        return current;
+    }
+
+    /**
+     * Store a serialized response unless one of its tags changed while it was being built, evicting the
+     * least recently used entry when the cache is full
+     */
+    public void put(String key, String[] tags, long[] builtAt, long ttlMillis, byte[] json) {
+        if (!isCurrent(tags, builtAt)) {
+            return;
+        }
+        Entry entry = new Entry(json, gzip(json), tags, builtAt, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Number of entries held, including expired ones not yet dropped
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        evict(TAG_PROJECTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        evict(TAG_PROJECTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectLiked(ProjectLikedEvent event) {
+        evict(TAG_PROJECTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectUnliked(ProjectUnlikedEvent event) {
+        evict(TAG_PROJECTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent event) {
+        evict(TAG_EVENTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventDeleted(EventDeletedEvent event) {
+        evict(TAG_EVENTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRegistered(EventRegisteredEvent event) {
+        evict(TAG_EVENTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventUnregistered(EventUnregisteredEvent event) {
+        evict(TAG_EVENTS);
+    }
+
+    /**
+     * Drop every response built from the given entity types now, for callers already running after commit
+     */
+    public void evict(String... tags) {
+        for (String tag : tags) {
+            generations.merge(tag, 1L, Long::sum);
+        }
+        purgeStale();
+    }
+
+    private boolean isCurrent(String[] tags, long[] builtAt) {
+        for (int i = 0; i < tags.length; i++) {
+            if (generations.getOrDefault(tags[i], 0L) != builtAt[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void purgeStale() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.expiresAt < now || !isCurrent(entry.tags, entry.generations));
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * One cached response body in both encodings
+     */
+    public static final class Entry {
+
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final String[] tags;
+        private final long[] generations;
+        private final long expiresAt;
+
+        private Entry(byte[] identity, byte[] gzip, String[] tags, long[] generations, long expiresAt) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.tags = tags;
+            this.generations = generations;
+            this.expiresAt = expiresAt;
+        }
+
+        public byte[] getIdentity() {
+            return identity;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
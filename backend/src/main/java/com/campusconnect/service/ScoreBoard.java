@@ -0,0 +1,208 @@
+package com.campusconnect.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * In-memory leaderboard over per-user integer scores
+ *
+ * Keeps a bounded, ordered top set that is maintained incrementally and a Fenwick tree of how many users
+ * hold each score, so a user's rank is one prefix sum (O(log maxScore)) rather than a scan. Ties share a
+ * rank (1, 2, 2, 4). Only users with a positive score are ranked.
+ *
+ * @author Campus Connect Team
+ */
+final class ScoreBoard {
+
+    private final int capacity;
+    private final Map<Long, Integer> scores = new HashMap<>();
+    private final TreeSet<Entry> top = new TreeSet<>();
+    private int[] scoreCounts = new int[65];
+    private int rankedUsers;
+
+    private volatile List<Entry> topView = List.of();
+
+    ScoreBoard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add a delta to a user's score
+     */
+    synchronized void add(long userId, int delta) {
+        int oldScore = scores.getOrDefault(userId, 0);
+        set(userId, oldScore, Math.max(0, oldScore + delta));
+    }
+
+    /**
+     * Load scores into an empty board in one pass, used when rebuilding from SQL
+     */
+    synchronized void load(Map<Long, Integer> initialScores) {
+        int maxScore = 0;
+        for (Map.Entry<Long, Integer> score : initialScores.entrySet()) {
+            if (score.getValue() > 0) {
+                scores.put(score.getKey(), score.getValue());
+                maxScore = Math.max(maxScore, score.getValue());
+            }
+        }
+        rankedUsers = scores.size();
+        grow(maxScore);
+        refillTop();
+        topView = List.copyOf(top);
+    }
+
+    /**
+     * Get the 1-based rank of a user, or 0 when the user has no score
+     */
+    synchronized int rankOf(long userId) {
+        int score = scores.getOrDefault(userId, 0);
+        return score > 0 ? 1 + countAbove(score) : 0;
+    }
+
+    synchronized int scoreOf(long userId) {
+        return scores.getOrDefault(userId, 0);
+    }
+
+    synchronized int rankedUsers() {
+        return rankedUsers;
+    }
+
+    /**
+     * Get the current top entries, highest score first
+     */
+    List<Entry> top(int limit) {
+        List<Entry> view = topView;
+        return view.size() <= limit ? view : view.subList(0, limit);
+    }
+
+    private void set(long userId, int oldScore, int newScore) {
+        if (oldScore == newScore) {
+            return;
+        }
+        if (newScore >= scoreCounts.length) {
+            grow(newScore);
+        }
+
+        if (oldScore > 0) {
+            updateCount(oldScore, -1);
+            rankedUsers--;
+        }
+        if (newScore > 0) {
+            scores.put(userId, newScore);
+            updateCount(newScore, 1);
+            rankedUsers++;
+        } else {
+            scores.remove(userId);
+        }
+
+        updateTop(userId, oldScore, newScore);
+    }
+
+    /**
+     * Keep the top set equal to the highest |top| scores: every user outside it scores no more than its minimum
+     */
+    private void updateTop(long userId, int oldScore, int newScore) {
+        boolean wasMember = top.remove(new Entry(userId, oldScore));
+        Entry entry = new Entry(userId, newScore);
+
+        if (newScore > 0) {
+            if (wasMember) {
+                // A member that dropped below the rest of the set may now rank below some outsider
+                if (top.isEmpty() || newScore >= top.last().score || top.size() + 1 >= rankedUsers) {
+                    top.add(entry);
+                }
+            } else if (top.size() < capacity || entry.compareTo(top.last()) < 0) {
+                top.add(entry);
+                if (top.size() > capacity) {
+                    top.pollLast();
+                }
+            }
+        }
+
+        if (top.size() < Math.min(capacity, rankedUsers)) {
+            refillTop();
+        }
+        topView = List.copyOf(top);
+    }
+
+    private void refillTop() {
+        top.clear();
+        for (Map.Entry<Long, Integer> score : scores.entrySet()) {
+            Entry entry = new Entry(score.getKey(), score.getValue());
+            if (top.size() < capacity) {
+                top.add(entry);
+            } else if (entry.compareTo(top.last()) < 0) {
+                top.pollLast();
+                top.add(entry);
+            }
+        }
+    }
+
+    // Fenwick tree over scores: index i counts users whose score is exactly i
+
+    private void updateCount(int score, int delta) {
+        for (int i = score; i < scoreCounts.length; i += i & -i) {
+            scoreCounts[i] += delta;
+        }
+    }
+
+    private int countAtMost(int score) {
+        int count = 0;
+        for (int i = Math.min(score, scoreCounts.length - 1); i > 0; i -= i & -i) {
+            count += scoreCounts[i];
+        }
+        return count;
+    }
+
+    private int countAbove(int score) {
+        return rankedUsers - countAtMost(score);
+    }
+
+    private void grow(int score) {
+        // Rebuild from the raw scores; simpler than re-deriving the new tree nodes
+        scoreCounts = new int[Math.max(score + 1, scoreCounts.length * 2)];
+        for (int existing : scores.values()) {
+            updateCount(existing, 1);
+        }
+    }
+
+    /**
+     * A user's score, ordered highest score first and then by user ID
+     */
+    static final class Entry implements Comparable<Entry> {
+
+        final long userId;
+        final int score;
+
+        Entry(long userId, int score) {
+            this.userId = userId;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = Integer.compare(other.score, score);
+            return byScore != 0 ? byScore : Long.compare(userId, other.userId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry entry = (Entry) o;
+            return userId == entry.userId && score == entry.score;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(userId) * 31 + score;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{userId=" + userId + ", score=" + score + '}';
+        }
+    }
+}
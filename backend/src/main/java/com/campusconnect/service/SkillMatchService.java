@@ -0,0 +1,217 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.SkillMatchResponse;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.ProjectStatus;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectSavedEvent;
+import com.campusconnect.event.UserDeletedEvent;
+import com.campusconnect.event.UserSavedEvent;
+import com.campusconnect.exception.BusinessLogicException;
+import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service matching students to projects seeking collaborators by skills
+ *
+ * Matching runs against an in-memory SkillMatcher that is loaded from the database on a schedule and
+ * updated from project and user domain events after commit. As with quick search, changes committed
+ * during a reload are replayed onto the new matcher before it is swapped in.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class SkillMatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMatchService.class);
+
+    private static final int MAX_LIMIT = 50;
+
+    private static final String OPEN_PROJECTS_SQL =
+            "SELECT p.id, p.title, p.owner_id, s.skill FROM projects p " +
+            "JOIN project_skills s ON s.project_id = p.id " +
+            "WHERE p.is_active = TRUE AND p.status = 'SEEKING_COLLABORATORS' ORDER BY p.id";
+
+    private static final String USER_SKILLS_SQL =
+            "SELECT u.id, u.first_name, u.last_name, s.skill FROM users u " +
+            "JOIN user_skills s ON s.user_id = u.id " +
+            "WHERE u.is_active = TRUE ORDER BY u.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepository;
+
+    private final Object changeLock = new Object();
+    private final List<Consumer<SkillMatcher>> changesDuringReload = new ArrayList<>();
+    private boolean reloading;
+
+    private volatile SkillMatcher matcher = new SkillMatcher();
+
+    @Autowired
+    public SkillMatchService(JdbcTemplate jdbcTemplate, ProjectRepository projectRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectRepository = projectRepository;
+        logger.info("SkillMatchService initialized successfully");
+    }
+
+    /**
+     * Get open projects that best fit a student's skills profile
+     */
+    public List<SkillMatchResponse> matchProjects(Long userId, int limit) {
+        return toResponses(matcher.matchProjects(userId, clamp(limit)));
+    }
+
+    /**
+     * Get students whose skills best fit one of the owner's open projects
+     */
+    public List<SkillMatchResponse> matchCandidates(Long projectId, Long ownerId, int limit) {
+        Project project = projectRepository.findByIdAndIsActive(projectId, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+        if (!project.getOwner().getId().equals(ownerId)) {
+            throw new BusinessLogicException("Only the project owner can view collaborator candidates");
+        }
+        return toResponses(matcher.matchCandidates(projectId, clamp(limit)));
+    }
+
+    /**
+     * Reload all skill profiles from the database and swap them in
+     */
+    @Scheduled(fixedDelayString = "${app.skill-matching.reload-interval-ms:3600000}")
+    public void reload() {
+        synchronized (changeLock) {
+            reloading = true;
+            changesDuringReload.clear();
+        }
+
+        SkillMatcher rebuilt = new SkillMatcher();
+        try {
+            ProfileRows projects = new ProfileRows();
+            jdbcTemplate.query(OPEN_PROJECTS_SQL, rs -> {
+                long id = rs.getLong("id");
+                if (projects.startsNew(id)) {
+                    projects.flush(rows -> rebuilt.putProject(rows.id, rows.label, rows.ownerId, rows.skills));
+                    projects.start(id, rs.getString("title"), rs.getLong("owner_id"));
+                }
+                projects.skills.add(rs.getString("skill"));
+            });
+            projects.flush(rows -> rebuilt.putProject(rows.id, rows.label, rows.ownerId, rows.skills));
+
+            ProfileRows users = new ProfileRows();
+            jdbcTemplate.query(USER_SKILLS_SQL, rs -> {
+                long id = rs.getLong("id");
+                if (users.startsNew(id)) {
+                    users.flush(rows -> rebuilt.putUser(rows.id, rows.label, rows.skills));
+                    users.start(id, rs.getString("first_name") + " " + rs.getString("last_name"), id);
+                }
+                users.skills.add(rs.getString("skill"));
+            });
+            users.flush(rows -> rebuilt.putUser(rows.id, rows.label, rows.skills));
+        } catch (Exception e) {
+            logger.error("Error reloading skill profiles", e);
+            synchronized (changeLock) {
+                reloading = false;
+                changesDuringReload.clear();
+            }
+            return;
+        }
+
+        synchronized (changeLock) {
+            changesDuringReload.forEach(change -> change.accept(rebuilt));
+            changesDuringReload.clear();
+            matcher = rebuilt;
+            reloading = false;
+        }
+        logger.debug("Skill profiles reloaded");
+    }
+
+    /**
+     * Index a project's required skills while it is seeking collaborators, otherwise drop it
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        long projectId = event.getProjectId();
+        if (!event.isActive() || event.getStatus() != ProjectStatus.SEEKING_COLLABORATORS) {
+            change(current -> current.removeProject(projectId));
+            return;
+        }
+        change(current -> current.putProject(projectId, event.getTitle(), event.getOwnerId(), event.getRequiredSkills()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        change(current -> current.removeProject(event.getProjectId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        change(current -> current.putUser(event.getUserId(), event.getFullName(), event.getSkills()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        change(current -> current.removeUser(event.getUserId()));
+    }
+
+    /**
+     * Apply a committed change to the live matcher, and remember it for the matcher a running reload is building
+     */
+    private void change(Consumer<SkillMatcher> change) {
+        synchronized (changeLock) {
+            change.accept(matcher);
+            if (reloading) {
+                changesDuringReload.add(change);
+            }
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static List<SkillMatchResponse> toResponses(List<SkillMatcher.Match> matches) {
+        List<SkillMatchResponse> responses = new ArrayList<>(matches.size());
+        for (SkillMatcher.Match match : matches) {
+            responses.add(new SkillMatchResponse(match.id, match.label, Math.round(match.score * 1000) / 1000.0,
+                    match.matchedSkills, match.missingSkills));
+        }
+        return responses;
+    }
+
+    /**
+     * Collects the skill rows of one project or user while streaming rows ordered by ID
+     */
+    private static final class ProfileRows {
+
+        private long id = -1;
+        private String label;
+        private long ownerId;
+        private final List<String> skills = new ArrayList<>();
+
+        private boolean startsNew(long rowId) {
+            return rowId != id;
+        }
+
+        private void start(long rowId, String rowLabel, long rowOwnerId) {
+            id = rowId;
+            label = rowLabel;
+            ownerId = rowOwnerId;
+        }
+
+        private void flush(Consumer<ProfileRows> sink) {
+            if (id >= 0 && !skills.isEmpty()) {
+                sink.accept(this);
+            }
+            skills.clear();
+        }
+    }
+}
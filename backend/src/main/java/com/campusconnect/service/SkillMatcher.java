@@ -0,0 +1,301 @@
+package com.campusconnect.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Skill matching between open projects and students
+ *
+ * Skills are interned to small integer IDs (after the same folding as tag autocomplete), so every project
+ * and user is a long[] bitset. Candidate pairs are found with AND + popcount over a few words; only pairs
+ * that share a skill pay for the weighted score, which favours skills few open projects ask for.
+ *
+ * Skill IDs are never reused within a matcher, so the intern tables only grow while it is live. They
+ * are bounded by the distinct skills seen since the last reload: SkillMatchService builds a fresh matcher
+ * on every reload, which interns only the skills of current profiles.
+ *
+ * @author Campus Connect Team
+ */
+final class SkillMatcher {
+
+    // Grow until the next reload replaces this matcher
+    private final Map<String, Integer> skillIds = new HashMap<>();
+    private final List<String> skillLabels = new ArrayList<>();
+    private int[] projectFrequency = new int[64];
+
+    private final Map<Long, Profile> projects = new HashMap<>();
+    private final Map<Long, Profile> users = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void putProject(long projectId, String title, long ownerId, Collection<String> skills) {
+        lock.writeLock().lock();
+        try {
+            removeProjectLocked(projectId);
+            Profile profile = new Profile(projectId, title, ownerId, bits(skills));
+            if (profile.skillCount > 0) {
+                projects.put(projectId, profile);
+                forEachSkill(profile.bits, skill -> projectFrequency[skill]++);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeProject(long projectId) {
+        lock.writeLock().lock();
+        try {
+            removeProjectLocked(projectId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putUser(long userId, String fullName, Collection<String> skills) {
+        lock.writeLock().lock();
+        try {
+            Profile profile = new Profile(userId, fullName, userId, bits(skills));
+            if (profile.skillCount > 0) {
+                users.put(userId, profile);
+            } else {
+                users.remove(userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeUser(long userId) {
+        lock.writeLock().lock();
+        try {
+            users.remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank open projects by how much of each project's needs the user covers
+     */
+    List<Match> matchProjects(long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            Profile user = users.get(userId);
+            if (user == null) {
+                return List.of();
+            }
+            double[] weights = weights();
+            PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Match.WORST_FIRST);
+            for (Profile project : projects.values()) {
+                if (project.ownerId != userId) {
+                    offer(best, limit, project, user, project, weights);
+                }
+            }
+            return sorted(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank students by how much of an open project's needs they cover
+     */
+    List<Match> matchCandidates(long projectId, int limit) {
+        lock.readLock().lock();
+        try {
+            Profile project = projects.get(projectId);
+            if (project == null) {
+                return List.of();
+            }
+            double[] weights = weights();
+            PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Match.WORST_FIRST);
+            for (Profile user : users.values()) {
+                if (user.id != project.ownerId) {
+                    offer(best, limit, user, user, project, weights);
+                }
+            }
+            return sorted(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void offer(PriorityQueue<Match> best, int limit, Profile result, Profile user, Profile project,
+                       double[] weights) {
+        long[] needed = project.bits;
+        long[] offered = user.bits;
+        int words = Math.min(needed.length, offered.length);
+
+        int shared = 0;
+        for (int w = 0; w < words; w++) {
+            shared += Long.bitCount(needed[w] & offered[w]);
+        }
+        if (shared == 0) {
+            return;
+        }
+
+        double matchedWeight = 0;
+        for (int w = 0; w < words; w++) {
+            long common = needed[w] & offered[w];
+            while (common != 0) {
+                matchedWeight += weights[w * 64 + Long.numberOfTrailingZeros(common)];
+                common &= common - 1;
+            }
+        }
+        double score = matchedWeight / project.totalWeight(weights);
+
+        if (best.size() < limit || score > best.peek().score) {
+            best.add(new Match(result.id, result.label, score, user.bits, project.bits));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private List<Match> sorted(PriorityQueue<Match> best) {
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.WORST_FIRST.reversed());
+        for (Match match : matches) {
+            match.resolveLabels(this);
+        }
+        return matches;
+    }
+
+    /**
+     * Inverse project frequency: a skill few open projects need says more about a match
+     */
+    private double[] weights() {
+        double[] weights = new double[skillLabels.size()];
+        int openProjects = projects.size();
+        for (int skill = 0; skill < weights.length; skill++) {
+            weights[skill] = Math.log(1.0 + (double) openProjects / (1 + projectFrequency[skill]));
+        }
+        return weights;
+    }
+
+    private void removeProjectLocked(long projectId) {
+        Profile previous = projects.remove(projectId);
+        if (previous != null) {
+            forEachSkill(previous.bits, skill -> projectFrequency[skill]--);
+        }
+    }
+
+    private long[] bits(Collection<String> skills) {
+        long[] bits = new long[(skillLabels.size() + 63) / 64 + 1];
+        if (skills == null) {
+            return bits;
+        }
+        for (String skill : skills) {
+            String key = TagTrie.key(skill);
+            if (key.isEmpty()) {
+                continue;
+            }
+            Integer id = skillIds.get(key);
+            if (id == null) {
+                id = skillLabels.size();
+                skillIds.put(key, id);
+                skillLabels.add(skill.trim());
+                if (id == projectFrequency.length) {
+                    projectFrequency = Arrays.copyOf(projectFrequency, id * 2);
+                }
+            }
+            if (id / 64 >= bits.length) {
+                bits = Arrays.copyOf(bits, id / 64 + 1);
+            }
+            bits[id / 64] |= 1L << (id % 64);
+        }
+        return bits;
+    }
+
+    private static void forEachSkill(long[] bits, SkillConsumer consumer) {
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                consumer.accept(w * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SkillConsumer {
+        void accept(int skill);
+    }
+
+    /**
+     * A project's required skills or a user's skills profile
+     */
+    private static final class Profile {
+
+        private final long id;
+        private final String label;
+        private final long ownerId;
+        private final long[] bits;
+        private final int skillCount;
+
+        private Profile(long id, String label, long ownerId, long[] bits) {
+            this.id = id;
+            this.label = label;
+            this.ownerId = ownerId;
+            this.bits = bits;
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            this.skillCount = count;
+        }
+
+        private double totalWeight(double[] weights) {
+            double total = 0;
+            for (int w = 0; w < bits.length; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    total += weights[w * 64 + Long.numberOfTrailingZeros(word)];
+                    word &= word - 1;
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * A ranked project or candidate with the skills it matched and missed
+     */
+    static final class Match {
+
+        private static final Comparator<Match> WORST_FIRST =
+                Comparator.<Match>comparingDouble(match -> match.score)
+                        .thenComparing(match -> match.id, Comparator.reverseOrder());
+
+        final long id;
+        final String label;
+        final double score;
+        final List<String> matchedSkills = new ArrayList<>();
+        final List<String> missingSkills = new ArrayList<>();
+
+        private final long[] offered;
+        private final long[] needed;
+
+        private Match(long id, String label, double score, long[] offered, long[] needed) {
+            this.id = id;
+            this.label = label;
+            this.score = score;
+            this.offered = offered;
+            this.needed = needed;
+        }
+
+        private void resolveLabels(SkillMatcher matcher) {
+            forEachSkill(needed, skill -> {
+                int word = skill / 64;
+                boolean has = word < offered.length && (offered[word] & (1L << (skill % 64))) != 0;
+                (has ? matchedSkills : missingSkills).add(matcher.skillLabels.get(skill));
+            });
+        }
+    }
+}
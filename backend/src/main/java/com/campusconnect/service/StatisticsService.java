@@ -0,0 +1,218 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.PlatformStatisticsResponse;
+import com.campusconnect.entity.DifficultyLevel;
+import com.campusconnect.entity.ProjectStatus;
+import com.campusconnect.entity.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service maintaining platform-wide statistics
+ *
+ * Counters are adjusted in memory after each committed write and periodically replaced by the result of
+ * one aggregate SQL pass, which bounds any drift to a single reconcile interval. Reads return an
+ * immutable snapshot that is only rebuilt when a counter changed since the last read.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class StatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
+
+    private static final String UNSPECIFIED = "Unspecified";
+    private static final String TOTAL = "total";
+
+    private static final String RECONCILE_SQL =
+            "SELECT 'USERS_BY_ROLE' AS dimension, role AS bucket, COUNT(*) AS total FROM users WHERE is_active = TRUE GROUP BY role " +
+            "UNION ALL SELECT 'USERS_BY_DEPARTMENT', department, COUNT(*) FROM users WHERE is_active = TRUE GROUP BY department " +
+            "UNION ALL SELECT 'USERS_BY_ACADEMIC_YEAR', academic_year, COUNT(*) FROM users WHERE is_active = TRUE GROUP BY academic_year " +
+            "UNION ALL SELECT 'PROJECTS_BY_STATUS', status, COUNT(*) FROM projects WHERE is_active = TRUE GROUP BY status " +
+            "UNION ALL SELECT 'PROJECTS_BY_DIFFICULTY', difficulty_level, COUNT(*) FROM projects WHERE is_active = TRUE GROUP BY difficulty_level " +
+            "UNION ALL SELECT 'PROJECTS_BY_CATEGORY', category, COUNT(*) FROM projects WHERE is_active = TRUE GROUP BY category " +
+            "UNION ALL SELECT 'EVENTS_BY_CATEGORY', category, COUNT(*) FROM events WHERE is_active = TRUE GROUP BY category " +
+            "UNION ALL SELECT 'REGISTRATIONS', NULL, COUNT(*) FROM event_registrations " +
+            "UNION ALL SELECT 'LIKES', NULL, COUNT(*) FROM project_likes";
+
+    private enum Dimension {
+        USERS_BY_ROLE,
+        USERS_BY_DEPARTMENT,
+        USERS_BY_ACADEMIC_YEAR,
+        PROJECTS_BY_STATUS,
+        PROJECTS_BY_DIFFICULTY,
+        PROJECTS_BY_CATEGORY,
+        EVENTS_BY_CATEGORY,
+        REGISTRATIONS,
+        LIKES
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Counters counters = new Counters(null);
+    private volatile PlatformStatisticsResponse snapshot;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    @Autowired
+    public StatisticsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshot = counters.toSnapshot();
+        logger.info("StatisticsService initialized successfully");
+    }
+
+    /**
+     * Get the current statistics snapshot
+     */
+    public PlatformStatisticsResponse getStatistics() {
+        if (dirty.getAndSet(false)) {
+            snapshot = counters.toSnapshot();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Recount everything with a single aggregate query and replace the in-memory counters
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Counters reconciled = new Counters(LocalDateTime.now());
+            jdbcTemplate.query(RECONCILE_SQL, rs -> {
+                Dimension dimension = Dimension.valueOf(rs.getString("dimension"));
+                reconciled.add(dimension, rs.getString("bucket"), rs.getLong("total"));
+            });
+
+            counters = reconciled;
+            dirty.set(true);
+            logger.debug("Platform statistics reconciled: {}", getStatistics());
+        } catch (Exception e) {
+            logger.error("Error reconciling platform statistics", e);
+        }
+    }
+
+    /**
+     * Count an active user in (delta 1) or out of (delta -1) the statistics
+     */
+    public void recordUser(UserRole role, String department, String academicYear, int delta) {
+        TransactionHooks.afterCommit(() -> {
+            Counters current = counters;
+            current.add(Dimension.USERS_BY_ROLE, role != null ? role.name() : null, delta);
+            current.add(Dimension.USERS_BY_DEPARTMENT, department, delta);
+            current.add(Dimension.USERS_BY_ACADEMIC_YEAR, academicYear, delta);
+            dirty.set(true);
+        });
+    }
+
+    /**
+     * Move an active user between department and academic year buckets
+     */
+    public void recordUserChange(UserRole role, String oldDepartment, String oldAcademicYear,
+                                 String newDepartment, String newAcademicYear) {
+        if (Objects.equals(oldDepartment, newDepartment) && Objects.equals(oldAcademicYear, newAcademicYear)) {
+            return;
+        }
+        recordUser(role, oldDepartment, oldAcademicYear, -1);
+        recordUser(role, newDepartment, newAcademicYear, 1);
+    }
+
+    /**
+     * Count an active project in (delta 1) or out of (delta -1) the statistics
+     */
+    public void recordProject(ProjectStatus status, DifficultyLevel difficulty, String category, int delta) {
+        TransactionHooks.afterCommit(() -> {
+            Counters current = counters;
+            current.add(Dimension.PROJECTS_BY_STATUS, status != null ? status.name() : null, delta);
+            current.add(Dimension.PROJECTS_BY_DIFFICULTY, difficulty != null ? difficulty.name() : null, delta);
+            current.add(Dimension.PROJECTS_BY_CATEGORY, category, delta);
+            dirty.set(true);
+        });
+    }
+
+    /**
+     * Count an active event in (delta 1) or out of (delta -1) the statistics
+     */
+    public void recordEvent(String category, int delta) {
+        adjust(Dimension.EVENTS_BY_CATEGORY, category, delta);
+    }
+
+    public void recordRegistration(int delta) {
+        adjust(Dimension.REGISTRATIONS, TOTAL, delta);
+    }
+
+    public void recordLike(int delta) {
+        adjust(Dimension.LIKES, TOTAL, delta);
+    }
+
+    private void adjust(Dimension dimension, String bucket, long delta) {
+        TransactionHooks.afterCommit(() -> {
+            counters.add(dimension, bucket, delta);
+            dirty.set(true);
+        });
+    }
+
+    /**
+     * Mutable counters for every dimension, replaced wholesale on reconcile
+     */
+    private static final class Counters {
+
+        private final Map<Dimension, Map<String, LongAdder>> dimensions = new EnumMap<>(Dimension.class);
+        private final LocalDateTime reconciledAt;
+
+        private Counters(LocalDateTime reconciledAt) {
+            this.reconciledAt = reconciledAt;
+            for (Dimension dimension : Dimension.values()) {
+                dimensions.put(dimension, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void add(Dimension dimension, String bucket, long delta) {
+            String key = bucket != null && !bucket.isBlank() ? bucket : UNSPECIFIED;
+            if (dimension == Dimension.REGISTRATIONS || dimension == Dimension.LIKES) {
+                key = TOTAL;
+            }
+            dimensions.get(dimension).computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+
+        private Map<String, Long> counts(Dimension dimension) {
+            Map<String, Long> counts = new HashMap<>();
+            dimensions.get(dimension).forEach((bucket, adder) -> {
+                long value = adder.sum();
+                if (value > 0) {
+                    counts.put(bucket, value);
+                }
+            });
+            return counts;
+        }
+
+        private long total(Dimension dimension) {
+            return counts(dimension).getOrDefault(TOTAL, 0L);
+        }
+
+        private PlatformStatisticsResponse toSnapshot() {
+            return new PlatformStatisticsResponse(
+                    counts(Dimension.USERS_BY_ROLE),
+                    counts(Dimension.USERS_BY_DEPARTMENT),
+                    counts(Dimension.USERS_BY_ACADEMIC_YEAR),
+                    counts(Dimension.PROJECTS_BY_STATUS),
+                    counts(Dimension.PROJECTS_BY_DIFFICULTY),
+                    counts(Dimension.PROJECTS_BY_CATEGORY),
+                    counts(Dimension.EVENTS_BY_CATEGORY),
+                    total(Dimension.REGISTRATIONS),
+                    total(Dimension.LIKES),
+                    reconciledAt);
+        }
+    }
+}
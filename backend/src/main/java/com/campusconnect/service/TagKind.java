@@ -0,0 +1,36 @@
+package com.campusconnect.service;
+
+import com.campusconnect.exception.BadRequestException;
+
+import java.util.Arrays;
+
+/**
+ * Vocabularies offered by tag autocomplete
+ * TAGS covers project and event tags; SKILLS covers project required skills.
+ *
+ * @author Campus Connect Team
+ */
+public enum TagKind {
+    TAGS("tags"),
+    SKILLS("skills");
+
+    private final String slug;
+
+    TagKind(String slug) {
+        this.slug = slug;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * Resolve a vocabulary from its request parameter value
+     */
+    public static TagKind fromSlug(String slug) {
+        return Arrays.stream(values())
+                .filter(kind -> kind.slug.equalsIgnoreCase(slug))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown tag kind: " + slug));
+    }
+}
@@ -0,0 +1,180 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.TagSuggestionResponse;
+import com.campusconnect.event.EventDeletedEvent;
+import com.campusconnect.event.EventSavedEvent;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectSavedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service answering tag and skill autocomplete from in-memory tries
+ *
+ * Usage counts are adjusted from project and event domain events after commit and periodically rebuilt with
+ * one aggregate query, in the same way as the platform statistics. As with quick search, changes committed
+ * during a rebuild are replayed onto the new tries before they are swapped in.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class TagSuggestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagSuggestionService.class);
+
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private static final String REBUILD_SQL =
+            "SELECT 'TAGS' AS kind, t.tag AS label, COUNT(*) AS uses FROM project_tags t " +
+            "JOIN projects p ON p.id = t.project_id WHERE p.is_active = TRUE GROUP BY t.tag " +
+            "UNION ALL SELECT 'TAGS', t.tag, COUNT(*) FROM event_tags t " +
+            "JOIN events e ON e.id = t.event_id WHERE e.is_active = TRUE GROUP BY t.tag " +
+            "UNION ALL SELECT 'SKILLS', s.skill, COUNT(*) FROM project_skills s " +
+            "JOIN projects p ON p.id = s.project_id WHERE p.is_active = TRUE GROUP BY s.skill";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Object changeLock = new Object();
+    private final List<Consumer<Map<TagKind, TagTrie>>> changesDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+
+    private volatile Map<TagKind, TagTrie> tries = emptyTries();
+
+    @Autowired
+    public TagSuggestionService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        logger.info("TagSuggestionService initialized successfully");
+    }
+
+    /**
+     * Get the most used tags or skills starting with a prefix
+     */
+    public List<TagSuggestionResponse> suggest(TagKind kind, String prefix, int limit) {
+        return tries.get(kind).suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS))).stream()
+                .map(suggestion -> new TagSuggestionResponse(suggestion.label, suggestion.count))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        recordTags(TagKind.TAGS, event.getPreviousTags(), event.getTags());
+        recordTags(TagKind.SKILLS, event.getPreviousRequiredSkills(), event.getRequiredSkills());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        recordTags(TagKind.TAGS, event.getTags(), List.of());
+        recordTags(TagKind.SKILLS, event.getRequiredSkills(), List.of());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent event) {
+        recordTags(TagKind.TAGS, event.getPreviousTags(), event.getTags());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventDeleted(EventDeletedEvent event) {
+        recordTags(TagKind.TAGS, event.getTags(), List.of());
+    }
+
+    /**
+     * Move usage counts from the tags an entity had to the tags it has now
+     */
+    private void recordTags(TagKind kind, Collection<String> previous, Collection<String> current) {
+        Set<String> removed = distinct(previous);
+        Set<String> added = distinct(current);
+        Set<String> unchanged = new LinkedHashSet<>(removed);
+        unchanged.retainAll(added);
+        removed.removeAll(unchanged);
+        added.removeAll(unchanged);
+
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        change(live -> {
+            TagTrie trie = live.get(kind);
+            removed.forEach(tag -> trie.add(tag, -1));
+            added.forEach(tag -> trie.add(tag, 1));
+        });
+    }
+
+    /**
+     * Apply a committed change to the live tries, and remember it for the tries a running rebuild is building
+     */
+    private void change(Consumer<Map<TagKind, TagTrie>> change) {
+        synchronized (changeLock) {
+            change.accept(tries);
+            if (rebuilding) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    /**
+     * Rebuild both tries from the database and swap them in
+     */
+    @Scheduled(fixedDelayString = "${app.tags.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        synchronized (changeLock) {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        }
+
+        Map<TagKind, TagTrie> rebuilt = emptyTries();
+        try {
+            jdbcTemplate.query(REBUILD_SQL, rs -> {
+                rebuilt.get(TagKind.valueOf(rs.getString("kind"))).add(rs.getString("label"), rs.getInt("uses"));
+            });
+        } catch (Exception e) {
+            logger.error("Error rebuilding tag suggestion tries", e);
+            synchronized (changeLock) {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            }
+            return;
+        }
+
+        synchronized (changeLock) {
+            // A change committed just before the query started is counted twice until the next rebuild
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild.clear();
+            tries = rebuilt;
+            rebuilding = false;
+        }
+        logger.debug("Tag suggestion tries rebuilt");
+    }
+
+    private static Map<TagKind, TagTrie> emptyTries() {
+        Map<TagKind, TagTrie> tries = new EnumMap<>(TagKind.class);
+        for (TagKind kind : TagKind.values()) {
+            tries.put(kind, new TagTrie(MAX_SUGGESTIONS));
+        }
+        return tries;
+    }
+
+    private static Set<String> distinct(Collection<String> tags) {
+        Set<String> distinct = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    distinct.add(tag.trim());
+                }
+            }
+        }
+        return distinct;
+    }
+}
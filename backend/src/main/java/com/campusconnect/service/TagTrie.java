@@ -0,0 +1,185 @@
+package com.campusconnect.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie of tags or skills ranked by how many active projects and events use them
+ *
+ * Keys are folded (case, diacritics, punctuation and spaces removed), so "ReactJS", "react.js" and "React JS"
+ * share a single entry shown with its most common spelling. Each node caches its best
+ * completions, so a lookup walks the prefix and returns that cached list; updates refresh the caches
+ * on the path back to the root.
+ *
+ * @author Campus Connect Team
+ */
+final class TagTrie {
+
+    private final int suggestionsPerNode;
+    private final Node root = new Node();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    TagTrie(int suggestionsPerNode) {
+        this.suggestionsPerNode = suggestionsPerNode;
+    }
+
+    /**
+     * Adjust the usage count of a tag, remembering the spelling it was used with
+     */
+    void add(String label, int delta) {
+        String key = key(label);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                path.add(node);
+            }
+
+            String spelling = label.trim();
+            node.count = Math.max(0, node.count + delta);
+            node.spellings.merge(spelling, delta, Integer::sum);
+            node.spellings.values().removeIf(count -> count <= 0);
+
+            for (int i = path.size() - 1; i >= 0; i--) {
+                refresh(path.get(i));
+            }
+            prune(path, key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the most used tags starting with a prefix
+     */
+    List<Suggestion> suggest(String prefix, int limit) {
+        String key = key(prefix);
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<Suggestion> best = node.best;
+            return best.size() <= limit ? best : best.subList(0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether no entry is left, and so no node below the root
+     */
+    boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return root.children.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String key(String label) {
+        if (label == null) {
+            return "";
+        }
+        String folded = TextFolding.fold(label);
+        StringBuilder key = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Recompute a node's best completions from its own entry and its children's cached lists
+     */
+    private void refresh(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        String label = node.displayLabel();
+        if (node.count > 0 && label != null) {
+            candidates.add(new Suggestion(label, node.count));
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.best);
+        }
+        candidates.sort(null);
+        node.best = List.copyOf(candidates.size() <= suggestionsPerNode
+                ? candidates
+                : candidates.subList(0, suggestionsPerNode));
+    }
+
+    /**
+     * Drop nodes left without any entry below them
+     */
+    private void prune(List<Node> path, String key) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (node.count > 0 || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Map<String, Integer> spellings = new HashMap<>(2);
+        private int count;
+        private List<Suggestion> best = List.of();
+
+        /**
+         * The spelling most projects and events used for this entry
+         */
+        private String displayLabel() {
+            String label = null;
+            int labelCount = 0;
+            for (Map.Entry<String, Integer> spelling : spellings.entrySet()) {
+                if (spelling.getValue() > labelCount
+                        || (spelling.getValue() == labelCount && spelling.getKey().compareTo(label) < 0)) {
+                    label = spelling.getKey();
+                    labelCount = spelling.getValue();
+                }
+            }
+            return label;
+        }
+    }
+
+    /**
+     * A completion and its usage count, ordered most used first and then alphabetically
+     */
+    static final class Suggestion implements Comparable<Suggestion> {
+
+        final String label;
+        final int count;
+
+        Suggestion(String label, int count) {
+            this.label = label;
+            this.count = count;
+        }
+
+        @Override
+        public int compareTo(Suggestion other) {
+            int byCount = Integer.compare(other.count, count);
+            return byCount != 0 ? byCount : label.compareToIgnoreCase(other.label);
+        }
+    }
+}
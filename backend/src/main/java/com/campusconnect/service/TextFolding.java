@@ -0,0 +1,26 @@
+package com.campusconnect.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Case and diacritic folding shared by the in-memory search structures
+ *
+ * @author Campus Connect Team
+ */
+final class TextFolding {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private TextFolding() {
+    }
+
+    /**
+     * Lower-case text and strip combining marks, so accented and plain spellings compare equal
+     */
+    static String fold(String text) {
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,323 @@
+package com.campusconnect.service;
+
+import com.campusconnect.event.FileStoredEvent;
+import com.campusconnect.exception.BadRequestException;
+import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Square thumbnails of uploaded images, for avatars and cards
+ *
+ * Every stored image gets its thumbnails generated on a small bounded pool right after upload. A
+ * thumbnail requested before that has finished joins the running generation instead of starting
+ * another: one generation per image is in flight at a time, and it decodes the image once for all
+ * sizes. Thumbnails sit next to the original as <hash>-<size>.<ext> and, like it, never change.
+ *
+ * Images are decoded with ImageIO, subsampled so the decoded raster stays small, center-cropped and
+ * scaled down in halving steps. The JDK has no WebP decoder, so WebP images are served as they are.
+ * An image that cannot be decoded, or is over app.thumbnails.max-pixels, gets a <hash>.nothumb marker
+ * instead and is served as it is from then on, without another attempt.
+ *
+ * @author Campus Connect Team
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    public static final List<Integer> SIZES = List.of(32, 64, 256);
+
+    // Decode at about twice the largest size so the last scaling step still has detail to work with
+    private static final int DECODE_SIZE = 512;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static final String UNDECODABLE_SUFFIX = ".nothumb";
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter failures;
+    private final long maxPixels;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ThumbnailService(FileStorageService fileStorageService, MdcTaskDecorator mdcTaskDecorator,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.thumbnails.concurrency:2}") int concurrency,
+                            @Value("${app.thumbnails.queue-capacity:500}") int queueCapacity,
+                            @Value("${app.thumbnails.max-pixels:50000000}") long maxPixels) {
+        this.fileStorageService = fileStorageService;
+        this.maxPixels = maxPixels;
+        this.failures = Counter.builder("thumbnails.failed")
+                .description("Images that could not be decoded for thumbnails and are served at full size")
+                .register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setTaskDecorator(mdcTaskDecorator);
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "thumbnails");
+        logger.info("ThumbnailService initialized successfully");
+    }
+
+    /**
+     * Queue thumbnail generation for a freshly stored image
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileStored(FileStoredEvent event) {
+        FileStorageService.StoredFile file = fileStorageService.resolve(event.getFileId());
+        if (thumbnailType(file.type()) == null || isUndecodable(file)) {
+            return;
+        }
+        generate(file).exceptionally(ex -> {
+            logger.debug("Thumbnail queue full; {} will be generated on first request", file.id());
+            return null;
+        });
+    }
+
+    /**
+     * One thumbnail of an image, generated first if needed. Completes with the original when the image
+     * cannot be thumbnailed, and fails with TaskRejectedException when the pool is saturated.
+     */
+    public CompletableFuture<FileStorageService.StoredFile> thumbnail(FileStorageService.StoredFile original, int size) {
+        if (!SIZES.contains(size)) {
+            throw new BadRequestException("Unsupported thumbnail size " + size + "; allowed: " + SIZES);
+        }
+        if (!original.type().isImage()) {
+            throw new ResourceNotFoundException("Thumbnail", "id", original.id());
+        }
+        FileType type = thumbnailType(original.type());
+        if (type == null || isUndecodable(original)) {
+            return CompletableFuture.completedFuture(original);
+        }
+
+        Optional<FileStorageService.StoredFile> existing = find(original, size, type);
+        if (existing.isPresent()) {
+            return CompletableFuture.completedFuture(existing.get());
+        }
+        return generate(original).thenApply(ignored -> find(original, size, type).orElse(original));
+    }
+
+    /**
+     * Generate the missing thumbnails of an image, or join the generation already running for it
+     */
+    private CompletableFuture<Void> generate(FileStorageService.StoredFile original) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(original.hash(), created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    writeThumbnails(original);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Could not write thumbnails for {}", original.id(), e);
+                } finally {
+                    inFlight.remove(original.hash(), created);
+                    created.complete(null);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(original.hash(), created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void writeThumbnails(FileStorageService.StoredFile original) throws IOException {
+        FileType type = thumbnailType(original.type());
+        List<Integer> missing = SIZES.stream()
+                .filter(size -> find(original, size, type).isEmpty())
+                .toList();
+        if (missing.isEmpty() || isUndecodable(original)) {
+            return;
+        }
+
+        BufferedImage square;
+        try {
+            square = cropToSquare(decode(original));
+        } catch (IOException | RuntimeException e) {
+            markUndecodable(original, e);
+            return;
+        }
+        for (int size : missing) {
+            BufferedImage thumbnail = scale(square, size, type);
+            Path temp = fileStorageService.createIncomingFile();
+            try {
+                encode(thumbnail, type, temp);
+                fileStorageService.moveIntoPlace(temp, fileStorageService.locate(name(original, size, type)));
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        logger.debug("Generated {} thumbnails {}", original.id(), missing);
+    }
+
+    /**
+     * Remember that an image cannot be thumbnailed, so later requests serve it without decoding again
+     */
+    private void markUndecodable(FileStorageService.StoredFile original, Exception cause) throws IOException {
+        failures.increment();
+        logger.warn("Serving {} without thumbnails: {}", original.id(), cause.toString());
+        Path temp = fileStorageService.createIncomingFile();
+        try {
+            fileStorageService.moveIntoPlace(temp, fileStorageService.locate(original.hash() + UNDECODABLE_SUFFIX));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean isUndecodable(FileStorageService.StoredFile original) {
+        return Files.exists(fileStorageService.locate(original.hash() + UNDECODABLE_SUFFIX));
+    }
+
+    /**
+     * Decode an image from disk, skipping rows and columns so the result is about DECODE_SIZE across
+     */
+    private BufferedImage decode(FileStorageService.StoredFile original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.path().toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + original.type());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image of " + width + "x" + height + " exceeds app.thumbnails.max-pixels");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.min(width, height) / DECODE_SIZE);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage cropToSquare(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        return image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+    }
+
+    /**
+     * Scale a square image to size, halving at most per bilinear step so no source pixels are skipped
+     */
+    private BufferedImage scale(BufferedImage image, int size, FileType type) {
+        boolean opaque = type == FileType.JPEG;
+        BufferedImage current = image;
+        int side = image.getWidth();
+        do {
+            side = Math.max(size, side / 2);
+            BufferedImage next = new BufferedImage(side, side,
+                    opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (opaque) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, side, side);
+                }
+                graphics.drawImage(current, 0, 0, side, side, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (side > size);
+        return current;
+    }
+
+    private void encode(BufferedImage image, FileType type, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(type == FileType.JPEG ? "jpeg" : "png").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (type == FileType.JPEG) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private Optional<FileStorageService.StoredFile> find(FileStorageService.StoredFile original, int size, FileType type) {
+        String name = name(original, size, type);
+        Path path = fileStorageService.locate(name);
+        try {
+            return Optional.of(new FileStorageService.StoredFile(name, type, Files.size(path), true, path));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String name(FileStorageService.StoredFile original, int size, FileType type) {
+        return original.hash() + "-" + size + "." + type.getExtension();
+    }
+
+    /**
+     * Format thumbnails of a type are written in: JPEG stays JPEG, PNG and GIF become PNG to keep
+     * transparency, and null for types ImageIO cannot decode
+     */
+    private static FileType thumbnailType(FileType type) {
+        return switch (type) {
+            case JPEG -> FileType.JPEG;
+            case PNG, GIF -> FileType.PNG;
+            default -> null;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
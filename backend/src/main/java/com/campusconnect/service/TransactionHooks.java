@@ -0,0 +1,30 @@
+package com.campusconnect.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for deferring in-memory side effects until the current transaction commits
+ *
+ * @author Campus Connect Team
+ */
+final class TransactionHooks {
+
+    private TransactionHooks() {}
+
+    /**
+     * Run the action once the surrounding transaction commits, or immediately when there is none
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
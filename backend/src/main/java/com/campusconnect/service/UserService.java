@@ -2,24 +2,41 @@ package com.campusconnect.service;
 
 import com.campusconnect.dto.request.UserRegistrationRequest;
 import com.campusconnect.dto.request.UserUpdateRequest;
+import com.campusconnect.dto.response.PlatformStatisticsResponse;
 import com.campusconnect.dto.response.UserResponse;
 import com.campusconnect.entity.User;
 import com.campusconnect.entity.UserRole;
+import com.campusconnect.event.UserDeletedEvent;
+import com.campusconnect.event.UserSavedEvent;
 import com.campusconnect.exception.BadRequestException;
 import com.campusconnect.exception.ResourceNotFoundException;
+import com.campusconnect.logging.SampledLogger;
+import com.campusconnect.repository.SparseFieldQuery;
 import com.campusconnect.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for User entity operations
@@ -33,13 +50,30 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    // Read paths run on every page view, so their debug output is throttled
+    private static final SampledLogger sampledLogger = SampledLogger.of(logger, 20);
+
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final int maxBatchIds;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       StatisticsService statisticsService,
+                       ApplicationEventPublisher eventPublisher,
+                       SparseFieldQuery sparseFieldQuery,
+                       @Value("${app.batch.max-ids:100}") int maxBatchIds) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.statisticsService = statisticsService;
+        this.eventPublisher = eventPublisher;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.maxBatchIds = maxBatchIds;
         logger.info("UserService initialized successfully");
     }
 
@@ -50,41 +84,37 @@ public class UserService {
      */
     public UserResponse createUser(UserRegistrationRequest registrationRequest) {
         logger.info("Creating new user with email: {}", registrationRequest.getEmail());
+
+        // Check if user already exists
+        if (userRepository.existsByEmail(registrationRequest.getEmail())) {
+            logger.warn("Attempt to create user with existing email: {}", registrationRequest.getEmail());
+            throw new BadRequestException("User with this email already exists");
+        }
         
-        try {
-            // Check if user already exists
-            if (userRepository.existsByEmail(registrationRequest.getEmail())) {
-                logger.warn("Attempt to create user with existing email: {}", registrationRequest.getEmail());
-                throw new BadRequestException("User with this email already exists");
-            }
-            
-            if (userRepository.existsByUsername(registrationRequest.getUsername())) {
-                logger.warn("Attempt to create user with existing username: {}", registrationRequest.getUsername());
-                throw new BadRequestException("User with this username already exists");
-            }
-
-            // Create new user entity
-            User user = new User();
-            user.setUsername(registrationRequest.getUsername());
-            user.setEmail(registrationRequest.getEmail());
-            user.setPasswordHash(passwordEncoder.encode(registrationRequest.getPassword()));
-            user.setFirstName(registrationRequest.getFirstName());
-            user.setLastName(registrationRequest.getLastName());
-            user.setRole(UserRole.STUDENT); // Default role
-            user.setDepartment(registrationRequest.getDepartment());
-            user.setAcademicYear(registrationRequest.getAcademicYear());
-            user.setIsActive(true);
-            user.setEmailVerified(false);
-
-            User savedUser = userRepository.save(user);
-            logger.info("Successfully created user with ID: {} and email: {}", savedUser.getId(), savedUser.getEmail());
-            
-            return convertToUserResponse(savedUser);
-            
-        } catch (Exception e) {
-            logger.error("Error creating user with email: {}", registrationRequest.getEmail(), e);
-            throw new RuntimeException("Failed to create user", e);
+        if (userRepository.existsByUsername(registrationRequest.getUsername())) {
+            logger.warn("Attempt to create user with existing username: {}", registrationRequest.getUsername());
+            throw new BadRequestException("User with this username already exists");
         }
+
+        // Create new user entity
+        User user = new User();
+        user.setUsername(registrationRequest.getUsername());
+        user.setEmail(registrationRequest.getEmail());
+        user.setPasswordHash(passwordEncoder.encode(registrationRequest.getPassword()));
+        user.setFirstName(registrationRequest.getFirstName());
+        user.setLastName(registrationRequest.getLastName());
+        user.setRole(UserRole.STUDENT); // Default role
+        user.setDepartment(registrationRequest.getDepartment());
+        user.setAcademicYear(registrationRequest.getAcademicYear());
+        user.setIsActive(true);
+        user.setEmailVerified(false);
+
+        User savedUser = userRepository.save(user);
+        statisticsService.recordUser(savedUser.getRole(), savedUser.getDepartment(), savedUser.getAcademicYear(), 1);
+        eventPublisher.publishEvent(new UserSavedEvent(savedUser));
+        logger.info("Successfully created user with ID: {} and email: {}", savedUser.getId(), savedUser.getEmail());
+        
+        return convertToUserResponse(savedUser);
     }
 
     /**
@@ -94,24 +124,16 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long userId) {
-        logger.debug("Fetching user with ID: {}", userId);
+        sampledLogger.debug("Fetching user with ID: {}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    logger.warn("User not found with ID: {}", userId);
+                    return new ResourceNotFoundException("User", "id", userId);
+                });
         
-        try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.warn("User not found with ID: {}", userId);
-                        return new ResourceNotFoundException("User", "id", userId);
-                    });
-            
-            logger.debug("Successfully fetched user with ID: {}", userId);
-            return convertToUserResponse(user);
-            
-        } catch (ResourceNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error fetching user with ID: {}", userId, e);
-            throw new RuntimeException("Failed to fetch user", e);
-        }
+        sampledLogger.debug("Successfully fetched user with ID: {}", userId);
+        return convertToUserResponse(user);
     }
 
     /**
@@ -121,24 +143,16 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserResponse getUserByEmail(String email) {
-        logger.debug("Fetching user with email: {}", email);
+        sampledLogger.debug("Fetching user with email: {}", email);
+
+        User user = userRepository.findByEmailAndIsActive(email, true)
+                .orElseThrow(() -> {
+                    logger.warn("Active user not found with email: {}", email);
+                    return new ResourceNotFoundException("User", "email", email);
+                });
         
-        try {
-            User user = userRepository.findByEmailAndIsActive(email, true)
-                    .orElseThrow(() -> {
-                        logger.warn("Active user not found with email: {}", email);
-                        return new ResourceNotFoundException("User", "email", email);
-                    });
-            
-            logger.debug("Successfully fetched user with email: {}", email);
-            return convertToUserResponse(user);
-            
-        } catch (ResourceNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error fetching user with email: {}", email, e);
-            throw new RuntimeException("Failed to fetch user", e);
-        }
+        sampledLogger.debug("Successfully fetched user with email: {}", email);
+        return convertToUserResponse(user);
     }
 
     /**
@@ -149,54 +163,81 @@ public class UserService {
      */
     public UserResponse updateUser(Long userId, UserUpdateRequest updateRequest) {
         logger.info("Updating user with ID: {}", userId);
-        
-        try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.warn("User not found for update with ID: {}", userId);
-                        return new ResourceNotFoundException("User", "id", userId);
-                    });
-
-            // Update user fields
-            if (updateRequest.getFirstName() != null) {
-                user.setFirstName(updateRequest.getFirstName());
-            }
-            if (updateRequest.getLastName() != null) {
-                user.setLastName(updateRequest.getLastName());
-            }
-            if (updateRequest.getDepartment() != null) {
-                user.setDepartment(updateRequest.getDepartment());
-            }
-            if (updateRequest.getAcademicYear() != null) {
-                user.setAcademicYear(updateRequest.getAcademicYear());
-            }
-            if (updateRequest.getBio() != null) {
-                user.setBio(updateRequest.getBio());
-            }
-            if (updateRequest.getLocation() != null) {
-                user.setLocation(updateRequest.getLocation());
-            }
-            if (updateRequest.getGithubUsername() != null) {
-                user.setGithubUsername(updateRequest.getGithubUsername());
-            }
-            if (updateRequest.getLinkedinUsername() != null) {
-                user.setLinkedinUsername(updateRequest.getLinkedinUsername());
-            }
-            if (updateRequest.getWebsiteUrl() != null) {
-                user.setWebsiteUrl(updateRequest.getWebsiteUrl());
-            }
-
-            User updatedUser = userRepository.save(user);
-            logger.info("Successfully updated user with ID: {}", userId);
-            
-            return convertToUserResponse(updatedUser);
-            
-        } catch (ResourceNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error updating user with ID: {}", userId, e);
-            throw new RuntimeException("Failed to update user", e);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    logger.warn("User not found for update with ID: {}", userId);
+                    return new ResourceNotFoundException("User", "id", userId);
+                });
+
+        String previousDepartment = user.getDepartment();
+        String previousAcademicYear = user.getAcademicYear();
+
+        // Update user fields
+        if (updateRequest.getFirstName() != null) {
+            user.setFirstName(updateRequest.getFirstName());
+        }
+        if (updateRequest.getLastName() != null) {
+            user.setLastName(updateRequest.getLastName());
         }
+        if (updateRequest.getDepartment() != null) {
+            user.setDepartment(updateRequest.getDepartment());
+        }
+        if (updateRequest.getAcademicYear() != null) {
+            user.setAcademicYear(updateRequest.getAcademicYear());
+        }
+        if (updateRequest.getBio() != null) {
+            user.setBio(updateRequest.getBio());
+        }
+        if (updateRequest.getLocation() != null) {
+            user.setLocation(updateRequest.getLocation());
+        }
+        if (updateRequest.getGithubUsername() != null) {
+            user.setGithubUsername(updateRequest.getGithubUsername());
+        }
+        if (updateRequest.getLinkedinUsername() != null) {
+            user.setLinkedinUsername(updateRequest.getLinkedinUsername());
+        }
+        if (updateRequest.getWebsiteUrl() != null) {
+            user.setWebsiteUrl(updateRequest.getWebsiteUrl());
+        }
+        if (updateRequest.getSkills() != null) {
+            // user_skills is keyed by (user_id, skill), so blanks and repeats are dropped
+            user.setSkills(updateRequest.getSkills().stream()
+                    .filter(skill -> skill != null && !skill.isBlank())
+                    .map(String::trim)
+                    .distinct()
+                    .collect(Collectors.toCollection(ArrayList::new)));
+        }
+
+        User updatedUser = userRepository.save(user);
+        if (Boolean.TRUE.equals(updatedUser.getIsActive())) {
+            statisticsService.recordUserChange(updatedUser.getRole(), previousDepartment, previousAcademicYear,
+                    updatedUser.getDepartment(), updatedUser.getAcademicYear());
+            eventPublisher.publishEvent(new UserSavedEvent(updatedUser));
+        }
+        logger.info("Successfully updated user with ID: {}", userId);
+        
+        return convertToUserResponse(updatedUser);
+    }
+
+    /**
+     * Point a user's avatar at an uploaded image
+     * @param userId the user ID
+     * @param avatarUrl download URL of the stored image
+     * @return updated user response
+     */
+    public UserResponse updateAvatar(Long userId, String avatarUrl) {
+        logger.info("Updating avatar for user ID: {}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        user.setAvatarUrl(avatarUrl);
+        User updatedUser = userRepository.save(user);
+        logger.info("Successfully updated avatar for user ID: {}", userId);
+
+        return convertToUserResponse(updatedUser);
     }
 
     /**
@@ -205,25 +246,46 @@ public class UserService {
      */
     public void deleteUser(Long userId) {
         logger.info("Soft deleting user with ID: {}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    logger.warn("User not found for deletion with ID: {}", userId);
+                    return new ResourceNotFoundException("User", "id", userId);
+                });
+
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
+        user.setIsActive(false);
+        userRepository.save(user);
+        if (wasActive) {
+            statisticsService.recordUser(user.getRole(), user.getDepartment(), user.getAcademicYear(), -1);
+        }
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
         
-        try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.warn("User not found for deletion with ID: {}", userId);
-                        return new ResourceNotFoundException("User", "id", userId);
-                    });
-
-            user.setIsActive(false);
-            userRepository.save(user);
-            
-            logger.info("Successfully soft deleted user with ID: {}", userId);
-            
-        } catch (ResourceNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error deleting user with ID: {}", userId, e);
-            throw new RuntimeException("Failed to delete user", e);
+        logger.info("Successfully soft deleted user with ID: {}", userId);
+    }
+
+    /**
+     * Get the public profiles of several active users by ID in one round trip
+     * @param userIds the user IDs, answered in this order; unknown or deleted users are skipped
+     * @return list of public user responses, without contact or activity details
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> getUsersByIds(Collection<Long> userIds) {
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > maxBatchIds) {
+            throw new BadRequestException("At most " + maxBatchIds + " user IDs can be requested at once");
         }
+        sampledLogger.debug("Fetching {} users by ID", ids.size());
+
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<Long> found = ids.stream().filter(users::containsKey).toList();
+        Map<Long, List<String>> skills = sparseFieldQuery.findElements(User.class, "skills", found);
+
+        return found.stream()
+                .map(id -> convertToPublicUserResponse(users.get(id), skills.getOrDefault(id, List.of())))
+                .toList();
     }
 
     /**
@@ -233,42 +295,62 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(Pageable pageable) {
-        logger.debug("Fetching all users with pagination: page={}, size={}", 
+        sampledLogger.debug("Fetching all users with pagination: page={}, size={}", 
                     pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<User> users = userRepository.findByIsActive(true, pageable);
+        sampledLogger.debug("Successfully fetched {} users", users.getTotalElements());
         
-        try {
-            Page<User> users = userRepository.findByIsActive(true, pageable);
-            logger.debug("Successfully fetched {} users", users.getTotalElements());
-            
-            return users.map(this::convertToUserResponse);
-            
-        } catch (Exception e) {
-            logger.error("Error fetching all users", e);
-            throw new RuntimeException("Failed to fetch users", e);
-        }
+        return users.map(this::convertToUserResponse);
     }
 
     /**
-     * Search users by name or email
-     * @param searchTerm the search term
+     * Typeahead people search by name or email prefix, with fuzzy name matching
+     * @param query the raw search term
+     * @param department optional department filter
+     * @param academicYear optional academic year filter
      * @param pageable pagination information
-     * @return page of user responses
+     * @return slice of matching users, best matches first
      */
     @Transactional(readOnly = true)
-    public Page<UserResponse> searchUsers(String searchTerm, Pageable pageable) {
-        logger.debug("Searching users with term: '{}', page={}, size={}", 
-                    searchTerm, pageable.getPageNumber(), pageable.getPageSize());
-        
-        try {
-            Page<User> users = userRepository.searchUsers(searchTerm, pageable);
-            logger.debug("Found {} users matching search term: '{}'", users.getTotalElements(), searchTerm);
-            
-            return users.map(this::convertToUserResponse);
-            
-        } catch (Exception e) {
-            logger.error("Error searching users with term: '{}'", searchTerm, e);
-            throw new RuntimeException("Failed to search users", e);
+    public Slice<UserResponse> searchUsers(String query, String department, String academicYear, Pageable pageable) {
+        sampledLogger.debug("Searching users with term: '{}', department: {}, academicYear: {}, page={}, size={}",
+                    query, department, academicYear, pageable.getPageNumber(), pageable.getPageSize());
+
+        String term = normalizeSearchTerm(query);
+        if (term.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        // The offset follows the clamped size, so page N of an oversized request is still rows N*50 onwards
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SEARCH_RESULTS));
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<User> users = userRepository.searchPeople(term, escaped + "%", "% " + escaped + "%",
+                blankToNull(department), blankToNull(academicYear), page.getPageSize() + 1, page.getOffset());
+
+        boolean hasNext = users.size() > page.getPageSize();
+        List<User> found = users.stream().limit(page.getPageSize()).toList();
+        Map<Long, List<String>> skills = sparseFieldQuery.findElements(User.class, "skills",
+                found.stream().map(User::getId).toList());
+        List<UserResponse> content = found.stream()
+                .map(user -> convertToUserResponse(user, skills.getOrDefault(user.getId(), List.of())))
+                .toList();
+
+        sampledLogger.debug("Found {} users matching search term: '{}'", content.size(), term);
+        return new SliceImpl<>(content, page, hasNext);
+    }
+
+    private static String normalizeSearchTerm(String query) {
+        if (query == null) {
+            return "";
         }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
     /**
@@ -279,19 +361,13 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public Page<UserResponse> getUsersByRole(UserRole role, Pageable pageable) {
-        logger.debug("Fetching users with role: {}, page={}, size={}", 
+        sampledLogger.debug("Fetching users with role: {}, page={}, size={}", 
                     role, pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<User> users = userRepository.findByRole(role, pageable);
+        sampledLogger.debug("Found {} users with role: {}", users.getTotalElements(), role);
         
-        try {
-            Page<User> users = userRepository.findByRole(role, pageable);
-            logger.debug("Found {} users with role: {}", users.getTotalElements(), role);
-            
-            return users.map(this::convertToUserResponse);
-            
-        } catch (Exception e) {
-            logger.error("Error fetching users with role: {}", role, e);
-            throw new RuntimeException("Failed to fetch users by role", e);
-        }
+        return users.map(this::convertToUserResponse);
     }
 
     /**
@@ -302,19 +378,13 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public Page<UserResponse> getUsersByDepartment(String department, Pageable pageable) {
-        logger.debug("Fetching users in department: {}, page={}, size={}", 
+        sampledLogger.debug("Fetching users in department: {}, page={}, size={}", 
                     department, pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<User> users = userRepository.findByDepartment(department, pageable);
+        sampledLogger.debug("Found {} users in department: {}", users.getTotalElements(), department);
         
-        try {
-            Page<User> users = userRepository.findByDepartment(department, pageable);
-            logger.debug("Found {} users in department: {}", users.getTotalElements(), department);
-            
-            return users.map(this::convertToUserResponse);
-            
-        } catch (Exception e) {
-            logger.error("Error fetching users in department: {}", department, e);
-            throw new RuntimeException("Failed to fetch users by department", e);
-        }
+        return users.map(this::convertToUserResponse);
     }
 
     /**
@@ -340,22 +410,21 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserStatistics getUserStatistics() {
-        logger.debug("Fetching user statistics");
+        sampledLogger.debug("Fetching user statistics");
+
+        // Served from the statistics snapshot instead of three count queries per call
+        PlatformStatisticsResponse platform = statisticsService.getStatistics();
+        Map<String, Long> usersByRole = platform.getUsersByRole();
+
+        UserStatistics stats = new UserStatistics(
+                platform.getTotalUsers(),
+                usersByRole.getOrDefault(UserRole.STUDENT.name(), 0L),
+                usersByRole.getOrDefault(UserRole.ADMIN.name(), 0L),
+                platform.getUsersByDepartment(),
+                platform.getUsersByAcademicYear());
+        sampledLogger.debug("Successfully fetched user statistics: {}", stats);
         
-        try {
-            long totalUsers = userRepository.countByIsActive(true);
-            long totalStudents = userRepository.countByRole(UserRole.STUDENT);
-            long totalAdmins = userRepository.countByRole(UserRole.ADMIN);
-            
-            UserStatistics stats = new UserStatistics(totalUsers, totalStudents, totalAdmins);
-            logger.debug("Successfully fetched user statistics: {}", stats);
-            
-            return stats;
-            
-        } catch (Exception e) {
-            logger.error("Error fetching user statistics", e);
-            throw new RuntimeException("Failed to fetch user statistics", e);
-        }
+        return stats;
     }
 
     /**
@@ -364,18 +433,12 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<String> getAllDepartments() {
-        logger.debug("Fetching all departments");
+        sampledLogger.debug("Fetching all departments");
+
+        List<String> departments = userRepository.findAllDepartments();
+        sampledLogger.debug("Found {} departments", departments.size());
         
-        try {
-            List<String> departments = userRepository.findAllDepartments();
-            logger.debug("Found {} departments", departments.size());
-            
-            return departments;
-            
-        } catch (Exception e) {
-            logger.error("Error fetching departments", e);
-            throw new RuntimeException("Failed to fetch departments", e);
-        }
+        return departments;
     }
 
     /**
@@ -384,6 +447,16 @@ public class UserService {
      * @return the user response DTO
      */
     private UserResponse convertToUserResponse(User user) {
+        return convertToUserResponse(user, user.getSkills());
+    }
+
+    /**
+     * Convert User entity to UserResponse DTO with already-loaded skills
+     * @param user the user entity
+     * @param skills the user's skills
+     * @return the user response DTO
+     */
+    private UserResponse convertToUserResponse(User user, List<String> skills) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
         response.setEmail(user.getEmail());
@@ -399,6 +472,7 @@ public class UserService {
         response.setLinkedinUsername(user.getLinkedinUsername());
         response.setWebsiteUrl(user.getWebsiteUrl());
         response.setLocation(user.getLocation());
+        response.setSkills(skills);
         response.setEmailVerified(user.getEmailVerified());
         response.setCreatedAt(user.getCreatedAt());
         response.setLastLogin(user.getLastLogin());
@@ -406,6 +480,21 @@ public class UserService {
         return response;
     }
 
+    /**
+     * Convert User entity to a UserResponse DTO that any signed-in user may see
+     * @param user the user entity
+     * @param skills the user's skills
+     * @return the user response DTO without email, verification status or last login
+     */
+    private UserResponse convertToPublicUserResponse(User user, List<String> skills) {
+        UserResponse response = convertToUserResponse(user, skills);
+        response.setEmail(null);
+        response.setEmailVerified(null);
+        response.setLastLogin(null);
+
+        return response;
+    }
+
     /**
      * User statistics inner class
      */
@@ -413,16 +502,27 @@ public class UserService {
         private final long totalUsers;
         private final long totalStudents;
         private final long totalAdmins;
+        private final Map<String, Long> usersByDepartment;
+        private final Map<String, Long> usersByAcademicYear;
 
         public UserStatistics(long totalUsers, long totalStudents, long totalAdmins) {
+            this(totalUsers, totalStudents, totalAdmins, Map.of(), Map.of());
+        }
+
+        public UserStatistics(long totalUsers, long totalStudents, long totalAdmins,
+                              Map<String, Long> usersByDepartment, Map<String, Long> usersByAcademicYear) {
             this.totalUsers = totalUsers;
             this.totalStudents = totalStudents;
             this.totalAdmins = totalAdmins;
+            this.usersByDepartment = usersByDepartment;
+            this.usersByAcademicYear = usersByAcademicYear;
         }
 
         public long getTotalUsers() { return totalUsers; }
         public long getTotalStudents() { return totalStudents; }
         public long getTotalAdmins() { return totalAdmins; }
+        public Map<String, Long> getUsersByDepartment() { return usersByDepartment; }
+        public Map<String, Long> getUsersByAcademicYear() { return usersByAcademicYear; }
 
         @Override
         public String toString() {
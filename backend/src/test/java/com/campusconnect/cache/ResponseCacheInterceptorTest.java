@@ -0,0 +1,149 @@
+package com.campusconnect.cache;
+
+import com.campusconnect.service.ResponseCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache lookups of ResponseCacheInterceptor, including the re-dispatch of an async controller result,
+ * key normalization and eviction once the cache is full
+ *
+ * @author Campus Connect Team
+ */
+class ResponseCacheInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCacheService responseCacheService;
+    private ResponseCacheInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        responseCacheService = new ResponseCacheService(100, meterRegistry);
+        interceptor = new ResponseCacheInterceptor(responseCacheService);
+        handler = new HandlerMethod(new Handlers(), Handlers.class.getMethod("projects"));
+    }
+
+    @Test
+    void asyncDispatchKeepsTheSnapshotOfTheFirstDispatch() throws Exception {
+        MockHttpServletRequest request = get();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, handler)).isTrue();
+        Object pending = request.getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE);
+
+        // A write commits while the async controller is still building its response from old data
+        responseCacheService.evict(ResponseCacheService.TAG_PROJECTS);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertThat(interceptor.preHandle(request, response, handler)).isTrue();
+
+        assertThat(request.getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE)).isSameAs(pending);
+        assertThat(misses()).isEqualTo(1.0);
+        assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+
+        ResponseCacheInterceptor.Pending miss = (ResponseCacheInterceptor.Pending) pending;
+        responseCacheService.put(miss.key(), miss.tags(), miss.generations(), miss.ttlMillis(), json());
+        assertThat(responseCacheService.get(miss.key())).isNull();
+    }
+
+    @Test
+    void hitIsServedWithoutCallingTheController() throws Exception {
+        MockHttpServletRequest first = get();
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler);
+        ResponseCacheInterceptor.Pending miss =
+                (ResponseCacheInterceptor.Pending) first.getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE);
+        responseCacheService.put(miss.key(), miss.tags(), miss.generations(), miss.ttlMillis(), json());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        assertThat(interceptor.preHandle(get(), response, handler)).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(response.getHeader("X-Cache")).isEqualTo("HIT");
+        assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void keyHoldsOnlyTheHandlersParametersInNameOrder() throws Exception {
+        HandlerMethod paged = new HandlerMethod(new Handlers(),
+                Handlers.class.getMethod("pagedProjects", int.class, int.class, String.class));
+
+        MockHttpServletRequest reordered = get();
+        reordered.addParameter("size", "20");
+        reordered.addParameter("utm_source", "newsletter");
+        reordered.addParameter("page", "0");
+
+        assertThat(pendingKey(reordered, paged)).isEqualTo(pendingKey(get(), paged))
+                .isEqualTo("ANONYMOUS /api/v1/projects/featured?page=0&size=20");
+
+        MockHttpServletRequest filtered = get();
+        filtered.addParameter("fields", "title,owner.name");
+        assertThat(pendingKey(filtered, paged))
+                .isEqualTo("ANONYMOUS /api/v1/projects/featured?fields=title%2Cowner.name&page=0&size=20");
+    }
+
+    @Test
+    void fullCacheEvictsTheLeastRecentlyUsedEntry() {
+        ResponseCacheService small = new ResponseCacheService(2, meterRegistry);
+        String[] tags = {ResponseCacheService.TAG_PROJECTS};
+        long[] generations = small.generations(tags);
+
+        small.put("a", tags, generations, 60_000, json());
+        small.put("b", tags, generations, 60_000, json());
+        assertThat(small.get("a")).isNotNull();
+        small.put("c", tags, generations, 60_000, json());
+
+        assertThat(small.get("b")).isNull();
+        assertThat(small.get("a")).isNotNull();
+        assertThat(small.get("c")).isNotNull();
+        assertThat(small.size()).isEqualTo(2);
+    }
+
+    private String pendingKey(MockHttpServletRequest request, HandlerMethod handlerMethod) throws Exception {
+        interceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod);
+        Object pending = request.getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE);
+        return ((ResponseCacheInterceptor.Pending) pending).key();
+    }
+
+    private static MockHttpServletRequest get() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects/featured");
+        request.setQueryString("page=0");
+        return request;
+    }
+
+    private static byte[] json() {
+        return "[]".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double misses() {
+        return meterRegistry.get("cache.gets").tag("result", "miss").counter().count();
+    }
+
+    static class Handlers {
+
+        @CachedResponse(tags = ResponseCacheService.TAG_PROJECTS)
+        public String projects() {
+            return "[]";
+        }
+
+        @CachedResponse(tags = ResponseCacheService.TAG_PROJECTS)
+        public String pagedProjects(@RequestParam(defaultValue = "0") int page,
+                                    @RequestParam(defaultValue = "20") int size,
+                                    @RequestParam(required = false) String fields) {
+            return "[]";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.campusconnect.config;
+
+import com.campusconnect.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Access rules of the actuator endpoints, requested at their real URLs under the context path
+ *
+ * @author Campus Connect Team
+ */
+class SecurityConfigTest extends IntegrationTest {
+
+    private static final String SLOW_QUERIES = CONTEXT_PATH + "/actuator/slowqueries";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusCanBeScrapedWithoutToken() throws Exception {
+        mockMvc.perform(get(CONTEXT_PATH + "/actuator/prometheus").contextPath(CONTEXT_PATH))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void slowQueriesAreForbiddenToStudents() throws Exception {
+        mockMvc.perform(get(SLOW_QUERIES).contextPath(CONTEXT_PATH))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete(SLOW_QUERIES).contextPath(CONTEXT_PATH))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void slowQueriesRequireAuthentication() throws Exception {
+        mockMvc.perform(get(SLOW_QUERIES).contextPath(CONTEXT_PATH))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void slowQueriesAreOpenToAdmins() throws Exception {
+        mockMvc.perform(get(SLOW_QUERIES).contextPath(CONTEXT_PATH))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,192 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.exception.GlobalExceptionHandler;
+import com.campusconnect.service.FileStorageService;
+import com.campusconnect.service.FileType;
+import com.campusconnect.service.ThumbnailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * File downloads: whole files, single ranges with If-Range, unsatisfiable ranges, the sendfile and
+ * transferTo paths; thumbnails are shed with 503 when the pool is saturated, and an original served in
+ * place of its thumbnail is not cached as immutable
+ *
+ * @author Campus Connect Team
+ */
+class FileControllerTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String ID = HASH + ".png";
+    private static final String DOWNLOAD_ID = "cd".repeat(32) + ".png";
+    private static final String ETAG = "\"" + "cd".repeat(32) + "\"";
+
+    // Over the sendfile threshold
+    private static final int LENGTH = 64 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    private Path uploadDir;
+    private FileStorageService.StoredFile original;
+    private FileStorageService.StoredFile download;
+    private byte[] content;
+    private ThumbnailService thumbnailService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("files");
+        original = new FileStorageService.StoredFile(ID, FileType.PNG, 0, true,
+                Files.createFile(uploadDir.resolve(ID)));
+
+        content = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            content[i] = (byte) i;
+        }
+        download = new FileStorageService.StoredFile(DOWNLOAD_ID, FileType.PNG, LENGTH, true,
+                Files.write(uploadDir.resolve(DOWNLOAD_ID), content));
+
+        FileStorageService fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.resolve(ID)).thenReturn(original);
+        when(fileStorageService.resolve(DOWNLOAD_ID)).thenReturn(download);
+        thumbnailService = mock(ThumbnailService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new FileController(fileStorageService, thumbnailService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Test
+    void wholeFileIsSentThroughTransferTo() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, LENGTH))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    void rangeIsSentAsPartialContent() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + LENGTH))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+    }
+
+    @Test
+    void rangeWithMatchingIfRangeIsSentAsPartialContent() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID)
+                        .header(HttpHeaders.RANGE, "bytes=-10")
+                        .header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(content, LENGTH - 10, LENGTH)));
+    }
+
+    @Test
+    void rangeWithStaleIfRangeGetsTheWholeFile() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    void rangePastTheEndIsNotSatisfiable() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID)
+                        .header(HttpHeaders.RANGE, "bytes=" + LENGTH + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + LENGTH));
+    }
+
+    @Test
+    void largeBodyIsHandedToSendfile() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID).requestAttr(SENDFILE_SUPPORT, true))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, LENGTH))
+                .andExpect(request().attribute(SENDFILE_FILENAME, download.path().toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 0L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", (long) LENGTH))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void smallRangeSkipsSendfile() throws Exception {
+        mockMvc.perform(get(FileController.PATH + "/" + DOWNLOAD_ID)
+                        .requestAttr(SENDFILE_SUPPORT, true)
+                        .header(HttpHeaders.RANGE, "bytes=0-99"))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute(SENDFILE_FILENAME, nullValue()))
+                .andExpect(content().bytes(Arrays.copyOf(content, 100)));
+    }
+
+    @Test
+    void thumbnailIsShedWhenThePoolIsSaturated() throws Exception {
+        when(thumbnailService.thumbnail(eq(original), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new TaskRejectedException("Thumbnail queue is full")));
+
+        mockMvc.perform(asyncDispatch(thumbnail(64)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void thumbnailIsCachedAsImmutable() throws Exception {
+        String thumbnailId = HASH + "-64.png";
+        FileStorageService.StoredFile thumbnail = new FileStorageService.StoredFile(thumbnailId, FileType.PNG, 0,
+                true, Files.createFile(uploadDir.resolve(thumbnailId)));
+        when(thumbnailService.thumbnail(original, 64)).thenReturn(CompletableFuture.completedFuture(thumbnail));
+
+        mockMvc.perform(asyncDispatch(thumbnail(64)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"));
+    }
+
+    @Test
+    void originalServedInPlaceOfAThumbnailIsCachedBriefly() throws Exception {
+        when(thumbnailService.thumbnail(original, 64)).thenReturn(CompletableFuture.completedFuture(original));
+
+        mockMvc.perform(asyncDispatch(thumbnail(64)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=300"));
+    }
+
+    private MvcResult thumbnail(int size) throws Exception {
+        return mockMvc.perform(get(FileController.PATH + "/" + ID + "/thumbnails/" + size))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
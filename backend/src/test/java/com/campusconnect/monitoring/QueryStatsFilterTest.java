@@ -0,0 +1,155 @@
+package com.campusconnect.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request statement counting: budgets from @QueryBudget are reported when exceeded, async requests
+ * are reported on completion, and no scope outlives its request thread
+ *
+ * @author Campus Connect Team
+ */
+class QueryStatsFilterTest {
+
+    private static final String URI = "/api/v1/projects";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryStatsFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new QueryStatsFilter(meterRegistry, true, 5);
+        request = new MockHttpServletRequest("GET", URI);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.stop();
+    }
+
+    @Test
+    void requestOverItsBudgetIsReported() throws Exception {
+        filter.doFilter(request, response, handle("listing", 3));
+
+        assertThat(budgetExceeded()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("db.queries").tag("uri", URI).summary().totalAmount()).isEqualTo(3.0);
+        assertThat(response.getHeader(QueryStatsFilter.COUNT_HEADER)).isEqualTo("3");
+    }
+
+    @Test
+    void requestWithinItsBudgetIsNotReported() throws Exception {
+        filter.doFilter(request, response, handle("listing", 2));
+
+        assertThat(budgetExceeded()).isZero();
+    }
+
+    @Test
+    void requestWithoutBudgetIsNotReported() throws Exception {
+        filter.doFilter(request, response, handle("unbudgeted", 10));
+
+        assertThat(budgetExceeded()).isZero();
+    }
+
+    @Test
+    void scopeIsClearedAfterEachRequest() throws Exception {
+        AtomicReference<QueryStats> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> seen.set(QueryStats.current());
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(seen.get()).isNotNull();
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    @Test
+    void scopeIsClearedWhenTheHandlerThrows() {
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("handler failed");
+        };
+
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception expected) {
+            // The failure itself is not under test
+        }
+
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    @Test
+    void asyncRequestIsReportedWhenItCompletes() throws Exception {
+        request.setAsyncSupported(true);
+        FilterChain chain = (req, res) -> {
+            handle("listing", 3).doFilter(req, res);
+            // What the dispatcher does for a WebAsyncTask handler
+            StandardServletAsyncWebRequest asyncRequest =
+                    new StandardServletAsyncWebRequest(request, (HttpServletResponse) res);
+            WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncRequest);
+            asyncRequest.startAsync();
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(QueryStats.current()).isNull();
+        assertThat(budgetExceeded()).isZero();
+
+        request.getAsyncContext().complete();
+
+        assertThat(budgetExceeded()).isEqualTo(1.0);
+    }
+
+    /**
+     * A chain that resolves a handler method of BudgetedController, runs the given number of statements
+     * and writes a body
+     */
+    private FilterChain handle(String method, int statements) {
+        return (req, res) -> {
+            try {
+                HandlerMethod handler = new HandlerMethod(new BudgetedController(),
+                        BudgetedController.class.getMethod(method));
+                new QueryBudgetInterceptor().preHandle(request, response, handler);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            for (int i = 0; i < statements; i++) {
+                QueryStats.current().record("SELECT " + i, 1_000);
+            }
+            res.getWriter().write("[]");
+        };
+    }
+
+    private double budgetExceeded() {
+        Counter counter = meterRegistry.find("db.query.budget.exceeded").tag("uri", URI).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    static class BudgetedController {
+
+        @QueryBudget(2)
+        public void listing() {
+        }
+
+        public void unbudgeted() {
+        }
+    }
+}
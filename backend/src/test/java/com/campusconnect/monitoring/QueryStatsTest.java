@@ -0,0 +1,77 @@
+package com.campusconnect.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counting across threads: forked scopes counted concurrently and merged by the caller
+ *
+ * @author Campus Connect Team
+ */
+class QueryStatsTest {
+
+    private static final int TASKS = 4;
+    private static final int STATEMENTS_PER_TASK = 10_000;
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.stop();
+    }
+
+    @Test
+    void forkedScopesAreMergedWithoutLosingStatements() {
+        QueryStats request = QueryStats.start();
+        ExecutorService executor = Executors.newFixedThreadPool(TASKS);
+        try {
+            List<QueryStats> forks = new ArrayList<>();
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                QueryStats fork = QueryStats.fork();
+                forks.add(fork);
+                tasks.add(CompletableFuture.runAsync(() -> QueryStats.within(fork, () -> {
+                    for (int n = 0; n < STATEMENTS_PER_TASK; n++) {
+                        QueryStats.current().record("SELECT 1", 1);
+                    }
+                    return null;
+                }), executor));
+            }
+            tasks.forEach(CompletableFuture::join);
+            forks.forEach(request::merge);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(request.getStatementCount()).isEqualTo(TASKS * STATEMENTS_PER_TASK);
+        assertThat(request.getMostRepeatedCount()).isEqualTo(TASKS * STATEMENTS_PER_TASK);
+        assertThat(request.getElapsedNanos()).isEqualTo(TASKS * STATEMENTS_PER_TASK);
+    }
+
+    @Test
+    void withinRestoresTheCallersScope() {
+        QueryStats request = QueryStats.start();
+        QueryStats fork = QueryStats.fork();
+
+        QueryStats.within(fork, () -> {
+            QueryStats.current().record("SELECT 1", 1);
+            return null;
+        });
+
+        assertThat(QueryStats.current()).isSameAs(request);
+        assertThat(request.getStatementCount()).isZero();
+        assertThat(fork.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nothingIsForkedWithoutAnOpenScope() {
+        assertThat(QueryStats.fork()).isNull();
+        assertThat(QueryStats.within(null, QueryStats::current)).isNull();
+    }
+}
@@ -0,0 +1,115 @@
+package com.campusconnect.security;
+
+import com.campusconnect.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Where access tokens and live stream tokens are accepted
+ *
+ * @author Campus Connect Team
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String SECRET = "test-secret-0123456789-0123456789-0123456789-0123456789-0123456789";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtStreamExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "meterRegistry", new SimpleMeterRegistry());
+
+        UserPrincipal principal = new UserPrincipal(USER_ID, "student@campus.test", "", UserRole.STUDENT,
+                true, true, List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserById(USER_ID)).thenReturn(principal);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenProvider", tokenProvider);
+        ReflectionTestUtils.setField(filter, "customUserDetailsService", userDetailsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void streamTokenOpensLiveStream() throws Exception {
+        MockHttpServletRequest request = get("/api/v1/live/projects/1");
+        request.setParameter(JwtAuthenticationFilter.STREAM_TOKEN_PARAMETER, tokenProvider.generateStreamToken(USER_ID));
+
+        assertThat(authenticate(request)).isTrue();
+    }
+
+    @Test
+    void streamTokenIsRejectedOutsideLiveStreams() throws Exception {
+        MockHttpServletRequest request = get("/api/v1/projects");
+        request.setParameter(JwtAuthenticationFilter.STREAM_TOKEN_PARAMETER, tokenProvider.generateStreamToken(USER_ID));
+
+        assertThat(authenticate(request)).isFalse();
+    }
+
+    @Test
+    void streamTokenIsRejectedAsBearerToken() throws Exception {
+        MockHttpServletRequest request = get("/api/v1/projects");
+        request.addHeader("Authorization", "Bearer " + tokenProvider.generateStreamToken(USER_ID));
+
+        assertThat(authenticate(request)).isFalse();
+    }
+
+    @Test
+    void accessTokenIsRejectedInQueryString() throws Exception {
+        MockHttpServletRequest request = get("/api/v1/live/projects/1");
+        request.setParameter(JwtAuthenticationFilter.STREAM_TOKEN_PARAMETER, accessToken());
+
+        assertThat(authenticate(request)).isFalse();
+    }
+
+    @Test
+    void accessTokenOpensLiveStreamFromHeader() throws Exception {
+        MockHttpServletRequest request = get("/api/v1/live/projects/1");
+        request.addHeader("Authorization", "Bearer " + accessToken());
+
+        assertThat(authenticate(request)).isTrue();
+    }
+
+    private String accessToken() {
+        UserPrincipal principal = new UserPrincipal(USER_ID, "student@campus.test", "", UserRole.STUDENT,
+                true, true, List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private boolean authenticate(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication() != null;
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,117 @@
+package com.campusconnect.service;
+
+import com.campusconnect.event.EventRegisteredEvent;
+import com.campusconnect.event.EventUnregisteredEvent;
+import com.campusconnect.event.ProjectLikedEvent;
+import com.campusconnect.event.ProjectUnlikedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Badge progress accumulated from like and registration toggles
+ *
+ * @author Campus Connect Team
+ */
+class BadgeServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final Long EVENT_ID = 2L;
+    private static final Long USER_ID = 10L;
+    private static final Long OWNER_ID = 20L;
+
+    private JdbcTemplate jdbcTemplate;
+    private BadgeService badgeService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        badgeService = new BadgeService(jdbcTemplate);
+    }
+
+    @Test
+    void likeToggledBackAndForthCountsOnce() {
+        for (int i = 0; i < 5; i++) {
+            badgeService.onProjectLiked(new ProjectLikedEvent(PROJECT_ID, USER_ID, OWNER_ID));
+            badgeService.onProjectUnliked(new ProjectUnlikedEvent(PROJECT_ID, USER_ID, OWNER_ID));
+        }
+        badgeService.onProjectLiked(new ProjectLikedEvent(PROJECT_ID, USER_ID, OWNER_ID));
+
+        List<Object[]> rows = flush();
+
+        assertThat(rows).hasSize(2);
+        assertThat(progress(rows, BadgeRule.SUPPORTER, USER_ID)).isEqualTo(1);
+        assertThat(progress(rows, BadgeRule.CROWD_FAVORITE, OWNER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void likeWithdrawnBeforeFlushWritesNothing() {
+        badgeService.onProjectLiked(new ProjectLikedEvent(PROJECT_ID, USER_ID, OWNER_ID));
+        badgeService.onProjectUnliked(new ProjectUnlikedEvent(PROJECT_ID, USER_ID, OWNER_ID));
+
+        badgeService.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    @Test
+    void unlikeAfterFlushIsWrittenAsDecrement() {
+        badgeService.onProjectLiked(new ProjectLikedEvent(PROJECT_ID, USER_ID, USER_ID));
+        badgeService.flush();
+        badgeService.onProjectUnliked(new ProjectUnlikedEvent(PROJECT_ID, USER_ID, USER_ID));
+
+        ArgumentCaptor<List<Object[]>> batches = batchCaptor();
+        badgeService.flush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+
+        List<Object[]> second = batches.getAllValues().get(1);
+        // Liking your own project counts as support but not towards Crowd Favorite
+        assertThat(second).hasSize(1);
+        assertThat(progress(second, BadgeRule.SUPPORTER, USER_ID)).isEqualTo(-1);
+    }
+
+    @Test
+    void registrationToggledBackAndForthCountsOnce() {
+        for (int i = 0; i < 5; i++) {
+            badgeService.onEventRegistered(new EventRegisteredEvent(EVENT_ID, USER_ID));
+            badgeService.onEventUnregistered(new EventUnregisteredEvent(EVENT_ID, USER_ID));
+        }
+        badgeService.onEventRegistered(new EventRegisteredEvent(EVENT_ID, USER_ID));
+
+        List<Object[]> rows = flush();
+
+        assertThat(rows).hasSize(1);
+        assertThat(progress(rows, BadgeRule.EVENT_EXPLORER, USER_ID)).isEqualTo(1);
+    }
+
+    private List<Object[]> flush() {
+        ArgumentCaptor<List<Object[]>> batch = batchCaptor();
+        badgeService.flush();
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        return batch.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Object[]>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static Object progress(List<Object[]> rows, BadgeRule rule, Long userId) {
+        return rows.stream()
+                .filter(row -> row[0].equals(userId) && row[1].equals(rule.getBadgeName()))
+                .map(row -> row[4])
+                .findFirst()
+                .orElse(null);
+    }
+}
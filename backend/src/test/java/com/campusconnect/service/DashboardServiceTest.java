@@ -0,0 +1,81 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.DashboardResponse;
+import com.campusconnect.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dashboard sections: a slow section is left out, and each section runs under a statement timeout
+ *
+ * @author Campus Connect Team
+ */
+class DashboardServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final long SECTION_TIMEOUT_MS = 200;
+
+    private EventService eventService;
+    private ProjectService projectService;
+    private PlatformTransactionManager transactionManager;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = mock(EventService.class);
+        projectService = mock(ProjectService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        dashboardService = new DashboardService(eventService, projectService, new MdcTaskDecorator(),
+                new SimpleMeterRegistry(), transactionManager, 4, 10, 5, SECTION_TIMEOUT_MS);
+
+        when(eventService.getEventsRegisteredByUser(eq(USER_ID), any())).thenReturn(Page.empty());
+        when(eventService.getUpcomingFeaturedEvents(any(), eq(USER_ID))).thenReturn(Page.empty());
+        when(projectService.getProjectsByOwner(eq(USER_ID), any(), eq(USER_ID))).thenReturn(Page.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void slowSectionIsReportedUnavailable() {
+        when(projectService.getLikedProjects(eq(USER_ID), any())).thenAnswer(invocation -> {
+            Thread.sleep(SECTION_TIMEOUT_MS * 5);
+            return Page.empty();
+        });
+
+        DashboardResponse response = dashboardService.getDashboard(USER_ID);
+
+        assertThat(response.getUnavailableSections()).containsExactly("likedProjects");
+        assertThat(response.getRegisteredEvents()).isEmpty();
+        assertThat(response.getOwnedProjects()).isEmpty();
+    }
+
+    @Test
+    void sectionsRunInReadOnlyTransactionsWithTimeout() {
+        when(projectService.getLikedProjects(eq(USER_ID), any())).thenReturn(Page.empty());
+
+        DashboardResponse response = dashboardService.getDashboard(USER_ID);
+
+        assertThat(response.getUnavailableSections()).isEmpty();
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getTimeout()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.campusconnect.service;
+
+import com.campusconnect.config.EnvironmentConfig;
+import com.campusconnect.repository.EventRepository;
+import com.campusconnect.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A client that stops reading must not hold up delivery to the other streams, and a stream following
+ * many topics must get its whole initial sync
+ *
+ * @author Campus Connect Team
+ */
+class LiveUpdateServiceTest {
+
+    private static final long SEND_TIMEOUT_MS = 200;
+    private static final int MAX_TOPICS = 100;
+
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private LiveUpdateService liveUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        // Built up front: creating mocks while subscribing is slow enough to let the stall check run
+        Map<Long, ProjectRepository.ProjectCounters> countersById = new HashMap<>();
+        for (long id = 0; id <= MAX_TOPICS; id++) {
+            countersById.put(id, counters(id));
+        }
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        when(projectRepository.findCountersByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(countersById::get).toList();
+        });
+
+        EnvironmentConfig environmentConfig = new EnvironmentConfig();
+        environmentConfig.getLiveUpdates().setSenderThreads(1);
+        environmentConfig.getLiveUpdates().setSendTimeoutMs(SEND_TIMEOUT_MS);
+
+        liveUpdateService = new LiveUpdateService(projectRepository, mock(EventRepository.class),
+                new ObjectMapper().findAndRegisterModules(), environmentConfig) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitters.removeFirst();
+            }
+        };
+        liveUpdateService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        unblock.countDown();
+        liveUpdateService.stop();
+    }
+
+    @Test
+    void blockedSendDoesNotStallOtherSubscribers() throws InterruptedException {
+        CountDownLatch blockedSendStarted = new CountDownLatch(1);
+        emitters.add(new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                blockedSendStarted.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        CountDownLatch delivered = new CountDownLatch(1);
+        emitters.add(new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                delivered.countDown();
+            }
+        });
+
+        liveUpdateService.subscribe(List.of(1L), null);
+        assertThat(blockedSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        // The only sender thread is now blocked on the first stream
+        liveUpdateService.subscribe(List.of(1L), null);
+
+        assertThat(delivered.await(SEND_TIMEOUT_MS * 10, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void initialSyncOfAFullStreamIsNotDroppedAsSlow() throws InterruptedException {
+        CountDownLatch blockedSendStarted = new CountDownLatch(1);
+        emitters.add(new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                blockedSendStarted.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        CountDownLatch synced = new CountDownLatch(MAX_TOPICS);
+        emitters.add(new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                synced.countDown();
+            }
+        });
+
+        liveUpdateService.subscribe(List.of(0L), null);
+        assertThat(blockedSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        // The whole snapshot is queued while the only sender thread is busy
+        liveUpdateService.subscribe(LongStream.rangeClosed(1, MAX_TOPICS).boxed().toList(), null);
+
+        assertThat(synced.await(SEND_TIMEOUT_MS * 10, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private static ProjectRepository.ProjectCounters counters(Long id) {
+        ProjectRepository.ProjectCounters counters = mock(ProjectRepository.ProjectCounters.class);
+        when(counters.getId()).thenReturn(id);
+        when(counters.getLikesCount()).thenReturn(3);
+        when(counters.getCommentsCount()).thenReturn(0);
+        return counters;
+    }
+}
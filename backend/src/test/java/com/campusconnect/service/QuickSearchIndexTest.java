@@ -0,0 +1,60 @@
+package com.campusconnect.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Quick search index: replaced and removed documents stop matching, and tombstones are compacted away
+ * without losing live documents
+ *
+ * @author Campus Connect Team
+ */
+class QuickSearchIndexTest {
+
+    private static final int DOCUMENTS = 200;
+
+    private final QuickSearchIndex index = new QuickSearchIndex();
+
+    @Test
+    void replacedDocumentMatchesOnlyItsNewText() {
+        index.put(project(1L, "Compiler Playground", "java"));
+        index.put(project(1L, "Garden Planner", "kotlin"));
+
+        assertThat(index.search("compiler", 10)).isEmpty();
+        assertThat(ids(index.search("garden", 10))).containsExactly(1L);
+        assertThat(ids(index.search("kot", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void tombstonesAreCompactedOnceTheyOutnumberHalfTheLiveDocuments() {
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            index.put(project(id, "Project " + id, "shared"));
+        }
+        for (long id = 1; id <= DOCUMENTS / 2; id++) {
+            index.put(project(id, "Renamed " + id, "shared"));
+        }
+        for (long id = DOCUMENTS / 2 + 1; id <= DOCUMENTS / 2 + 10; id++) {
+            index.remove("PROJECT", id);
+        }
+
+        // The first removal took tombstones past half the live documents; the other nine came after compacting
+        assertThat(index.tombstones()).isEqualTo(9);
+        assertThat(index.size()).isEqualTo(DOCUMENTS - 10);
+        assertThat(index.search("shared", DOCUMENTS)).hasSize(DOCUMENTS - 10);
+        assertThat(ids(index.search("renamed 7", 1))).containsExactly(7L);
+        assertThat(index.search("project 7", 10)).isEmpty();
+        assertThat(ids(index.search("project 199", 10))).containsExactly(199L);
+        assertThat(index.search("project 105", 10)).isEmpty();
+    }
+
+    private static QuickSearchIndex.Document project(Long id, String title, String keyword) {
+        return new QuickSearchIndex.Document("PROJECT", id, title, "Web", List.of(keyword));
+    }
+
+    private static List<Long> ids(List<QuickSearchIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.document.id).toList();
+    }
+}
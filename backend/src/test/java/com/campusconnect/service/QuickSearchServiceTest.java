@@ -0,0 +1,77 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.QuickSearchResultResponse;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.ProjectStatus;
+import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectDeletedEvent;
+import com.campusconnect.event.ProjectSavedEvent;
+import com.campusconnect.support.TestEntities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The quick search index follows project events, including when they are delivered after commit
+ *
+ * @author Campus Connect Team
+ */
+class QuickSearchServiceTest {
+
+    private QuickSearchService quickSearchService;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        quickSearchService = new QuickSearchService(mock(DataSource.class), mock(PlatformTransactionManager.class));
+        User owner = TestEntities.user("Grace", "Hopper");
+        owner.setId(7L);
+        project = TestEntities.project("Compiler Playground", owner);
+        project.setId(42L);
+        project.setIsActive(true);
+        project.setStatus(ProjectStatus.SEEKING_COLLABORATORS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void savedProjectIsSearchable() {
+        quickSearchService.onProjectSaved(new ProjectSavedEvent(project, List.of(), List.of()));
+
+        assertThat(quickSearchService.search("compiler", 10))
+                .extracting(QuickSearchResultResponse::getId)
+                .containsExactly(42L);
+    }
+
+    @Test
+    void deletedProjectIsNoLongerSearchable() {
+        quickSearchService.onProjectSaved(new ProjectSavedEvent(project, List.of(), List.of()));
+        quickSearchService.onProjectDeleted(new ProjectDeletedEvent(42L, 7L, 0, project.getTags(),
+                project.getRequiredSkills()));
+
+        assertThat(quickSearchService.search("compiler", 10)).isEmpty();
+    }
+
+    @Test
+    void eventDeliveredAfterCommitIsAppliedImmediately() {
+        // After-commit listeners still see the finished transaction's synchronization as active
+        TransactionSynchronizationManager.initSynchronization();
+
+        quickSearchService.onProjectSaved(new ProjectSavedEvent(project, List.of(), List.of()));
+
+        assertThat(quickSearchService.search("compiler", 10)).hasSize(1);
+    }
+}
@@ -0,0 +1,86 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.ProjectResponse;
+import com.campusconnect.entity.User;
+import com.campusconnect.monitoring.QueryStats;
+import com.campusconnect.monitoring.QueryStatsConfig;
+import com.campusconnect.repository.SparseFieldQuery;
+import com.campusconnect.support.PostgresContainer;
+import com.campusconnect.support.TestEntities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Recommended projects are loaded in a fixed number of statements, however many are recommended
+ *
+ * @author Campus Connect Team
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectService.class, SparseFieldQuery.class, QueryStatsConfig.class})
+class RecommendedProjectsTest {
+
+    // Projects with owners, tags, required skills and the viewer's likes
+    private static final int STATEMENT_BUDGET = 4;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        PostgresContainer.register(registry);
+    }
+
+    @MockBean
+    private LiveUpdateService liveUpdateService;
+
+    @MockBean
+    private StatisticsService statisticsService;
+
+    @MockBean
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.stop();
+    }
+
+    @Test
+    void recommendationsAreBatchLoaded() {
+        User viewer = entityManager.persist(TestEntities.user("Grace", "Hopper"));
+        long[] ids = new long[10];
+        for (int i = 0; i < ids.length; i++) {
+            User owner = entityManager.persist(TestEntities.user("Owner", "Number" + i));
+            ids[i] = entityManager.persist(TestEntities.project("Project " + i, owner)).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        when(recommendationService.getRecommendedProjectIds(viewer.getId())).thenReturn(ids);
+
+        QueryStats stats = QueryStats.start();
+        List<ProjectResponse> recommended = projectService.getRecommendedProjects(viewer.getId(), 10);
+        QueryStats.stop();
+
+        assertThat(recommended).extracting(ProjectResponse::getTitle)
+                .startsWith("Project 0", "Project 1").hasSize(ids.length);
+        assertThat(recommended.get(0).getTags()).containsExactly("java", "spring");
+        assertThat(recommended.get(0).getOwner().getName()).isEqualTo("Owner Number0");
+        assertThat(stats.getStatementCount()).isLessThanOrEqualTo(STATEMENT_BUDGET);
+    }
+}
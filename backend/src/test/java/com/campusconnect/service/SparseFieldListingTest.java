@@ -0,0 +1,91 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.request.FieldSelection;
+import com.campusconnect.dto.response.EventResponse;
+import com.campusconnect.dto.response.ProjectResponse;
+import com.campusconnect.entity.User;
+import com.campusconnect.repository.SparseFieldQuery;
+import com.campusconnect.support.PostgresContainer;
+import com.campusconnect.support.TestEntities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Card view listings run through SparseFieldQuery against PostgreSQL, so every selected attribute
+ * has to be a mapped one
+ *
+ * @author Campus Connect Team
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectService.class, EventService.class, SparseFieldQuery.class})
+class SparseFieldListingTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        PostgresContainer.register(registry);
+    }
+
+    @MockBean
+    private LiveUpdateService liveUpdateService;
+
+    @MockBean
+    private StatisticsService statisticsService;
+
+    @MockBean
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(TestEntities.user("Ada", "Lovelace"));
+        entityManager.persist(TestEntities.project("Analytical Engine", owner));
+        entityManager.persist(TestEntities.event("Difference Engine Workshop", owner));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectCardsCarryOwnerName() {
+        FieldSelection card = FieldSelection.parse(null, FieldSelection.VIEW_CARD, ProjectResponse.FIELDS);
+
+        Page<ProjectResponse> page = projectService.getAllProjects(PageRequest.of(0, 10), null, card);
+
+        assertThat(page.getContent()).hasSize(1);
+        ProjectResponse project = page.getContent().get(0);
+        assertThat(project.getTitle()).isEqualTo("Analytical Engine");
+        assertThat(project.getOwner().getName()).isEqualTo("Ada Lovelace");
+    }
+
+    @Test
+    void eventCardsCarryOrganizerName() {
+        FieldSelection card = FieldSelection.parse(null, FieldSelection.VIEW_CARD, EventResponse.FIELDS);
+
+        Page<EventResponse> page = eventService.getAllEvents(PageRequest.of(0, 10), null, card);
+
+        assertThat(page.getContent()).hasSize(1);
+        EventResponse event = page.getContent().get(0);
+        assertThat(event.getTitle()).isEqualTo("Difference Engine Workshop");
+        assertThat(event.getOrganizer().getName()).isEqualTo("Ada Lovelace");
+    }
+}
@@ -0,0 +1,76 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.TagSuggestionResponse;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectSavedEvent;
+import com.campusconnect.support.TestEntities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tag suggestions follow project events, including changes committed while the tries are rebuilt
+ *
+ * @author Campus Connect Team
+ */
+class TagSuggestionServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TagSuggestionService tagSuggestionService;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        tagSuggestionService = new TagSuggestionService(jdbcTemplate);
+        User owner = TestEntities.user("Grace", "Hopper");
+        owner.setId(7L);
+        project = TestEntities.project("Compiler Playground", owner);
+        project.setId(42L);
+        project.setTags(List.of("Kotlin"));
+    }
+
+    @Test
+    void savedProjectTagsAreSuggested() {
+        tagSuggestionService.onProjectSaved(new ProjectSavedEvent(project, List.of(), List.of()));
+
+        assertThat(tagSuggestionService.suggest(TagKind.TAGS, "ko", 10))
+                .extracting(TagSuggestionResponse::getLabel)
+                .containsExactly("Kotlin");
+    }
+
+    @Test
+    void changeCommittedDuringRebuildIsKept() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString("kind")).thenReturn("TAGS");
+        when(row.getString("label")).thenReturn("Rust");
+        when(row.getInt("uses")).thenReturn(3);
+        doAnswer(invocation -> {
+            // Committed after the aggregate query read its snapshot
+            tagSuggestionService.onProjectSaved(new ProjectSavedEvent(project, List.of(), List.of()));
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        tagSuggestionService.rebuild();
+
+        assertThat(tagSuggestionService.suggest(TagKind.TAGS, "ko", 10))
+                .extracting(TagSuggestionResponse::getLabel)
+                .containsExactly("Kotlin");
+        assertThat(tagSuggestionService.suggest(TagKind.TAGS, "ru", 10))
+                .extracting(TagSuggestionResponse::getUsageCount)
+                .containsExactly(3);
+    }
+}
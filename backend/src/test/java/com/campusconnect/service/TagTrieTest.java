@@ -0,0 +1,70 @@
+package com.campusconnect.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tag trie: spellings fold to one entry, each prefix keeps its top completions up to date, and entries
+ * that drop to zero uses are pruned
+ *
+ * @author Campus Connect Team
+ */
+class TagTrieTest {
+
+    private static final int SUGGESTIONS = 20;
+
+    private final TagTrie trie = new TagTrie(SUGGESTIONS);
+
+    @Test
+    void spellingsFoldToOneEntryShownWithTheMostCommon() {
+        trie.add("ReactJS", 2);
+        trie.add("react.js", 1);
+        trie.add("React JS", 1);
+        trie.add("Caf\u00e9", 1);
+
+        assertThat(labels(trie.suggest("REACT J", 10))).containsExactly("ReactJS");
+        assertThat(trie.suggest("re", 10).get(0).count).isEqualTo(4);
+        assertThat(labels(trie.suggest("cafe", 10))).containsExactly("Caf\u00e9");
+    }
+
+    @Test
+    void prefixKeepsItsMostUsedCompletions() {
+        IntStream.rangeClosed(1, SUGGESTIONS + 5).forEach(i -> trie.add(String.format("tag%02d", i), i));
+
+        List<TagTrie.Suggestion> best = trie.suggest("tag", SUGGESTIONS + 5);
+        assertThat(best).hasSize(SUGGESTIONS);
+        assertThat(best.get(0).label).isEqualTo("tag25");
+        assertThat(best.get(SUGGESTIONS - 1).label).isEqualTo("tag06");
+        assertThat(labels(trie.suggest("tag", 3))).containsExactly("tag25", "tag24", "tag23");
+
+        // A completion outside the cached list moves up when it gains uses
+        trie.add("tag01", 100);
+        assertThat(labels(trie.suggest("t", 2))).containsExactly("tag01", "tag25");
+        assertThat(labels(trie.suggest("tag", SUGGESTIONS))).doesNotContain("tag06");
+    }
+
+    @Test
+    void entriesWithoutUsesArePruned() {
+        trie.add("Java", 1);
+        trie.add("JavaScript", 2);
+
+        trie.add("JavaScript", -2);
+        assertThat(trie.suggest("javas", 10)).isEmpty();
+        assertThat(labels(trie.suggest("jav", 10))).containsExactly("Java");
+
+        trie.add("Java", -1);
+        assertThat(trie.suggest("", 10)).isEmpty();
+        assertThat(trie.isEmpty()).isTrue();
+
+        trie.add("Java", 1);
+        assertThat(labels(trie.suggest("j", 10))).containsExactly("Java");
+    }
+
+    private static List<String> labels(List<TagTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(suggestion -> suggestion.label).toList();
+    }
+}
@@ -0,0 +1,204 @@
+package com.campusconnect.service;
+
+import com.campusconnect.config.EnvironmentConfig;
+import com.campusconnect.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Thumbnails: center-cropped and scaled output, one generation per image, rejection when the pool is
+ * saturated, and images that cannot be thumbnailed tried only once
+ *
+ * @author Campus Connect Team
+ */
+class ThumbnailServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private SimpleMeterRegistry meterRegistry;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("thumbnails");
+        EnvironmentConfig config = new EnvironmentConfig();
+        config.getFileUpload().setUploadDir(uploadDir.toString());
+        fileStorageService = spy(new FileStorageService(config, mock(ApplicationEventPublisher.class)));
+        meterRegistry = new SimpleMeterRegistry();
+        thumbnailService = thumbnailService(2, 50_000_000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        thumbnailService.shutdown();
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Test
+    void thumbnailIsTheCenterSquareScaledDown() throws Exception {
+        FileStorageService.StoredFile original = store(stripes(Color.RED, Color.BLUE));
+
+        FileStorageService.StoredFile thumbnail = thumbnailService.thumbnail(original, 64)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(thumbnail.id()).isEqualTo(original.hash() + "-64.png");
+        BufferedImage image = ImageIO.read(thumbnail.path().toFile());
+        assertThat(image.getWidth()).isEqualTo(64);
+        assertThat(image.getHeight()).isEqualTo(64);
+        // The red side stripes are cropped away
+        for (int[] point : new int[][] {{0, 0}, {63, 0}, {32, 32}, {0, 63}, {63, 63}}) {
+            Color color = new Color(image.getRGB(point[0], point[1]));
+            assertThat(color.getBlue()).as("blue at %s", Arrays.toString(point)).isGreaterThan(200);
+            assertThat(color.getRed()).as("red at %s", Arrays.toString(point)).isLessThan(50);
+        }
+    }
+
+    @Test
+    void requestDuringGenerationJoinsIt() throws Exception {
+        FileStorageService.StoredFile original = store(stripes(Color.RED, Color.BLUE));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger writes = blockWrites(started, release);
+
+        CompletableFuture<FileStorageService.StoredFile> first = thumbnailService.thumbnail(original, 32);
+        assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<FileStorageService.StoredFile> second = thumbnailService.thumbnail(original, 256);
+        assertThat(second).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).id()).endsWith("-32.png");
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).id()).endsWith("-256.png");
+        assertThat(writes.get()).isEqualTo(ThumbnailService.SIZES.size());
+    }
+
+    @Test
+    void saturatedPoolRejectsNewImages() throws Exception {
+        thumbnailService.shutdown();
+        thumbnailService = thumbnailService(1, 50_000_000);
+        FileStorageService.StoredFile busy = store(stripes(Color.RED, Color.BLUE));
+        FileStorageService.StoredFile waiting = store(stripes(Color.GREEN, Color.BLUE));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        blockWrites(started, release);
+
+        CompletableFuture<FileStorageService.StoredFile> running = thumbnailService.thumbnail(busy, 32);
+        assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<FileStorageService.StoredFile> rejected = thumbnailService.thumbnail(waiting, 32);
+        release.countDown();
+
+        assertThat(rejected).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TaskRejectedException.class);
+        assertThat(running.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).id()).endsWith("-32.png");
+    }
+
+    @Test
+    void undecodableImageIsServedAsItIsAndTriedOnce() throws Exception {
+        byte[] png = png(stripes(Color.RED, Color.BLUE));
+        FileStorageService.StoredFile original = store(Arrays.copyOf(png, 40));
+
+        FileStorageService.StoredFile first = thumbnailService.thumbnail(original, 64)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        CompletableFuture<FileStorageService.StoredFile> second = thumbnailService.thumbnail(original, 32);
+
+        assertThat(first).isEqualTo(original);
+        assertThat(second).isCompletedWithValue(original);
+        assertThat(failures()).isEqualTo(1.0);
+    }
+
+    @Test
+    void oversizedImageIsServedAsItIs() throws Exception {
+        thumbnailService.shutdown();
+        thumbnailService = thumbnailService(2, 1_000);
+        FileStorageService.StoredFile original = store(stripes(Color.RED, Color.BLUE));
+
+        FileStorageService.StoredFile served = thumbnailService.thumbnail(original, 64)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(served).isEqualTo(original);
+        assertThat(failures()).isEqualTo(1.0);
+    }
+
+    private ThumbnailService thumbnailService(int concurrency, long maxPixels) {
+        return new ThumbnailService(fileStorageService, new MdcTaskDecorator(), meterRegistry,
+                concurrency, 0, maxPixels);
+    }
+
+    /**
+     * Make every thumbnail write wait for release, counting the writes and signalling the first
+     */
+    private AtomicInteger blockWrites(CountDownLatch started, CountDownLatch release) throws IOException {
+        AtomicInteger writes = new AtomicInteger();
+        doAnswer(invocation -> {
+            writes.incrementAndGet();
+            started.countDown();
+            release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(fileStorageService).createIncomingFile();
+        return writes;
+    }
+
+    private double failures() {
+        return meterRegistry.get("thumbnails.failed").counter().count();
+    }
+
+    private FileStorageService.StoredFile store(BufferedImage image) throws IOException {
+        return store(png(image));
+    }
+
+    private FileStorageService.StoredFile store(byte[] content) {
+        return fileStorageService.store(new MockMultipartFile("file", content), FileType.ALL);
+    }
+
+    /**
+     * A 300x100 image: a square of the center color between two squares of the side color
+     */
+    private static BufferedImage stripes(Color side, Color center) {
+        BufferedImage image = new BufferedImage(300, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(side);
+            graphics.fillRect(0, 0, 300, 100);
+            graphics.setColor(center);
+            graphics.fillRect(100, 0, 100, 100);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.response.UserResponse;
+import com.campusconnect.entity.User;
+import com.campusconnect.monitoring.QueryStats;
+import com.campusconnect.monitoring.QueryStatsConfig;
+import com.campusconnect.repository.SparseFieldQuery;
+import com.campusconnect.support.PostgresContainer;
+import com.campusconnect.support.TestEntities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * People search pages by the clamped size, loads a page in a fixed number of statements and
+ * serves prefix matches from the trigram migration's index
+ *
+ * @author Campus Connect Team
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserService.class, SparseFieldQuery.class, QueryStatsConfig.class})
+@Sql("file:database/migrations/003_people_search_trigram.sql")
+class UserSearchTest {
+
+    private static final int USERS = 60;
+
+    // The search query and one batch load of skills
+    private static final int STATEMENT_BUDGET = 2;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        PostgresContainer.register(registry);
+    }
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = TestEntities.user("Ada", String.format("Test%02d", i));
+            user.setSkills(List.of("Java", "SQL"));
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.stop();
+    }
+
+    @Test
+    void oversizedPagesAreOffsetByTheClampedSize() {
+        Slice<UserResponse> second = userService.searchUsers("ada", null, null, PageRequest.of(1, 100));
+
+        assertThat(second.getSize()).isEqualTo(50);
+        assertThat(second.getContent()).hasSize(USERS - 50)
+                .extracting(UserResponse::getLastName)
+                .startsWith("Test50", "Test51");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void aPageIsLoadedInAFixedNumberOfStatements() {
+        QueryStats stats = QueryStats.start();
+        Slice<UserResponse> page = userService.searchUsers("ada", null, null, PageRequest.of(0, 20));
+        QueryStats.stop();
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getContent().get(0).getSkills()).containsExactly("Java", "SQL");
+        assertThat(stats.getStatementCount()).isLessThanOrEqualTo(STATEMENT_BUDGET);
+    }
+
+    @Test
+    void prefixMatchesUseTheSearchNameIndex() {
+        // A few dozen rows are cheaper to scan, so take sequential scans off the table
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("ANALYZE users");
+
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM users WHERE is_active = TRUE AND search_name LIKE 'ada t%'", String.class);
+
+        assertThat(String.join("\n", plan)).contains("idx_users_search_name_prefix");
+    }
+}
@@ -0,0 +1,26 @@
+package com.campusconnect.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base class for tests that boot the whole application against the shared PostgreSQL container
+ *
+ * Requests go through MockMvc with the real security filter chain. Paths under /actuator are
+ * servlet paths, so actuator requests must also set the /api/v1 context path.
+ *
+ * @author Campus Connect Team
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public abstract class IntegrationTest {
+
+    public static final String CONTEXT_PATH = "/api/v1";
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        PostgresContainer.register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.campusconnect.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * One PostgreSQL container shared by every test that needs a real database
+ *
+ * Started once per test run and left to Testcontainers to remove, so Spring's cached test contexts
+ * keep pointing at a live database. Hibernate creates the schema from the entity mappings.
+ *
+ * @author Campus Connect Team
+ */
+public final class PostgresContainer {
+
+    private static final PostgreSQLContainer<?> CONTAINER = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("campus_connect");
+
+    static {
+        CONTAINER.start();
+    }
+
+    private PostgresContainer() {
+    }
+
+    /**
+     * Point the datasource at the container; call from a @DynamicPropertySource method
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", CONTAINER::getUsername);
+        registry.add("spring.datasource.password", CONTAINER::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+}
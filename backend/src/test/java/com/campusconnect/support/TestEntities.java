@@ -0,0 +1,49 @@
+package com.campusconnect.support;
+
+import com.campusconnect.entity.DifficultyLevel;
+import com.campusconnect.entity.Event;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.User;
+import com.campusconnect.entity.UserRole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Valid, unsaved entities for tests; every call returns an entity with unique keys
+ *
+ * @author Campus Connect Team
+ */
+public final class TestEntities {
+
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private TestEntities() {
+    }
+
+    public static User user(String firstName, String lastName) {
+        long n = sequence.incrementAndGet();
+        User user = new User("user" + n + "@campus.test", "{noop}password", firstName, lastName, UserRole.STUDENT);
+        // The entity maps username without exposing it
+        ReflectionTestUtils.setField(user, "username", "user" + n);
+        user.setIsActive(true);
+        return user;
+    }
+
+    public static Project project(String title, User owner) {
+        Project project = new Project(title, "Description of " + title, "Web", DifficultyLevel.BEGINNER, owner);
+        project.setTags(List.of("java", "spring"));
+        project.setRequiredSkills(List.of("Java"));
+        return project;
+    }
+
+    public static Event event(String title, User organizer) {
+        Event event = new Event(title, "Description of " + title, "Workshop", LocalDate.now().plusDays(7),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "Main Hall", 50, organizer);
+        event.setTags(List.of("workshop"));
+        return event;
+    }
+}